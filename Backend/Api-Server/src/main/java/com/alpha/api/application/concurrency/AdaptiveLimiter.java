@@ -0,0 +1,123 @@
+package com.alpha.api.application.concurrency;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive Concurrency Limiter (gradient style)
+ * - Limit follows observed latency instead of a fixed pool size:
+ *   - gradient = clamp(tolerance × longRtt / sampleRtt, 0.5, 1.0)
+ *   - newLimit = limit × gradient + √limit (queue allowance), smoothed
+ * - Latency rising above the long-term baseline shrinks the limit; steady latency lets it grow
+ * - Dropped requests (timeouts, bulkhead rejections) back the limit off multiplicatively
+ * - Does not grow while under-used (in-flight below half the limit)
+ * - tryAcquire never waits: over the limit means reject (or degrade) now
+ */
+public class AdaptiveLimiter {
+
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LONG_RTT_ALPHA = 2.0 / (600 + 1); // EMA over ~600 samples
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong degradedCount = new AtomicLong();
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    public AdaptiveLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Take a slot if in-flight is below the current limit
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejectedCount.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Completed request: release slot and feed its latency into the limit
+     */
+    public void onSuccess(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(Math.max(1, rttNanos), inFlightAtCompletion);
+    }
+
+    /**
+     * Overload signal (timeout, bulkhead rejection): release slot and back off
+     */
+    public synchronized void onDropped() {
+        inFlight.decrementAndGet();
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+
+    /**
+     * Request ended without a usable latency sample (cancelled, client error): release slot only
+     */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public void recordDegraded() {
+        degradedCount.incrementAndGet();
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getDegradedCount() {
+        return degradedCount.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        longRttNanos = (longRttNanos == 0)
+                ? rttNanos
+                : longRttNanos * (1 - LONG_RTT_ALPHA) + rttNanos * LONG_RTT_ALPHA;
+
+        // Baseline far above current latency (after a slow period): let it recover faster
+        if (longRttNanos / rttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        // Application-limited: no evidence the limit is too low
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,131 @@
+package com.alpha.api.application.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Admission Control (Application Layer)
+ * - One AdaptiveLimiter per OperationClass in front of QueryResolver operations
+ * - Over the limit: degraded response (stale cache) if the caller has one, else OverloadedException
+ *   (never queued; the R2DBC pool is not left to time out every request together)
+ * - Latency of admitted requests drives each limit; timeouts / bulkhead rejections back it off
+ * - Admitted slot released on every terminal signal (complete, error, cancel), including a throwing work supplier
+ * - Metrics (tag operation): graphql.admission.limit, graphql.admission.in_flight,
+ *   graphql.admission.rejected, graphql.admission.degraded
+ */
+@Slf4j
+@Component
+public class AdmissionControl {
+
+    private final boolean enabled;
+    private final Map<OperationClass, AdaptiveLimiter> limiters = new EnumMap<>(OperationClass.class);
+
+    public AdmissionControl(
+            MeterRegistry meterRegistry,
+            @Value("${app.admission.enabled:true}") boolean enabled,
+            @Value("${app.admission.initial-limit:20}") int initialLimit,
+            @Value("${app.admission.min-limit:2}") int minLimit,
+            @Value("${app.admission.max-limit:200}") int maxLimit) {
+        this.enabled = enabled;
+        for (OperationClass operationClass : OperationClass.values()) {
+            AdaptiveLimiter limiter = new AdaptiveLimiter(operationClass.tag(), initialLimit, minLimit, maxLimit);
+            limiters.put(operationClass, limiter);
+            registerMetrics(meterRegistry, operationClass, limiter);
+        }
+    }
+
+    /**
+     * Run work if admitted, otherwise degrade or reject immediately
+     *
+     * @param operationClass Operation class (selects the limiter)
+     * @param work Full operation
+     * @param degraded Cheaper fallback (e.g. cache-only), empty → OverloadedException; null → reject
+     * @param <T> Value type
+     * @return Mono of the work result or degraded result
+     */
+    public <T> Mono<T> admit(OperationClass operationClass, Supplier<Mono<T>> work, Supplier<Mono<T>> degraded) {
+        if (!enabled) {
+            return Mono.defer(work);
+        }
+
+        return Mono.defer(() -> {
+            AdaptiveLimiter limiter = limiters.get(operationClass);
+            if (!limiter.tryAcquire()) {
+                log.warn("Admission rejected - operation: {}, limit: {}, inFlight: {}",
+                        operationClass.tag(), (int) limiter.getLimit(), limiter.getInFlight());
+                if (degraded == null) {
+                    return Mono.error(new OverloadedException(operationClass));
+                }
+                limiter.recordDegraded();
+                return Mono.defer(degraded).switchIfEmpty(Mono.error(() -> new OverloadedException(operationClass)));
+            }
+
+            long start = System.nanoTime();
+            AtomicLong latency = new AtomicLong(-1);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            return Mono.defer(work)
+                    .doOnSuccess(value -> latency.set(System.nanoTime() - start))
+                    .doOnError(failure::set)
+                    .doFinally(signal -> release(limiter, latency.get(), failure.get()));
+        });
+    }
+
+    /**
+     * Return the admitted slot exactly once, on the terminal signal (complete, error or cancel)
+     * - Value / empty completion → latency sample (also when the value was followed by a downstream cancel)
+     * - Overload error → back off; other error / cancel before a value → ignored
+     * - Synchronous throws from the work supplier arrive as errors (Mono.defer)
+     */
+    private void release(AdaptiveLimiter limiter, long latencyNanos, Throwable failure) {
+        if (latencyNanos >= 0) {
+            limiter.onSuccess(latencyNanos);
+        } else if (isOverload(failure)) {
+            limiter.onDropped();
+        } else {
+            limiter.onIgnored();
+        }
+    }
+
+    public AdaptiveLimiter limiter(OperationClass operationClass) {
+        return limiters.get(operationClass);
+    }
+
+    private boolean isOverload(Throwable error) {
+        return error instanceof TimeoutException
+                || error instanceof R2dbcTimeoutException
+                || error instanceof BulkheadFullException;
+    }
+
+    private void registerMetrics(MeterRegistry registry, OperationClass operationClass, AdaptiveLimiter limiter) {
+        String tag = operationClass.tag();
+        Gauge.builder("graphql.admission.limit", limiter, AdaptiveLimiter::getLimit)
+                .tag("operation", tag)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("graphql.admission.in_flight", limiter, AdaptiveLimiter::getInFlight)
+                .tag("operation", tag)
+                .description("Admitted requests in flight")
+                .register(registry);
+        FunctionCounter.builder("graphql.admission.rejected", limiter, AdaptiveLimiter::getRejectedCount)
+                .tag("operation", tag)
+                .description("Requests over the limit (degraded or rejected)")
+                .register(registry);
+        FunctionCounter.builder("graphql.admission.degraded", limiter, AdaptiveLimiter::getDegradedCount)
+                .tag("operation", tag)
+                .description("Requests over the limit served a degraded response")
+                .register(registry);
+    }
+}
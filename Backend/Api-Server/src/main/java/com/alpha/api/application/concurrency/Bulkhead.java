@@ -0,0 +1,136 @@
+package com.alpha.api.application.concurrency;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Reactive Bulkhead (Application Layer)
+ * - At most maxConcurrent executions, at most maxQueued waiting (non-blocking, FIFO)
+ * - Queue full or wait longer than maxWait → BulkheadFullException (fail fast, no unbounded queueing)
+ * - Permit released on complete, error and cancel
+ */
+@Slf4j
+public class Bulkhead {
+
+    @Getter
+    private final String name;
+    private final int maxQueued;
+    private final Duration maxWait;
+
+    private final Semaphore permits;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueued, Duration maxWait) {
+        this.name = name;
+        this.maxQueued = maxQueued;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Run work inside the bulkhead (subscribed only after a permit is granted)
+     *
+     * @param work Deferred work
+     * @param <T> Value type
+     * @return Mono of the work result, or BulkheadFullException
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> work) {
+        return Mono.usingWhen(
+                acquire(),
+                permit -> work.get(),
+                permit -> Mono.fromRunnable(this::release),
+                (permit, error) -> Mono.fromRunnable(this::release),
+                permit -> Mono.fromRunnable(this::release));
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return waiting.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    private Mono<Boolean> acquire() {
+        Mono<Boolean> permit = Mono.create(sink -> {
+            if (permits.tryAcquire()) {
+                sink.success(true);
+                return;
+            }
+            if (waiting.incrementAndGet() > maxQueued) {
+                waiting.decrementAndGet();
+                sink.error(reject("queue full"));
+                return;
+            }
+            Waiter waiter = new Waiter(sink);
+            sink.onCancel(() -> {
+                if (waiter.done.compareAndSet(false, true)) {
+                    waiters.remove(waiter);
+                    waiting.decrementAndGet();
+                } else {
+                    // Permit was handed over but the grant raced with cancellation
+                    release();
+                }
+            });
+            waiters.add(waiter);
+            // A permit may have been released between tryAcquire and add
+            drain();
+        });
+        return permit.timeout(maxWait, Mono.error(() -> reject("waited " + maxWait.toMillis() + "ms")));
+    }
+
+    private void release() {
+        permits.release();
+        drain();
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty() && permits.tryAcquire()) {
+            Waiter waiter = waiters.poll();
+            if (waiter == null || !waiter.done.compareAndSet(false, true)) {
+                permits.release();
+                if (waiter == null) {
+                    return;
+                }
+                continue;
+            }
+            waiting.decrementAndGet();
+            waiter.sink.success(true);
+        }
+    }
+
+    private BulkheadFullException reject(String reason) {
+        long count = rejected.incrementAndGet();
+        log.warn("Bulkhead '{}' rejected ({}), total rejected: {}", name, reason, count);
+        return new BulkheadFullException(name, reason);
+    }
+
+    /**
+     * Queued acquisition (done = granted or cancelled, whichever happens first)
+     */
+    private static final class Waiter {
+        private final MonoSink<Boolean> sink;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Waiter(MonoSink<Boolean> sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.alpha.api.application.concurrency;
+
+/**
+ * Thrown when a Bulkhead has no free permit and its wait queue is full (or the wait timed out)
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String bulkhead, String reason) {
+        super("Bulkhead '" + bulkhead + "' is full: " + reason);
+    }
+}
@@ -0,0 +1,12 @@
+package com.alpha.api.application.concurrency;
+
+/**
+ * Thrown when a CircuitBreaker rejects a call without touching the dependency
+ * (breaker OPEN, or HALF_OPEN with a probe already running)
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(String circuitBreaker) {
+        super("Circuit breaker '" + circuitBreaker + "' is open", null, false, false);
+    }
+}
@@ -0,0 +1,135 @@
+package com.alpha.api.application.concurrency;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Reactive Circuit Breaker (Application Layer)
+ * - CLOSED: calls pass; failureThreshold consecutive failures → OPEN
+ * - OPEN: calls fail immediately with CallNotPermittedException until openDuration has elapsed
+ * - HALF_OPEN: a single probe call at a time; success → CLOSED, failure → OPEN again
+ * - Every call is bounded by the caller's timeout; a slow dependency counts as a failure
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private enum Permission {
+        CALL,
+        PROBE,
+        REJECT
+    }
+
+    @Getter
+    private final String name;
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private volatile long openedAtNanos;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * Run a call through the breaker
+     *
+     * @param call Deferred call to the protected dependency
+     * @param timeout Upper bound for this call
+     * @param <T> Value type
+     * @return Mono of the call result, or CallNotPermittedException / the call's error
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call, Duration timeout) {
+        return Mono.defer(() -> {
+            Permission permission = acquire();
+            if (permission == Permission.REJECT) {
+                rejectedCount.incrementAndGet();
+                return Mono.error(new CallNotPermittedException(name));
+            }
+
+            boolean probe = permission == Permission.PROBE;
+            return call.get()
+                    .timeout(timeout)
+                    .doOnSuccess(value -> onSuccess(probe))
+                    .doOnError(error -> onFailure(probe, error))
+                    .doOnCancel(() -> {
+                        if (probe) {
+                            probeInFlight.set(false);
+                        }
+                    });
+        });
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private Permission acquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return Permission.CALL;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDuration.toNanos()) {
+                return Permission.REJECT;
+            }
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                log.info("[CircuitBreaker:{}] OPEN → HALF_OPEN (probing)", name);
+            }
+        }
+        return probeInFlight.compareAndSet(false, true) ? Permission.PROBE : Permission.REJECT;
+    }
+
+    private void onSuccess(boolean probe) {
+        consecutiveFailures.set(0);
+        if (probe) {
+            probeInFlight.set(false);
+            if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                log.info("[CircuitBreaker:{}] HALF_OPEN → CLOSED", name);
+            }
+        }
+    }
+
+    private void onFailure(boolean probe, Throwable error) {
+        if (probe) {
+            probeInFlight.set(false);
+            open("probe failed: " + error);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && state.get() == State.CLOSED) {
+            open(failureThreshold + " consecutive failures, last: " + error);
+        }
+    }
+
+    private void open(String reason) {
+        openedAtNanos = System.nanoTime();
+        State previous = state.getAndSet(State.OPEN);
+        consecutiveFailures.set(0);
+        if (previous != State.OPEN) {
+            log.warn("[CircuitBreaker:{}] {} → OPEN for {}ms ({})", name, previous, openDuration.toMillis(), reason);
+        }
+    }
+}
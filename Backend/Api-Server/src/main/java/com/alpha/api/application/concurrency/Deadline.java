@@ -0,0 +1,55 @@
+package com.alpha.api.application.concurrency;
+
+import java.time.Duration;
+
+/**
+ * Request Deadline
+ * - Latency budget fixed at request entry; every stage reads what is left of it
+ * - share(f): stage budget = f × total, capped at what remains (e.g. normalization)
+ * - remainingBefore(f): time left until the cutoff that keeps f × total in reserve
+ *   (e.g. ANN + hydration stream stops early enough for the final sort)
+ * - unbounded(): no budget (cache warming, statistics)
+ */
+public final class Deadline {
+
+    private static final Deadline UNBOUNDED = new Deadline(0, 0);
+
+    private final long budgetNanos;
+    private final long expiresAtNanos;
+
+    private Deadline(long budgetNanos, long expiresAtNanos) {
+        this.budgetNanos = budgetNanos;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(Duration budget) {
+        long budgetNanos = budget.toNanos();
+        return new Deadline(budgetNanos, System.nanoTime() + budgetNanos);
+    }
+
+    public static Deadline unbounded() {
+        return UNBOUNDED;
+    }
+
+    public boolean isBounded() {
+        return budgetNanos > 0;
+    }
+
+    public boolean isExpired() {
+        return isBounded() && System.nanoTime() >= expiresAtNanos;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public Duration share(double fraction) {
+        long stageNanos = (long) (budgetNanos * fraction);
+        return Duration.ofNanos(Math.min(stageNanos, remaining().toNanos()));
+    }
+
+    public Duration remainingBefore(double reserveFraction) {
+        long reserveNanos = (long) (budgetNanos * reserveFraction);
+        return Duration.ofNanos(Math.max(0, remaining().toNanos() - reserveNanos));
+    }
+}
@@ -0,0 +1,40 @@
+package com.alpha.api.application.concurrency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Deadline Policy
+ * - searchMatches latency budget: server default, or the client's timeoutMs clamped to [min, max]
+ */
+@Component
+public class DeadlinePolicy {
+
+    private final long defaultMs;
+    private final long minMs;
+    private final long maxMs;
+
+    public DeadlinePolicy(
+            @Value("${app.search.deadline.default-ms:1500}") long defaultMs,
+            @Value("${app.search.deadline.min-ms:100}") long minMs,
+            @Value("${app.search.deadline.max-ms:10000}") long maxMs) {
+        this.defaultMs = defaultMs;
+        this.minMs = minMs;
+        this.maxMs = maxMs;
+    }
+
+    /**
+     * Start the search deadline
+     *
+     * @param requestedMs Client budget (nullable → server default)
+     * @return Deadline started now
+     */
+    public Deadline forSearch(Integer requestedMs) {
+        long budgetMs = (requestedMs != null && requestedMs > 0)
+                ? Math.max(minMs, Math.min(maxMs, requestedMs))
+                : defaultMs;
+        return Deadline.after(Duration.ofMillis(budgetMs));
+    }
+}
@@ -0,0 +1,19 @@
+package com.alpha.api.application.concurrency;
+
+/**
+ * GraphQL operation classes with independent admission limits
+ * - SEARCH: searchMatches, getCategoryDistribution, getSkillCompetencyMatch
+ * - STATISTICS: searchStatistics
+ * - DASHBOARD: dashboardData, topCompanies, skillCategories
+ * - DETAIL: getRecruit(s), getCandidate(s)
+ */
+public enum OperationClass {
+    SEARCH,
+    STATISTICS,
+    DASHBOARD,
+    DETAIL;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,11 @@
+package com.alpha.api.application.concurrency;
+
+/**
+ * Thrown when admission control rejects a request and no degraded response is available
+ */
+public class OverloadedException extends RuntimeException {
+
+    public OverloadedException(OperationClass operationClass) {
+        super("Server is overloaded for " + operationClass.tag() + " requests, retry later");
+    }
+}
@@ -0,0 +1,43 @@
+package com.alpha.api.application.concurrency;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+
+/**
+ * Workload Isolation (Application Layer)
+ * - cpu: bounded parallel scheduler for scoring / sorting / grouping / vector math
+ *   (keeps CPU work off the Netty event loops that emit R2DBC rows)
+ * - search: bulkhead for latency-critical search DB work (default R2DBC pool)
+ * - analytics: bulkhead for statistics / dashboard DB work (separate analytics R2DBC pool)
+ * - detached: small bulkhead for search computations finished after the caller's deadline
+ *   (no queue: when full, the cut computation is cancelled with its caller instead of detaching)
+ * - A slow analytics query can only exhaust its own permits, queue and pool
+ */
+@Getter
+@Component
+public class WorkloadIsolation {
+
+    private final Scheduler cpu;
+    private final Bulkhead search;
+    private final Bulkhead analytics;
+    private final Bulkhead detached;
+
+    public WorkloadIsolation(
+            Scheduler cpuScheduler,
+            @Value("${app.workload.search.max-concurrent:16}") int searchMaxConcurrent,
+            @Value("${app.workload.search.max-queued:32}") int searchMaxQueued,
+            @Value("${app.workload.search.max-wait-ms:500}") long searchMaxWaitMs,
+            @Value("${app.workload.analytics.max-concurrent:4}") int analyticsMaxConcurrent,
+            @Value("${app.workload.analytics.max-queued:8}") int analyticsMaxQueued,
+            @Value("${app.workload.analytics.max-wait-ms:2000}") long analyticsMaxWaitMs,
+            @Value("${app.workload.detached.max-concurrent:4}") int detachedMaxConcurrent) {
+        this.cpu = cpuScheduler;
+        this.search = new Bulkhead("search", searchMaxConcurrent, searchMaxQueued, Duration.ofMillis(searchMaxWaitMs));
+        this.analytics = new Bulkhead("analytics", analyticsMaxConcurrent, analyticsMaxQueued, Duration.ofMillis(analyticsMaxWaitMs));
+        this.detached = new Bulkhead("detached", detachedMaxConcurrent, 0, Duration.ZERO);
+    }
+}
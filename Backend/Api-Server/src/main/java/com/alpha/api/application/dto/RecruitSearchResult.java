@@ -6,11 +6,14 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * RecruitSearchResult DTO
  * - Contains Recruit entity + similarity score from vector search
  * - Used by SearchService to process findSimilarByVector() results
  * - Avoids adding non-persistent fields to Entity
+ * - Carries the embedding row's skills so search scoring needs no per-hit skill query
  */
 @Data
 @Builder
@@ -25,8 +28,13 @@ public class RecruitSearchResult {
 
     /**
      * Similarity score from vector search (0.0 - 1.0)
-     * - Calculated by: 1 - (skills_vector <=> query_vector)
+     * - Calculated by: -(skills_vector <#> query_vector) (unit vectors → cosine similarity)
      * - Higher values = more similar
      */
     private Double similarityScore;
+
+    /**
+     * Skills of the matched recruit (recruit_skills_embedding.skills, read with the ANN row)
+     */
+    private List<String> skills;
 }
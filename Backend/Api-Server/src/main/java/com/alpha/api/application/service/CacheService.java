@@ -1,12 +1,18 @@
 package com.alpha.api.application.service;
 
 import com.alpha.api.domain.cache.port.CachePort;
+import com.alpha.api.domain.cache.port.DataVersionPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -14,6 +20,9 @@ import java.util.function.Supplier;
  * - Business logic for multi-layer caching
  * - Cache-aside pattern implementation
  * - Uses CachePort (Domain) instead of Infrastructure dependencies
+ * - L2 populated write-behind: responses wait on L1 only (L2 adapter bounds reads with a circuit breaker)
+ * - invalidateAll bumps the shared data version (L1 snapshots from an older version are not restored);
+ *   targeted invalidations do not (a restored entry lives one L1 TTL, the same staleness bound as any L1 entry)
  */
 @Slf4j
 @Service
@@ -22,6 +31,7 @@ public class CacheService {
 
     private final CachePort l1Cache; // Caffeine
     private final CachePort l2Cache; // Redis
+    private final DataVersionPort dataVersion;
 
     // Default TTLs
     private static final Duration L1_TTL = Duration.ofSeconds(10);
@@ -64,16 +74,97 @@ public class CacheService {
                                 log.debug("L2 cache MISS: key={}, loading from source", key);
                                 return source.get()
                                         .flatMap(value -> {
-                                            // Populate both L1 and L2 on source load
-                                            return Mono.when(
-                                                    l1Cache.put(key, value, L1_TTL),
-                                                    l2Cache.put(key, value, L2_TTL)
-                                            ).thenReturn(value);
+                                            // Populate L1 on source load; L2 written behind (never awaited)
+                                            writeBehind(key, value, L2_TTL);
+                                            return l1Cache.put(key, value, L1_TTL)
+                                                    .thenReturn(value);
                                         });
                             }));
                 }));
     }
 
+    /**
+     * Get many entries from cache, loading all misses with one source call
+     * - L1 → L2 per id (L2 hits populate L1)
+     * - Missing ids passed to the loader together (e.g. one "= ANY(:ids)" query)
+     * - Loaded values populate L1 and L2 under their own key
+     * - Ids the loader does not return are absent from the result
+     *
+     * @param ids Entity ids
+     * @param keyBuilder Cache key builder (e.g. CacheService::recruitKey)
+     * @param valueType Value class type
+     * @param loader Loads the missing ids, keyed by id
+     * @param <T> Value type
+     * @return Mono of values keyed by id
+     */
+    public <T> Mono<Map<String, T>> getOrLoadAll(
+            List<String> ids,
+            Function<String, String> keyBuilder,
+            Class<T> valueType,
+            Function<List<String>, Mono<Map<String, T>>> loader) {
+
+        return Flux.fromIterable(ids)
+                .distinct()
+                .flatMap(id -> lookup(keyBuilder.apply(id), valueType).map(value -> Map.entry(id, value)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .flatMap(hits -> {
+                    List<String> misses = ids.stream()
+                            .distinct()
+                            .filter(id -> !hits.containsKey(id))
+                            .toList();
+                    log.debug("Cache multi-get: hits={}, misses={}", hits.size(), misses.size());
+                    if (misses.isEmpty()) {
+                        return Mono.just(hits);
+                    }
+
+                    return loader.apply(misses)
+                            .flatMap(loaded -> Flux.fromIterable(loaded.entrySet())
+                                    .flatMap(entry -> {
+                                        String key = keyBuilder.apply(entry.getKey());
+                                        writeBehind(key, entry.getValue(), L2_TTL);
+                                        return l1Cache.put(key, entry.getValue(), L1_TTL);
+                                    })
+                                    .then(Mono.fromSupplier(() -> {
+                                        Map<String, T> merged = new HashMap<>(hits);
+                                        merged.putAll(loaded);
+                                        return merged;
+                                    })));
+                });
+    }
+
+    /**
+     * L1 → L2 lookup without source fallback (L2 hit populates L1)
+     */
+    private <T> Mono<T> lookup(String key, Class<T> valueType) {
+        return l1Cache.get(key, valueType)
+                .switchIfEmpty(Mono.defer(() -> l2Cache.get(key, valueType)
+                        .flatMap(value -> l1Cache.put(key, value, L1_TTL).thenReturn(value))));
+    }
+
+    /**
+     * Fire-and-forget L2 population
+     * - Errors, timeouts and an open circuit are handled (and counted) inside the L2 adapter
+     */
+    private void writeBehind(String key, Object value, Duration ttl) {
+        l2Cache.put(key, value, ttl).subscribe();
+    }
+
+    /**
+     * Cached value only (L1 → L2), never loads from source
+     * - Used for degraded responses when admission control sheds a request
+     * - Does not populate L1 (TTL differs per key family; the shed path stays read-only)
+     * - Complex types (List<T>): pass Object.class and cast, as in getOrLoadStaticUnchecked
+     *
+     * @param key Cache key
+     * @param valueType Value class type
+     * @param <T> Value type
+     * @return Mono of cached value, empty if not cached
+     */
+    public <T> Mono<T> peek(String key, Class<T> valueType) {
+        return l1Cache.get(key, valueType)
+                .switchIfEmpty(Mono.defer(() -> l2Cache.get(key, valueType)));
+    }
+
     /**
      * Invalidate cache entry (both L1 and L2)
      *
@@ -88,6 +179,26 @@ public class CacheService {
         ).thenReturn(true);
     }
 
+    /**
+     * Invalidate a single recruit detail entry (targeted, by id)
+     *
+     * @param recruitId Recruit ID
+     * @return Mono of Boolean (true if successful)
+     */
+    public Mono<Boolean> invalidateRecruit(String recruitId) {
+        return invalidate(recruitKey(recruitId));
+    }
+
+    /**
+     * Invalidate a single candidate detail entry (targeted, by id)
+     *
+     * @param candidateId Candidate ID
+     * @return Mono of Boolean (true if successful)
+     */
+    public Mono<Boolean> invalidateCandidate(String candidateId) {
+        return invalidate(candidateKey(candidateId));
+    }
+
     /**
      * Invalidate all caches with given prefix
      *
@@ -109,7 +220,9 @@ public class CacheService {
      */
     public Mono<Long> invalidateAll() {
         log.info("Cache invalidate all");
-        return invalidateByPrefix("*");
+        // Bumped after the flush: "*" also deletes the previous version key
+        return invalidateByPrefix("*")
+                .flatMap(deleted -> dataVersion.bump().thenReturn(deleted));
     }
 
     /**
@@ -162,11 +275,10 @@ public class CacheService {
                                 log.debug("L2 static cache MISS: key={}, loading from source", key);
                                 return source.get()
                                         .flatMap(value -> {
-                                            // Populate both L1 and L2 on source load
-                                            return Mono.when(
-                                                    l1Cache.put(key, value, STATIC_L1_TTL),
-                                                    l2Cache.put(key, value, STATIC_L2_TTL)
-                                            ).thenReturn(value);
+                                            // Populate L1 on source load; L2 written behind (never awaited)
+                                            writeBehind(key, value, STATIC_L2_TTL);
+                                            return l1Cache.put(key, value, STATIC_L1_TTL)
+                                                    .thenReturn(value);
                                         });
                             }));
                 }));
@@ -204,11 +316,10 @@ public class CacheService {
                                 log.debug("L2 static cache MISS: key={}, loading from source", key);
                                 return source.get()
                                         .flatMap(value -> {
-                                            // Populate both L1 and L2 on source load
-                                            return Mono.when(
-                                                    l1Cache.put(key, value, STATIC_L1_TTL),
-                                                    l2Cache.put(key, value, STATIC_L2_TTL)
-                                            ).thenReturn(value);
+                                            // Populate L1 on source load; L2 written behind (never awaited)
+                                            writeBehind(key, value, STATIC_L2_TTL);
+                                            return l1Cache.put(key, value, STATIC_L1_TTL)
+                                                    .thenReturn(value);
                                         });
                             }));
                 }));
@@ -255,31 +366,28 @@ public class CacheService {
 
     /**
      * Cache key builder for search statistics
-     * - Key includes mode, sorted skills, and limit for cache consistency
-     * - Skills are joined with comma (already sorted by caller)
+     * - Key includes mode, canonical skill set, and limit for cache consistency
      *
      * @param mode User mode (CANDIDATE or RECRUITER)
-     * @param sortedSkills Sorted list of skill names
+     * @param canonicalSkills Canonical skill id set (CanonicalSkills.cacheKey(), e.g. "12,40,733")
      * @param limit Maximum number of top skills
      * @return Cache key
      */
-    public static String searchStatisticsKey(String mode, java.util.List<String> sortedSkills, Integer limit) {
-        String skillsHash = String.join(",", sortedSkills);
-        return "searchStats:" + mode + ":" + skillsHash + ":" + limit;
+    public static String searchStatisticsKey(String mode, String canonicalSkills, Integer limit) {
+        return "searchStats:" + mode + ":" + canonicalSkills + ":" + limit;
     }
 
     /**
      * Cache key builder for search results (hybrid score pagination)
-     * - Key includes mode and sorted skills
+     * - Key includes mode and canonical skill set
      * - Used for caching full search results to enable consistent pagination
      *
      * @param mode User mode (CANDIDATE or RECRUITER)
-     * @param sortedSkills Sorted list of skill names
+     * @param canonicalSkills Canonical skill id set (CanonicalSkills.cacheKey(), e.g. "12,40,733")
      * @return Cache key
      */
-    public static String searchResultsKey(String mode, java.util.List<String> sortedSkills) {
-        String skillsHash = String.join(",", sortedSkills);
-        return "searchResults:" + mode + ":" + skillsHash;
+    public static String searchResultsKey(String mode, String canonicalSkills) {
+        return "searchResults:" + mode + ":" + canonicalSkills;
     }
 
     /**
@@ -312,15 +420,23 @@ public class CacheService {
                             })
                             .switchIfEmpty(Mono.defer(() -> {
                                 log.debug("L2 search results cache MISS: key={}, loading from source", key);
+                                // Populate L1 on source load; L2 written behind (never awaited)
                                 return source.get()
-                                        .flatMap(value -> {
-                                            // Populate both L1 and L2 on source load
-                                            return Mono.when(
-                                                    l1Cache.put(key, value, SEARCH_RESULTS_L1_TTL),
-                                                    l2Cache.put(key, value, SEARCH_RESULTS_L2_TTL)
-                                            ).thenReturn(value);
-                                        });
+                                        .flatMap(value -> putSearchResults(key, value).thenReturn(value));
                             }));
                 }));
     }
+
+    /**
+     * Store a computed search ranking (L1 + write-behind L2, same TTLs as getOrLoadSearchResults)
+     * - Used when a deadline-cut computation finishes detached from the request
+     *
+     * @param key Cache key
+     * @param value Full list of MatchItems sorted by hybrid score
+     * @return Mono<Boolean> L1 put result
+     */
+    public Mono<Boolean> putSearchResults(String key, Object value) {
+        writeBehind(key, value, SEARCH_RESULTS_L2_TTL);
+        return l1Cache.put(key, value, SEARCH_RESULTS_L1_TTL);
+    }
 }
@@ -1,44 +1,83 @@
 package com.alpha.api.application.service;
 
+import com.alpha.api.infrastructure.cache.L1WarmRestart;
 import com.alpha.api.presentation.graphql.type.UserMode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
 /**
  * Cache Warming Service (Application Layer)
- * - Preloads static data into cache on application startup
- * - Listens to ApplicationReadyEvent
- * - Targets: skillCategories, dashboardData (CANDIDATE/RECRUITER)
+ * - Runs as an ApplicationRunner: Spring Boot publishes ReadinessState.ACCEPTING_TRAFFIC only after it returns,
+ *   so the instance reports ready (/actuator/health/readiness) with a warm L1
+ * - Step 1: restore the L1 snapshot written by the previous instance on shutdown (L1WarmRestart)
+ * - Step 2: preload static data not restored by step 1 (skillCategories, dashboardData CANDIDATE/RECRUITER),
+ *   loaded concurrently with the in-memory skill indexes (skillSuggestions index, vectorVisualization projection)
+ * - Bounded by app.cache.warm-restart.startup-timeout-ms: on timeout / failure the instance becomes ready cold
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class CacheWarmingService {
+public class CacheWarmingService implements ApplicationRunner {
 
     private final CacheService cacheService;
     private final SearchService searchService;
     private final DashboardService dashboardService;
+    private final SkillSuggestionService skillSuggestionService;
+    private final SkillProjectionService skillProjectionService;
+    private final L1WarmRestart l1WarmRestart;
+    private final Duration startupTimeout;
+
+    public CacheWarmingService(
+            CacheService cacheService,
+            SearchService searchService,
+            DashboardService dashboardService,
+            SkillSuggestionService skillSuggestionService,
+            SkillProjectionService skillProjectionService,
+            L1WarmRestart l1WarmRestart,
+            @Value("${app.cache.warm-restart.startup-timeout-ms:30000}") long startupTimeoutMs) {
+        this.cacheService = cacheService;
+        this.searchService = searchService;
+        this.dashboardService = dashboardService;
+        this.skillSuggestionService = skillSuggestionService;
+        this.skillProjectionService = skillProjectionService;
+        this.l1WarmRestart = l1WarmRestart;
+        this.startupTimeout = Duration.ofMillis(startupTimeoutMs);
+    }
 
     /**
-     * Warm cache on application startup
-     * - Executed after ApplicationContext is fully initialized
-     * - Preloads skillCategories and dashboardData
+     * Warm cache on application startup (blocks readiness until done or timed out)
      */
-    @EventListener(ApplicationReadyEvent.class)
-    public void warmCacheOnStartup() {
+    @Override
+    public void run(ApplicationArguments args) {
         log.info("=== Cache Warming Started ===");
+        long start = System.currentTimeMillis();
 
-        // Warm skillCategories
-        warmSkillCategories()
-                .then(warmDashboardData(UserMode.CANDIDATE))
-                .then(warmDashboardData(UserMode.RECRUITER))
-                .doOnSuccess(v -> log.info("=== Cache Warming Completed Successfully ==="))
-                .doOnError(error -> log.error("=== Cache Warming Failed ===", error))
-                .subscribe(); // Subscribe to trigger execution
+        try {
+            warm().block(startupTimeout);
+            log.info("=== Cache Warming Completed Successfully ({}ms) ===", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("=== Cache Warming Failed, starting with a cold cache: {} ===", e.getMessage());
+        }
+    }
+
+    /**
+     * L1 snapshot restore, then static data warming + skill index builds
+     */
+    Mono<Void> warm() {
+        return l1WarmRestart.restore()
+                .doOnNext(restored -> log.info("L1 entries restored from snapshot: {}", restored))
+                .then(Mono.when(
+                        warmSkillCategories(),
+                        warmDashboardData(UserMode.CANDIDATE),
+                        warmDashboardData(UserMode.RECRUITER),
+                        skillSuggestionService.buildOnStartup(),
+                        skillProjectionService.loadOnStartup()));
     }
 
     /**
@@ -47,14 +86,12 @@ public class CacheWarmingService {
      * - TTL: 24 hours
      */
     private Mono<Void> warmSkillCategories() {
-        log.info("Warming cache: skillCategories");
         String key = CacheService.skillCategoriesKey();
 
-        return searchService.getSkillCategories()
+        return warmIfAbsent(key, () -> searchService.getSkillCategories()
                 .flatMap(categories -> cacheService.warmCache(key, categories))
-                .doOnSuccess(result -> log.info("skillCategories warmed: {} categories", key))
-                .doOnError(error -> log.error("Failed to warm skillCategories: {}", error.getMessage()))
-                .then();
+                .doOnSuccess(result -> log.info("skillCategories warmed: {}", key))
+                .doOnError(error -> log.error("Failed to warm skillCategories: {}", error.getMessage())));
     }
 
     /**
@@ -65,13 +102,29 @@ public class CacheWarmingService {
      * @param userMode User mode
      */
     private Mono<Void> warmDashboardData(UserMode userMode) {
-        log.info("Warming cache: dashboardData for {}", userMode);
         String key = CacheService.dashboardKey(userMode.name());
 
-        return dashboardService.getDashboardData(userMode)
+        return warmIfAbsent(key, () -> dashboardService.getDashboardData(userMode)
                 .flatMap(data -> cacheService.warmCache(key, data))
                 .doOnSuccess(result -> log.info("dashboardData warmed for {}: {}", userMode, key))
-                .doOnError(error -> log.error("Failed to warm dashboardData for {}: {}", userMode, error.getMessage()))
-                .then();
+                .doOnError(error -> log.error("Failed to warm dashboardData for {}: {}", userMode, error.getMessage())));
+    }
+
+    /**
+     * Skip the source query when the key is already cached (restored snapshot or L2)
+     * - Errors are logged and swallowed: one failing key does not cancel the others
+     */
+    private Mono<Void> warmIfAbsent(String key, Supplier<Mono<Boolean>> warmer) {
+        return cacheService.peek(key, Object.class)
+                .hasElement()
+                .flatMap(cached -> {
+                    if (cached) {
+                        log.info("Cache already warm: {}", key);
+                        return Mono.<Void>empty();
+                    }
+                    log.info("Warming cache: {}", key);
+                    return warmer.get().then();
+                })
+                .onErrorResume(error -> Mono.empty());
     }
 }
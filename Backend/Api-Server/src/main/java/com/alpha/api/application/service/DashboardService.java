@@ -1,18 +1,14 @@
 package com.alpha.api.application.service;
 
-import com.alpha.api.domain.candidate.repository.CandidateSkillRepository;
-import com.alpha.api.domain.recruit.repository.RecruitSkillRepository;
-import com.alpha.api.domain.skilldic.entity.SkillCategoryDic;
-import com.alpha.api.domain.skilldic.entity.SkillEmbeddingDic;
-import com.alpha.api.domain.skilldic.repository.SkillCategoryDicRepository;
-import com.alpha.api.domain.skilldic.repository.SkillEmbeddingDicRepository;
+import com.alpha.api.application.concurrency.WorkloadIsolation;
+import com.alpha.api.infrastructure.persistence.AnalyticsDatabaseClient;
+import com.alpha.api.infrastructure.persistence.QueryClass;
 import com.alpha.api.presentation.graphql.type.CompanyJobCount;
 import com.alpha.api.presentation.graphql.type.DashboardCategoryData;
 import com.alpha.api.presentation.graphql.type.DashboardSkillStat;
 import com.alpha.api.presentation.graphql.type.UserMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -23,23 +19,24 @@ import java.util.List;
  * Dashboard Service
  * - Provides category-level skill statistics for dashboard visualization
  * - userMode: CANDIDATE shows recruit statistics, RECRUITER shows candidate statistics
+ * - Analytics workload: dedicated R2DBC pool + analytics bulkhead, grouping on the CPU scheduler
+ * - Queries run under QueryClass.DASHBOARD statement_timeout and are cancelled on the server with the caller
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
-    private final SkillCategoryDicRepository skillCategoryDicRepository;
-    private final SkillEmbeddingDicRepository skillEmbeddingDicRepository;
-    private final RecruitSkillRepository recruitSkillRepository;
-    private final CandidateSkillRepository candidateSkillRepository;
-    private final DatabaseClient databaseClient;
+    private final AnalyticsDatabaseClient analyticsDatabaseClient;
+    private final WorkloadIsolation workloadIsolation;
 
     /**
-     * Get dashboard data by user mode (Optimized with CTE)
+     * Get dashboard data by user mode (pre-aggregated)
      * - Returns category-level skill statistics
-     * - Uses single SQL query with CTE + JOIN for optimal performance
-     * - Performance: N+1 queries (200+) → 1 query
+     * - Reads dashboard_skill_count (maintained incrementally by Batch-Server writers)
+     * - Dictionary-sized query (few hundred rows), no scan of recruit_skill / candidate_skill
+     * - count = recruit_skill / candidate_skill rows per LOWER(skill), not COUNT(DISTINCT entity):
+     *   an entity listing the same skill under two spellings that differ only in case counts twice
      *
      * @param userMode User mode (CANDIDATE or RECRUITER)
      * @return Mono<List<DashboardCategoryData>>
@@ -47,41 +44,34 @@ public class DashboardService {
     public Mono<List<DashboardCategoryData>> getDashboardData(UserMode userMode) {
         log.info("getDashboardData called - userMode: {}", userMode);
 
-        // Dynamic table name based on user mode
-        // CANDIDATE mode → count from recruit_skill (job market demand)
-        // RECRUITER mode → count from candidate_skill (talent pool)
-        String skillTable = (userMode == UserMode.CANDIDATE) ? "recruit_skill" : "candidate_skill";
-
-        String sql = String.format("""
-            WITH skill_counts AS (
-                SELECT
-                    sed.skill,
-                    sed.category_id,
-                    COUNT(DISTINCT s.%s) AS count
-                FROM skill_embedding_dic sed
-                LEFT JOIN %s s ON LOWER(sed.skill) = LOWER(s.skill)
-                GROUP BY sed.skill_id, sed.skill, sed.category_id
-            )
+        // CANDIDATE mode → recruit skill counts (job market demand)
+        // RECRUITER mode → candidate skill counts (talent pool)
+        String domain = (userMode == UserMode.CANDIDATE) ? "recruit" : "candidate";
+
+        String sql = """
             SELECT
                 scd.category,
-                sc.skill,
-                COALESCE(sc.count, 0) AS count
-            FROM skill_counts sc
-            INNER JOIN skill_category_dic scd ON sc.category_id = scd.category_id
-            ORDER BY scd.category, sc.count DESC
-            """,
-                (userMode == UserMode.CANDIDATE) ? "recruit_id" : "candidate_id",
-                skillTable
-        );
-
-        return databaseClient.sql(sql)
+                sed.skill,
+                COALESCE(dsc.entity_count, 0) AS count
+            FROM skill_embedding_dic sed
+            INNER JOIN skill_category_dic scd ON sed.category_id = scd.category_id
+            LEFT JOIN dashboard_skill_count dsc
+                   ON dsc.domain = :domain AND dsc.skill_key = LOWER(sed.skill)
+            ORDER BY scd.category, count DESC
+            """;
+
+        Flux<SkillStatRow> rows = analyticsDatabaseClient.client().sql(sql)
+                .bind("domain", domain)
                 .map(row -> new SkillStatRow(
                         row.get("category", String.class),
                         row.get("skill", String.class),
                         row.get("count", Long.class).intValue()
                 ))
-                .all()
-                .collectList()
+                .all();
+
+        return workloadIsolation.getAnalytics().execute(() -> analyticsDatabaseClient.execute(QueryClass.DASHBOARD, rows)
+                        .collectList())
+                .publishOn(workloadIsolation.getCpu())
                 .map(this::groupByCategory)
                 .doOnSuccess(data -> log.info("getDashboardData returned {} categories", data.size()))
                 .doOnError(error -> log.error("getDashboardData error: {}", error.getMessage(), error));
@@ -118,6 +108,7 @@ public class DashboardService {
     /**
      * Get top companies by job posting count
      * - Returns top N companies with most job postings
+     * - Reads dashboard_company_count (maintained incrementally by Batch-Server writers)
      * - Used for Dashboard "Company_name 기준 공고 많은 기업 Top 10" (dashboard_request.txt #1)
      *
      * @param limit Maximum number of companies to return (default: 10)
@@ -129,22 +120,23 @@ public class DashboardService {
         log.info("getTopCompanies called - limit: {}", finalLimit);
 
         String sql = """
-            SELECT company_name, COUNT(*) as job_count
-            FROM recruit
-            WHERE company_name IS NOT NULL
-            GROUP BY company_name
+            SELECT company_name, job_count
+            FROM dashboard_company_count
+            WHERE job_count > 0
             ORDER BY job_count DESC
             LIMIT :limit
             """;
 
-        return databaseClient.sql(sql)
+        Flux<CompanyJobCount> companyCounts = analyticsDatabaseClient.client().sql(sql)
                 .bind("limit", finalLimit)
                 .map(row -> CompanyJobCount.builder()
                         .companyName(row.get("company_name", String.class))
-                        .jobCount(row.get("job_count", Integer.class))
+                        .jobCount(row.get("job_count", Long.class).intValue())
                         .build())
-                .all()
-                .collectList()
+                .all();
+
+        return workloadIsolation.getAnalytics().execute(() -> analyticsDatabaseClient.execute(QueryClass.DASHBOARD, companyCounts)
+                        .collectList())
                 .doOnSuccess(companies -> log.info("getTopCompanies returned {} companies", companies.size()))
                 .doOnError(error -> log.error("getTopCompanies error: {}", error.getMessage(), error));
     }
@@ -0,0 +1,227 @@
+package com.alpha.api.application.service;
+
+import com.alpha.api.presentation.graphql.type.CandidateDetail;
+import com.alpha.api.presentation.graphql.type.RecruitDetail;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Detail Service (Application Layer)
+ * - Single-statement hydration: entity + description + skills in one round trip
+ * - Batched variant loads N details with "= ANY(:ids)"
+ * - Entity-level cache (CacheService.recruitKey / candidateKey), invalidated by id
+ *   (Batch upserts → InvalidateRecruitCache / InvalidateCandidateCache after commit)
+ * - Malformed ids / oversized batches → Mono.error(IllegalArgumentException), never a synchronous throw
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DetailService {
+
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private static final String RECRUIT_DETAIL_SQL = """
+        SELECT
+            r.recruit_id,
+            r.position,
+            r.company_name,
+            r.experience_years,
+            r.primary_keyword,
+            r.english_level,
+            r.published_at,
+            COALESCE(rd.long_description, '') AS description,
+            COALESCE(
+                (SELECT array_agg(rs.skill ORDER BY rs.skill) FROM recruit_skill rs WHERE rs.recruit_id = r.recruit_id),
+                '{}'
+            ) AS skills
+        FROM recruit r
+        LEFT JOIN recruit_description rd ON rd.recruit_id = r.recruit_id
+        WHERE r.recruit_id = ANY(:ids)
+        """;
+
+    private static final String CANDIDATE_DETAIL_SQL = """
+        SELECT
+            c.candidate_id,
+            c.position_category,
+            c.experience_years,
+            COALESCE(cd.original_resume, c.original_resume) AS original_resume,
+            c.created_at,
+            c.updated_at,
+            cd.resume_lang,
+            cd.moreinfo,
+            cd.looking_for,
+            COALESCE(
+                (SELECT array_agg(cs.skill ORDER BY cs.skill) FROM candidate_skill cs WHERE cs.candidate_id = c.candidate_id),
+                '{}'
+            ) AS skills
+        FROM candidate c
+        LEFT JOIN candidate_description cd ON cd.candidate_id = c.candidate_id
+        WHERE c.candidate_id = ANY(:ids)
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final CacheService cacheService;
+
+    /**
+     * Get Recruit Detail (Detail View)
+     * - Cache-aside on recruit:{id}, one hydration query on miss
+     *
+     * @param id Recruit ID as string
+     * @return Mono<RecruitDetail> (empty if not found)
+     */
+    public Mono<RecruitDetail> getRecruitDetail(String id) {
+        log.info("getRecruitDetail called - id: {}", id);
+
+        return Mono.fromCallable(() -> UUID.fromString(id).toString())
+                .flatMap(recruitId -> cacheService.getOrLoad(CacheService.recruitKey(recruitId), RecruitDetail.class,
+                        () -> loadRecruits(List.of(recruitId)).flatMap(details -> Mono.justOrEmpty(details.get(recruitId)))))
+                .doOnSuccess(detail -> log.info("getRecruitDetail returned detail for id: {}", id))
+                .doOnError(error -> log.error("getRecruitDetail error for id {}: {}", id, error.getMessage(), error));
+    }
+
+    /**
+     * Get Candidate Detail (Detail View)
+     * - Cache-aside on candidate:{id}, one hydration query on miss
+     *
+     * @param id Candidate ID as string
+     * @return Mono<CandidateDetail> (empty if not found)
+     */
+    public Mono<CandidateDetail> getCandidateDetail(String id) {
+        log.info("getCandidateDetail called - id: {}", id);
+
+        return Mono.fromCallable(() -> UUID.fromString(id).toString())
+                .flatMap(candidateId -> cacheService.getOrLoad(CacheService.candidateKey(candidateId), CandidateDetail.class,
+                        () -> loadCandidates(List.of(candidateId)).flatMap(details -> Mono.justOrEmpty(details.get(candidateId)))))
+                .doOnSuccess(detail -> log.info("getCandidateDetail returned detail for id: {}", id))
+                .doOnError(error -> log.error("getCandidateDetail error for id {}: {}", id, error.getMessage(), error));
+    }
+
+    /**
+     * Get Recruit Details (batched)
+     * - Cached ids served from L1/L2, all misses loaded in one query
+     * - Result follows input order; unknown ids are skipped
+     *
+     * @param ids Recruit IDs as strings (at most 100)
+     * @return Mono<List<RecruitDetail>>
+     */
+    public Mono<List<RecruitDetail>> getRecruits(List<String> ids) {
+        log.info("getRecruits called - {} ids", ids.size());
+
+        return Mono.fromCallable(() -> canonicalIds(ids))
+                .flatMap(recruitIds -> cacheService.getOrLoadAll(recruitIds, CacheService::recruitKey, RecruitDetail.class, this::loadRecruits)
+                        .map(details -> inInputOrder(recruitIds, details)))
+                .doOnSuccess(details -> log.info("getRecruits returned {} details", details.size()))
+                .doOnError(error -> log.error("getRecruits error: {}", error.getMessage(), error));
+    }
+
+    /**
+     * Get Candidate Details (batched)
+     * - Cached ids served from L1/L2, all misses loaded in one query
+     * - Result follows input order; unknown ids are skipped
+     *
+     * @param ids Candidate IDs as strings (at most 100)
+     * @return Mono<List<CandidateDetail>>
+     */
+    public Mono<List<CandidateDetail>> getCandidates(List<String> ids) {
+        log.info("getCandidates called - {} ids", ids.size());
+
+        return Mono.fromCallable(() -> canonicalIds(ids))
+                .flatMap(candidateIds -> cacheService.getOrLoadAll(candidateIds, CacheService::candidateKey, CandidateDetail.class, this::loadCandidates)
+                        .map(details -> inInputOrder(candidateIds, details)))
+                .doOnSuccess(details -> log.info("getCandidates returned {} details", details.size()))
+                .doOnError(error -> log.error("getCandidates error: {}", error.getMessage(), error));
+    }
+
+    /**
+     * Hydrate recruits in one statement, keyed by id
+     */
+    private Mono<Map<String, RecruitDetail>> loadRecruits(List<String> recruitIds) {
+        if (recruitIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return databaseClient.sql(RECRUIT_DETAIL_SQL)
+                .bind("ids", recruitIds.stream().map(UUID::fromString).toArray(UUID[]::new))
+                .map((row, metadata) -> toRecruitDetail(row))
+                .all()
+                .collectMap(RecruitDetail::getId, Function.identity());
+    }
+
+    /**
+     * Hydrate candidates in one statement, keyed by id
+     */
+    private Mono<Map<String, CandidateDetail>> loadCandidates(List<String> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return databaseClient.sql(CANDIDATE_DETAIL_SQL)
+                .bind("ids", candidateIds.stream().map(UUID::fromString).toArray(UUID[]::new))
+                .map((row, metadata) -> toCandidateDetail(row))
+                .all()
+                .collectMap(CandidateDetail::getId, Function.identity());
+    }
+
+    private RecruitDetail toRecruitDetail(Row row) {
+        OffsetDateTime publishedAt = row.get("published_at", OffsetDateTime.class);
+        return RecruitDetail.builder()
+                .id(row.get("recruit_id", UUID.class).toString())
+                .position(row.get("position", String.class))
+                .companyName(row.get("company_name", String.class))
+                .experienceYears(row.get("experience_years", Integer.class))
+                .primaryKeyword(row.get("primary_keyword", String.class))
+                .englishLevel(row.get("english_level", String.class))
+                .skills(Arrays.asList(row.get("skills", String[].class)))
+                .description(row.get("description", String.class))
+                .publishedAt(publishedAt != null ? publishedAt.toString() : null)
+                .build();
+    }
+
+    private CandidateDetail toCandidateDetail(Row row) {
+        OffsetDateTime createdAt = row.get("created_at", OffsetDateTime.class);
+        OffsetDateTime updatedAt = row.get("updated_at", OffsetDateTime.class);
+        return CandidateDetail.builder()
+                .id(row.get("candidate_id", UUID.class).toString())
+                .positionCategory(row.get("position_category", String.class))
+                .experienceYears(row.get("experience_years", Integer.class))
+                .originalResume(row.get("original_resume", String.class))
+                .resumeLang(row.get("resume_lang", String.class))
+                .moreinfo(row.get("moreinfo", String.class))
+                .lookingFor(row.get("looking_for", String.class))
+                .skills(Arrays.asList(row.get("skills", String[].class)))
+                .createdAt(createdAt != null ? createdAt.toString() : null)
+                .updatedAt(updatedAt != null ? updatedAt.toString() : null)
+                .build();
+    }
+
+    /**
+     * Validate batch size and canonicalize ids (invalid UUID → IllegalArgumentException, surfaced as Mono.error)
+     * - Canonical (lowercase) form keeps cache keys and result lookup consistent
+     */
+    private List<String> canonicalIds(List<String> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("ids cannot exceed " + MAX_BATCH_SIZE + " entries");
+        }
+        return ids.stream()
+                .map(id -> UUID.fromString(id).toString())
+                .collect(Collectors.toList());
+    }
+
+    private <T> List<T> inInputOrder(List<String> ids, Map<String, T> details) {
+        return ids.stream()
+                .map(details::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
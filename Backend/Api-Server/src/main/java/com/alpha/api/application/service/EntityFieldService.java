@@ -0,0 +1,80 @@
+package com.alpha.api.application.service;
+
+import com.alpha.api.domain.candidate.entity.CandidateDescription;
+import com.alpha.api.domain.candidate.entity.CandidateSkill;
+import com.alpha.api.domain.candidate.repository.CandidateDescriptionRepository;
+import com.alpha.api.domain.candidate.repository.CandidateSkillRepository;
+import com.alpha.api.domain.recruit.entity.RecruitDescription;
+import com.alpha.api.domain.recruit.entity.RecruitSkill;
+import com.alpha.api.domain.recruit.repository.RecruitDescriptionRepository;
+import com.alpha.api.domain.recruit.repository.RecruitSkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Entity Field Service (Application Layer)
+ * - Loads child fields (skills, description) for many parents in one query per field
+ * - Backs the GraphQL @BatchMapping resolvers (one call per request per field)
+ * - Result maps are keyed by parent id; parents without children are absent
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EntityFieldService {
+
+    private final RecruitSkillRepository recruitSkillRepository;
+    private final RecruitDescriptionRepository recruitDescriptionRepository;
+    private final CandidateSkillRepository candidateSkillRepository;
+    private final CandidateDescriptionRepository candidateDescriptionRepository;
+
+    /**
+     * Skills per recruit
+     */
+    public Mono<Map<UUID, List<String>>> getRecruitSkills(Collection<UUID> recruitIds) {
+        log.debug("Batch loading recruit skills - {} recruits", recruitIds.size());
+        return recruitSkillRepository.findAllByRecruitIds(toArray(recruitIds))
+                .collect(Collectors.groupingBy(RecruitSkill::getRecruitId,
+                        Collectors.mapping(RecruitSkill::getSkill, Collectors.toList())));
+    }
+
+    /**
+     * Description per recruit
+     */
+    public Mono<Map<UUID, RecruitDescription>> getRecruitDescriptions(Collection<UUID> recruitIds) {
+        log.debug("Batch loading recruit descriptions - {} recruits", recruitIds.size());
+        return recruitDescriptionRepository.findAllByRecruitIds(toArray(recruitIds))
+                .collectMap(RecruitDescription::getRecruitId, Function.identity());
+    }
+
+    /**
+     * Skills per candidate
+     */
+    public Mono<Map<UUID, List<String>>> getCandidateSkills(Collection<UUID> candidateIds) {
+        log.debug("Batch loading candidate skills - {} candidates", candidateIds.size());
+        return candidateSkillRepository.findAllByCandidateIds(toArray(candidateIds))
+                .collect(Collectors.groupingBy(CandidateSkill::getCandidateId,
+                        Collectors.mapping(CandidateSkill::getSkill, Collectors.toList())));
+    }
+
+    /**
+     * Description per candidate
+     */
+    public Mono<Map<UUID, CandidateDescription>> getCandidateDescriptions(Collection<UUID> candidateIds) {
+        log.debug("Batch loading candidate descriptions - {} candidates", candidateIds.size());
+        return candidateDescriptionRepository.findAllByCandidateIds(toArray(candidateIds))
+                .collectMap(CandidateDescription::getCandidateId, Function.identity());
+    }
+
+    private UUID[] toArray(Collection<UUID> ids) {
+        return ids.stream().distinct().toArray(UUID[]::new);
+    }
+}
@@ -0,0 +1,165 @@
+package com.alpha.api.application.service;
+
+import com.alpha.api.application.concurrency.AdaptiveLimiter;
+import com.alpha.api.application.concurrency.AdmissionControl;
+import com.alpha.api.application.concurrency.Bulkhead;
+import com.alpha.api.application.concurrency.OperationClass;
+import com.alpha.api.application.concurrency.WorkloadIsolation;
+import com.alpha.api.presentation.graphql.type.MatchItem;
+import com.alpha.api.presentation.graphql.type.UserMode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prefetch Service (Application Layer)
+ * - Warms the entity detail cache after searchMatches responds
+ *   - Ids of page N (detail click) and page N+1 (next page) from the cached ranking
+ *   - Loaded through DetailService.getRecruits / getCandidates (cached ids skipped, misses in one query)
+ * - Runs on a bounded, low-priority scheduler, never on the request path
+ * - Sheds work instead of queueing it:
+ *   - Load gate: foreground detail requests at max-load of their admission limit, or the search bulkhead
+ *     saturated (no free permit / callers queued) → nothing started (prefetch shares the R2DBC pool)
+ *   - Rate limit: at most max-per-second prefetches started per second
+ *   - In-flight limit: at most max-in-flight prefetches running at once
+ *   - Errors and timeouts are logged and dropped
+ */
+@Slf4j
+@Service
+public class PrefetchService {
+
+    // DetailService batch cap
+    private static final int MAX_PREFETCH_IDS = 100;
+
+    private final DetailService detailService;
+    private final AdaptiveLimiter detailLimiter;
+    private final Bulkhead searchBulkhead;
+    private final boolean enabled;
+    private final double maxLoad;
+    private final int maxPerSecond;
+    private final Duration timeout;
+    private final Semaphore inFlight;
+    private final Scheduler scheduler;
+
+    private final AtomicLong windowStartMillis = new AtomicLong();
+    private final AtomicInteger startedInWindow = new AtomicInteger();
+    private final AtomicLong shedCount = new AtomicLong();
+
+    public PrefetchService(
+            DetailService detailService,
+            AdmissionControl admissionControl,
+            WorkloadIsolation workloadIsolation,
+            @Value("${app.prefetch.enabled:true}") boolean enabled,
+            @Value("${app.prefetch.max-load:0.75}") double maxLoad,
+            @Value("${app.prefetch.max-per-second:20}") int maxPerSecond,
+            @Value("${app.prefetch.max-in-flight:4}") int maxInFlight,
+            @Value("${app.prefetch.threads:2}") int threads,
+            @Value("${app.prefetch.timeout-ms:2000}") long timeoutMs) {
+        this.detailService = detailService;
+        this.detailLimiter = admissionControl.limiter(OperationClass.DETAIL);
+        this.searchBulkhead = workloadIsolation.getSearch();
+        this.enabled = enabled;
+        this.maxLoad = maxLoad;
+        this.maxPerSecond = maxPerSecond;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.inFlight = new Semaphore(maxInFlight);
+        this.scheduler = Schedulers.newBoundedElastic(threads, maxInFlight, runnable -> {
+            Thread thread = new Thread(runnable, "prefetch");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }, 60);
+    }
+
+    /**
+     * Schedule detail prefetch for the served page and the next page (fire-and-forget)
+     *
+     * @param mode UserMode (CANDIDATE → recruit details, RECRUITER → candidate details)
+     * @param ranking Cached ranking (hybrid score sorted)
+     * @param offset Offset of the served page
+     * @param limit Page size
+     */
+    public void prefetchPages(UserMode mode, List<MatchItem> ranking, int offset, int limit) {
+        if (!enabled || ranking.isEmpty()) {
+            return;
+        }
+
+        int fromIndex = Math.min(offset, ranking.size());
+        int toIndex = Math.min(Math.min(offset + 2 * limit, fromIndex + MAX_PREFETCH_IDS), ranking.size());
+        List<String> ids = ranking.subList(fromIndex, toIndex).stream()
+                .map(MatchItem::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        if (isOverloaded()) {
+            long shed = shedCount.incrementAndGet();
+            log.debug("Prefetch shed (load) - mode: {}, ids: {}, total shed: {}", mode, ids.size(), shed);
+            return;
+        }
+        if (!tryStart()) {
+            long shed = shedCount.incrementAndGet();
+            log.debug("Prefetch shed - mode: {}, ids: {}, total shed: {}", mode, ids.size(), shed);
+            return;
+        }
+
+        Mono.defer(() -> (mode == UserMode.CANDIDATE)
+                        ? detailService.getRecruits(ids).map(List::size)
+                        : detailService.getCandidates(ids).map(List::size))
+                .subscribeOn(scheduler)
+                .timeout(timeout)
+                .doFinally(signal -> inFlight.release())
+                .subscribe(
+                        count -> log.debug("Prefetched {} {} details (offset: {}, limit: {})",
+                                count, mode, offset, limit),
+                        error -> log.debug("Prefetch dropped - mode: {}, error: {}", mode, error.getMessage()));
+    }
+
+    /**
+     * Number of prefetches dropped by the load gate / rate / in-flight limits
+     */
+    public long getShedCount() {
+        return shedCount.get();
+    }
+
+    /**
+     * Load gate: foreground detail traffic near its adaptive limit, or search bulkhead saturated
+     */
+    private boolean isOverloaded() {
+        if (detailLimiter.getInFlight() >= detailLimiter.getLimit() * maxLoad) {
+            return true;
+        }
+        return searchBulkhead.getQueued() > 0 || searchBulkhead.getAvailablePermits() == 0;
+    }
+
+    /**
+     * Admission: fixed one-second window rate limit, then in-flight permit
+     */
+    private boolean tryStart() {
+        long now = System.currentTimeMillis();
+        long windowStart = windowStartMillis.get();
+        if (now - windowStart >= 1000 && windowStartMillis.compareAndSet(windowStart, now)) {
+            startedInWindow.set(0);
+        }
+        if (startedInWindow.incrementAndGet() > maxPerSecond) {
+            return false;
+        }
+        return inFlight.tryAcquire();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.dispose();
+    }
+}
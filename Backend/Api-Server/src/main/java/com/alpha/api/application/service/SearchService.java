@@ -1,24 +1,29 @@
 package com.alpha.api.application.service;
 
+import com.alpha.api.application.concurrency.BulkheadFullException;
+import com.alpha.api.application.concurrency.Deadline;
+import com.alpha.api.application.concurrency.DeadlinePolicy;
+import com.alpha.api.application.concurrency.WorkloadIsolation;
+import com.alpha.api.application.dto.CandidateSearchResult;
+import com.alpha.api.application.dto.RecruitSearchResult;
 import com.alpha.api.application.scoring.ScoringStrategyFactory;
 import com.alpha.api.domain.candidate.entity.Candidate;
-import com.alpha.api.domain.candidate.entity.CandidateDescription;
-import com.alpha.api.domain.candidate.repository.CandidateDescriptionRepository;
-import com.alpha.api.domain.candidate.repository.CandidateRepository;
 import com.alpha.api.domain.candidate.repository.CandidateSearchRepository;
 import com.alpha.api.domain.candidate.repository.CandidateSkillRepository;
 import com.alpha.api.domain.recruit.entity.Recruit;
-import com.alpha.api.domain.recruit.repository.RecruitDescriptionRepository;
-import com.alpha.api.domain.recruit.repository.RecruitRepository;
 import com.alpha.api.domain.recruit.repository.RecruitSearchRepository;
 import com.alpha.api.domain.recruit.repository.RecruitSkillRepository;
 import com.alpha.api.domain.scoring.ScoringContext;
 import com.alpha.api.domain.scoring.ScoringResult;
 import com.alpha.api.domain.scoring.ScoringStrategy;
+import com.alpha.api.domain.skilldic.entity.SkillCategoryDic;
 import com.alpha.api.domain.skilldic.entity.SkillEmbeddingDic;
 import com.alpha.api.domain.skilldic.repository.SkillCategoryDicRepository;
 import com.alpha.api.domain.skilldic.repository.SkillEmbeddingDicRepository;
+import com.alpha.api.domain.skilldic.service.CanonicalSkills;
+import com.alpha.api.domain.skilldic.service.SkillCanonicalizationService;
 import com.alpha.api.domain.skilldic.service.SkillNormalizationService;
+import com.alpha.api.infrastructure.cache.SemanticQueryIndex;
 import com.alpha.api.presentation.graphql.type.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +32,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -36,6 +46,18 @@ import java.util.stream.Collectors;
  * - Converts entities to Frontend-compatible types
  * - Uses Port interfaces (Domain Layer) instead of Infrastructure implementations
  * - Multi-layer caching (L1: Caffeine, L2: Redis)
+ * - Workload isolation: scoring / sorting / grouping on the CPU scheduler,
+ *   search DB work in the search bulkhead, statistics estimates in the analytics bulkhead
+ * - searchMatches runs under a Deadline: stages past their share are cut and the best results
+ *   gathered so far are returned with partial = true (never cached)
+ * - Skills canonicalized first (case, whitespace, aliases → dictionary skill codes); cache keys are
+ *   built from the canonical id set, unresolved skills reported back in the result
+ * - Semantic cache: an exact-key miss whose query vector is a near-duplicate of a cached query
+ *   reuses that candidate set and re-scores the skill terms locally (no vector search)
+ * - vectorVisualization served from the precomputed skill projection (no per-request dimensionality reduction)
+ * - ANN rows carry the embedding row's skills: matches are scored without a per-hit skill query
+ * - Concurrent cold misses for one cache key share a single ANN stream; a deadline-cut stream is
+ *   finished in the detached bulkhead or cancelled with its callers
  */
 @Slf4j
 @Service
@@ -43,22 +65,31 @@ import java.util.stream.Collectors;
 public class SearchService {
 
     private final SkillNormalizationService skillNormalizationService;
+    private final SkillCanonicalizationService skillCanonicalizationService;
     private final CacheService cacheService;
+    private final SemanticQueryIndex semanticQueryIndex;
+    private final SkillProjectionService skillProjectionService;
+    private final PrefetchService prefetchService;
+    private final WorkloadIsolation workloadIsolation;
+    private final DeadlinePolicy deadlinePolicy;
     private final ScoringStrategyFactory scoringStrategyFactory;
-    private final RecruitRepository recruitRepository;
-    private final RecruitDescriptionRepository recruitDescriptionRepository;
     private final RecruitSkillRepository recruitSkillRepository;
     private final RecruitSearchRepository recruitSearchRepository;
-    private final CandidateRepository candidateRepository;
-    private final CandidateDescriptionRepository candidateDescriptionRepository;
     private final CandidateSkillRepository candidateSkillRepository;
     private final CandidateSearchRepository candidateSearchRepository;
     private final SkillEmbeddingDicRepository skillEmbeddingDicRepository;
     private final SkillCategoryDicRepository skillCategoryDicRepository;
 
+    // Cold computations in flight, one shared scored ANN stream per search cache key
+    private final Map<String, InFlightSearch> inFlightSearches = new ConcurrentHashMap<>();
+
     // Cache limit constant - results beyond this are fetched directly from DB
     private static final int CACHE_LIMIT = 500;
 
+    // Deadline shares: normalization stage cap, reserve kept for sort + pagination after retrieval
+    private static final double NORMALIZATION_BUDGET_SHARE = 0.2;
+    private static final double SORT_RESERVE_SHARE = 0.1;
+
     /**
      * Search matches (Frontend searchMatches query)
      * - mode: CANDIDATE searches Recruits, RECRUITER searches Candidates
@@ -81,78 +112,232 @@ public class SearchService {
      * @return Mono<SearchMatchesResult>
      */
     public Mono<SearchMatchesResult> searchMatches(UserMode mode, List<String> skills, String experience, Integer limit, Integer offset, String sortBy) {
-        log.info("searchMatches called - mode: {}, skills: {}, experience: {}, limit: {}, offset: {}, sortBy: {}",
-                mode, skills, experience, limit, offset, sortBy);
+        return searchMatches(mode, skills, experience, limit, offset, sortBy, null);
+    }
+
+    /**
+     * Search matches with a latency budget
+     * - timeoutMs: client budget (nullable → app.search.deadline.default-ms), clamped by DeadlinePolicy
+     * - Budget shares: normalization ≤ 20%, ANN + hydration + scoring until 10% is left, then sort/paginate
+     * - Budget exhausted → outstanding statements cancelled, partial = true with the matches gathered so far
+     *
+     * @param timeoutMs Latency budget in milliseconds (nullable)
+     * @return Mono<SearchMatchesResult>
+     */
+    public Mono<SearchMatchesResult> searchMatches(UserMode mode, List<String> skills, String experience, Integer limit, Integer offset, String sortBy, Integer timeoutMs) {
+        log.info("searchMatches called - mode: {}, skills: {}, experience: {}, limit: {}, offset: {}, sortBy: {}, timeoutMs: {}",
+                mode, skills, experience, limit, offset, sortBy, timeoutMs);
+
+        Deadline deadline = deadlinePolicy.forSearch(timeoutMs);
 
         // Default values
         int finalLimit = (limit != null && limit > 0) ? limit : 10;
         int finalOffset = (offset != null && offset >= 0) ? offset : 0;
 
-        // Sort skills for consistent caching and processing
-        List<String> sortedSkills = skills.stream()
-                .sorted()
-                .collect(Collectors.toList());
-        log.debug("Sorted skills: {}", sortedSkills);
+        // Canonical skills (dictionary spelling, skill_code order) for consistent caching and processing
+        return skillCanonicalizationService.canonicalize(skills)
+                .flatMap(canonical -> {
+                    log.debug("Canonical skills: {}, unresolved: {}", canonical.getSkills(), canonical.getUnresolved());
+                    if (canonical.isEmpty()) {
+                        log.warn("No search skill resolved to the dictionary: {}", skills);
+                        return Mono.just(SearchMatchesResult.builder()
+                                .matches(List.of())
+                                .vectorVisualization(List.of())
+                                .unresolvedSkills(canonical.getUnresolved())
+                                .build());
+                    }
 
-        // Determine pagination strategy based on offset
-        if (finalOffset < CACHE_LIMIT) {
-            // Use cache for first 500 results
-            return searchMatchesFromCache(mode, sortedSkills, finalOffset, finalLimit, sortBy);
-        } else {
-            // Fetch directly from DB for results beyond cache limit
-            log.info("Offset {} >= CACHE_LIMIT {}, fetching directly from DB", finalOffset, CACHE_LIMIT);
-            return searchMatchesFromDb(mode, sortedSkills, finalOffset, finalLimit, sortBy);
-        }
+                    // Determine pagination strategy based on offset
+                    Mono<SearchMatchesResult> result;
+                    if (finalOffset < CACHE_LIMIT) {
+                        // Use cache for first 500 results
+                        result = searchMatchesFromCache(mode, canonical, finalOffset, finalLimit, sortBy, deadline);
+                    } else {
+                        // Fetch directly from DB for results beyond cache limit
+                        log.info("Offset {} >= CACHE_LIMIT {}, fetching directly from DB", finalOffset, CACHE_LIMIT);
+                        result = searchMatchesFromDb(mode, canonical.getSkills(), finalOffset, finalLimit, sortBy, deadline);
+                    }
+                    return result.doOnNext(searchResult -> searchResult.setUnresolvedSkills(canonical.getUnresolved()));
+                });
     }
 
     /**
      * Search matches from cache (offset < 500)
      * - Uses cached results sorted by hybrid score
+     * - Triggers detail prefetch for page N and N+1 after the page is built
+     * - Deadline hit while computing: page of the partial ranking, partial = true, no prefetch
      */
     private Mono<SearchMatchesResult> searchMatchesFromCache(
             UserMode mode,
-            List<String> sortedSkills,
+            CanonicalSkills canonical,
             int finalOffset,
             int finalLimit,
-            String sortBy
+            String sortBy,
+            Deadline deadline
     ) {
-        // Cache key for full search results (hybrid score sorted)
-        String cacheKey = CacheService.searchResultsKey(mode.name(), sortedSkills);
-
-        // Get full results from cache or compute
-        return cacheService.getOrLoadSearchResults(cacheKey, () ->
-                        // Compute full search results if cache miss
-                        skillNormalizationService.normalizeSkillsToQueryVector(sortedSkills)
-                                .flatMap(queryVector -> {
-                                    if (mode == UserMode.CANDIDATE) {
-                                        return computeAllRecruits(queryVector, sortedSkills, sortBy);
-                                    } else {
-                                        return computeAllCandidates(queryVector, sortedSkills, sortBy);
-                                    }
-                                })
-                                .onErrorResume(e -> {
-                                    log.warn("Skill normalization failed, returning empty results: {}", e.getMessage());
-                                    return Mono.just(List.of());
-                                })
-                )
-                .flatMap(allMatches -> {
-                    // Paginate from cached results
-                    int fromIndex = Math.min(finalOffset, allMatches.size());
-                    int toIndex = Math.min(finalOffset + finalLimit, allMatches.size());
-                    List<MatchItem> paginatedMatches = allMatches.subList(fromIndex, toIndex);
-
-                    log.debug("Cache pagination: total={}, offset={}, limit={}, returned={}",
-                            allMatches.size(), finalOffset, finalLimit, paginatedMatches.size());
-
-                    // Generate vector visualization
-                    return generateVectorVisualization(sortedSkills)
-                            .map(vectorVisualization -> SearchMatchesResult.builder()
-                                    .matches(paginatedMatches)
-                                    .vectorVisualization(vectorVisualization)
-                                    .build());
+        List<String> sortedSkills = canonical.getSkills();
+
+        // Detail cache for this page and the next is warmed asynchronously (shed under load)
+        return loadCachedMatches(mode, canonical, sortBy, deadline)
+                .flatMap(allMatches -> paginateCachedMatches(sortedSkills, allMatches, finalOffset, finalLimit)
+                        .doOnSuccess(result -> prefetchService.prefetchPages(mode, allMatches, finalOffset, finalLimit)))
+                .onErrorResume(PartialMatchesException.class, partial -> {
+                    log.warn("searchMatches deadline exceeded - mode: {}, skills: {}, partial matches: {}",
+                            mode, sortedSkills, partial.getMatches().size());
+                    return paginateCachedMatches(sortedSkills, partial.getMatches(), finalOffset, finalLimit)
+                            .doOnNext(result -> result.setPartial(true));
                 });
     }
 
+    /**
+     * Search matches from an already cached ranking only (degraded path under overload)
+     * - No vector normalization, ANN query, DB fallback or prefetch
+     * - Empty when the ranking is not cached or offset is beyond CACHE_LIMIT (caller rejects)
+     *
+     * @param mode UserMode (CANDIDATE or RECRUITER)
+     * @param skills List of skill names
+     * @param limit Max number of results (nullable)
+     * @param offset Number of results to skip (nullable)
+     * @return Mono<SearchMatchesResult>, empty if not cached
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<SearchMatchesResult> searchMatchesCachedOnly(UserMode mode, List<String> skills, Integer limit, Integer offset) {
+        int finalLimit = (limit != null && limit > 0) ? limit : 10;
+        int finalOffset = (offset != null && offset >= 0) ? offset : 0;
+        if (finalOffset >= CACHE_LIMIT) {
+            return Mono.empty();
+        }
+
+        return skillCanonicalizationService.canonicalize(skills)
+                .filter(canonical -> !canonical.isEmpty())
+                .flatMap(canonical -> cacheService.peek(CacheService.searchResultsKey(mode.name(), canonical.cacheKey()), Object.class)
+                        .map(cached -> (List<MatchItem>) cached)
+                        .flatMap(allMatches -> paginateCachedMatches(canonical.getSkills(), allMatches, finalOffset, finalLimit))
+                        .doOnNext(result -> result.setUnresolvedSkills(canonical.getUnresolved())));
+    }
+
+    /**
+     * Page of the cached ranking + vector visualization
+     */
+    private Mono<SearchMatchesResult> paginateCachedMatches(
+            List<String> sortedSkills,
+            List<MatchItem> allMatches,
+            int finalOffset,
+            int finalLimit
+    ) {
+        // Paginate from cached results
+        int fromIndex = Math.min(finalOffset, allMatches.size());
+        int toIndex = Math.min(finalOffset + finalLimit, allMatches.size());
+        List<MatchItem> paginatedMatches = allMatches.subList(fromIndex, toIndex);
+
+        log.debug("Cache pagination: total={}, offset={}, limit={}, returned={}",
+                allMatches.size(), finalOffset, finalLimit, paginatedMatches.size());
+
+        // Generate vector visualization
+        return generateVectorVisualization(sortedSkills)
+                .map(vectorVisualization -> SearchMatchesResult.builder()
+                        .matches(paginatedMatches)
+                        .vectorVisualization(vectorVisualization)
+                        .build());
+    }
+
+    /**
+     * Full ANN candidate set (up to CACHE_LIMIT, hybrid score sorted) from cache or compute
+     * - Shared by searchMatches (pagination) and searchStatistics (aggregation)
+     * - Bounded deadline cut short → PartialMatchesException (propagates past the cache, not stored);
+     *   the cut ANN stream keeps running detached (detached bulkhead permitting) and stores the full ranking
+     * - Concurrent misses for the same key join the in-flight ANN stream instead of starting another
+     */
+    private Mono<List<MatchItem>> loadCachedMatches(UserMode mode, CanonicalSkills canonical, String sortBy, Deadline deadline) {
+        List<String> sortedSkills = canonical.getSkills();
+
+        // Cache key for full search results (hybrid score sorted), one per canonical skill set
+        String cacheKey = CacheService.searchResultsKey(mode.name(), canonical.cacheKey());
+
+        // Compute full search results if cache miss (search bulkhead; rejection propagates and is not cached)
+        return cacheService.getOrLoadSearchResults(cacheKey, () -> workloadIsolation.getSearch().execute(() ->
+                normalizeWithinDeadline(sortedSkills, deadline)
+                        .flatMap(queryVector -> reuseNearDuplicate(mode, queryVector, sortedSkills, sortBy)
+                                .switchIfEmpty(Mono.defer(() -> {
+                                    // Deadline cut → the ANN stream finishes detached and fills the cache itself
+                                    Consumer<List<MatchItem>> onDetachedResult = matches -> cacheService
+                                            .putSearchResults(cacheKey, matches)
+                                            .subscribe(stored -> semanticQueryIndex.register(mode.name(), cacheKey, queryVector));
+                                    InFlightSearch search = joinInFlight(cacheKey, () -> mode == UserMode.CANDIDATE
+                                            ? scoreAllRecruits(queryVector, sortedSkills)
+                                            : scoreAllCandidates(queryVector, sortedSkills));
+                                    Mono<List<MatchItem>> computed = collectOrFinishDetached(search, deadline, sortBy, onDetachedResult);
+                                    // Only full result sets become semantic cache anchors (partial → error, skipped)
+                                    return computed.doOnNext(matches ->
+                                            semanticQueryIndex.register(mode.name(), cacheKey, queryVector));
+                                })))
+                        .onErrorResume(e -> !(e instanceof PartialMatchesException), e -> {
+                            log.warn("Skill normalization failed, returning empty results: {}", e.getMessage());
+                            return Mono.just(List.of());
+                        })
+        ));
+    }
+
+    /**
+     * Semantic cache lookup: candidate set of a near-duplicate cached query, re-scored for these skills
+     * - Nearest cached query vector with cosine similarity >= app.cache.semantic.threshold (same mode)
+     * - Vector similarity kept from the cached ranking (queries are near-identical);
+     *   overlap / coverage / extra terms recomputed against the new skill set, then re-sorted
+     * - Anchor evicted from L1/L2 → dropped from the index, falls through to full compute
+     */
+    @SuppressWarnings("unchecked")
+    private Mono<List<MatchItem>> reuseNearDuplicate(UserMode mode, String queryVector, List<String> sortedSkills, String sortBy) {
+        return Mono.justOrEmpty(semanticQueryIndex.nearest(mode.name(), queryVector))
+                .flatMap(anchorKey -> cacheService.peek(anchorKey, Object.class)
+                        .map(cached -> (List<MatchItem>) cached)
+                        .doOnNext(cached -> log.debug("Semantic cache HIT: anchor={}, skills={}", anchorKey, sortedSkills))
+                        .switchIfEmpty(Mono.fromRunnable(() -> semanticQueryIndex.remove(anchorKey))))
+                .zipWith(skillCanonicalizationService.canonicalFold())
+                .publishOn(workloadIsolation.getCpu())
+                .map(tuple -> rescoreCandidates(mode, tuple.getT1(), sortedSkills, tuple.getT2(), sortBy));
+    }
+
+    /**
+     * Recompute hybrid scores of a cached candidate set for a different skill set
+     */
+    private List<MatchItem> rescoreCandidates(UserMode mode, List<MatchItem> candidates, List<String> skills,
+                                              UnaryOperator<String> fold, String sortBy) {
+        ScoringStrategy scoringStrategy = scoringStrategyFactory.getStrategy(mode);
+        Set<String> searchSkillsSet = foldSkills(skills, fold);
+
+        List<MatchItem> rescored = candidates.stream()
+                .map(item -> {
+                    Set<String> targetSkillsSet = foldSkills(item.getSkills() != null ? item.getSkills() : List.of(), fold);
+
+                    // Cached vectorScore is the 0-100 rounded cosine similarity
+                    double vectorSimilarity = item.getVectorScore() != null ? item.getVectorScore() / 100.0 : 0.0;
+                    ScoringContext context = ScoringContext.builder()
+                            .vectorSimilarity(vectorSimilarity)
+                            .searchSkills(searchSkillsSet)
+                            .targetSkills(targetSkillsSet)
+                            .build();
+
+                    ScoringResult scoringResult = scoringStrategy.calculate(context);
+
+                    return MatchItem.builder()
+                            .id(item.getId())
+                            .title(item.getTitle())
+                            .company(item.getCompany())
+                            .score(scoringResult.getHybridScore())
+                            .skills(item.getSkills())
+                            .experience(item.getExperience())
+                            .timestamp(item.getTimestamp())
+                            .vectorScore(item.getVectorScore())
+                            .overlapRatio(scoringResult.getOverlapRatio())
+                            .coverageRatio(scoringResult.getCoverageRatio())
+                            .extraRatio(scoringResult.getExtraRatio())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return applySorting(rescored, sortBy);
+    }
+
     /**
      * Search matches directly from DB (offset >= 500)
      * - Bypasses cache, fetches directly with SQL OFFSET/LIMIT
@@ -164,35 +349,44 @@ public class SearchService {
             List<String> sortedSkills,
             int finalOffset,
             int finalLimit,
-            String sortBy
+            String sortBy,
+            Deadline deadline
     ) {
         Double similarityThreshold = 0.6;
 
-        return skillNormalizationService.normalizeSkillsToQueryVector(sortedSkills)
-                .flatMap(queryVector -> {
-                    if (mode == UserMode.CANDIDATE) {
-                        return fetchRecruitsFromDb(queryVector, sortedSkills, similarityThreshold, finalOffset, finalLimit, sortBy);
-                    } else {
-                        return fetchCandidatesFromDb(queryVector, sortedSkills, similarityThreshold, finalOffset, finalLimit, sortBy);
-                    }
-                })
-                .onErrorResume(e -> {
-                    log.warn("Skill normalization failed for DB search, returning empty results: {}", e.getMessage());
-                    return Mono.just(List.of());
-                })
-                .flatMap(matches -> {
-                    log.debug("DB direct pagination: offset={}, limit={}, returned={}",
-                            finalOffset, finalLimit, matches.size());
-
-                    // Generate vector visualization
-                    return generateVectorVisualization(sortedSkills)
-                            .map(vectorVisualization -> SearchMatchesResult.builder()
-                                    .matches(matches)
-                                    .vectorVisualization(vectorVisualization)
-                                    .build());
+        return workloadIsolation.getSearch().execute(() -> normalizeWithinDeadline(sortedSkills, deadline)
+                        .flatMap(queryVector -> {
+                            if (mode == UserMode.CANDIDATE) {
+                                return fetchRecruitsFromDb(queryVector, sortedSkills, similarityThreshold, finalOffset, finalLimit, sortBy, deadline);
+                            } else {
+                                return fetchCandidatesFromDb(queryVector, sortedSkills, similarityThreshold, finalOffset, finalLimit, sortBy, deadline);
+                            }
+                        })
+                        .onErrorResume(e -> !(e instanceof PartialMatchesException), e -> {
+                            log.warn("Skill normalization failed for DB search, returning empty results: {}", e.getMessage());
+                            return Mono.just(List.of());
+                        }))
+                .flatMap(matches -> toDbPage(sortedSkills, matches, finalOffset, finalLimit))
+                .onErrorResume(PartialMatchesException.class, partial -> {
+                    log.warn("searchMatches (DB) deadline exceeded - mode: {}, skills: {}, partial matches: {}",
+                            mode, sortedSkills, partial.getMatches().size());
+                    return toDbPage(sortedSkills, partial.getMatches(), finalOffset, finalLimit)
+                            .doOnNext(result -> result.setPartial(true));
                 });
     }
 
+    private Mono<SearchMatchesResult> toDbPage(List<String> sortedSkills, List<MatchItem> matches, int finalOffset, int finalLimit) {
+        log.debug("DB direct pagination: offset={}, limit={}, returned={}",
+                finalOffset, finalLimit, matches.size());
+
+        // Generate vector visualization
+        return generateVectorVisualization(sortedSkills)
+                .map(vectorVisualization -> SearchMatchesResult.builder()
+                        .matches(matches)
+                        .vectorVisualization(vectorVisualization)
+                        .build());
+    }
+
     /**
      * Fetch recruits directly from DB with offset/limit
      */
@@ -202,56 +396,19 @@ public class SearchService {
             Double similarityThreshold,
             int offset,
             int limit,
-            String sortBy
+            String sortBy,
+            Deadline deadline
     ) {
         ScoringStrategy scoringStrategy = scoringStrategyFactory.getStrategy(UserMode.CANDIDATE);
-        Set<String> searchSkillsSet = skills.stream()
-                .map(String::toLowerCase)
-                .map(String::trim)
-                .collect(Collectors.toSet());
-
-        return recruitSearchRepository.findSimilarByVectorWithScoreAndOffset(queryVector, similarityThreshold, offset, limit)
-                .flatMap(recruitSearchResult -> {
-                    var recruit = recruitSearchResult.getRecruit();
-                    Double similarityScore = recruitSearchResult.getSimilarityScore();
 
-                    return recruitSkillRepository.findByRecruitId(recruit.getRecruitId())
-                            .map(recruitSkill -> recruitSkill.getSkill())
-                            .collectList()
-                            .map(recruitSkills -> {
-                                Set<String> targetSkillsSet = recruitSkills.stream()
-                                        .map(String::toLowerCase)
-                                        .map(String::trim)
-                                        .collect(Collectors.toSet());
-
-                                ScoringContext context = ScoringContext.builder()
-                                        .vectorSimilarity(similarityScore)
-                                        .searchSkills(searchSkillsSet)
-                                        .targetSkills(targetSkillsSet)
-                                        .build();
-
-                                ScoringResult scoringResult = scoringStrategy.calculate(context);
-
-                                return MatchItem.builder()
-                                        .id(recruit.getRecruitId().toString())
-                                        .title(recruit.getPosition())
-                                        .company(recruit.getCompanyName())
-                                        .score(scoringResult.getHybridScore())
-                                        .skills(recruitSkills)
-                                        .experience(recruit.getExperienceYears())
-                                        .timestamp(recruit.getPublishedAt() != null ? recruit.getPublishedAt().toString() : null)
-                                        .vectorScore(scoringResult.getVectorScore())
-                                        .overlapRatio(scoringResult.getOverlapRatio())
-                                        .coverageRatio(scoringResult.getCoverageRatio())
-                                        .extraRatio(scoringResult.getExtraRatio())
-                                        .matchedSkills(new ArrayList<>(scoringResult.getMatchedSkills()))
-                                        .extraSkills(new ArrayList<>(scoringResult.getExtraSkills()))
-                                        .missingSkills(new ArrayList<>(scoringResult.getMissingSkills()))
-                                        .build();
-                            });
+        return skillCanonicalizationService.canonicalFold()
+                .flatMapMany(fold -> {
+                    Set<String> searchSkillsSet = foldSkills(skills, fold);
+                    return recruitSearchRepository.findSimilarByVectorWithScoreAndOffset(queryVector, similarityThreshold, offset, limit)
+                            .publishOn(workloadIsolation.getCpu())
+                            .map(result -> toRecruitMatch(result, searchSkillsSet, fold, scoringStrategy));
                 })
-                .collectList()
-                .map(matches -> applySorting(matches, sortBy != null ? sortBy : "score DESC"));
+                .as(matches -> collectWithinDeadline(matches, deadline, sortBy));
     }
 
     /**
@@ -263,199 +420,244 @@ public class SearchService {
             Double similarityThreshold,
             int offset,
             int limit,
-            String sortBy
+            String sortBy,
+            Deadline deadline
     ) {
         ScoringStrategy scoringStrategy = scoringStrategyFactory.getStrategy(UserMode.RECRUITER);
-        Set<String> searchSkillsSet = skills.stream()
-                .map(String::toLowerCase)
-                .map(String::trim)
-                .collect(Collectors.toSet());
 
-        return candidateSearchRepository.findSimilarByVectorWithScoreAndOffset(queryVector, similarityThreshold, offset, limit)
-                .flatMap(candidateSearchResult -> {
-                    var candidate = candidateSearchResult.getCandidate();
-                    Double similarityScore = candidateSearchResult.getSimilarityScore();
-
-                    return candidateSkillRepository.findByCandidateId(candidate.getCandidateId())
-                            .map(candidateSkill -> candidateSkill.getSkill())
-                            .collectList()
-                            .map(candidateSkills -> {
-                                Set<String> targetSkillsSet = candidateSkills.stream()
-                                        .map(String::toLowerCase)
-                                        .map(String::trim)
-                                        .collect(Collectors.toSet());
-
-                                ScoringContext context = ScoringContext.builder()
-                                        .vectorSimilarity(similarityScore)
-                                        .searchSkills(searchSkillsSet)
-                                        .targetSkills(targetSkillsSet)
-                                        .build();
-
-                                ScoringResult scoringResult = scoringStrategy.calculate(context);
-
-                                return MatchItem.builder()
-                                        .id(candidate.getCandidateId().toString())
-                                        .title(candidate.getOriginalResume())
-                                        .company(candidate.getPositionCategory())
-                                        .score(scoringResult.getHybridScore())
-                                        .skills(candidateSkills)
-                                        .experience(candidate.getExperienceYears())
-                                        .timestamp(candidate.getCreatedAt() != null ? candidate.getCreatedAt().toString() : null)
-                                        .vectorScore(scoringResult.getVectorScore())
-                                        .overlapRatio(scoringResult.getOverlapRatio())
-                                        .coverageRatio(scoringResult.getCoverageRatio())
-                                        .extraRatio(scoringResult.getExtraRatio())
-                                        .matchedSkills(new ArrayList<>(scoringResult.getMatchedSkills()))
-                                        .extraSkills(new ArrayList<>(scoringResult.getExtraSkills()))
-                                        .missingSkills(new ArrayList<>(scoringResult.getMissingSkills()))
-                                        .build();
-                            });
+        return skillCanonicalizationService.canonicalFold()
+                .flatMapMany(fold -> {
+                    Set<String> searchSkillsSet = foldSkills(skills, fold);
+                    return candidateSearchRepository.findSimilarByVectorWithScoreAndOffset(queryVector, similarityThreshold, offset, limit)
+                            .publishOn(workloadIsolation.getCpu())
+                            .map(result -> toCandidateMatch(result, searchSkillsSet, fold, scoringStrategy));
                 })
-                .collectList()
-                .map(matches -> applySorting(matches, sortBy != null ? sortBy : "score DESC"));
+                .as(matches -> collectWithinDeadline(matches, deadline, sortBy));
     }
 
     /**
-     * Compute all recruit matches (for caching)
+     * Score all recruit matches (for caching)
      * - Fetches ALL results above threshold
-     * - Calculates hybrid scores
-     * - Sorts by hybrid score
+     * - Calculates hybrid scores (sorted when collected, see collectOrFinishDetached)
      */
-    private Mono<List<MatchItem>> computeAllRecruits(String queryVector, List<String> skills, String sortBy) {
+    private Flux<MatchItem> scoreAllRecruits(String queryVector, List<String> skills) {
         Double similarityThreshold = 0.6;
         int maxResults = 500; // Maximum results to cache
 
         ScoringStrategy scoringStrategy = scoringStrategyFactory.getStrategy(UserMode.CANDIDATE);
-        Set<String> searchSkillsSet = skills.stream()
-                .map(String::toLowerCase)
-                .map(String::trim)
-                .collect(Collectors.toSet());
 
-        return recruitSearchRepository.findSimilarByVectorWithScore(queryVector, similarityThreshold, maxResults)
-                .flatMap(recruitSearchResult -> {
-                    Recruit recruit = recruitSearchResult.getRecruit();
-                    Double similarityScore = recruitSearchResult.getSimilarityScore();
-
-                    return recruitSkillRepository.findByRecruitId(recruit.getRecruitId())
-                            .map(recruitSkill -> recruitSkill.getSkill())
-                            .collectList()
-                            .map(recruitSkills -> {
-                                Set<String> targetSkillsSet = recruitSkills.stream()
-                                        .map(String::toLowerCase)
-                                        .map(String::trim)
-                                        .collect(Collectors.toSet());
-
-                                ScoringContext context = ScoringContext.builder()
-                                        .vectorSimilarity(similarityScore)
-                                        .searchSkills(searchSkillsSet)
-                                        .targetSkills(targetSkillsSet)
-                                        .build();
-
-                                ScoringResult scoringResult = scoringStrategy.calculate(context);
-
-                                return MatchItem.builder()
-                                        .id(recruit.getRecruitId().toString())
-                                        .title(recruit.getPosition())
-                                        .company(recruit.getCompanyName())
-                                        .score(scoringResult.getHybridScore())
-                                        .skills(recruitSkills)
-                                        .experience(recruit.getExperienceYears())
-                                        .timestamp(recruit.getPublishedAt() != null ? recruit.getPublishedAt().toString() : null)
-                                        .vectorScore(scoringResult.getVectorScore())
-                                        .overlapRatio(scoringResult.getOverlapRatio())
-                                        .coverageRatio(scoringResult.getCoverageRatio())
-                                        .extraRatio(scoringResult.getExtraRatio())
-                                        .matchedSkills(new ArrayList<>(scoringResult.getMatchedSkills()))
-                                        .extraSkills(new ArrayList<>(scoringResult.getExtraSkills()))
-                                        .missingSkills(new ArrayList<>(scoringResult.getMissingSkills()))
-                                        .build();
-                            });
-                })
-                .collectList()
-                .map(matches -> applySorting(matches, sortBy != null ? sortBy : "score DESC"));
+        return skillCanonicalizationService.canonicalFold()
+                .flatMapMany(fold -> {
+                    Set<String> searchSkillsSet = foldSkills(skills, fold);
+                    return recruitSearchRepository.findSimilarByVectorWithScore(queryVector, similarityThreshold, maxResults)
+                            .publishOn(workloadIsolation.getCpu())
+                            .map(result -> toRecruitMatch(result, searchSkillsSet, fold, scoringStrategy));
+                });
     }
 
     /**
-     * Compute all candidate matches (for caching)
+     * Score all candidate matches (for caching)
      * - Fetches ALL results above threshold
-     * - Calculates hybrid scores
-     * - Sorts by hybrid score
+     * - Calculates hybrid scores (sorted when collected, see collectOrFinishDetached)
      */
-    private Mono<List<MatchItem>> computeAllCandidates(String queryVector, List<String> skills, String sortBy) {
+    private Flux<MatchItem> scoreAllCandidates(String queryVector, List<String> skills) {
         Double similarityThreshold = 0.6;
         int maxResults = 500; // Maximum results to cache
 
         ScoringStrategy scoringStrategy = scoringStrategyFactory.getStrategy(UserMode.RECRUITER);
-        Set<String> searchSkillsSet = skills.stream()
-                .map(String::toLowerCase)
-                .map(String::trim)
+
+        return skillCanonicalizationService.canonicalFold()
+                .flatMapMany(fold -> {
+                    Set<String> searchSkillsSet = foldSkills(skills, fold);
+                    return candidateSearchRepository.findSimilarByVectorWithScore(queryVector, similarityThreshold, maxResults)
+                            .publishOn(workloadIsolation.getCpu())
+                            .map(result -> toCandidateMatch(result, searchSkillsSet, fold, scoringStrategy));
+                });
+    }
+
+    /**
+     * Score an ANN row into a MatchItem (CANDIDATE mode)
+     * - Skills come with the row (recruit_skills_embedding.skills): no per-hit skill query
+     */
+    private MatchItem toRecruitMatch(RecruitSearchResult result, Set<String> searchSkillsSet, UnaryOperator<String> fold,
+                                     ScoringStrategy scoringStrategy) {
+        Recruit recruit = result.getRecruit();
+        ScoringResult scoringResult = score(result.getSimilarityScore(), searchSkillsSet, result.getSkills(), fold, scoringStrategy);
+
+        return MatchItem.builder()
+                .id(recruit.getRecruitId().toString())
+                .title(recruit.getPosition())
+                .company(recruit.getCompanyName())
+                .score(scoringResult.getHybridScore())
+                .skills(result.getSkills())
+                .experience(recruit.getExperienceYears())
+                .timestamp(recruit.getPublishedAt() != null ? recruit.getPublishedAt().toString() : null)
+                .vectorScore(scoringResult.getVectorScore())
+                .overlapRatio(scoringResult.getOverlapRatio())
+                .coverageRatio(scoringResult.getCoverageRatio())
+                .extraRatio(scoringResult.getExtraRatio())
+                .build();
+    }
+
+    /**
+     * Score an ANN row into a MatchItem (RECRUITER mode)
+     * - Skills come with the row (candidate_skills_embedding.skills): no per-hit skill query
+     */
+    private MatchItem toCandidateMatch(CandidateSearchResult result, Set<String> searchSkillsSet, UnaryOperator<String> fold,
+                                     ScoringStrategy scoringStrategy) {
+        Candidate candidate = result.getCandidate();
+        ScoringResult scoringResult = score(result.getSimilarityScore(), searchSkillsSet, result.getSkills(), fold, scoringStrategy);
+
+        return MatchItem.builder()
+                .id(candidate.getCandidateId().toString())
+                .title(candidate.getResumeHeadline())
+                .company(candidate.getPositionCategory())
+                .score(scoringResult.getHybridScore())
+                .skills(result.getSkills())
+                .experience(candidate.getExperienceYears())
+                .timestamp(candidate.getCreatedAt() != null ? candidate.getCreatedAt().toString() : null)
+                .vectorScore(scoringResult.getVectorScore())
+                .overlapRatio(scoringResult.getOverlapRatio())
+                .coverageRatio(scoringResult.getCoverageRatio())
+                .extraRatio(scoringResult.getExtraRatio())
+                .build();
+    }
+
+    private ScoringResult score(Double similarityScore, Set<String> searchSkillsSet, List<String> targetSkills,
+                                UnaryOperator<String> fold, ScoringStrategy scoringStrategy) {
+        ScoringContext context = ScoringContext.builder()
+                .vectorSimilarity(similarityScore)
+                .searchSkills(searchSkillsSet)
+                .targetSkills(foldSkills(targetSkills, fold))
+                .build();
+
+        return scoringStrategy.calculate(context);
+    }
+
+    /**
+     * Comparison keys for a skill list (SkillCanonicalizationService.canonicalFold: aliases → dictionary name)
+     * - Same keys as the skill gap fields (MatchItemResolver), so overlapRatio agrees with matched/missingSkills
+     */
+    private static Set<String> foldSkills(List<String> skills, UnaryOperator<String> fold) {
+        return skills.stream()
+                .filter(Objects::nonNull)
+                .map(fold)
                 .collect(Collectors.toSet());
+    }
 
-        return candidateSearchRepository.findSimilarByVectorWithScore(queryVector, similarityThreshold, maxResults)
-                .flatMap(candidateSearchResult -> {
-                    Candidate candidate = candidateSearchResult.getCandidate();
-                    Double similarityScore = candidateSearchResult.getSimilarityScore();
+    /**
+     * Skill normalization capped at its share of the deadline
+     * - Over budget: PartialMatchesException with no matches (nothing retrieved yet)
+     */
+    private Mono<String> normalizeWithinDeadline(List<String> sortedSkills, Deadline deadline) {
+        Mono<String> queryVector = skillNormalizationService.normalizeSkillsToQueryVector(sortedSkills);
+        if (!deadline.isBounded()) {
+            return queryVector;
+        }
+        return queryVector.timeout(deadline.share(NORMALIZATION_BUDGET_SHARE),
+                Mono.error(() -> new PartialMatchesException(List.of())));
+    }
 
-                    return candidateSkillRepository.findByCandidateId(candidate.getCandidateId())
-                            .map(candidateSkill -> candidateSkill.getSkill())
-                            .collectList()
-                            .map(candidateSkills -> {
-                                Set<String> targetSkillsSet = candidateSkills.stream()
-                                        .map(String::toLowerCase)
-                                        .map(String::trim)
-                                        .collect(Collectors.toSet());
-
-                                ScoringContext context = ScoringContext.builder()
-                                        .vectorSimilarity(similarityScore)
-                                        .searchSkills(searchSkillsSet)
-                                        .targetSkills(targetSkillsSet)
-                                        .build();
+    /**
+     * Collect hydrated + scored matches until the retrieval cutoff, then sort
+     * - Cutoff (deadline minus the sort reserve) cancels the ANN stream and outstanding skill queries
+     * - Cut short → PartialMatchesException carrying the sorted matches gathered so far
+     */
+    private Mono<List<MatchItem>> collectWithinDeadline(Flux<MatchItem> matches, Deadline deadline, String sortBy) {
+        return collectWithinDeadline(matches, deadline, sortBy, () -> { });
+    }
 
-                                ScoringResult scoringResult = scoringStrategy.calculate(context);
-
-                                return MatchItem.builder()
-                                        .id(candidate.getCandidateId().toString())
-                                        .title(candidate.getOriginalResume())
-                                        .company(candidate.getPositionCategory())
-                                        .score(scoringResult.getHybridScore())
-                                        .skills(candidateSkills)
-                                        .experience(candidate.getExperienceYears())
-                                        .timestamp(candidate.getCreatedAt() != null ? candidate.getCreatedAt().toString() : null)
-                                        .vectorScore(scoringResult.getVectorScore())
-                                        .overlapRatio(scoringResult.getOverlapRatio())
-                                        .coverageRatio(scoringResult.getCoverageRatio())
-                                        .extraRatio(scoringResult.getExtraRatio())
-                                        .matchedSkills(new ArrayList<>(scoringResult.getMatchedSkills()))
-                                        .extraSkills(new ArrayList<>(scoringResult.getExtraSkills()))
-                                        .missingSkills(new ArrayList<>(scoringResult.getMissingSkills()))
-                                        .build();
-                            });
-                })
-                .collectList()
-                .map(matches -> applySorting(matches, sortBy != null ? sortBy : "score DESC"));
+    private Mono<List<MatchItem>> collectWithinDeadline(Flux<MatchItem> matches, Deadline deadline, String sortBy, Runnable onCutoff) {
+        AtomicBoolean truncated = new AtomicBoolean();
+        Flux<MatchItem> bounded = deadline.isBounded()
+                ? matches.takeUntilOther(Mono.delay(deadline.remainingBefore(SORT_RESERVE_SHARE))
+                        .doOnNext(tick -> {
+                            truncated.set(true);
+                            onCutoff.run();
+                        }))
+                : matches;
+
+        return bounded.collectList()
+                .publishOn(workloadIsolation.getCpu())
+                .map(collected -> applySorting(collected, sortBy != null ? sortBy : "score DESC"))
+                .flatMap(sorted -> truncated.get()
+                        ? Mono.error(new PartialMatchesException(sorted))
+                        : Mono.just(sorted));
+    }
+
+    /**
+     * Join the in-flight cold computation for a cache key, or start it
+     * - One scored ANN stream per key (replay + refCount): later callers receive the rows already emitted
+     * - Entry removed when the stream terminates or its last subscriber cancels
+     */
+    private InFlightSearch joinInFlight(String cacheKey, Supplier<Flux<MatchItem>> computation) {
+        return inFlightSearches.computeIfAbsent(cacheKey, key -> {
+            InFlightSearch search = new InFlightSearch();
+            search.matches = computation.get()
+                    .doFinally(signal -> inFlightSearches.remove(key, search))
+                    .replay()
+                    .refCount();
+            return search;
+        });
+    }
+
+    /**
+     * collectWithinDeadline for a cacheable cold computation
+     * - Cutoff: a detached collector subscribes before the caller cancels, so the stream keeps running
+     *   and the full sorted ranking goes to onDetachedResult (the next identical search is a cache hit)
+     * - Caller cancelled before the cutoff → no subscribers left, the ANN query is cancelled as before
+     */
+    private Mono<List<MatchItem>> collectOrFinishDetached(InFlightSearch search, Deadline deadline, String sortBy,
+                                                          Consumer<List<MatchItem>> onDetachedResult) {
+        if (!deadline.isBounded()) {
+            return collectWithinDeadline(search.matches, deadline, sortBy);
+        }
+        return collectWithinDeadline(search.matches, deadline, sortBy,
+                () -> finishDetached(search, sortBy, onDetachedResult));
+    }
+
+    /**
+     * Finish a deadline-cut computation in the detached bulkhead
+     * - At most one detached collector per in-flight computation
+     * - Detached bulkhead full → not detached: the stream is cancelled with its last caller (load shed)
+     */
+    private void finishDetached(InFlightSearch search, String sortBy, Consumer<List<MatchItem>> onDetachedResult) {
+        if (!search.detached.compareAndSet(false, true)) {
+            return;
+        }
+        workloadIsolation.getDetached().execute(() -> search.matches.collectList()
+                        .publishOn(workloadIsolation.getCpu())
+                        .map(collected -> applySorting(collected, sortBy != null ? sortBy : "score DESC")))
+                .subscribe(full -> {
+                    log.info("Detached search computation completed: {} matches cached", full.size());
+                    onDetachedResult.accept(full);
+                }, error -> {
+                    if (error instanceof BulkheadFullException) {
+                        search.detached.set(false);
+                        log.info("Detached search computation skipped: {}", error.getMessage());
+                    } else {
+                        log.warn("Detached search computation failed: {}", error.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * Cold computation shared by concurrent misses of one cache key
+     */
+    private static final class InFlightSearch {
+        private final AtomicBoolean detached = new AtomicBoolean();
+        private Flux<MatchItem> matches;
     }
 
     /**
      * Generate vector visualization data
-     * - Creates dummy x, y coordinates for Frontend visualization
-     * - TODO: Implement real dimensionality reduction (PCA/t-SNE)
+     * - 2D coordinates of the canonical skills from the precomputed PCA projection (SkillProjectionService, in memory)
      *
      * @param skills Skill names
      * @return Mono<List<SkillMatch>>
      */
     private Mono<List<SkillMatch>> generateVectorVisualization(List<String> skills) {
-        // Dummy visualization data
-        Random random = new Random(42); // Fixed seed for consistency
-        List<SkillMatch> skillMatches = skills.stream()
-                .map(skill -> SkillMatch.builder()
-                        .skill(skill)
-                        .isCore(true) // TODO: Determine based on vector distance
-                        .x(random.nextDouble() * 100)
-                        .y(random.nextDouble() * 100)
-                        .build())
-                .collect(Collectors.toList());
-
-        return Mono.just(skillMatches);
+        return skillProjectionService.visualize(skills);
     }
 
     /**
@@ -612,6 +814,8 @@ public class SearchService {
      * - Output: Category distribution with percentages
      * - Used by Frontend SearchResultPanel for pie chart visualization
      * - Example: [Java, Spring Boot, MySQL] → Backend 66%, Database 33%
+     * - Skills canonicalized in memory (case, whitespace, aliases); unresolved skills are not counted
+     * - Two batched lookups (skills by code, categories by id) regardless of the number of skills
      *
      * @param skills List of skill names
      * @return Mono<List<CategoryMatchDistribution>>
@@ -623,25 +827,28 @@ public class SearchService {
             return Mono.just(List.of());
         }
 
-        // Normalize skill names (case-insensitive)
-        List<String> normalizedSkills = skills.stream()
-                .map(String::trim)
-                .map(String::toLowerCase)
-                .distinct()
-                .collect(Collectors.toList());
-
-        // Fetch skill categories from DB
-        return Flux.fromIterable(normalizedSkills)
-                .flatMap(skill -> skillEmbeddingDicRepository.findBySkill(skill))
-                .flatMap(skillEmbedding -> {
-                    // Fetch category name for each skill
-                    return skillCategoryDicRepository.findById(skillEmbedding.getCategoryId())
-                            .map(categoryDic -> new SkillCategoryPair(
-                                    categoryDic.getCategory(),
-                                    skillEmbedding.getSkill()
-                            ));
+        return skillCanonicalizationService.canonicalize(skills)
+                .flatMap(canonical -> {
+                    if (canonical.isEmpty()) {
+                        return Mono.just(List.<SkillCategoryPair>of());
+                    }
+                    return skillEmbeddingDicRepository.findBySkillCodeIn(canonical.getSkillCodes())
+                            .filter(skillEmbedding -> skillEmbedding.getCategoryId() != null)
+                            .collectList()
+                            .flatMap(skillEmbeddings -> skillCategoryDicRepository.findAllById(skillEmbeddings.stream()
+                                            .map(SkillEmbeddingDic::getCategoryId)
+                                            .distinct()
+                                            .toList())
+                                    .collectMap(SkillCategoryDic::getCategoryId, SkillCategoryDic::getCategory)
+                                    .map(categories -> skillEmbeddings.stream()
+                                            .filter(skillEmbedding -> categories.containsKey(skillEmbedding.getCategoryId()))
+                                            .map(skillEmbedding -> new SkillCategoryPair(
+                                                    categories.get(skillEmbedding.getCategoryId()),
+                                                    skillEmbedding.getSkill()
+                                            ))
+                                            .toList()));
                 })
-                .collectList()
+                .publishOn(workloadIsolation.getCpu())
                 .map(skillCategoryPairs -> {
                     // Group by category
                     Map<String, List<String>> categoryMap = skillCategoryPairs.stream()
@@ -695,28 +902,24 @@ public class SearchService {
             return Mono.error(new IllegalArgumentException("searchedSkills cannot be empty"));
         }
 
-        // Normalize searched skills (case-insensitive)
-        Set<String> searchedSet = searchedSkills.stream()
-                .map(String::trim)
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
-
         // Fetch target skills based on mode
         Mono<List<String>> targetSkillsMono;
         if (mode == UserMode.CANDIDATE) {
             // Analyze Recruit
             targetSkillsMono = recruitSkillRepository.findByRecruitId(UUID.fromString(targetId))
-                    .map(recruitSkill -> recruitSkill.getSkill().toLowerCase())
+                    .map(recruitSkill -> recruitSkill.getSkill())
                     .collectList();
         } else {
             // Analyze Candidate
             targetSkillsMono = candidateSkillRepository.findByCandidateId(UUID.fromString(targetId))
-                    .map(candidateSkill -> candidateSkill.getSkill().toLowerCase())
+                    .map(candidateSkill -> candidateSkill.getSkill())
                     .collectList();
         }
 
-        return targetSkillsMono.map(targetSkillsList -> {
-            Set<String> targetSet = new HashSet<>(targetSkillsList);
+        // Both sides folded with the canonicalization rules (case, whitespace, aliases) used by scoring
+        return targetSkillsMono.zipWith(skillCanonicalizationService.canonicalFold(), (targetSkillsList, fold) -> {
+            Set<String> searchedSet = foldSkills(searchedSkills, fold);
+            Set<String> targetSet = foldSkills(targetSkillsList, fold);
 
             // Calculate intersections and differences
             Set<String> matched = new HashSet<>(searchedSet);
@@ -863,11 +1066,11 @@ public class SearchService {
     }
     */
     /**
-     * Get Search Statistics (Optimized with CTE + GROUP BY + Caching)
+     * Get Search Statistics (derived from the shared ANN candidate set + Caching)
      * - Returns comprehensive search statistics including top skills and total result count
-     * - Uses single SQL query with CTE for efficient aggregation (eliminates N+1 problem)
+     * - topSkills aggregated in memory from the cached searchMatches candidate set (no extra SQL)
+     * - totalCount: candidate count, or a sampled DB estimate when the set is saturated (CACHE_LIMIT)
      * - Cached with L1 (30s) and L2 (10min) TTL
-     * - Performance: 52,501 queries → 1 query, 30-60s → 200-500ms
      *
      * @param mode UserMode (CANDIDATE searches recruits, RECRUITER searches candidates)
      * @param skills List of skill names for vector search
@@ -883,52 +1086,78 @@ public class SearchService {
 
         log.info("getSearchStatistics called - mode: {}, skills: {}, limit: {}", mode, skills, finalLimit);
 
-        // Sort skills for consistent caching and processing
-        List<String> sortedSkills = skills.stream()
-                .sorted()
-                .collect(Collectors.toList());
+        // Canonical skill set → cache key (spelling, casing, aliases and order do not matter)
+        return skillCanonicalizationService.canonicalize(skills)
+                .flatMap(canonical -> {
+                    if (canonical.isEmpty()) {
+                        return Mono.just(SearchStatisticsResult.builder()
+                                .topSkills(new ArrayList<>())
+                                .totalCount(0)
+                                .build());
+                    }
 
-        // Generate cache key
-        String cacheKey = CacheService.searchStatisticsKey(mode.name(), sortedSkills, finalLimit);
+                    String cacheKey = CacheService.searchStatisticsKey(mode.name(), canonical.cacheKey(), finalLimit);
 
-        // Use caching with getOrLoad pattern
-        return cacheService.getOrLoad(cacheKey, SearchStatisticsResult.class,
-                () -> computeSearchStatistics(mode, sortedSkills, finalLimit)
-        )
-        .doOnSuccess(result -> log.info("getSearchStatistics returned {} top skills, totalCount: {} (cache key: {})",
-                result.getTopSkills().size(), result.getTotalCount(), cacheKey))
-        .doOnError(error -> log.error("getSearchStatistics error: {}", error.getMessage(), error));
+                    // Use caching with getOrLoad pattern
+                    return cacheService.getOrLoad(cacheKey, SearchStatisticsResult.class,
+                                    () -> computeSearchStatistics(mode, canonical, finalLimit))
+                            .doOnSuccess(result -> log.info("getSearchStatistics returned {} top skills, totalCount: {} (cache key: {})",
+                                    result.getTopSkills().size(), result.getTotalCount(), cacheKey));
+                })
+                .doOnError(error -> log.error("getSearchStatistics error: {}", error.getMessage(), error));
+    }
+
+    /**
+     * Search statistics from cache only (degraded path under overload)
+     * - Cached statistics if present
+     * - Else aggregated from a cached ranking, totalCount = candidate count (no DB estimate)
+     * - Empty when neither is cached (caller rejects)
+     *
+     * @param mode UserMode
+     * @param skills List of skill names
+     * @param limit Maximum number of skills to return in topSkills (default: 15)
+     * @return Mono<SearchStatisticsResult>, empty if not cached
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<SearchStatisticsResult> getSearchStatisticsCachedOnly(UserMode mode, List<String> skills, Integer limit) {
+        int finalLimit = (limit != null && limit > 0) ? limit : 15;
+        return skillCanonicalizationService.canonicalize(skills)
+                .filter(canonical -> !canonical.isEmpty())
+                .flatMap(canonical -> cacheService
+                        .peek(CacheService.searchStatisticsKey(mode.name(), canonical.cacheKey(), finalLimit), SearchStatisticsResult.class)
+                        .switchIfEmpty(Mono.defer(() -> cacheService
+                                .peek(CacheService.searchResultsKey(mode.name(), canonical.cacheKey()), Object.class)
+                                .map(cached -> (List<MatchItem>) cached)
+                                .publishOn(workloadIsolation.getCpu())
+                                .map(matches -> SearchStatisticsResult.builder()
+                                        .topSkills(aggregateTopSkills(matches, finalLimit))
+                                        .totalCount(matches.size())
+                                        .build()))));
     }
 
     /**
      * Compute Search Statistics (Internal - called on cache miss)
-     * - Uses optimized single SQL query with CTE + GROUP BY
-     * - Eliminates N+1 query pattern
+     * - Reuses the searchMatches candidate set (cache hit in the common search → statistics flow)
+     * - Skill frequencies counted from the already-hydrated MatchItem.skills
+     * - Percentage relative to the sum of topSkills counts (same as the previous SQL aggregation)
      *
      * @param mode UserMode
-     * @param sortedSkills Sorted list of skill names
+     * @param canonical Canonical skill set
      * @param finalLimit Maximum number of top skills
      * @return Mono<SearchStatisticsResult>
      */
     private Mono<SearchStatisticsResult> computeSearchStatistics(
             UserMode mode,
-            List<String> sortedSkills,
+            CanonicalSkills canonical,
             int finalLimit
     ) {
-        Double similarityThreshold = 0.6; // Same threshold as searchMatches
-
-        // Normalize skills to query vector
-        return skillNormalizationService.normalizeSkillsToQueryVector(sortedSkills)
-                .flatMap(queryVector -> {
-                    // Use optimized single query with CTE + GROUP BY
-                    if (mode == UserMode.CANDIDATE) {
-                        return recruitSearchRepository.findSearchStatisticsByVector(
-                                queryVector, similarityThreshold, finalLimit);
-                    } else {
-                        return candidateSearchRepository.findSearchStatisticsByVector(
-                                queryVector, similarityThreshold, finalLimit);
-                    }
-                })
+        return loadCachedMatches(mode, canonical, null, Deadline.unbounded())
+                .flatMap(matches -> estimateTotalCount(mode, canonical.getSkills(), matches.size())
+                        .publishOn(workloadIsolation.getCpu())
+                        .map(totalCount -> SearchStatisticsResult.builder()
+                                .topSkills(aggregateTopSkills(matches, finalLimit))
+                                .totalCount(totalCount)
+                                .build()))
                 .onErrorResume(e -> {
                     log.warn("computeSearchStatistics failed, returning empty statistics: {}", e.getMessage());
                     return Mono.just(SearchStatisticsResult.builder()
@@ -941,92 +1170,77 @@ public class SearchService {
     }
 
     /**
-     * Get Recruit Detail (Detail View)
-     * - Fetches recruit, description, and skills in parallel
-     * - Returns combined RecruitDetail DTO
-     * - Moved from QueryResolver to follow Clean Architecture
-     *
-     * @param id Recruit ID as string
-     * @return Mono<RecruitDetail>
+     * Total match count for statistics
+     * - Candidate set below CACHE_LIMIT → ANN returned every row above threshold, use its size
+     * - Saturated → sampled estimate from the repository (never below the candidate count)
      */
-    public Mono<RecruitDetail> getRecruitDetail(String id) {
-        log.info("getRecruitDetail called - id: {}", id);
-
-        UUID recruitId = UUID.fromString(id);
-
-        // Fetch recruit, description, and skills in parallel
-        Mono<Recruit> recruitMono = recruitRepository.findById(recruitId);
-        Mono<String> descriptionMono = recruitDescriptionRepository.findByRecruitId(recruitId)
-                .map(desc -> desc.getLongDescription())
-                .defaultIfEmpty("");
-        Mono<List<String>> skillsMono = recruitSkillRepository.findByRecruitId(recruitId)
-                .map(skill -> skill.getSkill())
-                .collectList();
-
-        return Mono.zip(recruitMono, descriptionMono, skillsMono)
-                .map(tuple -> {
-                    Recruit recruit = tuple.getT1();
-                    String description = tuple.getT2();
-                    List<String> skills = tuple.getT3();
-
-                    return RecruitDetail.builder()
-                            .id(recruit.getRecruitId().toString())
-                            .position(recruit.getPosition())
-                            .companyName(recruit.getCompanyName())
-                            .experienceYears(recruit.getExperienceYears())
-                            .primaryKeyword(recruit.getPrimaryKeyword())
-                            .englishLevel(recruit.getEnglishLevel())
-                            .skills(skills)
-                            .description(description)
-                            .publishedAt(recruit.getPublishedAt() != null ? recruit.getPublishedAt().toString() : null)
-                            .build();
-                })
-                .doOnSuccess(detail -> log.info("getRecruitDetail returned detail for id: {}", id))
-                .doOnError(error -> log.error("getRecruitDetail error for id {}: {}", id, error.getMessage(), error));
+    private Mono<Integer> estimateTotalCount(UserMode mode, List<String> sortedSkills, int candidateCount) {
+        if (candidateCount < CACHE_LIMIT) {
+            return Mono.just(candidateCount);
+        }
+
+        Double similarityThreshold = 0.6; // Same threshold as searchMatches
+
+        // Sampled estimate runs on the analytics pool, inside the analytics bulkhead
+        return skillNormalizationService.normalizeSkillsToQueryVector(sortedSkills)
+                .flatMap(queryVector -> workloadIsolation.getAnalytics().execute(() -> mode == UserMode.CANDIDATE
+                        ? recruitSearchRepository.estimateMatchCountByVector(queryVector, similarityThreshold)
+                        : candidateSearchRepository.estimateMatchCountByVector(queryVector, similarityThreshold)))
+                .map(estimate -> (int) Math.min(Integer.MAX_VALUE, Math.max(estimate, candidateCount)))
+                .defaultIfEmpty(candidateCount);
     }
 
     /**
-     * Get Candidate Detail (Detail View)
-     * - Fetches candidate, description, and skills in parallel
-     * - Returns combined CandidateDetail DTO
-     * - Moved from QueryResolver to follow Clean Architecture
+     * Count skills across the candidate set and keep the most frequent
      *
-     * @param id Candidate ID as string
-     * @return Mono<CandidateDetail>
+     * @param matches Candidate set (MatchItem.skills already hydrated)
+     * @param limit Maximum number of top skills
+     * @return Top skills sorted by count (descending)
      */
-    public Mono<CandidateDetail> getCandidateDetail(String id) {
-        log.info("getCandidateDetail called - id: {}", id);
-
-        UUID candidateId = UUID.fromString(id);
-
-        // Fetch candidate, description (resume_lang, moreinfo, looking_for), and skills in parallel
-        Mono<Candidate> candidateMono = candidateRepository.findById(candidateId);
-        Mono<CandidateDescription> descriptionMono = candidateDescriptionRepository.findByCandidateId(candidateId)
-                .defaultIfEmpty(new CandidateDescription());
-        Mono<List<String>> skillsMono = candidateSkillRepository.findByCandidateId(candidateId)
-                .map(skill -> skill.getSkill())
-                .collectList();
-
-        return Mono.zip(candidateMono, descriptionMono, skillsMono)
-                .map(tuple -> {
-                    Candidate candidate = tuple.getT1();
-                    CandidateDescription description = tuple.getT2();
-                    List<String> skills = tuple.getT3();
-
-                    return CandidateDetail.builder()
-                            .id(candidate.getCandidateId().toString())
-                            .positionCategory(candidate.getPositionCategory())
-                            .experienceYears(candidate.getExperienceYears())
-                            .originalResume(candidate.getOriginalResume())
-                            .resumeLang(description.getResumeLang())
-                            .moreinfo(description.getMoreinfo())
-                            .lookingFor(description.getLookingFor())
-                            .skills(skills)
-                            .createdAt(candidate.getCreatedAt() != null ? candidate.getCreatedAt().toString() : null)
-                            .updatedAt(candidate.getUpdatedAt() != null ? candidate.getUpdatedAt().toString() : null)
-                            .build();
-                })
-                .doOnSuccess(detail -> log.info("getCandidateDetail returned detail for id: {}", id))
-                .doOnError(error -> log.error("getCandidateDetail error for id {}: {}", id, error.getMessage(), error));
+    private List<SkillFrequency> aggregateTopSkills(List<MatchItem> matches, int limit) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (MatchItem match : matches) {
+            if (match.getSkills() == null) {
+                continue;
+            }
+            for (String skill : match.getSkills()) {
+                counts.merge(skill, 1, Integer::sum);
+            }
+        }
+
+        List<Map.Entry<String, Integer>> top = counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<String, Integer>comparingByKey()))
+                .limit(limit)
+                .toList();
+
+        int sumCount = top.stream().mapToInt(Map.Entry::getValue).sum();
+
+        return top.stream()
+                .map(entry -> SkillFrequency.builder()
+                        .skill(entry.getKey())
+                        .count(entry.getValue())
+                        .percentage(sumCount > 0 ? entry.getValue() * 100.0 / sumCount : 0.0)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Deadline exceeded during search compute
+     * - Carries the best matches gathered so far
+     * - Raised as an error so the partial ranking never reaches the search results cache
+     */
+    private static final class PartialMatchesException extends RuntimeException {
+
+        private final List<MatchItem> matches;
+
+        PartialMatchesException(List<MatchItem> matches) {
+            super("search deadline exceeded", null, false, false);
+            this.matches = matches;
+        }
+
+        List<MatchItem> getMatches() {
+            return matches;
+        }
     }
 }
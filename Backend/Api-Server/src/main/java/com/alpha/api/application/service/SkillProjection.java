@@ -0,0 +1,131 @@
+package com.alpha.api.application.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Skill Projection (immutable, in-memory)
+ * - 2D PCA projection of the skill dictionary, computed by the Batch Server once per dictionary version
+ *   (skill_projection basis + skill_projection_point coordinates, V15)
+ * - Dictionary skills: stored coordinates, O(1) lookup by dictionary spelling
+ * - Any other vector (skill added after the projection, query vector): projected with the stored basis in O(d),
+ *   scaled into the same 0-100 frame and clamped
+ * - Skills added after the projection are projected once at load time (withProjected), not per request
+ * - Built by SkillProjectionService and swapped atomically (never mutated)
+ */
+final class SkillProjection {
+
+    static final double SCALE_MAX = 100.0;
+
+    private static final SkillProjection EMPTY = new SkillProjection(0L, null, null, null, 0, 0, 0, 0, Map.of());
+
+    private final long version;
+    private final float[] mean;
+    private final float[] componentX;
+    private final float[] componentY;
+    private final double xMin;
+    private final double xMax;
+    private final double yMin;
+    private final double yMax;
+    private final Map<String, Point> points;
+
+    SkillProjection(long version, float[] mean, float[] componentX, float[] componentY,
+                    double xMin, double xMax, double yMin, double yMax, Map<String, Point> points) {
+        this.version = version;
+        this.mean = mean;
+        this.componentX = componentX;
+        this.componentY = componentY;
+        this.xMin = xMin;
+        this.xMax = xMax;
+        this.yMin = yMin;
+        this.yMax = yMax;
+        this.points = Map.copyOf(points);
+    }
+
+    /**
+     * 2D coordinates in the 0-100 visualization frame
+     */
+    record Point(double x, double y) {
+
+        double distanceTo(Point other) {
+            return Math.hypot(x - other.x, y - other.y);
+        }
+    }
+
+    static SkillProjection empty() {
+        return EMPTY;
+    }
+
+    boolean isEmpty() {
+        return mean == null;
+    }
+
+    long version() {
+        return version;
+    }
+
+    int size() {
+        return points.size();
+    }
+
+    /**
+     * Stored coordinates of a dictionary skill
+     *
+     * @param skill Dictionary spelling (canonical skill)
+     * @return Point or null when the skill was not part of this projection
+     */
+    Point pointOf(String skill) {
+        return points.get(skill);
+    }
+
+    /**
+     * Project a vector with the stored basis: ((v - mean) · pc1, (v - mean) · pc2), scaled to 0-100
+     *
+     * @param vector Embedding (dictionary dimension)
+     * @return Point, or null when the projection is empty or the dimension differs
+     */
+    Point project(float[] vector) {
+        if (isEmpty() || vector.length != mean.length) {
+            return null;
+        }
+        double x = 0.0;
+        double y = 0.0;
+        for (int i = 0; i < vector.length; i++) {
+            double centered = vector[i] - mean[i];
+            x += centered * componentX[i];
+            y += centered * componentY[i];
+        }
+        return new Point(scale(x, xMin, xMax), scale(y, yMin, yMax));
+    }
+
+    /**
+     * Copy with extra dictionary skills projected with the stored basis
+     * - Skills that already have stored coordinates keep them; vectors of another dimension are skipped
+     *
+     * @param vectors Embeddings of dictionary skills missing from the stored coordinates
+     * @return New projection (this one when there is nothing to add)
+     */
+    SkillProjection withProjected(Map<String, float[]> vectors) {
+        Map<String, Point> merged = new HashMap<>(points);
+        vectors.forEach((skill, vector) -> {
+            Point point = project(vector);
+            if (point != null) {
+                merged.putIfAbsent(skill, point);
+            }
+        });
+        return merged.size() == points.size()
+                ? this
+                : new SkillProjection(version, mean, componentX, componentY, xMin, xMax, yMin, yMax, merged);
+    }
+
+    /**
+     * Same scaling as the Batch Server (min..max → 0..100), clamped for vectors outside the dictionary range
+     */
+    private static double scale(double value, double min, double max) {
+        if (max - min <= 0.0) {
+            return SCALE_MAX / 2;
+        }
+        double scaled = (value - min) / (max - min) * SCALE_MAX;
+        return Math.max(0.0, Math.min(SCALE_MAX, scaled));
+    }
+}
@@ -0,0 +1,265 @@
+package com.alpha.api.application.service;
+
+import com.alpha.api.application.concurrency.WorkloadIsolation;
+import com.alpha.api.infrastructure.persistence.AnalyticsDatabaseClient;
+import com.alpha.api.infrastructure.persistence.QueryClass;
+import com.alpha.api.presentation.graphql.type.SkillMatch;
+import io.r2dbc.postgresql.codec.Vector;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Skill Projection Service (Application Layer)
+ * - searchMatches vectorVisualization: 2D coordinates of the search skills from the precomputed PCA projection
+ *   (Batch Server recomputes it after each skill_dic ingest that changes the dictionary)
+ * - Served from memory only: stored coordinates per dictionary skill; dictionary skills missing from the
+ *   projection (added after it was computed) are projected with the stored basis when the projection is loaded
+ * - Skills without coordinates (not in the dictionary) are left out; no per-request database lookup
+ * - isCore: skill lies within the mean distance to the centroid of the search skills
+ *   (PCA is linear: the centroid of the projected skills is the projection of the averaged skill vector)
+ * - Loaded by CacheWarmingService before the instance reports ready, reloaded on InvalidateAllCaches and when a newer version shows up
+ *   (checked every app.skill.projection.check-minutes); the new projection replaces the old one atomically
+ * - No projection yet: empty visualization
+ */
+@Slf4j
+@Service
+public class SkillProjectionService {
+
+    private final AnalyticsDatabaseClient analyticsDatabaseClient;
+    private final WorkloadIsolation workloadIsolation;
+    private final Duration checkInterval;
+
+    private final AtomicReference<SkillProjection> projection = new AtomicReference<>(SkillProjection.empty());
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+    private volatile Disposable versionCheck;
+
+    public SkillProjectionService(
+            AnalyticsDatabaseClient analyticsDatabaseClient,
+            WorkloadIsolation workloadIsolation,
+            @Value("${app.skill.projection.check-minutes:5}") long checkMinutes) {
+        this.analyticsDatabaseClient = analyticsDatabaseClient;
+        this.workloadIsolation = workloadIsolation;
+        this.checkInterval = Duration.ofMinutes(checkMinutes);
+    }
+
+    /**
+     * Vector visualization for canonical search skills
+     *
+     * @param skills Dictionary spellings (canonical skills)
+     * @return Mono<List<SkillMatch>> in input order (skills without coordinates are left out)
+     */
+    public Mono<List<SkillMatch>> visualize(List<String> skills) {
+        SkillProjection current = projection.get();
+        if (current.isEmpty() || skills.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        List<Located> located = new ArrayList<>(skills.size());
+        for (String skill : skills) {
+            SkillProjection.Point point = current.pointOf(skill);
+            if (point != null) {
+                located.add(new Located(skill, point));
+            } else {
+                log.debug("No projection coordinates for skill: {}", skill);
+            }
+        }
+        return Mono.just(toSkillMatches(located));
+    }
+
+    /**
+     * Load the projection on startup and start the version check
+     * - Awaited by CacheWarmingService (readiness); cut off by its startup timeout → finishes in the background
+     *
+     * @return Mono<Void> completing once the first load finished or failed (failure keeps the empty projection)
+     */
+    public Mono<Void> loadOnStartup() {
+        return reloadCoalesced()
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        refresh();
+                    }
+                    startVersionCheck();
+                });
+    }
+
+    private void startVersionCheck() {
+        if (versionCheck == null) {
+            versionCheck = Flux.interval(checkInterval, checkInterval)
+                    .concatMap(tick -> latestVersion()
+                            .onErrorResume(error -> {
+                                log.debug("Skill projection version check failed: {}", error.getMessage());
+                                return Mono.empty();
+                            }))
+                    .filter(version -> version != projection.get().version())
+                    .subscribe(version -> refresh());
+        }
+    }
+
+    @PreDestroy
+    public void stopVersionCheck() {
+        Disposable check = versionCheck;
+        if (check != null) {
+            check.dispose();
+        }
+    }
+
+    /**
+     * Reload the latest projection in the background
+     * - Requests during a reload are coalesced into one follow-up reload
+     * - Failure keeps the current projection
+     */
+    public void refresh() {
+        reloadCoalesced().subscribe();
+    }
+
+    private Mono<Void> reloadCoalesced() {
+        return Mono.defer(() -> {
+            reloadPending.set(true);
+            if (!reloading.compareAndSet(false, true)) {
+                return Mono.empty();
+            }
+            reloadPending.set(false);
+            return reload()
+                    .doOnNext(loaded -> log.info("Skill projection loaded: version {}, {} skills", loaded.version(), loaded.size()))
+                    .doOnError(error -> log.error("Skill projection load failed, keeping previous projection: {}", error.getMessage()))
+                    .onErrorResume(error -> Mono.empty())
+                    .doFinally(signal -> {
+                        reloading.set(false);
+                        if (reloadPending.get()) {
+                            refresh();
+                        }
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * Latest basis + its coordinates, swapped in when loaded (no projection stored → nothing changes)
+     */
+    Mono<SkillProjection> reload() {
+        String basisSql = """
+            SELECT version, mean_vector, component_x, component_y, x_min, x_max, y_min, y_max
+            FROM skill_projection
+            ORDER BY version DESC
+            LIMIT 1
+            """;
+        // Every dictionary skill: stored coordinates, or its vector when added after this projection
+        String pointsSql = """
+            SELECT sed.skill, p.x, p.y,
+                   CASE WHEN p.skill_code IS NULL THEN sed.skill_vector END AS skill_vector
+            FROM skill_embedding_dic sed
+            LEFT JOIN skill_projection_point p ON p.skill_code = sed.skill_code AND p.version = :version
+            """;
+
+        return analyticsDatabaseClient.execute(QueryClass.DASHBOARD, analyticsDatabaseClient.client().sql(basisSql)
+                        .map(row -> new Basis(
+                                row.get("version", Long.class),
+                                toFloats(row.get("mean_vector", Float[].class)),
+                                toFloats(row.get("component_x", Float[].class)),
+                                toFloats(row.get("component_y", Float[].class)),
+                                row.get("x_min", Double.class),
+                                row.get("x_max", Double.class),
+                                row.get("y_min", Double.class),
+                                row.get("y_max", Double.class)))
+                        .one())
+                .flatMap(basis -> analyticsDatabaseClient.execute(QueryClass.DASHBOARD, analyticsDatabaseClient.client().sql(pointsSql)
+                                .bind("version", basis.version())
+                                .map(row -> {
+                                    Float x = row.get("x", Float.class);
+                                    Float y = row.get("y", Float.class);
+                                    Vector vector = row.get("skill_vector", Vector.class);
+                                    return new PointRow(
+                                            row.get("skill", String.class),
+                                            x != null && y != null ? new SkillProjection.Point(x, y) : null,
+                                            vector != null ? vector.getVector() : null);
+                                })
+                                .all())
+                        .collectList()
+                        .publishOn(workloadIsolation.getCpu())
+                        .map(rows -> {
+                            Map<String, SkillProjection.Point> bySkill = new HashMap<>(rows.size());
+                            Map<String, float[]> unprojected = new HashMap<>();
+                            for (PointRow row : rows) {
+                                if (row.point() != null) {
+                                    bySkill.put(row.skill(), row.point());
+                                } else if (row.vector() != null) {
+                                    unprojected.put(row.skill(), row.vector());
+                                }
+                            }
+                            return new SkillProjection(basis.version(), basis.mean(), basis.componentX(), basis.componentY(),
+                                    basis.xMin(), basis.xMax(), basis.yMin(), basis.yMax(), bySkill)
+                                    .withProjected(unprojected);
+                        }))
+                .doOnNext(projection::set);
+    }
+
+    private Mono<Long> latestVersion() {
+        return analyticsDatabaseClient.execute(QueryClass.DASHBOARD, analyticsDatabaseClient.client()
+                .sql("SELECT COALESCE(MAX(version), 0) AS version FROM skill_projection")
+                .map(row -> row.get("version", Long.class))
+                .one());
+    }
+
+    static List<SkillMatch> toSkillMatches(List<Located> located) {
+        if (located.isEmpty()) {
+            return List.of();
+        }
+
+        double centroidX = 0.0;
+        double centroidY = 0.0;
+        for (Located skill : located) {
+            centroidX += skill.point().x();
+            centroidY += skill.point().y();
+        }
+        SkillProjection.Point centroid = new SkillProjection.Point(centroidX / located.size(), centroidY / located.size());
+
+        double meanDistance = located.stream()
+                .mapToDouble(skill -> skill.point().distanceTo(centroid))
+                .average()
+                .orElse(0.0);
+
+        List<SkillMatch> matches = new ArrayList<>(located.size());
+        for (Located skill : located) {
+            matches.add(SkillMatch.builder()
+                    .skill(skill.skill())
+                    .isCore(skill.point().distanceTo(centroid) <= meanDistance + 1e-9)
+                    .x(skill.point().x())
+                    .y(skill.point().y())
+                    .build());
+        }
+        return matches;
+    }
+
+    private static float[] toFloats(Float[] boxed) {
+        float[] values = new float[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            values[i] = boxed[i];
+        }
+        return values;
+    }
+
+    record Located(String skill, SkillProjection.Point point) {
+    }
+
+    private record PointRow(String skill, SkillProjection.Point point, float[] vector) {
+    }
+
+    private record Basis(long version, float[] mean, float[] componentX, float[] componentY,
+                         double xMin, double xMax, double yMin, double yMax) {
+    }
+}
@@ -0,0 +1,262 @@
+package com.alpha.api.application.service;
+
+import com.alpha.api.presentation.graphql.type.UserMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Skill Suggestion Index (immutable, in-memory)
+ * - Prefix index: sorted array of folded terms (skill names, name words, aliases) → binary search range
+ *   (e.g. "boo" → Spring Boot via the word "boot", "k8" → Kubernetes via alias "k8s")
+ * - Typo tolerance: trigram postings over skill names (pg_trgm style padding), Jaccard similarity
+ *   (e.g. "kubernets" → Kubernetes); used only when prefix matches do not fill the limit
+ * - Ranking: exact > name prefix > word / alias prefix, then popularity (recruit / candidate skill counts)
+ * - Built once per dictionary version by SkillSuggestionService and swapped atomically (never mutated)
+ */
+final class SkillSuggestionIndex {
+
+    private static final byte KIND_NAME = 0;
+    private static final byte KIND_WORD = 1;
+    private static final byte KIND_ALIAS = 2;
+
+    private static final int TIER_EXACT = 0;
+    private static final int TIER_NAME_PREFIX = 1;
+    private static final int TIER_OTHER_PREFIX = 2;
+
+    private static final SkillSuggestionIndex EMPTY = build(List.of(), Map.of());
+
+    private final List<Entry> entries;
+    private final String[] terms;
+    private final int[] termEntries;
+    private final byte[] termKinds;
+    private final Map<String, int[]> trigramPostings;
+    private final int[] trigramCounts;
+
+    private SkillSuggestionIndex(List<Entry> entries, String[] terms, int[] termEntries, byte[] termKinds,
+                                 Map<String, int[]> trigramPostings, int[] trigramCounts) {
+        this.entries = entries;
+        this.terms = terms;
+        this.termEntries = termEntries;
+        this.termKinds = termKinds;
+        this.trigramPostings = trigramPostings;
+        this.trigramCounts = trigramCounts;
+    }
+
+    /**
+     * Dictionary skill with popularity counts
+     *
+     * @param skill Dictionary spelling
+     * @param category Skill category (nullable)
+     * @param recruitCount recruit_skill rows with this skill
+     * @param candidateCount candidate_skill rows with this skill
+     */
+    record Entry(String skill, String category, long recruitCount, long candidateCount) {
+
+        /**
+         * CANDIDATE → job market demand (recruit counts), RECRUITER → talent pool (candidate counts), null → both
+         */
+        long popularity(UserMode mode) {
+            if (mode == UserMode.CANDIDATE) {
+                return recruitCount;
+            }
+            if (mode == UserMode.RECRUITER) {
+                return candidateCount;
+            }
+            return recruitCount + candidateCount;
+        }
+    }
+
+    /**
+     * Ranked suggestion
+     *
+     * @param entry Dictionary skill
+     * @param fuzzy true when matched by trigram similarity rather than prefix
+     */
+    record Suggestion(Entry entry, boolean fuzzy) {
+    }
+
+    static SkillSuggestionIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Build the index
+     *
+     * @param entries Dictionary skills
+     * @param aliases Folded alias → index into entries
+     */
+    static SkillSuggestionIndex build(List<Entry> entries, Map<String, Integer> aliases) {
+        List<Term> termList = new ArrayList<>();
+        Map<String, List<Integer>> postings = new HashMap<>();
+        int[] trigramCounts = new int[entries.size()];
+
+        for (int id = 0; id < entries.size(); id++) {
+            String name = fold(entries.get(id).skill());
+            termList.add(new Term(name, id, KIND_NAME));
+            String[] words = name.split("[\\s./_-]+");
+            if (words.length > 1) {
+                for (String word : new LinkedHashSet<>(Arrays.asList(words).subList(1, words.length))) {
+                    if (!word.isEmpty()) {
+                        termList.add(new Term(word, id, KIND_WORD));
+                    }
+                }
+            }
+
+            Set<String> trigrams = trigrams(name);
+            trigramCounts[id] = trigrams.size();
+            for (String trigram : trigrams) {
+                postings.computeIfAbsent(trigram, key -> new ArrayList<>()).add(id);
+            }
+        }
+        aliases.forEach((alias, id) -> termList.add(new Term(fold(alias), id, KIND_ALIAS)));
+
+        termList.sort(Comparator.comparing(Term::text));
+        String[] terms = new String[termList.size()];
+        int[] termEntries = new int[termList.size()];
+        byte[] termKinds = new byte[termList.size()];
+        for (int i = 0; i < termList.size(); i++) {
+            terms[i] = termList.get(i).text();
+            termEntries[i] = termList.get(i).entryId();
+            termKinds[i] = termList.get(i).kind();
+        }
+
+        Map<String, int[]> trigramPostings = new HashMap<>(postings.size());
+        postings.forEach((trigram, ids) -> trigramPostings.put(trigram, ids.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new SkillSuggestionIndex(List.copyOf(entries), terms, termEntries, termKinds, Map.copyOf(trigramPostings), trigramCounts);
+    }
+
+    /**
+     * Suggestions for a (partial) skill name
+     *
+     * @param query Typed text
+     * @param limit Maximum suggestions
+     * @param mode Popularity source (nullable → recruit + candidate)
+     * @param fuzzyThreshold Minimum trigram similarity for typo matches
+     * @return Ranked suggestions (prefix matches first, then fuzzy)
+     */
+    List<Suggestion> suggest(String query, int limit, UserMode mode, double fuzzyThreshold) {
+        String folded = query == null ? "" : fold(query);
+        if (folded.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // Prefix range in the sorted term array; best tier per entry
+        int[] tiers = new int[entries.size()];
+        Arrays.fill(tiers, Integer.MAX_VALUE);
+        List<Integer> prefixIds = new ArrayList<>();
+        for (int i = lowerBound(folded); i < terms.length && terms[i].startsWith(folded); i++) {
+            int id = termEntries[i];
+            int tier = terms[i].equals(folded) ? TIER_EXACT
+                    : termKinds[i] == KIND_NAME ? TIER_NAME_PREFIX : TIER_OTHER_PREFIX;
+            if (tiers[id] == Integer.MAX_VALUE) {
+                prefixIds.add(id);
+            }
+            tiers[id] = Math.min(tiers[id], tier);
+        }
+
+        Comparator<Integer> byPrefixRank = Comparator.<Integer>comparingInt(id -> tiers[id])
+                .thenComparing(id -> entries.get(id).popularity(mode), Comparator.reverseOrder())
+                .thenComparingInt(id -> entries.get(id).skill().length())
+                .thenComparing(id -> entries.get(id).skill());
+        prefixIds.sort(byPrefixRank);
+
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, entries.size()));
+        for (int id : prefixIds) {
+            if (suggestions.size() == limit) {
+                return suggestions;
+            }
+            suggestions.add(new Suggestion(entries.get(id), false));
+        }
+
+        // Typo-tolerant fill (not for one or two characters: every name shares a padded trigram)
+        if (folded.length() >= 3) {
+            suggestions.addAll(fuzzy(folded, limit - suggestions.size(), mode, fuzzyThreshold, tiers));
+        }
+        return suggestions;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private List<Suggestion> fuzzy(String folded, int limit, UserMode mode, double threshold, int[] tiers) {
+        Set<String> queryTrigrams = trigrams(folded);
+        int[] shared = new int[entries.size()];
+        for (String trigram : queryTrigrams) {
+            int[] ids = trigramPostings.get(trigram);
+            if (ids != null) {
+                for (int id : ids) {
+                    shared[id]++;
+                }
+            }
+        }
+
+        List<double[]> scored = new ArrayList<>();
+        for (int id = 0; id < shared.length; id++) {
+            if (shared[id] == 0 || tiers[id] != Integer.MAX_VALUE) {
+                continue;
+            }
+            double similarity = (double) shared[id] / (queryTrigrams.size() + trigramCounts[id] - shared[id]);
+            if (similarity >= threshold) {
+                scored.add(new double[]{id, similarity});
+            }
+        }
+
+        scored.sort(Comparator.<double[]>comparingDouble(score -> score[1]).reversed()
+                .thenComparing(score -> entries.get((int) score[0]).popularity(mode), Comparator.reverseOrder()));
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (int i = 0; i < scored.size() && i < limit; i++) {
+            suggestions.add(new Suggestion(entries.get((int) scored.get(i)[0]), true));
+        }
+        return suggestions;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static String fold(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Distinct trigrams of each word, padded like pg_trgm ("  w", " wo", ..., "rd ")
+     */
+    static Set<String> trigrams(String folded) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : folded.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private record Term(String text, int entryId, byte kind) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.alpha.api.application.service;
+
+import com.alpha.api.application.concurrency.WorkloadIsolation;
+import com.alpha.api.domain.skilldic.entity.SkillAlias;
+import com.alpha.api.domain.skilldic.repository.SkillAliasRepository;
+import com.alpha.api.infrastructure.persistence.AnalyticsDatabaseClient;
+import com.alpha.api.infrastructure.persistence.QueryClass;
+import com.alpha.api.presentation.graphql.type.SkillSuggestion;
+import com.alpha.api.presentation.graphql.type.UserMode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Skill Suggestion Service (Application Layer)
+ * - skillSuggestions query: autocomplete + typo-tolerant lookup over the skill dictionary
+ * - Served from SkillSuggestionIndex in memory only (never touches the database per request)
+ * - Index built by CacheWarmingService before the instance reports ready, rebuilt when the Batch Server invalidates all caches
+ *   (after each ingest) and every app.skill.suggestion.refresh-minutes (backstop for a lost invalidation);
+ *   the new index replaces the old one atomically
+ * - Popularity: dashboard_skill_count (recruit / candidate rows per skill, maintained by Batch-Server),
+ *   grouped by skill_code_of(skill_key) so alias spellings ("k8s") count toward the dictionary skill
+ * - Before the first build completes: empty suggestions
+ */
+@Slf4j
+@Service
+public class SkillSuggestionService {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final AnalyticsDatabaseClient analyticsDatabaseClient;
+    private final SkillAliasRepository skillAliasRepository;
+    private final WorkloadIsolation workloadIsolation;
+    private final int maxLimit;
+    private final double fuzzyThreshold;
+    private final Duration refreshInterval;
+
+    private final AtomicReference<SkillSuggestionIndex> index = new AtomicReference<>(SkillSuggestionIndex.empty());
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private volatile Disposable periodicRefresh;
+
+    public SkillSuggestionService(
+            AnalyticsDatabaseClient analyticsDatabaseClient,
+            SkillAliasRepository skillAliasRepository,
+            WorkloadIsolation workloadIsolation,
+            @Value("${app.skill.suggestion.max-limit:50}") int maxLimit,
+            @Value("${app.skill.suggestion.fuzzy-threshold:0.3}") double fuzzyThreshold,
+            @Value("${app.skill.suggestion.refresh-minutes:10}") long refreshMinutes) {
+        this.analyticsDatabaseClient = analyticsDatabaseClient;
+        this.skillAliasRepository = skillAliasRepository;
+        this.workloadIsolation = workloadIsolation;
+        this.maxLimit = maxLimit;
+        this.fuzzyThreshold = fuzzyThreshold;
+        this.refreshInterval = Duration.ofMinutes(refreshMinutes);
+    }
+
+    /**
+     * Skill suggestions for typed text
+     *
+     * @param prefix Typed text (e.g., "kub", "sprng")
+     * @param limit Max suggestions (nullable → 10, capped at app.skill.suggestion.max-limit)
+     * @param mode Popularity source (nullable → recruit + candidate counts)
+     * @return Ranked suggestions
+     */
+    public List<SkillSuggestion> suggest(String prefix, Integer limit, UserMode mode) {
+        int finalLimit = (limit != null && limit > 0) ? Math.min(limit, maxLimit) : DEFAULT_LIMIT;
+
+        return index.get().suggest(prefix, finalLimit, mode, fuzzyThreshold).stream()
+                .map(suggestion -> SkillSuggestion.builder()
+                        .skill(suggestion.entry().skill())
+                        .category(suggestion.entry().category())
+                        .popularity((int) Math.min(Integer.MAX_VALUE, suggestion.entry().popularity(mode)))
+                        .fuzzy(suggestion.fuzzy())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Build the index on startup and start the periodic rebuild
+     * - Awaited by CacheWarmingService (readiness); cut off by its startup timeout → finishes in the background
+     *
+     * @return Mono<Void> completing once the first build finished or failed (failure keeps the empty index)
+     */
+    public Mono<Void> buildOnStartup() {
+        return rebuildCoalesced()
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        refresh();
+                    }
+                    startPeriodicRefresh();
+                });
+    }
+
+    private void startPeriodicRefresh() {
+        if (periodicRefresh == null) {
+            periodicRefresh = Flux.interval(refreshInterval, refreshInterval)
+                    .subscribe(tick -> refresh());
+        }
+    }
+
+    @PreDestroy
+    public void stopPeriodicRefresh() {
+        Disposable refresher = periodicRefresh;
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * Rebuild the index in the background
+     * - Requests during a rebuild are coalesced into one follow-up rebuild
+     * - Failure keeps the current index
+     */
+    public void refresh() {
+        rebuildCoalesced().subscribe();
+    }
+
+    private Mono<Void> rebuildCoalesced() {
+        return Mono.defer(() -> {
+            rebuildPending.set(true);
+            if (!rebuilding.compareAndSet(false, true)) {
+                return Mono.empty();
+            }
+            rebuildPending.set(false);
+            return rebuild()
+                    .doOnNext(built -> log.info("Skill suggestion index built: {} skills", built.size()))
+                    .doOnError(error -> log.error("Skill suggestion index build failed, keeping previous index: {}", error.getMessage()))
+                    .onErrorResume(error -> Mono.empty())
+                    .doFinally(signal -> {
+                        rebuilding.set(false);
+                        if (rebuildPending.get()) {
+                            refresh();
+                        }
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * Load dictionary + popularity + aliases, build off the event loop, swap
+     */
+    Mono<SkillSuggestionIndex> rebuild() {
+        // skill_key is LOWER(raw skill): resolved through names and aliases like the ingest path
+        String sql = """
+            WITH popularity AS (
+                SELECT
+                    skill_code_of(dsc.skill_key) AS skill_code,
+                    SUM(dsc.entity_count) FILTER (WHERE dsc.domain = 'recruit') AS recruit_count,
+                    SUM(dsc.entity_count) FILTER (WHERE dsc.domain = 'candidate') AS candidate_count
+                FROM dashboard_skill_count dsc
+                GROUP BY 1
+            )
+            SELECT
+                sed.skill_code,
+                sed.skill,
+                scd.category,
+                COALESCE(p.recruit_count, 0) AS recruit_count,
+                COALESCE(p.candidate_count, 0) AS candidate_count
+            FROM skill_embedding_dic sed
+            LEFT JOIN skill_category_dic scd ON sed.category_id = scd.category_id
+            LEFT JOIN popularity p ON p.skill_code = sed.skill_code
+            """;
+
+        Flux<SkillRow> rows = analyticsDatabaseClient.client().sql(sql)
+                .map(row -> new SkillRow(
+                        row.get("skill_code", Integer.class),
+                        new SkillSuggestionIndex.Entry(
+                                row.get("skill", String.class),
+                                row.get("category", String.class),
+                                row.get("recruit_count", Long.class),
+                                row.get("candidate_count", Long.class))))
+                .all();
+
+        return Mono.zip(
+                        analyticsDatabaseClient.execute(QueryClass.DASHBOARD, rows).collectList(),
+                        skillAliasRepository.findAll().collectList())
+                .publishOn(workloadIsolation.getCpu())
+                .map(tuple -> buildIndex(tuple.getT1(), tuple.getT2()))
+                .doOnNext(index::set);
+    }
+
+    private SkillSuggestionIndex buildIndex(List<SkillRow> rows, List<SkillAlias> aliases) {
+        List<SkillSuggestionIndex.Entry> entries = new ArrayList<>(rows.size());
+        Map<Integer, Integer> entryByCode = new HashMap<>();
+        for (SkillRow row : rows) {
+            if (row.skillCode() != null) {
+                entryByCode.put(row.skillCode(), entries.size());
+            }
+            entries.add(row.entry());
+        }
+
+        Map<String, Integer> aliasEntries = new HashMap<>();
+        for (SkillAlias alias : aliases) {
+            Integer entryId = entryByCode.get(alias.getSkillCode());
+            if (alias.getAlias() != null && entryId != null) {
+                aliasEntries.put(alias.getAlias(), entryId);
+            }
+        }
+        return SkillSuggestionIndex.build(entries, aliasEntries);
+    }
+
+    private record SkillRow(Integer skillCode, SkillSuggestionIndex.Entry entry) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.alpha.api.domain.cache.port;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Data Version Port Interface (Domain Layer)
+ * - Shared marker of the last cache invalidation, changed on every invalidation by any instance
+ * - Cached data captured under one version is stale once the version differs
+ *   (e.g. an L1 snapshot written before a deploy, restored after it)
+ * - Implementation provided by Infrastructure Layer
+ */
+public interface DataVersionPort {
+
+    /**
+     * Current data version
+     *
+     * @return Mono of version (empty if no version is recorded or the store is unreachable)
+     */
+    Mono<Long> current();
+
+    /**
+     * Record a new data version (after an invalidation)
+     *
+     * @return Mono of Boolean (true if recorded)
+     */
+    Mono<Boolean> bump();
+
+    /**
+     * Record a data version only if none exists yet
+     *
+     * @return Mono of Boolean (true if a version was recorded by this call)
+     */
+    Mono<Boolean> initializeIfAbsent();
+}
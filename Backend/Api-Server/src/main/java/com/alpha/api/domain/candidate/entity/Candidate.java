@@ -36,6 +36,13 @@ public class Candidate {
     @Column("original_resume")
     private String originalResume;
 
+    /**
+     * Bounded resume headline (max 200 chars, computed at ingest)
+     * - Search queries project this instead of original_resume
+     */
+    @Column("resume_headline")
+    private String resumeHeadline;
+
     @Column("created_at")
     private OffsetDateTime createdAt;
 
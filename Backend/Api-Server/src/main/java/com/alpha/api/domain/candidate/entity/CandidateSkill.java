@@ -14,6 +14,7 @@ import java.util.UUID;
  * CandidateSkill Entity (Domain Model)
  * - Corresponds to "candidate_skill" table in table_specification.md
  * - Composite Primary Key: (candidate_id, skill)
+ * - skill_code: integer skill id (skill_embedding_dic.skill_code, null when not in the dictionary)
  */
 @Data
 @Builder
@@ -28,6 +29,9 @@ public class CandidateSkill {
     @Column("skill")
     private String skill;
 
+    @Column("skill_code")
+    private Integer skillCode;
+
     @Column("created_at")
     private OffsetDateTime createdAt;
 
@@ -3,6 +3,7 @@ package com.alpha.api.domain.candidate.repository;
 import com.alpha.api.domain.candidate.entity.CandidateDescription;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -23,4 +24,13 @@ public interface CandidateDescriptionRepository extends ReactiveCrudRepository<C
      */
     @Query("SELECT * FROM candidate_description WHERE candidate_id = :candidateId")
     Mono<CandidateDescription> findByCandidateId(UUID candidateId);
+
+    /**
+     * Find descriptions for many candidates in one query (GraphQL batch loading)
+     *
+     * @param candidateIds Candidate IDs
+     * @return Flux of CandidateDescription
+     */
+    @Query("SELECT * FROM candidate_description WHERE candidate_id = ANY(:candidateIds)")
+    Flux<CandidateDescription> findAllByCandidateIds(UUID[] candidateIds);
 }
@@ -18,7 +18,7 @@ public interface CandidateRepository extends ReactiveCrudRepository<Candidate, U
 
     /**
      * Find Candidates by similar skills (Vector Similarity Search)
-     * - Uses pgvector cosine distance operator (<=>)
+     * - Uses pgvector negative inner product operator (<#>) on L2-normalized vectors
      * - Joins candidate_skills_embedding table
      * - Returns top N similar candidates
      *
@@ -28,13 +28,13 @@ public interface CandidateRepository extends ReactiveCrudRepository<Candidate, U
      * @return Flux of Candidates ordered by similarity (descending)
      */
     @Query("""
-        SELECT c.candidate_id, c.position_category, c.experience_years, c.original_resume,
+        SELECT c.candidate_id, c.position_category, c.experience_years, c.resume_headline,
                c.created_at, c.updated_at,
-               (1 - (cse.skills_vector <=> CAST(:queryVector AS vector))) AS similarity_score
+               (-(cse.skills_vector <#> CAST(:queryVector AS vector))) AS similarity_score
         FROM candidate c
         INNER JOIN candidate_skills_embedding cse ON c.candidate_id = cse.candidate_id
-        WHERE (1 - (cse.skills_vector <=> CAST(:queryVector AS vector))) >= :similarityThreshold
-        ORDER BY cse.skills_vector <=> CAST(:queryVector AS vector)
+        WHERE (cse.skills_vector <#> CAST(:queryVector AS vector)) <= -:similarityThreshold
+        ORDER BY cse.skills_vector <#> CAST(:queryVector AS vector)
         LIMIT :limit
         """)
     Flux<Candidate> findSimilarByVector(String queryVector, Double similarityThreshold, Integer limit);
@@ -1,7 +1,6 @@
 package com.alpha.api.domain.candidate.repository;
 
 import com.alpha.api.application.dto.CandidateSearchResult;
-import com.alpha.api.presentation.graphql.type.SearchStatisticsResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -32,20 +31,17 @@ public interface CandidateSearchRepository {
     );
 
     /**
-     * Find search statistics by vector similarity (optimized single query)
-     * - Uses CTE + GROUP BY for efficient aggregation
-     * - Returns topSkills + totalCount in one query
-     * - Replaces N+1 query pattern in getSearchStatistics
+     * Estimate the number of Candidates above the similarity threshold
+     * - Used for searchStatistics.totalCount when the ANN candidate set is saturated
+     * - Sampled estimate (no full-table distance scan)
      *
      * @param queryVector Query vector string (1536 dimensions, PostgreSQL vector format)
      * @param similarityThreshold Minimum similarity score (0.0 to 1.0)
-     * @param limit Maximum number of top skills to return
-     * @return Mono of SearchStatisticsResult containing topSkills and totalCount
+     * @return Mono of estimated match count (0 if the estimate is unavailable)
      */
-    Mono<SearchStatisticsResult> findSearchStatisticsByVector(
+    Mono<Long> estimateMatchCountByVector(
             String queryVector,
-            Double similarityThreshold,
-            Integer limit
+            Double similarityThreshold
     );
 
     /**
@@ -25,6 +25,15 @@ public interface CandidateSkillRepository extends ReactiveCrudRepository<Candida
     @Query("SELECT * FROM candidate_skill WHERE candidate_id = :candidateId")
     Flux<CandidateSkill> findByCandidateId(UUID candidateId);
 
+    /**
+     * Find skills for many candidates in one query (GraphQL batch loading)
+     *
+     * @param candidateIds Candidate IDs
+     * @return Flux of CandidateSkill
+     */
+    @Query("SELECT * FROM candidate_skill WHERE candidate_id = ANY(:candidateIds)")
+    Flux<CandidateSkill> findAllByCandidateIds(UUID[] candidateIds);
+
     /**
      * Find candidates that have a specific skill
      *
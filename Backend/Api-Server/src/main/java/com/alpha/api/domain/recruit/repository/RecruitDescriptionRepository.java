@@ -1,7 +1,9 @@
 package com.alpha.api.domain.recruit.repository;
 
 import com.alpha.api.domain.recruit.entity.RecruitDescription;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -21,4 +23,13 @@ public interface RecruitDescriptionRepository extends ReactiveCrudRepository<Rec
      * @return Mono of RecruitDescription
      */
     Mono<RecruitDescription> findByRecruitId(UUID recruitId);
+
+    /**
+     * Find descriptions for many recruits in one query (GraphQL batch loading)
+     *
+     * @param recruitIds Recruit IDs
+     * @return Flux of RecruitDescription
+     */
+    @Query("SELECT * FROM recruit_description WHERE recruit_id = ANY(:recruitIds)")
+    Flux<RecruitDescription> findAllByRecruitIds(UUID[] recruitIds);
 }
@@ -26,6 +26,15 @@ public interface RecruitSkillRepository extends ReactiveCrudRepository<RecruitSk
     @Query("SELECT * FROM recruit_skill WHERE recruit_id = :recruitId")
     Flux<RecruitSkill> findByRecruitId(UUID recruitId);
 
+    /**
+     * Find skills for many recruits in one query (GraphQL batch loading)
+     *
+     * @param recruitIds Recruit IDs
+     * @return Flux of RecruitSkill
+     */
+    @Query("SELECT * FROM recruit_skill WHERE recruit_id = ANY(:recruitIds)")
+    Flux<RecruitSkill> findAllByRecruitIds(UUID[] recruitIds);
+
     /**
      * Find recruits that have a specific skill
      *
@@ -0,0 +1,35 @@
+package com.alpha.api.domain.skilldic.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.OffsetDateTime;
+
+/**
+ * SkillAlias Entity (Domain Model)
+ * - Corresponds to "skill_alias" table (V14 migration)
+ * - Alternative spelling → skill_embedding_dic.skill_code (e.g., "k8s" → Kubernetes)
+ * - alias is stored lowercased and trimmed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("skill_alias")
+public class SkillAlias {
+
+    @Id
+    @Column("alias")
+    private String alias;
+
+    @Column("skill_code")
+    private Integer skillCode;
+
+    @Column("created_at")
+    private OffsetDateTime createdAt;
+}
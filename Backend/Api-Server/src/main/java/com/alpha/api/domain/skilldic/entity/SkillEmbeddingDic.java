@@ -18,6 +18,7 @@ import java.util.UUID;
  * - Stores skill embeddings (1536 dimensions)
  * - UUID is auto-generated by PostgreSQL
  * - Used for skill normalization and query vector creation
+ * - skill_code: integer skill id referenced by recruit_skill / candidate_skill / skill_codes arrays
  */
 @Data
 @Builder
@@ -38,6 +39,9 @@ public class SkillEmbeddingDic {
     @Column("skill")
     private String skill;
 
+    @Column("skill_code")
+    private Integer skillCode;
+
     @Column("skill_vector")
     private List<Float> skillVector;
 
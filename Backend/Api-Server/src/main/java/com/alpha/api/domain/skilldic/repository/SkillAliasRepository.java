@@ -0,0 +1,12 @@
+package com.alpha.api.domain.skilldic.repository;
+
+import com.alpha.api.domain.skilldic.entity.SkillAlias;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * SkillAlias Repository (Domain Interface - Port)
+ * - R2DBC based reactive repository
+ * - Alias table for search-key canonicalization (loaded whole, small)
+ */
+public interface SkillAliasRepository extends ReactiveCrudRepository<SkillAlias, String> {
+}
@@ -39,6 +39,25 @@ public interface SkillEmbeddingDicRepository extends ReactiveCrudRepository<Skil
     @Query("SELECT * FROM skill_embedding_dic WHERE LOWER(skill) IN (:skills)")
     Flux<SkillEmbeddingDic> findBySkillIn(List<String> skills);
 
+    /**
+     * Find all dictionary names with their skill code (no vectors)
+     * - For search-key canonicalization (SkillCanonicalizationService dictionary snapshot)
+     *
+     * @return Flux of SkillEmbeddingDic (skill_vector not loaded)
+     */
+    @Query("SELECT skill_id, category_id, skill, skill_code FROM skill_embedding_dic WHERE skill_code IS NOT NULL")
+    Flux<SkillEmbeddingDic> findAllSkillCodes();
+
+    /**
+     * Find dictionary entries by skill code (no vectors)
+     * - Canonical skills → categories in one query (categoryDistribution)
+     *
+     * @param skillCodes skill_embedding_dic.skill_code values
+     * @return Flux of SkillEmbeddingDic (skill_vector not loaded)
+     */
+    @Query("SELECT skill_id, category_id, skill, skill_code FROM skill_embedding_dic WHERE skill_code IN (:skillCodes)")
+    Flux<SkillEmbeddingDic> findBySkillCodeIn(List<Integer> skillCodes);
+
     /**
      * Find skills by category
      * - For skillCategories query (Frontend GET_SKILL_CATEGORIES)
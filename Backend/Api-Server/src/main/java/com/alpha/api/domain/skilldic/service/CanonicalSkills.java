@@ -0,0 +1,50 @@
+package com.alpha.api.domain.skilldic.service;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Canonical search skills (Value Object)
+ * - Output of SkillCanonicalizationService for one search request
+ * - skills / skillCodes: resolved dictionary entries, de-duplicated, ordered by skill_code
+ * - unresolved: input skills with no dictionary or alias match (trimmed, first spelling kept)
+ */
+@Value
+@Builder
+public class CanonicalSkills {
+
+    /**
+     * Dictionary spelling of each resolved skill (same order as skillCodes)
+     */
+    List<String> skills;
+
+    /**
+     * skill_embedding_dic.skill_code, ascending
+     */
+    List<Integer> skillCodes;
+
+    /**
+     * Input skills that could not be resolved (reported back to the client)
+     */
+    List<String> unresolved;
+
+    /**
+     * No resolved skill (nothing to search for)
+     */
+    public boolean isEmpty() {
+        return skillCodes.isEmpty();
+    }
+
+    /**
+     * Cache key part: canonical id set ("12,40,733")
+     * - Same for every spelling, casing, alias or ordering of the same skills
+     */
+    public String cacheKey() {
+        return skillCodes.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
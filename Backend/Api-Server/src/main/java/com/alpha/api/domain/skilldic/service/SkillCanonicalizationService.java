@@ -0,0 +1,186 @@
+package com.alpha.api.domain.skilldic.service;
+
+import com.alpha.api.domain.skilldic.entity.SkillAlias;
+import com.alpha.api.domain.skilldic.entity.SkillEmbeddingDic;
+import com.alpha.api.domain.skilldic.repository.SkillAliasRepository;
+import com.alpha.api.domain.skilldic.repository.SkillEmbeddingDicRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Skill Canonicalization Service
+ * - Resolves raw search skills to dictionary skill codes before any cache lookup
+ * - Case folding, trimming, whitespace collapsing, alias table (skill_alias, e.g. "k8s" → Kubernetes)
+ * - De-duplicates and orders by skill_code → one cache key per canonical skill set
+ * - Same rules as the Batch Server skill_code_of() (dictionary name first, then alias)
+ * - canonicalFold(): the same resolution as a name → name function, for comparing skill sets
+ *   (search skills vs. a posting's / candidate's skills in scoring and the skill gap fields)
+ *
+ * Dictionary snapshot:
+ * - skill_embedding_dic (name, skill_code only) + skill_alias, loaded once and kept in memory
+ * - Reloaded after app.skill.canonical.refresh-minutes, or immediately on refresh()
+ *   (called when the Batch Server invalidates all caches after an ingest)
+ * - Load failures are not cached (next request retries)
+ */
+@Slf4j
+@Service
+public class SkillCanonicalizationService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SkillEmbeddingDicRepository skillEmbeddingDicRepository;
+    private final SkillAliasRepository skillAliasRepository;
+    private final Duration refreshInterval;
+    private final AtomicReference<Mono<Dictionary>> dictionary = new AtomicReference<>();
+
+    public SkillCanonicalizationService(
+            SkillEmbeddingDicRepository skillEmbeddingDicRepository,
+            SkillAliasRepository skillAliasRepository,
+            @Value("${app.skill.canonical.refresh-minutes:10}") long refreshMinutes) {
+        this.skillEmbeddingDicRepository = skillEmbeddingDicRepository;
+        this.skillAliasRepository = skillAliasRepository;
+        this.refreshInterval = Duration.ofMinutes(refreshMinutes);
+        this.dictionary.set(loadDictionary());
+    }
+
+    /**
+     * Canonicalize search skills
+     *
+     * @param skills Raw skill names from the client (e.g., [" Java", "k8s", "java", "Foo"])
+     * @return Mono<CanonicalSkills> (e.g., skills [Java, Kubernetes], unresolved [Foo])
+     */
+    public Mono<CanonicalSkills> canonicalize(List<String> skills) {
+        return dictionary.get()
+                .map(snapshot -> snapshot.resolve(skills != null ? skills : List.of()))
+                .doOnNext(canonical -> {
+                    if (!canonical.getUnresolved().isEmpty()) {
+                        log.info("Unresolved search skills: {}", canonical.getUnresolved());
+                    }
+                });
+    }
+
+    /**
+     * Skill comparison key from the current snapshot
+     * - Dictionary names and aliases → folded dictionary name ("K8s", " kubernetes" → "kubernetes")
+     * - Unknown skills → fold(raw)
+     * - Snapshot unavailable → plain fold (never fails)
+     *
+     * @return Mono of a thread-safe folding function
+     */
+    public Mono<UnaryOperator<String>> canonicalFold() {
+        return dictionary.get()
+                .<UnaryOperator<String>>map(snapshot -> snapshot::canonicalFold)
+                .onErrorReturn(SkillCanonicalizationService::fold);
+    }
+
+    /**
+     * Drop the dictionary snapshot (next canonicalize() reloads it)
+     */
+    public void refresh() {
+        dictionary.set(loadDictionary());
+    }
+
+    private Mono<Dictionary> loadDictionary() {
+        return Mono.defer(() -> Mono.zip(
+                        skillEmbeddingDicRepository.findAllSkillCodes().collectList(),
+                        skillAliasRepository.findAll().collectList()))
+                .map(tuple -> Dictionary.of(tuple.getT1(), tuple.getT2()))
+                .doOnNext(snapshot -> log.info("Skill dictionary snapshot loaded: {} skills, {} aliases",
+                        snapshot.nameByCode.size(), snapshot.codeByAlias.size()))
+                .cache(snapshot -> refreshInterval, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * Fold a skill name for matching: trim, collapse inner whitespace, lowercase
+     */
+    static String fold(String skill) {
+        return WHITESPACE.matcher(skill.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Immutable dictionary snapshot
+     */
+    static final class Dictionary {
+
+        private final Map<String, Integer> codeByName;
+        private final Map<String, Integer> codeByAlias;
+        private final Map<Integer, String> nameByCode;
+
+        private Dictionary(Map<String, Integer> codeByName, Map<String, Integer> codeByAlias, Map<Integer, String> nameByCode) {
+            this.codeByName = codeByName;
+            this.codeByAlias = codeByAlias;
+            this.nameByCode = nameByCode;
+        }
+
+        static Dictionary of(List<SkillEmbeddingDic> skills, List<SkillAlias> aliases) {
+            Map<String, Integer> codeByName = new HashMap<>();
+            Map<Integer, String> nameByCode = new HashMap<>();
+            for (SkillEmbeddingDic skill : skills) {
+                if (skill.getSkill() == null || skill.getSkillCode() == null) {
+                    continue;
+                }
+                // Lowest code wins on case-insensitive duplicates (skill_code_of ORDER BY skill_code)
+                codeByName.merge(fold(skill.getSkill()), skill.getSkillCode(), Math::min);
+                nameByCode.put(skill.getSkillCode(), skill.getSkill());
+            }
+
+            Map<String, Integer> codeByAlias = new HashMap<>();
+            for (SkillAlias alias : aliases) {
+                if (alias.getAlias() != null && nameByCode.containsKey(alias.getSkillCode())) {
+                    codeByAlias.putIfAbsent(fold(alias.getAlias()), alias.getSkillCode());
+                }
+            }
+            return new Dictionary(Map.copyOf(codeByName), Map.copyOf(codeByAlias), Map.copyOf(nameByCode));
+        }
+
+        String canonicalFold(String raw) {
+            String key = fold(raw);
+            Integer code = codeByName.get(key);
+            if (code == null) {
+                code = codeByAlias.get(key);
+            }
+            return code != null ? fold(nameByCode.get(code)) : key;
+        }
+
+        CanonicalSkills resolve(List<String> rawSkills) {
+            TreeMap<Integer, String> resolved = new TreeMap<>();
+            Map<String, String> unresolved = new LinkedHashMap<>();
+
+            for (String raw : rawSkills) {
+                if (raw == null || raw.isBlank()) {
+                    continue;
+                }
+                String key = fold(raw);
+                Integer code = codeByName.get(key);
+                if (code == null) {
+                    code = codeByAlias.get(key);
+                }
+                if (code != null) {
+                    resolved.put(code, nameByCode.get(code));
+                } else {
+                    unresolved.putIfAbsent(key, raw.trim());
+                }
+            }
+
+            return CanonicalSkills.builder()
+                    .skills(new ArrayList<>(resolved.values()))
+                    .skillCodes(new ArrayList<>(resolved.keySet()))
+                    .unresolved(new ArrayList<>(unresolved.values()))
+                    .build();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.Arrays;
 import java.util.List;
@@ -20,7 +21,10 @@ import java.util.List;
  * 1. Input: List<String> skills (e.g., ["Java", "Python", "C"])
  * 2. Lookup each skill in skill_embedding_dic
  * 3. Calculate query vector (average/sum of skill vectors)
- * 4. Return query vector for pgvector search
+ * 4. L2-normalize (stored embeddings are unit vectors, search uses inner product <#>)
+ * 5. Return query vector for pgvector search
+ *
+ * Averaging / normalization / formatting run on the CPU scheduler, not the R2DBC event loop
  */
 @Slf4j
 @Service
@@ -28,11 +32,13 @@ import java.util.List;
 public class SkillNormalizationService {
 
     private final SkillEmbeddingDicRepository skillEmbeddingDicRepository;
+    private final Scheduler cpuScheduler;
 
     /**
      * Normalize skills to query vector
      * - Looks up each skill in skill_embedding_dic
      * - Averages the vectors to create query vector
+     * - L2-normalizes the average (inner product == cosine similarity on unit vectors)
      * - Returns vector as PostgreSQL-compatible string
      *
      * @param skills List of skill names (e.g., ["Java", "Python"])
@@ -56,6 +62,7 @@ public class SkillNormalizationService {
         return reactor.core.publisher.Flux.fromIterable(lowercaseSkills)
                 .flatMap(skillEmbeddingDicRepository::findBySkill)
                 .collectList()
+                .publishOn(cpuScheduler)
                 .flatMap(skillEmbeddings -> {
                     if (skillEmbeddings.isEmpty()) {
                         log.warn("No matching skills found in dictionary for: {}", skills);
@@ -65,9 +72,9 @@ public class SkillNormalizationService {
                     log.info("Found {} matching skills in dictionary", skillEmbeddings.size());
 
                     // Calculate average vector (element-wise mean - matches Python np.mean(vectors, axis=0))
-                    float[] queryVector = calculateAverageVector(skillEmbeddings);
+                    float[] queryVector = l2Normalize(calculateAverageVector(skillEmbeddings));
 
-                    log.info("Average vector calculated - dimension: {}, sample values: [{}, {}, {}]",
+                    log.info("Normalized average vector calculated - dimension: {}, sample values: [{}, {}, {}]",
                              queryVector.length,
                              queryVector[0], queryVector[1], queryVector[2]);
 
@@ -85,14 +92,22 @@ public class SkillNormalizationService {
      * Calculate average vector from multiple skill vectors
      * - Averages all dimensions across all skill vectors
      * - Normalization strategy: mean (can be changed to sum if needed)
+     * - Dimension-agnostic: taken from the first non-empty skill vector,
+     *   vectors with a different dimension are skipped
      *
      * @param skillEmbeddings List of SkillEmbeddingDic
-     * @return float[] Average vector (1536 dimensions)
+     * @return float[] Average vector (dictionary dimension)
      */
     private float[] calculateAverageVector(List<SkillEmbeddingDic> skillEmbeddings) {
-        int vectorDimension = 1536; // from table_specification.md
+        int vectorDimension = skillEmbeddings.stream()
+                .map(SkillEmbeddingDic::getSkillVector)
+                .filter(vector -> vector != null && !vector.isEmpty())
+                .mapToInt(List::size)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No skill vectors found for matched skills"));
+
         float[] sumVector = new float[vectorDimension];
-        int count = skillEmbeddings.size();
+        int count = 0;
 
         // Sum all vectors
         for (SkillEmbeddingDic embedding : skillEmbeddings) {
@@ -110,6 +125,7 @@ public class SkillNormalizationService {
             for (int i = 0; i < vectorDimension; i++) {
                 sumVector[i] += skillVector.get(i);
             }
+            count++;
         }
 
         // Calculate average
@@ -121,6 +137,29 @@ public class SkillNormalizationService {
         return avgVector;
     }
 
+    /**
+     * L2-normalize vector in place
+     * - Zero vector is returned unchanged (no direction to preserve)
+     *
+     * @param vector Vector array
+     * @return float[] Same array scaled to unit length
+     */
+    private float[] l2Normalize(float[] vector) {
+        double sumOfSquares = 0.0;
+        for (float value : vector) {
+            sumOfSquares += (double) value * value;
+        }
+        if (sumOfSquares == 0.0) {
+            return vector;
+        }
+
+        double norm = Math.sqrt(sumOfSquares);
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) (vector[i] / norm);
+        }
+        return vector;
+    }
+
     /**
      * Convert float array to PostgreSQL vector string
      * - Input: float[] {0.1f, 0.2f, 0.3f, ...}
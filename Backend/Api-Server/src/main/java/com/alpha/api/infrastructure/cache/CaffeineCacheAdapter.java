@@ -5,16 +5,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Caffeine Cache Adapter (Infrastructure Layer)
  * - L1 Cache implementation using Caffeine
  * - In-memory, fast access
  * - Non-reactive wrapper (returns Mono for consistency)
+ * - hottest() / restore(): warm restart support (L1WarmRestart), outside the CachePort contract
  */
 @Slf4j
 @Component("l1Cache")
@@ -76,6 +81,62 @@ public class CaffeineCacheAdapter implements CachePort {
         });
     }
 
+    /**
+     * L1 entry with the time it was written
+     *
+     * @param key Cache key
+     * @param value Cached value
+     * @param writtenAt Write time (epoch millis)
+     */
+    public record HotEntry(String key, Object value, long writtenAt) {
+    }
+
+    /**
+     * Hottest entries first, as ranked by the eviction policy (W-TinyLFU frequency + recency)
+     *
+     * @param limit Maximum entries
+     * @return Entries, hottest first (empty if the cache is unavailable)
+     */
+    public List<HotEntry> hottest(int limit) {
+        var nativeCache = nativeCache();
+        if (nativeCache == null) {
+            return List.of();
+        }
+
+        Map<Object, Object> hottest = nativeCache.policy().eviction()
+                .map(eviction -> eviction.hottest(limit))
+                .orElseGet(() -> nativeCache.asMap());
+        long now = System.currentTimeMillis();
+        List<HotEntry> entries = new ArrayList<>(Math.min(limit, hottest.size()));
+        for (Map.Entry<Object, Object> entry : hottest.entrySet()) {
+            if (entries.size() == limit) {
+                break;
+            }
+            long age = nativeCache.policy().expireAfterWrite()
+                    .flatMap(expiration -> expiration.ageOf(entry.getKey()))
+                    .map(Duration::toMillis)
+                    .orElse(0L);
+            entries.add(new HotEntry(String.valueOf(entry.getKey()), entry.getValue(), now - age));
+        }
+        return entries;
+    }
+
+    /**
+     * Put a restored value (no logging per entry)
+     */
+    public void restore(String key, Object value) {
+        var nativeCache = nativeCache();
+        if (nativeCache != null) {
+            nativeCache.put(key, value);
+        }
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        return caffeineCacheManager.getCache(CACHE_NAME) instanceof CaffeineCache caffeineCache
+                ? caffeineCache.getNativeCache()
+                : null;
+    }
+
     @Override
     public Mono<Boolean> exists(String key) {
         return Mono.fromSupplier(() -> {
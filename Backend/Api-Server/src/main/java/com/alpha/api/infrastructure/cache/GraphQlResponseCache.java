@@ -0,0 +1,235 @@
+package com.alpha.api.infrastructure.cache;
+
+import com.alpha.api.infrastructure.graphql.PersistedDocumentProvider;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.language.AstPrinter;
+import graphql.language.Definition;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.parser.Parser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GraphQL Response Cache (Infrastructure Layer)
+ * - Pre-serialized /graphql response bytes for documents that return the same payload for every user
+ * - Cacheable: query operations whose root fields are all in app.response-cache.root-fields
+ *   (skillCategories, dashboardData, topCompanies by default)
+ * - Key: data version + SHA-256(compact printed document + operationName + sorted variables)
+ * - Hash-only persisted queries resolved through PersistedDocumentProvider (unregistered → not cacheable)
+ * - Data version bumped when Batch Server invalidates all caches (ingest stream / batch job completion);
+ *   old keys become unreachable. TTL (app.response-cache.ttl-minutes) bounds staleness if that call is lost
+ * - Cheap checks before any work: Content-Length <= max-body-bytes (filter, before buffering),
+ *   raw-text scan for a root field name / persisted-query hash (before JSON parsing)
+ * - Local to the instance (bytes are cheap to rebuild from the L1/L2 static caches)
+ */
+@Slf4j
+@Component
+public class GraphQlResponseCache {
+
+    private static final TypeReference<Map<String, Object>> BODY_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final PersistedDocumentProvider persistedDocumentProvider;
+    private final boolean enabled;
+    private final Set<String> rootFields;
+    private final int maxBodyBytes;
+    private final Cache<String, CachedResponse> responses;
+    private final AtomicLong dataVersion = new AtomicLong();
+
+    public GraphQlResponseCache(
+            ObjectMapper objectMapper,
+            PersistedDocumentProvider persistedDocumentProvider,
+            @Value("${app.response-cache.enabled:true}") boolean enabled,
+            @Value("${app.response-cache.root-fields:skillCategories,dashboardData,topCompanies}") List<String> rootFields,
+            @Value("${app.response-cache.max-size-mb:64}") long maxSizeMb,
+            @Value("${app.response-cache.ttl-minutes:60}") long ttlMinutes,
+            @Value("${app.response-cache.max-body-bytes:4096}") int maxBodyBytes) {
+        this.objectMapper = objectMapper;
+        this.persistedDocumentProvider = persistedDocumentProvider;
+        this.enabled = enabled;
+        this.rootFields = Set.copyOf(rootFields);
+        this.maxBodyBytes = maxBodyBytes;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxSizeMb * 1024 * 1024)
+                .weigher((String key, CachedResponse response) -> response.body().length)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Header-only pre-check (before the request body is buffered)
+     * - Cacheable documents are small; unknown length (chunked) or larger bodies pass through unbuffered
+     *
+     * @param contentLength Content-Length header value (-1 if absent)
+     */
+    public boolean acceptsBodyLength(long contentLength) {
+        return contentLength > 0 && contentLength <= maxBodyBytes;
+    }
+
+    /**
+     * Cache key for a /graphql request body
+     *
+     * @param body Raw JSON request body ({query, operationName, variables})
+     * @return Cache key, or null if the request is not cacheable
+     */
+    public String keyOf(byte[] body) {
+        if (!mayBeCacheable(body)) {
+            return null;
+        }
+        try {
+            Map<String, Object> request = objectMapper.readValue(body, BODY_TYPE);
+            String query = queryOf(request);
+            if (query == null || !mentionsRootField(query)) {
+                return null;
+            }
+
+            Document document = persistedDocumentProvider.findDocument(query);
+            if (document == null) {
+                document = Parser.parse(query);
+            }
+            if (!isCacheable(document)) {
+                return null;
+            }
+
+            Object variables = request.getOrDefault("variables", Map.of());
+            String normalized = AstPrinter.printAstCompact(document)
+                    + "|" + request.getOrDefault("operationName", "")
+                    + "|" + objectMapper.writer()
+                            .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                            .writeValueAsString(variables != null ? variables : Map.of());
+            return dataVersion.get() + ":" + sha256(normalized.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            // Malformed body or document: let the GraphQL handler report it
+            return null;
+        }
+    }
+
+    public CachedResponse get(String key) {
+        return responses.getIfPresent(key);
+    }
+
+    /**
+     * Store a successful response (status 200, no "errors" entry, no deadline-truncated "partial": true result)
+     *
+     * @return Stored response with its ETag, or null if the body is not cacheable
+     */
+    public CachedResponse put(String key, byte[] body, MediaType contentType) {
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            if (root.has("errors") || root.findValues("partial").stream().anyMatch(JsonNode::asBoolean)) {
+                return null;
+            }
+        } catch (Exception e) {
+            return null;
+        }
+        CachedResponse response = new CachedResponse(body, contentType, etagOf(body));
+        responses.put(key, response);
+        log.debug("GraphQL response cached: key={}, bytes={}", key, body.length);
+        return response;
+    }
+
+    /**
+     * New data version after ingest invalidation (drops every stored response)
+     */
+    public long bumpVersion() {
+        long version = dataVersion.incrementAndGet();
+        responses.invalidateAll();
+        log.info("GraphQL response cache version bumped: {}", version);
+        return version;
+    }
+
+    public static String etagOf(byte[] body) {
+        return "\"" + sha256(body).substring(0, 32) + "\"";
+    }
+
+    /**
+     * Query text from the body, or the registered text for a hash-only persisted query
+     */
+    @SuppressWarnings("unchecked")
+    private String queryOf(Map<String, Object> request) {
+        if (request.get("query") instanceof String query && !query.isBlank()) {
+            return query;
+        }
+        Object extensions = request.get("extensions");
+        return extensions instanceof Map<?, ?> map
+                ? persistedDocumentProvider.findPersistedQuery(
+                        PersistedDocumentProvider.persistedQueryHash((Map<String, Object>) map))
+                : null;
+    }
+
+    /**
+     * Raw-text pre-check before JSON parsing: a root field name, or a hash-only persisted query
+     */
+    private boolean mayBeCacheable(byte[] body) {
+        String raw = new String(body, StandardCharsets.UTF_8);
+        return raw.contains("sha256Hash") || mentionsRootField(raw);
+    }
+
+    /**
+     * Cheap pre-check before parsing: skip documents that cannot touch a cacheable root field
+     */
+    private boolean mentionsRootField(String query) {
+        return rootFields.stream().anyMatch(query::contains);
+    }
+
+    /**
+     * Query operations only, every root selection a field in rootFields (__typename allowed)
+     */
+    private boolean isCacheable(Document document) {
+        boolean hasOperation = false;
+        for (Definition<?> definition : document.getDefinitions()) {
+            if (!(definition instanceof OperationDefinition operation)) {
+                continue;
+            }
+            if (operation.getOperation() != OperationDefinition.Operation.QUERY) {
+                return false;
+            }
+            for (Selection<?> selection : operation.getSelectionSet().getSelections()) {
+                if (!(selection instanceof Field field)
+                        || !(rootFields.contains(field.getName()) || "__typename".equals(field.getName()))) {
+                    return false;
+                }
+            }
+            hasOperation = true;
+        }
+        return hasOperation;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Serialized response body + content type + strong ETag
+     */
+    public record CachedResponse(byte[] body, MediaType contentType, String etag) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.alpha.api.infrastructure.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * L1 Cache Snapshot (binary file format)
+ * - Written on shutdown, memory-mapped and read once on startup (L1WarmRestart)
+ *
+ * Layout (big-endian):
+ * - header: magic "AL1S" (int), format (short), dataVersion (long), createdAt epoch millis (long), entry count (int)
+ * - entry: key length (int) + UTF-8 key, writtenAt epoch millis (long), payload length (int) + payload bytes
+ * - Entries are stored hottest first
+ *
+ * Writes go to a temp file moved into place, so a crash mid-write never leaves a torn snapshot
+ */
+public final class L1CacheSnapshot {
+
+    static final int MAGIC = 0x414C3153; // "AL1S"
+    static final short FORMAT = 1;
+
+    private static final int MAX_KEY_BYTES = 64 * 1024;
+
+    private L1CacheSnapshot() {
+    }
+
+    /**
+     * Snapshot contents
+     *
+     * @param dataVersion Data version at snapshot time (DataVersionPort)
+     * @param createdAt Snapshot time (epoch millis)
+     * @param entries Entries, hottest first
+     */
+    public record Contents(long dataVersion, long createdAt, List<Entry> entries) {
+    }
+
+    /**
+     * Snapshot entry
+     *
+     * @param key Cache key
+     * @param writtenAt Time the value entered L1 (epoch millis)
+     * @param payload Serialized value
+     */
+    public record Entry(String key, long writtenAt, byte[] payload) {
+    }
+
+    /**
+     * Write a snapshot atomically (temp file + move)
+     */
+    public static void write(Path path, Contents contents) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream file = Files.newOutputStream(temp, StandardOpenOption.TRUNCATE_EXISTING);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024))) {
+                out.writeInt(MAGIC);
+                out.writeShort(FORMAT);
+                out.writeLong(contents.dataVersion());
+                out.writeLong(contents.createdAt());
+                out.writeInt(contents.entries().size());
+                for (Entry entry : contents.entries()) {
+                    byte[] key = entry.key().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(key.length);
+                    out.write(key);
+                    out.writeLong(entry.writtenAt());
+                    out.writeInt(entry.payload().length);
+                    out.write(entry.payload());
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Read a snapshot through a read-only memory mapping
+     *
+     * @throws IOException unreadable file, unknown magic / format, or truncated contents
+     */
+    public static Contents read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                if (buffer.getInt() != MAGIC) {
+                    throw new IOException("Not an L1 cache snapshot: " + path);
+                }
+                short format = buffer.getShort();
+                if (format != FORMAT) {
+                    throw new IOException("Unsupported L1 cache snapshot format: " + format);
+                }
+                long dataVersion = buffer.getLong();
+                long createdAt = buffer.getLong();
+                int count = buffer.getInt();
+                if (count < 0) {
+                    throw new IOException("Corrupt L1 cache snapshot (entry count " + count + ")");
+                }
+
+                List<Entry> entries = new ArrayList<>(Math.min(count, 1 << 16));
+                for (int i = 0; i < count; i++) {
+                    byte[] key = new byte[length(buffer, MAX_KEY_BYTES)];
+                    buffer.get(key);
+                    long writtenAt = buffer.getLong();
+                    byte[] payload = new byte[length(buffer, buffer.remaining())];
+                    buffer.get(payload);
+                    entries.add(new Entry(new String(key, StandardCharsets.UTF_8), writtenAt, payload));
+                }
+                return new Contents(dataVersion, createdAt, entries);
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Truncated L1 cache snapshot: " + path, e);
+            }
+        }
+    }
+
+    private static int length(MappedByteBuffer buffer, int max) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || length > max) {
+            throw new IOException("Corrupt L1 cache snapshot (length " + length + ")");
+        }
+        return length;
+    }
+}
@@ -0,0 +1,210 @@
+package com.alpha.api.infrastructure.cache;
+
+import com.alpha.api.domain.cache.port.DataVersionPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * L1 Warm Restart (Infrastructure Layer)
+ * - Shutdown: hottest L1 entries (eviction policy order) → local snapshot file (L1CacheSnapshot);
+ *   lifecycle phase after the web server has stopped (L1 is final) and before Redis connections close
+ * - Startup: snapshot memory-mapped and restored into L1 before the instance reports ready (CacheWarmingService)
+ * - Values serialized like L2 (RedisSerializer.json(), type information embedded), so anything L2 can hold
+ *   round-trips; entries that fail to (de)serialize are skipped individually
+ *
+ * Staleness:
+ * - Snapshot carries the shared data version (DataVersionPort) read at shutdown
+ * - Restore only if the data version is unchanged (no invalidation anywhere since the snapshot);
+ *   unknown version at either end → snapshot discarded
+ * - Entries older than app.cache.warm-restart.max-age-minutes are dropped
+ *   (= L2 TTL: a restored value is never older than one L2 could still serve)
+ *
+ * Lifetime limit:
+ * - Restored entries get the L1 expireAfterWrite (spring.cache.caffeine.spec, 10s) counted from the restore,
+ *   not the rest of max-age: the snapshot covers the first L1 TTL after readiness (the cold-start burst),
+ *   after which keys fall through to L2 as usual
+ * - Snapshot file deleted once read (never restored twice)
+ *
+ * The Caffeine frequency sketch is internal and not persisted; restoring coldest → hottest keeps the
+ * hottest entries most recent under the eviction policy
+ */
+@Slf4j
+@Component
+public class L1WarmRestart implements SmartLifecycle {
+
+    // Stops after WebServerGracefulShutdownLifecycle / WebServerStartStopLifecycle, before LettuceConnectionFactory (0)
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final CaffeineCacheAdapter l1Cache;
+    private final DataVersionPort dataVersion;
+    private final RedisSerializer<Object> serializer = RedisSerializer.json();
+    private final boolean enabled;
+    private final Path path;
+    private final int maxEntries;
+    private final Duration maxAge;
+    private final Duration versionTimeout;
+    private volatile boolean running;
+
+    public L1WarmRestart(
+            CaffeineCacheAdapter l1Cache,
+            DataVersionPort dataVersion,
+            @Value("${app.cache.warm-restart.enabled:true}") boolean enabled,
+            @Value("${app.cache.warm-restart.path:data/l1-cache.snapshot}") String path,
+            @Value("${app.cache.warm-restart.max-entries:5000}") int maxEntries,
+            @Value("${app.cache.warm-restart.max-age-minutes:10}") long maxAgeMinutes,
+            @Value("${app.cache.l2.invalidate-timeout-ms:2000}") long versionTimeoutMs) {
+        this.l1Cache = l1Cache;
+        this.dataVersion = dataVersion;
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.maxEntries = maxEntries;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.versionTimeout = Duration.ofMillis(versionTimeoutMs);
+    }
+
+    /**
+     * Restore the snapshot into L1 (file IO + deserialization on boundedElastic)
+     *
+     * @return Mono of restored entry count (0 when disabled, absent or stale)
+     */
+    public Mono<Integer> restore() {
+        if (!enabled) {
+            return Mono.just(0);
+        }
+
+        return Mono.fromCallable(this::readAndDelete)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(contents -> dataVersion.current()
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(current -> {
+                            if (current != contents.dataVersion()) {
+                                log.info("L1 snapshot discarded: data version changed ({} → {})", contents.dataVersion(), current);
+                                return 0;
+                            }
+                            return apply(contents);
+                        })
+                        .switchIfEmpty(Mono.fromSupplier(() -> {
+                            log.info("L1 snapshot discarded: current data version unavailable");
+                            return 0;
+                        })))
+                .defaultIfEmpty(0)
+                .onErrorResume(e -> {
+                    log.warn("L1 snapshot restore failed, starting cold: {}", e.getMessage());
+                    return Mono.just(0);
+                })
+                // First start against this Redis: later snapshots have a version to compare with
+                .flatMap(restored -> dataVersion.initializeIfAbsent().thenReturn(restored));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        snapshot();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Snapshot hot L1 entries on shutdown
+     * - Unknown data version → no snapshot (could not be validated on restore)
+     */
+    void snapshot() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Long version = dataVersion.current().block(versionTimeout);
+            if (version == null) {
+                log.warn("L1 snapshot skipped: data version unavailable");
+                return;
+            }
+
+            List<L1CacheSnapshot.Entry> entries = new ArrayList<>();
+            int skipped = 0;
+            for (CaffeineCacheAdapter.HotEntry entry : l1Cache.hottest(maxEntries)) {
+                try {
+                    entries.add(new L1CacheSnapshot.Entry(entry.key(), entry.writtenAt(), serializer.serialize(entry.value())));
+                } catch (RuntimeException e) {
+                    skipped++;
+                    log.debug("L1 snapshot entry skipped: key={}, error={}", entry.key(), e.getMessage());
+                }
+            }
+
+            long start = System.currentTimeMillis();
+            L1CacheSnapshot.write(path, new L1CacheSnapshot.Contents(version, System.currentTimeMillis(), entries));
+            log.info("L1 snapshot written: {} entries ({} skipped), {} bytes, {}ms",
+                    entries.size(), skipped, Files.size(path), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("L1 snapshot failed: {}", e.getMessage());
+        }
+    }
+
+    private L1CacheSnapshot.Contents readAndDelete() throws IOException {
+        if (!Files.exists(path)) {
+            log.info("No L1 snapshot at {}, starting cold", path);
+            return null;
+        }
+        try {
+            return L1CacheSnapshot.read(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Coldest → hottest, dropping entries past max age and values that no longer deserialize
+     */
+    private int apply(L1CacheSnapshot.Contents contents) {
+        long oldest = System.currentTimeMillis() - maxAge.toMillis();
+        List<L1CacheSnapshot.Entry> entries = contents.entries();
+        int restored = 0;
+        int expired = 0;
+        int failed = 0;
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            L1CacheSnapshot.Entry entry = entries.get(i);
+            if (entry.writtenAt() < oldest) {
+                expired++;
+                continue;
+            }
+            try {
+                Object value = serializer.deserialize(entry.payload());
+                if (value != null) {
+                    l1Cache.restore(entry.key(), value);
+                    restored++;
+                }
+            } catch (RuntimeException e) {
+                failed++;
+                log.debug("L1 snapshot entry not restored: key={}, error={}", entry.key(), e.getMessage());
+            }
+        }
+        log.info("L1 snapshot restored: {} entries ({} expired, {} failed) from version {}",
+                restored, expired, failed, contents.dataVersion());
+        return restored;
+    }
+}
@@ -1,55 +1,114 @@
 package com.alpha.api.infrastructure.cache;
 
+import com.alpha.api.application.concurrency.CallNotPermittedException;
+import com.alpha.api.application.concurrency.CircuitBreaker;
 import com.alpha.api.domain.cache.port.CachePort;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Redis Cache Adapter (Infrastructure Layer)
  * - L2 Cache implementation using Redis
  * - Distributed, persistent cache
  * - Reactive (Mono-based)
+ * - Never on the critical latency path:
+ *   - GET / PUT / EXISTS go through a circuit breaker with short per-operation timeouts
+ *     (breaker OPEN → miss / false immediately, no Lettuce timeout wait)
+ *   - PUT is write-behind from CacheService; at most max-pending-writes in flight, extra writes dropped
+ *   - Invalidations bypass the breaker (off the request path; skipping them would leave stale L2 entries)
+ * - Metrics: cache.l2.circuit.state (0 closed, 1 half-open, 2 open), cache.l2.circuit.rejected,
+ *   cache.l2.write.dropped
  */
 @Slf4j
 @Component("l2Cache")
-@RequiredArgsConstructor
 public class RedisCacheAdapter implements CachePort {
 
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration getTimeout;
+    private final Duration putTimeout;
+    private final Duration invalidateTimeout;
+    private final Semaphore pendingWrites;
+    private final AtomicLong droppedWrites = new AtomicLong();
+
+    public RedisCacheAdapter(
+            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.l2.get-timeout-ms:50}") long getTimeoutMs,
+            @Value("${app.cache.l2.put-timeout-ms:200}") long putTimeoutMs,
+            @Value("${app.cache.l2.invalidate-timeout-ms:2000}") long invalidateTimeoutMs,
+            @Value("${app.cache.l2.max-pending-writes:256}") int maxPendingWrites,
+            @Value("${app.cache.l2.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${app.cache.l2.circuit.open-ms:10000}") long openMs) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = new CircuitBreaker("redis-l2", failureThreshold, Duration.ofMillis(openMs));
+        this.getTimeout = Duration.ofMillis(getTimeoutMs);
+        this.putTimeout = Duration.ofMillis(putTimeoutMs);
+        this.invalidateTimeout = Duration.ofMillis(invalidateTimeoutMs);
+        this.pendingWrites = new Semaphore(maxPendingWrites);
+
+        Gauge.builder("cache.l2.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Redis L2 circuit breaker state (0 closed, 1 half-open, 2 open)")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.l2.circuit.rejected", circuitBreaker, CircuitBreaker::getRejectedCount)
+                .description("L2 calls short-circuited while the breaker was open")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.l2.write.dropped", droppedWrites, AtomicLong::get)
+                .description("Write-behind L2 puts dropped (pending write limit)")
+                .register(meterRegistry);
+    }
 
     @Override
     public <T> Mono<T> get(String key, Class<T> valueType) {
-        return reactiveRedisTemplate.opsForValue()
-                .get(key)
+        return circuitBreaker.execute(() -> reactiveRedisTemplate.opsForValue().get(key), getTimeout)
                 .map(value -> objectMapper.convertValue(value, valueType))
                 .doOnNext(value -> log.debug("Redis cache HIT: key={}", key))
                 .onErrorResume(e -> {
-                    log.warn("Redis cache GET error: key={}, error={}", key, e.getMessage());
+                    logFailure("GET", key, e);
                     return Mono.empty();
                 });
     }
 
+    /**
+     * Pending-write permit taken on subscription (not at assembly), returned on any terminal signal or cancel
+     */
     @Override
     public Mono<Boolean> put(String key, Object value, Duration ttl) {
-        return reactiveRedisTemplate.opsForValue()
-                .set(key, value, ttl)
-                .doOnNext(success -> log.debug("Redis cache PUT: key={}, ttl={}", key, ttl))
-                .onErrorResume(e -> {
-                    log.warn("Redis cache PUT error: key={}, error={}", key, e.getMessage());
-                    return Mono.just(false);
-                });
+        return Mono.defer(() -> {
+            if (!pendingWrites.tryAcquire()) {
+                droppedWrites.incrementAndGet();
+                log.debug("Redis cache PUT dropped (pending write limit): key={}", key);
+                return Mono.just(false);
+            }
+
+            return circuitBreaker.execute(() -> reactiveRedisTemplate.opsForValue().set(key, value, ttl), putTimeout)
+                    .doOnNext(success -> log.debug("Redis cache PUT: key={}, ttl={}", key, ttl))
+                    .onErrorResume(e -> {
+                        logFailure("PUT", key, e);
+                        return Mono.just(false);
+                    })
+                    .doFinally(signal -> pendingWrites.release());
+        });
     }
 
     @Override
     public Mono<Boolean> invalidate(String key) {
         return reactiveRedisTemplate.delete(key)
+                .timeout(invalidateTimeout)
                 .map(count -> count > 0)
                 .doOnNext(success -> log.debug("Redis cache DELETE: key={}, success={}", key, success))
                 .onErrorResume(e -> {
@@ -73,10 +132,25 @@ public class RedisCacheAdapter implements CachePort {
 
     @Override
     public Mono<Boolean> exists(String key) {
-        return reactiveRedisTemplate.hasKey(key)
+        return circuitBreaker.execute(() -> reactiveRedisTemplate.hasKey(key), getTimeout)
                 .onErrorResume(e -> {
-                    log.warn("Redis cache EXISTS error: key={}, error={}", key, e.getMessage());
+                    logFailure("EXISTS", key, e);
                     return Mono.just(false);
                 });
     }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * Short-circuited calls are expected while Redis is down: debug only
+     */
+    private void logFailure(String operation, String key, Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            log.debug("Redis cache {} skipped (circuit open): key={}", operation, key);
+        } else {
+            log.warn("Redis cache {} error: key={}, error={}", operation, key, e.getMessage());
+        }
+    }
 }
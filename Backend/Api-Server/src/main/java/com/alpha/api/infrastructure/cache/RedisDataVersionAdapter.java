@@ -0,0 +1,68 @@
+package com.alpha.api.infrastructure.cache;
+
+import com.alpha.api.domain.cache.port.DataVersionPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Redis Data Version Adapter (Infrastructure Layer)
+ * - Data version = epoch millis of the last invalidation, stored under one Redis key shared by all instances
+ *   (a timestamp rather than INCR: InvalidateAllCaches deletes every Redis key, a counter would restart at 1)
+ * - Outlives deploys (unlike the in-process GraphQL response cache version)
+ * - Off the request path: bounded by app.cache.l2.invalidate-timeout-ms, failures → empty / false
+ */
+@Slf4j
+@Component
+public class RedisDataVersionAdapter implements DataVersionPort {
+
+    static final String KEY = "cache:data-version";
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final Duration timeout;
+
+    public RedisDataVersionAdapter(
+            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+            @Value("${app.cache.l2.invalidate-timeout-ms:2000}") long timeoutMs) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    @Override
+    public Mono<Long> current() {
+        return reactiveRedisTemplate.opsForValue().get(KEY)
+                .timeout(timeout)
+                .filter(Number.class::isInstance)
+                .map(value -> ((Number) value).longValue())
+                .onErrorResume(e -> {
+                    log.warn("Data version read failed: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Boolean> bump() {
+        long version = System.currentTimeMillis();
+        return reactiveRedisTemplate.opsForValue().set(KEY, version)
+                .timeout(timeout)
+                .doOnNext(success -> log.debug("Data version bumped: {}", version))
+                .onErrorResume(e -> {
+                    log.warn("Data version bump failed: {}", e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    @Override
+    public Mono<Boolean> initializeIfAbsent() {
+        return reactiveRedisTemplate.opsForValue().setIfAbsent(KEY, System.currentTimeMillis())
+                .timeout(timeout)
+                .onErrorResume(e -> {
+                    log.warn("Data version initialization failed: {}", e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+}
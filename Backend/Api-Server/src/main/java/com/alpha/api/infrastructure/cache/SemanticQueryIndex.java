@@ -0,0 +1,135 @@
+package com.alpha.api.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Semantic Query Index (Infrastructure Layer)
+ * - Query vectors of fully computed search result sets, keyed by their exact search results cache key
+ * - nearest(): cached key whose query vector has cosine similarity >= threshold with the new query
+ *   (vectors are L2-normalized by SkillNormalizationService → dot product = cosine)
+ * - Brute-force scan: the index holds at most max-entries vectors (bounded, expires with the L2 entry)
+ * - Only points at cache keys; the candidate set itself stays in L1/L2 (evicted key → lookup misses)
+ */
+@Slf4j
+@Component
+public class SemanticQueryIndex {
+
+    private final boolean enabled;
+    private final double threshold;
+    private final Cache<String, Entry> entries;
+
+    public SemanticQueryIndex(
+            @Value("${app.cache.semantic.enabled:true}") boolean enabled,
+            @Value("${app.cache.semantic.threshold:0.97}") double threshold,
+            @Value("${app.cache.semantic.max-entries:2000}") long maxEntries,
+            @Value("${app.cache.semantic.ttl-minutes:5}") long ttlMinutes) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * Register the query vector of a fully computed result set
+     *
+     * @param namespace Partition (e.g. user mode); lookups never cross namespaces
+     * @param cacheKey Exact search results cache key
+     * @param queryVector pgvector literal "[x1,x2,...]"
+     */
+    public void register(String namespace, String cacheKey, String queryVector) {
+        if (!enabled) {
+            return;
+        }
+        float[] vector = parseVector(queryVector);
+        if (vector.length > 0) {
+            entries.put(cacheKey, new Entry(namespace, vector));
+        }
+    }
+
+    /**
+     * Nearest registered cache key at or above the similarity threshold
+     *
+     * @param namespace Partition (e.g. user mode)
+     * @param queryVector pgvector literal "[x1,x2,...]"
+     * @return Cache key of the closest near-duplicate query, empty if none qualifies
+     */
+    public Optional<String> nearest(String namespace, String queryVector) {
+        if (!enabled || entries.estimatedSize() == 0) {
+            return Optional.empty();
+        }
+        float[] query = parseVector(queryVector);
+
+        String bestKey = null;
+        double bestSimilarity = threshold;
+        for (Map.Entry<String, Entry> candidate : entries.asMap().entrySet()) {
+            Entry entry = candidate.getValue();
+            if (!entry.namespace().equals(namespace) || entry.vector().length != query.length) {
+                continue;
+            }
+            double similarity = dot(query, entry.vector());
+            if (similarity >= bestSimilarity) {
+                bestSimilarity = similarity;
+                bestKey = candidate.getKey();
+            }
+        }
+
+        if (bestKey != null) {
+            log.debug("Semantic cache candidate: key={}, similarity={}", bestKey, bestSimilarity);
+        }
+        return Optional.ofNullable(bestKey);
+    }
+
+    /**
+     * Drop a key (its cached candidate set is gone)
+     */
+    public void remove(String cacheKey) {
+        entries.invalidate(cacheKey);
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    static double dot(float[] a, float[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += (double) a[i] * b[i];
+        }
+        return sum;
+    }
+
+    static float[] parseVector(String literal) {
+        if (literal == null) {
+            return new float[0];
+        }
+        String body = literal.trim();
+        if (body.startsWith("[")) {
+            body = body.substring(1);
+        }
+        if (body.endsWith("]")) {
+            body = body.substring(0, body.length() - 1);
+        }
+        if (body.isBlank()) {
+            return new float[0];
+        }
+        String[] parts = body.split(",");
+        float[] vector = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            vector[i] = Float.parseFloat(parts[i].trim());
+        }
+        return vector;
+    }
+
+    private record Entry(String namespace, float[] vector) {
+    }
+}
@@ -2,6 +2,8 @@ package com.alpha.api.infrastructure.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsWebFilter;
 import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
@@ -22,10 +24,12 @@ public class CorsConfig {
      * CORS WebFilter Bean
      * - Applied to all endpoints including /graphql
      * - Handles preflight OPTIONS requests automatically
+     * - Runs first so responses written by later filters (response cache) carry CORS headers
      *
      * @return CorsWebFilter configured for Frontend access
      */
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     public CorsWebFilter corsWebFilter() {
         CorsConfiguration config = new CorsConfiguration();
 
@@ -48,9 +52,11 @@ public class CorsConfig {
         // Cache preflight response for 1 hour (3600 seconds)
         config.setMaxAge(3600L);
 
-        // Expose headers to Frontend (useful for pagination, etc.)
+        // Expose headers to Frontend (pagination, response cache revalidation)
         config.setExposedHeaders(Arrays.asList(
                 "Content-Type",
+                "ETag",
+                "X-Response-Cache",
                 "X-Total-Count",
                 "X-Page-Number"
         ));
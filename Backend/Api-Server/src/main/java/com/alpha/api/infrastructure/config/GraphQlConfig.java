@@ -0,0 +1,19 @@
+package com.alpha.api.infrastructure.config;
+
+import com.alpha.api.infrastructure.graphql.PersistedDocumentProvider;
+import org.springframework.boot.graphql.autoconfigure.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * GraphQL Engine Configuration
+ * - Registers PersistedDocumentProvider (parsed document LRU + Automatic Persisted Queries)
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedDocumentCustomizer(PersistedDocumentProvider persistedDocumentProvider) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(persistedDocumentProvider));
+    }
+}
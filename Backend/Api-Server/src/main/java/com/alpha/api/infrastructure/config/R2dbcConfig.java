@@ -9,6 +9,9 @@ import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
 import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -19,6 +22,7 @@ import java.util.stream.Collectors;
  * R2DBC Configuration for Reactive Database Access
  * - PostgreSQL + pgvector support
  * - Custom converters for Vector type
+ * - Reactive transaction support (SET LOCAL scoped settings for vector search)
  */
 @Configuration
 public class R2dbcConfig extends AbstractR2dbcConfiguration {
@@ -44,6 +48,23 @@ public class R2dbcConfig extends AbstractR2dbcConfiguration {
         return new R2dbcCustomConversions(getStoreConversions(), converters);
     }
 
+    /**
+     * Reactive transaction manager bound to the R2DBC ConnectionFactory
+     */
+    @Bean
+    public ReactiveTransactionManager transactionManager() {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+
+    /**
+     * TransactionalOperator for programmatic transactions
+     * - Used by VectorSearchTuner to keep SET LOCAL + ANN query on one connection
+     */
+    @Bean
+    public TransactionalOperator transactionalOperator(ReactiveTransactionManager transactionManager) {
+        return TransactionalOperator.create(transactionManager);
+    }
+
     /**
      * Converts R2DBC PostgreSQL Vector to List<Float> for reading from DB
      * R2DBC PostgreSQL returns Vector objects for vector columns
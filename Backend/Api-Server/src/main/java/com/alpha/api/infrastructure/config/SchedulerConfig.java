@@ -0,0 +1,22 @@
+package com.alpha.api.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactor Scheduler Configuration
+ * - cpuScheduler: bounded parallel scheduler for CPU-bound stages (scoring, sorting, vector averaging)
+ * - Separate from Schedulers.parallel() (also drives timeouts) and from the Netty event loops
+ */
+@Configuration
+public class SchedulerConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler cpuScheduler(@Value("${app.workload.cpu.threads:0}") int threads) {
+        int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newParallel("search-cpu", parallelism, true);
+    }
+}
@@ -0,0 +1,134 @@
+package com.alpha.api.infrastructure.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Document;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Persisted Document Provider (Infrastructure Layer)
+ * - LRU cache of parsed + validated Documents keyed by query text (parse/validate once per document)
+ * - Automatic Persisted Queries (Apollo protocol, extensions.persistedQuery.sha256Hash):
+ *   - Hash only, registered → cached document, no query text on the wire
+ *   - Hash only, unknown → PersistedQueryNotFound (client retries with hash + query)
+ *   - Hash + query → SHA-256 verified, validated, then registered
+ * - Documents with parse/validation errors are never cached or registered
+ */
+@Slf4j
+@Component
+public class PersistedDocumentProvider implements PreparsedDocumentProvider {
+
+    private static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
+
+    private final boolean persistedQueriesEnabled;
+    private final Cache<String, PreparsedDocumentEntry> documents;
+    private final Cache<String, String> persistedQueries;
+
+    public PersistedDocumentProvider(
+            @Value("${app.graphql.document-cache.max-size:1000}") long documentCacheSize,
+            @Value("${app.graphql.persisted-queries.enabled:true}") boolean persistedQueriesEnabled,
+            @Value("${app.graphql.persisted-queries.max-size:1000}") long persistedQueriesSize) {
+        this.persistedQueriesEnabled = persistedQueriesEnabled;
+        this.documents = Caffeine.newBuilder().maximumSize(documentCacheSize).build();
+        this.persistedQueries = Caffeine.newBuilder().maximumSize(persistedQueriesSize).build();
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+
+        String hash = persistedQueriesEnabled ? persistedQueryHash(executionInput.getExtensions()) : null;
+        String query = executionInput.getQuery();
+        ExecutionInput input = executionInput;
+
+        if (hash != null) {
+            if (query == null || query.isBlank()) {
+                String registered = persistedQueries.getIfPresent(hash);
+                if (registered == null) {
+                    log.debug("Persisted query not found: hash={}", hash);
+                    return CompletableFuture.completedFuture(
+                            error("PersistedQueryNotFound", "PERSISTED_QUERY_NOT_FOUND"));
+                }
+                query = registered;
+                input = executionInput.transform(builder -> builder.query(registered));
+            } else if (!hash.equalsIgnoreCase(sha256(query))) {
+                return CompletableFuture.completedFuture(
+                        error("provided sha does not match query", "PERSISTED_QUERY_HASH_MISMATCH"));
+            }
+        }
+
+        PreparsedDocumentEntry entry = documents.getIfPresent(query);
+        if (entry == null) {
+            entry = parseAndValidateFunction.apply(input);
+            if (entry.hasErrors()) {
+                return CompletableFuture.completedFuture(entry);
+            }
+            documents.put(query, entry);
+        }
+
+        if (hash != null) {
+            persistedQueries.put(hash, query);
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    /**
+     * Registered query text for an APQ hash (null if unknown)
+     */
+    public String findPersistedQuery(String hash) {
+        return hash != null ? persistedQueries.getIfPresent(hash.toLowerCase()) : null;
+    }
+
+    /**
+     * Already parsed and validated Document for a query text (null if not cached)
+     */
+    public Document findDocument(String query) {
+        PreparsedDocumentEntry entry = documents.getIfPresent(query);
+        return entry != null ? entry.getDocument() : null;
+    }
+
+    /**
+     * APQ hash from request extensions (lowercase hex, null if absent)
+     */
+    public static String persistedQueryHash(Map<String, Object> extensions) {
+        if (extensions != null
+                && extensions.get(PERSISTED_QUERY_EXTENSION) instanceof Map<?, ?> persistedQuery
+                && persistedQuery.get(SHA256_HASH) instanceof String hash
+                && !hash.isBlank()) {
+            return hash.toLowerCase();
+        }
+        return null;
+    }
+
+    private PreparsedDocumentEntry error(String message, String code) {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                .message(message)
+                .extensions(Map.of("code", code))
+                .build());
+    }
+
+    private static String sha256(String query) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
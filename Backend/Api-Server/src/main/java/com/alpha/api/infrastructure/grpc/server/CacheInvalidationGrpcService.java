@@ -0,0 +1,85 @@
+package com.alpha.api.infrastructure.grpc.server;
+
+import com.alpha.api.application.service.CacheService;
+import com.alpha.api.application.service.SkillProjectionService;
+import com.alpha.api.application.service.SkillSuggestionService;
+import com.alpha.api.domain.skilldic.service.SkillCanonicalizationService;
+import com.alpha.api.grpc.CacheInvalidationServiceGrpc;
+import com.alpha.api.grpc.InvalidateAllRequest;
+import com.alpha.api.grpc.InvalidateCandidateRequest;
+import com.alpha.api.grpc.InvalidateRecruitRequest;
+import com.alpha.api.grpc.InvalidateResponse;
+import com.alpha.api.infrastructure.cache.GraphQlResponseCache;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.grpc.server.service.GrpcService;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * gRPC Server: Cache invalidation requests from Batch Server
+ * - InvalidateRecruitCache / InvalidateCandidateCache: targeted, drops one entity detail entry (L1 + L2)
+ * - InvalidateAllCaches: drops every cache entry (after bulk updates), then bumps the GraphQL response cache version;
+ *   the skill dictionary snapshot (search-key canonicalization), the skill suggestion index and the skill projection
+ *   (vector visualization) are reloaded as well
+ * - Port: grpc.server.port (application.yml)
+ */
+@Slf4j
+@GrpcService
+@RequiredArgsConstructor
+public class CacheInvalidationGrpcService extends CacheInvalidationServiceGrpc.CacheInvalidationServiceImplBase {
+
+    private final CacheService cacheService;
+    private final GraphQlResponseCache responseCache;
+    private final SkillCanonicalizationService skillCanonicalizationService;
+    private final SkillSuggestionService skillSuggestionService;
+    private final SkillProjectionService skillProjectionService;
+
+    @Override
+    public void invalidateRecruitCache(InvalidateRecruitRequest request, StreamObserver<InvalidateResponse> responseObserver) {
+        String recruitId = request.getRecruitId();
+        respond(Mono.fromCallable(() -> UUID.fromString(recruitId).toString()).flatMap(cacheService::invalidateRecruit),
+                "recruit " + recruitId, responseObserver);
+    }
+
+    @Override
+    public void invalidateCandidateCache(InvalidateCandidateRequest request, StreamObserver<InvalidateResponse> responseObserver) {
+        String candidateId = request.getCandidateId();
+        respond(Mono.fromCallable(() -> UUID.fromString(candidateId).toString()).flatMap(cacheService::invalidateCandidate),
+                "candidate " + candidateId, responseObserver);
+    }
+
+    @Override
+    public void invalidateAllCaches(InvalidateAllRequest request, StreamObserver<InvalidateResponse> responseObserver) {
+        log.info("[CACHE_INVALIDATE_ALL] reason: {}", request.getReason());
+        // New dictionary skills / aliases apply before the caches are rebuilt
+        skillCanonicalizationService.refresh();
+        skillSuggestionService.refresh();
+        skillProjectionService.refresh();
+        // Bump after the data caches are gone, so a new-version response is never built from stale entries
+        respond(cacheService.invalidateAll()
+                .doOnSuccess(deleted -> responseCache.bumpVersion())
+                .thenReturn(true), "all", responseObserver);
+    }
+
+    private void respond(Mono<Boolean> invalidation, String target, StreamObserver<InvalidateResponse> responseObserver) {
+        invalidation.subscribe(
+                success -> {
+                    responseObserver.onNext(InvalidateResponse.newBuilder()
+                            .setSuccess(success)
+                            .setMessage("Invalidated " + target)
+                            .setTimestamp(Instant.now().getEpochSecond())
+                            .build());
+                    responseObserver.onCompleted();
+                },
+                error -> {
+                    log.error("[CACHE_INVALIDATE_ERROR] target: {}, error: {}", target, error.getMessage());
+                    Status status = error instanceof IllegalArgumentException ? Status.INVALID_ARGUMENT : Status.INTERNAL;
+                    responseObserver.onError(status.withDescription(error.getMessage()).asException());
+                });
+    }
+}
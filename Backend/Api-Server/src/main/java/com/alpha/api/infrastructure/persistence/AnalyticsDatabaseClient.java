@@ -0,0 +1,83 @@
+package com.alpha.api.infrastructure.persistence;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Analytics Database Client (Infrastructure Layer)
+ * - Dedicated R2DBC pool for heavy analytics (searchStatistics estimates, dashboard, topCompanies)
+ * - Same database as spring.r2dbc, separate connections: analytics cannot starve the search pool
+ * - Not exposed as a ConnectionFactory / DatabaseClient bean (keeps Boot's primary pool auto-configured)
+ * - execute(): query in its own transaction with the class statement_timeout and cancel propagation (StatementGuard)
+ */
+@Slf4j
+@Component
+public class AnalyticsDatabaseClient {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final StatementGuard statementGuard;
+
+    public AnalyticsDatabaseClient(
+            StatementGuard statementGuard,
+            @Value("${spring.r2dbc.url}") String url,
+            @Value("${spring.r2dbc.username}") String username,
+            @Value("${spring.r2dbc.password}") String password,
+            @Value("${app.analytics.pool.initial-size:1}") int initialSize,
+            @Value("${app.analytics.pool.max-size:4}") int maxSize,
+            @Value("${app.analytics.pool.max-acquire-ms:2000}") long maxAcquireMs) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("analytics")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(Duration.ofMinutes(30))
+                .maxAcquireTime(Duration.ofMillis(maxAcquireMs))
+                .validationQuery("SELECT 1")
+                .build());
+        this.databaseClient = DatabaseClient.create(pool);
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(pool));
+        this.statementGuard = statementGuard;
+
+        log.info("Analytics R2DBC pool created - maxSize: {}, maxAcquire: {}ms", maxSize, maxAcquireMs);
+    }
+
+    public DatabaseClient client() {
+        return databaseClient;
+    }
+
+    /**
+     * Run a query built on client() under the class statement_timeout, cancelled on the server if the caller goes away
+     */
+    public <T> Flux<T> execute(QueryClass queryClass, Flux<T> query) {
+        return statementGuard.execute(queryClass, databaseClient, transactionalOperator, List.of(), query);
+    }
+
+    public <T> Mono<T> execute(QueryClass queryClass, Mono<T> query) {
+        return execute(queryClass, Flux.from(query)).singleOrEmpty();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.dispose();
+    }
+}
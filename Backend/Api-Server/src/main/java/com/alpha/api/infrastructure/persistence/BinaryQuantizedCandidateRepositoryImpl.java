@@ -0,0 +1,104 @@
+package com.alpha.api.infrastructure.persistence;
+
+import com.alpha.api.application.dto.CandidateSearchResult;
+import com.alpha.api.domain.candidate.repository.CandidateSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Candidate Search Repository - Binary Quantized Prefilter (Adapter - Infrastructure Layer)
+ * - Alternate CandidateSearchRepository, enabled with app.vector.search.implementation=binary
+ * - Stage 1: HNSW over skills_vector_bit (bit_hamming_ops, 1 bit per dimension) → candidatePool rows
+ * - Stage 2: exact inner product on the full-dimension column (vector or halfvec), threshold filter, offset/limit
+ * - Both stages in one statement (no extra round trip)
+ * - Match count estimate delegated to the default implementation (not an ANN query)
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "app.vector.search.implementation", havingValue = "binary")
+@RequiredArgsConstructor
+public class BinaryQuantizedCandidateRepositoryImpl implements CandidateSearchRepository {
+
+    private final DatabaseClient databaseClient;
+    private final VectorSearchTuner vectorSearchTuner;
+    private final HalfvecReadRouter halfvecReadRouter;
+    private final CandidateCustomRepositoryImpl defaultRepository;
+
+    @Override
+    public Flux<CandidateSearchResult> findSimilarByVectorWithScore(String queryVector, Double similarityThreshold, Integer limit) {
+        return findSimilarByVectorWithScoreAndOffset(queryVector, similarityThreshold, 0, limit);
+    }
+
+    @Override
+    public Mono<Long> estimateMatchCountByVector(String queryVector, Double similarityThreshold) {
+        return defaultRepository.estimateMatchCountByVector(queryVector, similarityThreshold);
+    }
+
+    @Override
+    public Flux<CandidateSearchResult> findSimilarByVectorWithScoreAndOffset(
+            String queryVector,
+            Double similarityThreshold,
+            Integer offset,
+            Integer limit
+    ) {
+        return halfvecReadRouter.read("candidate",
+                storage -> findByHammingThenRerank(queryVector, similarityThreshold, offset, limit, storage),
+                result -> result.getCandidate().getCandidateId());
+    }
+
+    /**
+     * Hamming candidate generation + exact re-rank (single statement)
+     * - Query bits built in SQL (binary_quantize) from the full query vector
+     *
+     * @param queryVector Query vector string (full dimension, L2-normalized)
+     * @param similarityThreshold Minimum similarity score (0.0 to 1.0)
+     * @param offset Number of results to skip
+     * @param limit Maximum number of results to return
+     * @param storage Full-dimension column used for re-ranking
+     * @return Flux of CandidateSearchResult ordered by exact similarity
+     */
+    private Flux<CandidateSearchResult> findByHammingThenRerank(
+            String queryVector,
+            Double similarityThreshold,
+            Integer offset,
+            Integer limit,
+            VectorStorage storage
+    ) {
+        String sql = """
+            WITH candidates AS (
+                SELECT cse.candidate_id, cse.%1$s AS full_vector, cse.skills
+                FROM candidate_skills_embedding cse
+                WHERE cse.skills_vector_bit IS NOT NULL
+                ORDER BY cse.skills_vector_bit <~> binary_quantize(CAST(:queryVector AS vector))
+                LIMIT :candidatePool
+            )
+            SELECT c.candidate_id, c.position_category, c.experience_years, c.resume_headline,
+                   c.created_at, c.updated_at,
+                   cv.skills,
+                   (-(cv.full_vector <#> CAST(:queryVector AS %2$s))) AS similarity_score
+            FROM candidates cv
+            INNER JOIN candidate c ON c.candidate_id = cv.candidate_id
+            WHERE (cv.full_vector <#> CAST(:queryVector AS %2$s)) <= -:similarityThreshold
+            ORDER BY cv.full_vector <#> CAST(:queryVector AS %2$s)
+            OFFSET :offset
+            LIMIT :limit
+            """.formatted(storage.column(), storage.castType());
+
+        int window = offset + limit;
+        int candidatePool = vectorSearchTuner.binaryCandidatePool(window);
+
+        return vectorSearchTuner.withTunedScan(storage.tuningKey("candidate:binary"), candidatePool, window, databaseClient.sql(sql)
+                .bind("queryVector", queryVector)
+                .bind("candidatePool", candidatePool)
+                .bind("similarityThreshold", similarityThreshold)
+                .bind("offset", offset)
+                .bind("limit", limit)
+                .map(defaultRepository::toSearchResult)
+                .all());
+    }
+}
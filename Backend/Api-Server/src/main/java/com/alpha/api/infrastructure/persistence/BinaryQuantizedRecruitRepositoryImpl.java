@@ -0,0 +1,104 @@
+package com.alpha.api.infrastructure.persistence;
+
+import com.alpha.api.application.dto.RecruitSearchResult;
+import com.alpha.api.domain.recruit.repository.RecruitSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Recruit Search Repository - Binary Quantized Prefilter (Adapter - Infrastructure Layer)
+ * - Alternate RecruitSearchRepository, enabled with app.vector.search.implementation=binary
+ * - Stage 1: HNSW over skills_vector_bit (bit_hamming_ops, 1 bit per dimension) → candidatePool rows
+ * - Stage 2: exact inner product on the full-dimension column (vector or halfvec), threshold filter, offset/limit
+ * - Both stages in one statement (no extra round trip)
+ * - Match count estimate delegated to the default implementation (not an ANN query)
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "app.vector.search.implementation", havingValue = "binary")
+@RequiredArgsConstructor
+public class BinaryQuantizedRecruitRepositoryImpl implements RecruitSearchRepository {
+
+    private final DatabaseClient databaseClient;
+    private final VectorSearchTuner vectorSearchTuner;
+    private final HalfvecReadRouter halfvecReadRouter;
+    private final RecruitCustomRepositoryImpl defaultRepository;
+
+    @Override
+    public Flux<RecruitSearchResult> findSimilarByVectorWithScore(String queryVector, Double similarityThreshold, Integer limit) {
+        return findSimilarByVectorWithScoreAndOffset(queryVector, similarityThreshold, 0, limit);
+    }
+
+    @Override
+    public Mono<Long> estimateMatchCountByVector(String queryVector, Double similarityThreshold) {
+        return defaultRepository.estimateMatchCountByVector(queryVector, similarityThreshold);
+    }
+
+    @Override
+    public Flux<RecruitSearchResult> findSimilarByVectorWithScoreAndOffset(
+            String queryVector,
+            Double similarityThreshold,
+            Integer offset,
+            Integer limit
+    ) {
+        return halfvecReadRouter.read("recruit",
+                storage -> findByHammingThenRerank(queryVector, similarityThreshold, offset, limit, storage),
+                result -> result.getRecruit().getRecruitId());
+    }
+
+    /**
+     * Hamming candidate generation + exact re-rank (single statement)
+     * - Query bits built in SQL (binary_quantize) from the full query vector
+     *
+     * @param queryVector Query vector string (full dimension, L2-normalized)
+     * @param similarityThreshold Minimum similarity score (0.0 to 1.0)
+     * @param offset Number of results to skip
+     * @param limit Maximum number of results to return
+     * @param storage Full-dimension column used for re-ranking
+     * @return Flux of RecruitSearchResult ordered by exact similarity
+     */
+    private Flux<RecruitSearchResult> findByHammingThenRerank(
+            String queryVector,
+            Double similarityThreshold,
+            Integer offset,
+            Integer limit,
+            VectorStorage storage
+    ) {
+        String sql = """
+            WITH candidates AS (
+                SELECT rse.recruit_id, rse.%1$s AS full_vector, rse.skills
+                FROM recruit_skills_embedding rse
+                WHERE rse.skills_vector_bit IS NOT NULL
+                ORDER BY rse.skills_vector_bit <~> binary_quantize(CAST(:queryVector AS vector))
+                LIMIT :candidatePool
+            )
+            SELECT r.recruit_id, r.position, r.company_name, r.experience_years,
+                   r.primary_keyword, r.english_level, r.published_at, r.created_at, r.updated_at,
+                   cv.skills,
+                   (-(cv.full_vector <#> CAST(:queryVector AS %2$s))) AS similarity_score
+            FROM candidates cv
+            INNER JOIN recruit r ON r.recruit_id = cv.recruit_id
+            WHERE (cv.full_vector <#> CAST(:queryVector AS %2$s)) <= -:similarityThreshold
+            ORDER BY cv.full_vector <#> CAST(:queryVector AS %2$s)
+            OFFSET :offset
+            LIMIT :limit
+            """.formatted(storage.column(), storage.castType());
+
+        int window = offset + limit;
+        int candidatePool = vectorSearchTuner.binaryCandidatePool(window);
+
+        return vectorSearchTuner.withTunedScan(storage.tuningKey("recruit:binary"), candidatePool, window, databaseClient.sql(sql)
+                .bind("queryVector", queryVector)
+                .bind("candidatePool", candidatePool)
+                .bind("similarityThreshold", similarityThreshold)
+                .bind("offset", offset)
+                .bind("limit", limit)
+                .map(defaultRepository::toSearchResult)
+                .all());
+    }
+}
@@ -0,0 +1,111 @@
+package com.alpha.api.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * halfvec Read Router (Infrastructure Layer)
+ * - Routes ANN reads between VECTOR and HALFVEC columns during the halfvec migration
+ * - Modes (app.vector.halfvec.read-mode):
+ *   - off: serve from skills_vector
+ *   - shadow: serve from skills_vector, re-run a sample on skills_vector_half and compare rankings
+ *   - halfvec: serve from skills_vector_half (after cutover)
+ * - Shadow comparison runs after the primary result is emitted and never affects the response
+ * - Both storages go through the same pipeline (coarse stage + re-rank, or direct HNSW; VectorSearchTuner),
+ *   so overlap@k reflects half-precision error only
+ */
+@Slf4j
+@Component
+public class HalfvecReadRouter {
+
+    @Value("${app.vector.halfvec.read-mode:off}")
+    private String readMode;
+
+    @Value("${app.vector.halfvec.shadow-sample-rate:0.1}")
+    private double shadowSampleRate;
+
+    private final Map<String, ShadowStats> shadowStats = new ConcurrentHashMap<>();
+
+    /**
+     * Execute an ANN read according to the configured mode
+     *
+     * @param domain Domain name ("recruit" / "candidate"), used for stats and logs
+     * @param query  Query factory per storage
+     * @param idOf   Extracts the entity id used to compare rankings
+     * @return Results from the serving storage
+     */
+    public <T> Flux<T> read(String domain, Function<VectorStorage, Flux<T>> query, Function<T, UUID> idOf) {
+        return switch (readMode) {
+            case "halfvec" -> query.apply(VectorStorage.HALF);
+            case "shadow" -> query.apply(VectorStorage.FULL)
+                    .collectList()
+                    .doOnNext(primary -> {
+                        if (ThreadLocalRandom.current().nextDouble() < shadowSampleRate) {
+                            compareInBackground(domain, primary.stream().map(idOf).toList(),
+                                    query.apply(VectorStorage.HALF).map(idOf));
+                        }
+                    })
+                    .flatMapIterable(Function.identity());
+            default -> query.apply(VectorStorage.FULL);
+        };
+    }
+
+    /**
+     * Shadow statistics per domain: sample count and mean overlap@k
+     */
+    public Map<String, ShadowStats> getShadowStats() {
+        return Map.copyOf(shadowStats);
+    }
+
+    private void compareInBackground(String domain, List<UUID> primaryIds, Flux<UUID> shadowIds) {
+        shadowIds.collectList().subscribe(
+                shadow -> record(domain, primaryIds, shadow),
+                error -> log.warn("[HalfvecShadow] domain={} shadow read failed: {}", domain, error.getMessage())
+        );
+    }
+
+    private void record(String domain, List<UUID> primaryIds, List<UUID> shadowIds) {
+        Set<UUID> shadowSet = new HashSet<>(shadowIds);
+        long common = primaryIds.stream().filter(shadowSet::contains).count();
+        double overlap = primaryIds.isEmpty() ? (shadowIds.isEmpty() ? 1.0 : 0.0) : (double) common / primaryIds.size();
+        boolean sameTop = !primaryIds.isEmpty() && !shadowIds.isEmpty() && primaryIds.get(0).equals(shadowIds.get(0));
+
+        ShadowStats stats = shadowStats.computeIfAbsent(domain, key -> new ShadowStats());
+        stats.samples.increment();
+        stats.overlapSum.add(overlap);
+
+        log.info("[HalfvecShadow] domain={}, primary={}, shadow={}, overlap@k={}, sameTop={}, meanOverlap={} ({} samples)",
+                domain, primaryIds.size(), shadowIds.size(), String.format("%.3f", overlap), sameTop,
+                String.format("%.3f", stats.meanOverlap()), stats.samples.sum());
+    }
+
+    /**
+     * Running shadow statistics
+     */
+    public static class ShadowStats {
+        private final LongAdder samples = new LongAdder();
+        private final DoubleAdder overlapSum = new DoubleAdder();
+
+        public long samples() {
+            return samples.sum();
+        }
+
+        public double meanOverlap() {
+            long count = samples.sum();
+            return count == 0 ? 0.0 : overlapSum.sum() / count;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.alpha.api.infrastructure.persistence;
+
+/**
+ * Query classes with their own server-side statement_timeout (StatementGuard)
+ * - SEARCH: ANN queries (VectorSearchTuner, primary pool)
+ * - STATISTICS: sampled match-count estimates (analytics pool)
+ * - DASHBOARD: dashboardData / topCompanies (analytics pool)
+ */
+public enum QueryClass {
+    SEARCH,
+    STATISTICS,
+    DASHBOARD;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
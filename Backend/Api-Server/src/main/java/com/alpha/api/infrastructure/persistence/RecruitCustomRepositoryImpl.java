@@ -3,16 +3,16 @@ package com.alpha.api.infrastructure.persistence;
 import com.alpha.api.application.dto.RecruitSearchResult;
 import com.alpha.api.domain.recruit.entity.Recruit;
 import com.alpha.api.domain.recruit.repository.RecruitSearchRepository;
-import com.alpha.api.presentation.graphql.type.SearchStatisticsResult;
-import com.alpha.api.presentation.graphql.type.SkillFrequency;
+import io.r2dbc.spi.Readable;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,147 +20,70 @@ import java.util.UUID;
  * Recruit Search Repository Implementation (Adapter - Infrastructure Layer)
  * - Implements RecruitSearchRepository (Port) using R2DBC DatabaseClient
  * - Custom implementation for pgvector similarity search
+ * - Inner product (<#>) on L2-normalized vectors: similarity = -(a <#> b)
  * - Maps similarity_score from query result to DTO
+ * - ANN queries run with per-query hnsw.ef_search (VectorSearchTuner)
+ * - VECTOR / HALFVEC column selected by HalfvecReadRouter (off / shadow / halfvec)
  */
 @Repository
 @RequiredArgsConstructor
 public class RecruitCustomRepositoryImpl implements RecruitSearchRepository {
 
     private final DatabaseClient databaseClient;
+    private final AnalyticsDatabaseClient analyticsDatabaseClient;
+    private final VectorSearchTuner vectorSearchTuner;
+    private final HalfvecReadRouter halfvecReadRouter;
+
+    @Value("${app.vector.statistics.sample-percent:2.0}")
+    private double statisticsSamplePercent;
 
     @Override
     public Flux<RecruitSearchResult> findSimilarByVectorWithScore(String queryVector, Double similarityThreshold, Integer limit) {
-        String sql = """
-            SELECT r.recruit_id, r.position, r.company_name, r.experience_years,
-                   r.primary_keyword, r.english_level, r.published_at, r.created_at, r.updated_at,
-                   (1 - (rse.skills_vector <=> CAST(:queryVector AS vector))) AS similarity_score
-            FROM recruit r
-            INNER JOIN recruit_skills_embedding rse ON r.recruit_id = rse.recruit_id
-            WHERE (1 - (rse.skills_vector <=> CAST(:queryVector AS vector))) >= :similarityThreshold
-              AND rse.skills_vector IS NOT NULL
-            ORDER BY rse.skills_vector <=> CAST(:queryVector AS vector)    
-            LIMIT :limit
-            """;
-        return databaseClient.sql(sql)
-                .bind("queryVector", queryVector)
-                .bind("similarityThreshold", similarityThreshold)
-                .bind("limit", limit)
-                .map(row -> {
-                    // Map Recruit entity
-                    Recruit recruit = Recruit.builder()
-                            .recruitId(row.get("recruit_id", UUID.class))
-                            .position(row.get("position", String.class))
-                            .companyName(row.get("company_name", String.class))
-                            .experienceYears(row.get("experience_years", Integer.class))
-                            .primaryKeyword(row.get("primary_keyword", String.class))
-                            .englishLevel(row.get("english_level", String.class))
-                            .publishedAt(row.get("published_at", OffsetDateTime.class))
-                            .createdAt(row.get("created_at", OffsetDateTime.class))
-                            .updatedAt(row.get("updated_at", OffsetDateTime.class))
-                            .build();
-
-                    // Map similarity score
-                    Double similarityScore = row.get("similarity_score", Double.class);
-
-                    // Build DTO
-                    return RecruitSearchResult.builder()
-                            .recruit(recruit)
-                            .similarityScore(similarityScore)
-                            .build();
-                })
-                .all();
+        return halfvecReadRouter.read("recruit",
+                storage -> findSimilar(queryVector, similarityThreshold, 0, limit, storage),
+                result -> result.getRecruit().getRecruitId());
     }
 
     /**
-     * Find search statistics by vector similarity (optimized single query)
-     * - Uses CTE + GROUP BY for efficient aggregation
-     * - Returns topSkills + totalCount in one query (eliminates N+1 problem)
-     * - Performance: 52,501 queries → 1 query
+     * Estimate the number of recruits above the similarity threshold (sampled)
+     * - TABLESAMPLE SYSTEM reads only sample-percent of the pages (no full-table distance scan)
+     * - Matched fraction in the sample × planner row estimate (pg_class.reltuples)
+     * - Returns 0 when the sample is empty (small tables); callers fall back to the ANN candidate count
+     * - Analytics pool, QueryClass.STATISTICS statement_timeout, cancelled on the server with the caller
      *
      * @param queryVector Query vector string
      * @param similarityThreshold Minimum similarity score (0.0 to 1.0)
-     * @param limit Maximum number of top skills to return
-     * @return Mono of SearchStatisticsResult
+     * @return Mono of estimated match count
      */
     @Override
-    public Mono<SearchStatisticsResult> findSearchStatisticsByVector(
-            String queryVector,
-            Double similarityThreshold,
-            Integer limit
-    ) {
+    public Mono<Long> estimateMatchCountByVector(String queryVector, Double similarityThreshold) {
         String sql = """
-            WITH matched_recruits AS (
-                SELECT r.recruit_id
-                FROM recruit r
-                INNER JOIN recruit_skills_embedding rse ON r.recruit_id = rse.recruit_id
-                WHERE (1 - (rse.skills_vector <=> CAST(:queryVector AS vector))) >= :threshold
-                  AND rse.skills_vector IS NOT NULL
-            ),
-            total AS (
-                SELECT COUNT(DISTINCT recruit_id) AS total_count FROM matched_recruits
-            ),
-            skill_counts AS (
-                SELECT rs.skill, COUNT(*) AS count
-                FROM matched_recruits mr
-                INNER JOIN recruit_skill rs ON mr.recruit_id = rs.recruit_id
-                GROUP BY rs.skill
-                ORDER BY count DESC
-                LIMIT :limit
-            ),
-            total_skills AS (
-                SELECT SUM(count) AS sum_count FROM skill_counts
+            WITH sampled AS (
+                SELECT (rse.skills_vector <#> CAST(:queryVector AS vector)) <= -:threshold AS matched
+                FROM recruit_skills_embedding rse TABLESAMPLE SYSTEM (:samplePercent)
+                WHERE rse.skills_vector IS NOT NULL
             )
-            SELECT
-                sc.skill,
-                sc.count,
-                CASE WHEN ts.sum_count > 0 THEN (sc.count * 100.0 / ts.sum_count) ELSE 0.0 END AS percentage,
-                t.total_count
-            FROM skill_counts sc
-            CROSS JOIN total t
-            CROSS JOIN total_skills ts
-            ORDER BY sc.count DESC
+            SELECT COUNT(*) AS sampled_count,
+                   COUNT(*) FILTER (WHERE matched) AS matched_count,
+                   (SELECT GREATEST(reltuples, 0)::bigint FROM pg_class
+                    WHERE oid = 'recruit_skills_embedding'::regclass) AS total_rows
+            FROM sampled
             """;
 
-        return databaseClient.sql(sql)
+        return analyticsDatabaseClient.execute(QueryClass.STATISTICS, analyticsDatabaseClient.client().sql(sql)
                 .bind("queryVector", queryVector)
                 .bind("threshold", similarityThreshold)
-                .bind("limit", limit)
+                .bind("samplePercent", statisticsSamplePercent)
                 .map(row -> {
-                    SkillFrequency skillFrequency = SkillFrequency.builder()
-                            .skill(row.get("skill", String.class))
-                            .count(row.get("count", Long.class).intValue())
-                            .percentage(row.get("percentage", Double.class))
-                            .build();
-                    Integer totalCount = row.get("total_count", Long.class).intValue();
-                    return new SkillFrequencyWithTotal(skillFrequency, totalCount);
+                    long sampled = row.get("sampled_count", Long.class);
+                    long matched = row.get("matched_count", Long.class);
+                    long totalRows = row.get("total_rows", Long.class);
+                    return sampled == 0 ? 0L : Math.round((double) matched / sampled * totalRows);
                 })
-                .all()
-                .collectList()
-                .map(results -> {
-                    if (results.isEmpty()) {
-                        return SearchStatisticsResult.builder()
-                                .topSkills(new ArrayList<>())
-                                .totalCount(0)
-                                .build();
-                    }
-
-                    List<SkillFrequency> topSkills = results.stream()
-                            .map(SkillFrequencyWithTotal::skillFrequency)
-                            .toList();
-                    Integer totalCount = results.get(0).totalCount();
-
-                    return SearchStatisticsResult.builder()
-                            .topSkills(topSkills)
-                            .totalCount(totalCount)
-                            .build();
-                });
+                .one())
+                .defaultIfEmpty(0L);
     }
 
-    /**
-     * Helper record to hold SkillFrequency with totalCount from single query
-     */
-    private record SkillFrequencyWithTotal(SkillFrequency skillFrequency, Integer totalCount) {}
-
     /**
      * Find Recruits by similar skills with pagination (offset + limit)
      * - Used for pagination beyond cached results (offset >= 500)
@@ -180,44 +103,126 @@ public class RecruitCustomRepositoryImpl implements RecruitSearchRepository {
             Integer offset,
             Integer limit
     ) {
+        return halfvecReadRouter.read("recruit",
+                storage -> findSimilar(queryVector, similarityThreshold, offset, limit, storage),
+                result -> result.getRecruit().getRecruitId());
+    }
+
+    /**
+     * ANN search against the given vector storage
+     * - Coarse enabled: truncated-prefix candidates re-ranked on the storage column (FULL and HALF alike)
+     * - Otherwise: direct HNSW search on the storage column
+     */
+    private Flux<RecruitSearchResult> findSimilar(
+            String queryVector,
+            Double similarityThreshold,
+            Integer offset,
+            Integer limit,
+            VectorStorage storage
+    ) {
+        if (vectorSearchTuner.usesCoarseSearch()) {
+            return findByCoarseVectorThenRerank(queryVector, similarityThreshold, offset, limit, storage);
+        }
+
         String sql = """
             SELECT r.recruit_id, r.position, r.company_name, r.experience_years,
                    r.primary_keyword, r.english_level, r.published_at, r.created_at, r.updated_at,
-                   (1 - (rse.skills_vector <=> CAST(:queryVector AS vector))) AS similarity_score
+                   rse.skills,
+                   (-(rse.%1$s <#> CAST(:queryVector AS %2$s))) AS similarity_score
             FROM recruit r
             INNER JOIN recruit_skills_embedding rse ON r.recruit_id = rse.recruit_id
-            WHERE (1 - (rse.skills_vector <=> CAST(:queryVector AS vector))) >= :similarityThreshold
-              AND rse.skills_vector IS NOT NULL
-            ORDER BY rse.skills_vector <=> CAST(:queryVector AS vector)
+            WHERE (rse.%1$s <#> CAST(:queryVector AS %2$s)) <= -:similarityThreshold
+              AND rse.%1$s IS NOT NULL
+            ORDER BY rse.%1$s <#> CAST(:queryVector AS %2$s)
             OFFSET :offset
             LIMIT :limit
-            """;
+            """.formatted(storage.column(), storage.castType());
 
-        return databaseClient.sql(sql)
+        return vectorSearchTuner.withTunedScan(storage.tuningKey("recruit"), offset + limit, databaseClient.sql(sql)
                 .bind("queryVector", queryVector)
                 .bind("similarityThreshold", similarityThreshold)
                 .bind("offset", offset)
                 .bind("limit", limit)
-                .map(row -> {
-                    Recruit recruit = Recruit.builder()
-                            .recruitId(row.get("recruit_id", UUID.class))
-                            .position(row.get("position", String.class))
-                            .companyName(row.get("company_name", String.class))
-                            .experienceYears(row.get("experience_years", Integer.class))
-                            .primaryKeyword(row.get("primary_keyword", String.class))
-                            .englishLevel(row.get("english_level", String.class))
-                            .publishedAt(row.get("published_at", OffsetDateTime.class))
-                            .createdAt(row.get("created_at", OffsetDateTime.class))
-                            .updatedAt(row.get("updated_at", OffsetDateTime.class))
-                            .build();
-
-                    Double similarityScore = row.get("similarity_score", Double.class);
-
-                    return RecruitSearchResult.builder()
-                            .recruit(recruit)
-                            .similarityScore(similarityScore)
-                            .build();
-                })
-                .all();
+                .map(this::toSearchResult)
+                .all());
+    }
+
+    /**
+     * Two-stage search: coarse candidate generation + full-dimension re-rank (single statement)
+     * - Stage 1: HNSW over skills_vector_coarse (truncated prefix, L2-normalized) → candidatePool rows
+     * - Stage 2: exact inner product on the full-dimension column, threshold filter, offset/limit
+     * - Query prefix built in SQL (subvector + l2_normalize) from the full query vector
+     *
+     * @param queryVector Query vector string (full dimension, L2-normalized)
+     * @param similarityThreshold Minimum similarity score (0.0 to 1.0)
+     * @param offset Number of results to skip
+     * @param limit Maximum number of results to return
+     * @param storage Full-dimension column used for re-ranking
+     * @return Flux of RecruitSearchResult ordered by full-dimension similarity
+     */
+    private Flux<RecruitSearchResult> findByCoarseVectorThenRerank(
+            String queryVector,
+            Double similarityThreshold,
+            Integer offset,
+            Integer limit,
+            VectorStorage storage
+    ) {
+        String sql = """
+            WITH coarse AS (
+                SELECT rse.recruit_id, rse.%1$s AS full_vector, rse.skills
+                FROM recruit_skills_embedding rse
+                WHERE rse.skills_vector_coarse IS NOT NULL
+                ORDER BY rse.skills_vector_coarse <#> l2_normalize(subvector(CAST(:queryVector AS vector), 1, :coarseDimension))
+                LIMIT :candidatePool
+            )
+            SELECT r.recruit_id, r.position, r.company_name, r.experience_years,
+                   r.primary_keyword, r.english_level, r.published_at, r.created_at, r.updated_at,
+                   cv.skills,
+                   (-(cv.full_vector <#> CAST(:queryVector AS %2$s))) AS similarity_score
+            FROM coarse cv
+            INNER JOIN recruit r ON r.recruit_id = cv.recruit_id
+            WHERE (cv.full_vector <#> CAST(:queryVector AS %2$s)) <= -:similarityThreshold
+            ORDER BY cv.full_vector <#> CAST(:queryVector AS %2$s)
+            OFFSET :offset
+            LIMIT :limit
+            """.formatted(storage.column(), storage.castType());
+
+        int window = offset + limit;
+        int candidatePool = vectorSearchTuner.coarseCandidatePool(window);
+
+        return vectorSearchTuner.withTunedScan(storage.tuningKey("recruit"), candidatePool, window, databaseClient.sql(sql)
+                .bind("queryVector", queryVector)
+                .bind("coarseDimension", vectorSearchTuner.getCoarseDimension())
+                .bind("candidatePool", candidatePool)
+                .bind("similarityThreshold", similarityThreshold)
+                .bind("offset", offset)
+                .bind("limit", limit)
+                .map(this::toSearchResult)
+                .all());
+    }
+
+    /**
+     * Map a search row (entity columns + skills + similarity_score) to RecruitSearchResult
+     */
+    RecruitSearchResult toSearchResult(Readable row) {
+        Recruit recruit = Recruit.builder()
+                .recruitId(row.get("recruit_id", UUID.class))
+                .position(row.get("position", String.class))
+                .companyName(row.get("company_name", String.class))
+                .experienceYears(row.get("experience_years", Integer.class))
+                .primaryKeyword(row.get("primary_keyword", String.class))
+                .englishLevel(row.get("english_level", String.class))
+                .publishedAt(row.get("published_at", OffsetDateTime.class))
+                .createdAt(row.get("created_at", OffsetDateTime.class))
+                .updatedAt(row.get("updated_at", OffsetDateTime.class))
+                .build();
+
+        String[] skills = row.get("skills", String[].class);
+
+        return RecruitSearchResult.builder()
+                .recruit(recruit)
+                .similarityScore(row.get("similarity_score", Double.class))
+                .skills(skills != null ? Arrays.asList(skills) : List.of())
+                .build();
     }
 }
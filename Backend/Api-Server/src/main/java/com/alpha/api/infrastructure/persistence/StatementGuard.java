@@ -0,0 +1,123 @@
+package com.alpha.api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statement Guard (Infrastructure Layer)
+ * - Bounds and cancels heavy SQL on the DatabaseClient paths (ANN search, statistics, dashboard)
+ * - One transaction per query: SET LOCAL statement_timeout for the query class, caller's SET LOCALs, then the query
+ *   - Timeout is enforced by Postgres even if nobody is listening any more
+ *   - SET LOCAL ends with the transaction; pooled connections keep their defaults
+ * - Downstream cancel (client gone, deadline hit) → Postgres CancelRequest for the running statement
+ *   - Unsubscribing alone only stops reading rows; the backend would finish the scan
+ *   - The physical connection is closed right after the CancelRequest is issued, never returned to the pool live:
+ *     the CancelRequest is unacknowledged and could otherwise land on the next borrower's statement
+ *   - The pool's validation on acquire (spring.r2dbc.pool.validation-query) evicts the closed connection
+ * - Metric: db.statement.cancelled (tag query_class)
+ */
+@Slf4j
+@Component
+public class StatementGuard {
+
+    private final Map<QueryClass, Long> timeoutsMs = new EnumMap<>(QueryClass.class);
+    private final Map<QueryClass, Counter> cancelledCounters = new EnumMap<>(QueryClass.class);
+
+    public StatementGuard(
+            MeterRegistry meterRegistry,
+            @Value("${app.db.statement-timeout.search-ms:3000}") long searchTimeoutMs,
+            @Value("${app.db.statement-timeout.statistics-ms:5000}") long statisticsTimeoutMs,
+            @Value("${app.db.statement-timeout.dashboard-ms:10000}") long dashboardTimeoutMs) {
+        timeoutsMs.put(QueryClass.SEARCH, searchTimeoutMs);
+        timeoutsMs.put(QueryClass.STATISTICS, statisticsTimeoutMs);
+        timeoutsMs.put(QueryClass.DASHBOARD, dashboardTimeoutMs);
+        for (QueryClass queryClass : QueryClass.values()) {
+            cancelledCounters.put(queryClass, Counter.builder("db.statement.cancelled")
+                    .tag("query_class", queryClass.tag())
+                    .description("In-flight statements cancelled after the subscriber went away")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Run a query under the class timeout with cancel propagation
+     *
+     * @param queryClass Query class (selects statement_timeout)
+     * @param databaseClient Client the query was built on
+     * @param transactionalOperator Transaction operator of the same ConnectionFactory
+     * @param settings Extra SET LOCAL statements (may be empty)
+     * @param query Query built on databaseClient
+     * @return Query results
+     */
+    public <T> Flux<T> execute(
+            QueryClass queryClass,
+            DatabaseClient databaseClient,
+            TransactionalOperator transactionalOperator,
+            List<String> settings,
+            Flux<T> query
+    ) {
+        Flux<T> guarded = databaseClient.inConnectionMany(connection -> Flux.fromIterable(settingsFor(queryClass, settings))
+                .concatMap(statement -> databaseClient.sql(statement).then())
+                .thenMany(query)
+                .doOnCancel(() -> cancel(queryClass, connection)));
+
+        return transactionalOperator.transactional(guarded);
+    }
+
+    /**
+     * statement_timeout first, then the caller's settings
+     * (values are integers/whitelisted, so inlined — SET does not accept bind params)
+     */
+    List<String> settingsFor(QueryClass queryClass, List<String> settings) {
+        List<String> statements = new ArrayList<>(settings.size() + 1);
+        statements.add("SET LOCAL statement_timeout = " + timeoutsMs.get(queryClass));
+        statements.addAll(settings);
+        return statements;
+    }
+
+    /**
+     * Send CancelRequest on a separate socket, then close the physical connection
+     * - Cancel subscribed first (reads the backend key before close); statement_timeout is the backstop
+     * - Close is issued before the transaction cleanup can release the connection, so it never serves another query
+     */
+    void cancel(QueryClass queryClass, Connection connection) {
+        Connection target = connection;
+        while (!(target instanceof PostgresqlConnection) && target instanceof Wrapped<?> wrapped
+                && wrapped.unwrap() instanceof Connection inner && inner != target) {
+            target = inner;
+        }
+
+        if (!(target instanceof PostgresqlConnection postgresqlConnection)) {
+            log.debug("Cancel skipped - not a Postgres connection: {}", connection.getClass().getName());
+            return;
+        }
+
+        cancelledCounters.get(queryClass).increment();
+        postgresqlConnection.cancelRequest()
+                .subscribe(
+                        unused -> { },
+                        error -> log.debug("CancelRequest failed - queryClass: {}, error: {}",
+                                queryClass.tag(), error.getMessage()),
+                        () -> log.debug("CancelRequest sent - queryClass: {}", queryClass.tag()));
+        Mono.from(postgresqlConnection.close())
+                .subscribe(
+                        unused -> { },
+                        error -> log.debug("Close after cancel failed - queryClass: {}, error: {}",
+                                queryClass.tag(), error.getMessage()));
+    }
+}
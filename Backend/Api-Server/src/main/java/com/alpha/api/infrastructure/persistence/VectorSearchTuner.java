@@ -0,0 +1,229 @@
+package com.alpha.api.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-query HNSW scan tuning (Infrastructure Layer)
+ * - Runs ANN queries inside a transaction with SET LOCAL hnsw.ef_search / iterative scan
+ * - ef_search derived from requested window (offset + limit) × per-domain factor
+ * - Feedback controller adjusts the factor against a latency budget:
+ *   - Short result (returned < window) within budget → widen the beam
+ *   - Over budget → narrow the beam
+ * - Session default (ef_search = 40) is never touched; SET LOCAL ends with the transaction
+ * - Transaction, statement_timeout (QueryClass.SEARCH) and cancel propagation via StatementGuard
+ * - Coarse search settings (truncated-prefix candidate generation + full-dimension re-rank)
+ * - Binary prefilter settings (Hamming candidate generation + exact re-rank)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VectorSearchTuner {
+
+    // pgvector accepts ef_search in [1, 1000]
+    private static final int EF_SEARCH_CEILING = 1000;
+    private static final double LATENCY_EWMA_ALPHA = 0.2;
+    private static final double FACTOR_STEP_UP = 1.25;
+    private static final double FACTOR_STEP_DOWN = 0.8;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final StatementGuard statementGuard;
+
+    @Value("${app.vector.search.ef-search.min:40}")
+    private int minEfSearch;
+
+    @Value("${app.vector.search.ef-search.max:1000}")
+    private int maxEfSearch;
+
+    @Value("${app.vector.search.ef-search.initial-factor:1.5}")
+    private double initialFactor;
+
+    @Value("${app.vector.search.ef-search.min-factor:1.0}")
+    private double minFactor;
+
+    @Value("${app.vector.search.ef-search.max-factor:4.0}")
+    private double maxFactor;
+
+    @Value("${app.vector.search.iterative-scan:strict_order}")
+    private String iterativeScan;
+
+    @Value("${app.vector.search.max-scan-tuples:20000}")
+    private int maxScanTuples;
+
+    @Value("${app.vector.search.latency-budget-ms:300}")
+    private long latencyBudgetMs;
+
+    @Value("${app.vector.coarse.enabled:true}")
+    private boolean coarseSearchEnabled;
+
+    @Value("${app.vector.coarse.dimension:256}")
+    private int coarseDimension;
+
+    @Value("${app.vector.coarse.candidate-multiplier:4}")
+    private int coarseCandidateMultiplier;
+
+    @Value("${app.vector.coarse.min-candidates:200}")
+    private int minCoarseCandidates;
+
+    @Value("${app.vector.binary.candidate-multiplier:10}")
+    private int binaryCandidateMultiplier;
+
+    @Value("${app.vector.binary.min-candidates:500}")
+    private int minBinaryCandidates;
+
+    private final Map<String, AtomicReference<TuningState>> states = new ConcurrentHashMap<>();
+
+    /**
+     * Execute an ANN query with tuned HNSW settings
+     * - SET LOCAL statements and the query share one transaction (same connection)
+     * - Cancelled by the caller → in-flight ANN statement cancelled on the server
+     * - Outcome (row count, latency) fed back to the controller on completion
+     *
+     * @param domain Tuning key ("recruit" / "candidate")
+     * @param window Rows the caller needs from the index (offset + limit)
+     * @param query  Query built on the shared DatabaseClient
+     * @return Query results
+     */
+    public <T> Flux<T> withTunedScan(String domain, int window, Flux<T> query) {
+        return withTunedScan(domain, window, window, query);
+    }
+
+    /**
+     * Execute an ANN query whose index stage returns more rows than the statement
+     * (e.g. coarse candidates re-ranked down to limit)
+     *
+     * @param domain       Tuning key ("recruit" / "candidate")
+     * @param indexWindow  Rows the HNSW stage must produce (sizes ef_search)
+     * @param expectedRows Rows the statement should return if recall is sufficient
+     * @param query        Query built on the shared DatabaseClient
+     * @return Query results
+     */
+    public <T> Flux<T> withTunedScan(String domain, int indexWindow, int expectedRows, Flux<T> query) {
+        return Flux.defer(() -> {
+            int efSearch = efSearchFor(domain, indexWindow);
+            AtomicInteger returned = new AtomicInteger();
+            long startNanos = System.nanoTime();
+
+            return statementGuard.execute(QueryClass.SEARCH, databaseClient, transactionalOperator,
+                            settingsFor(efSearch), query)
+                    .doOnNext(row -> returned.incrementAndGet())
+                    .doOnComplete(() -> recordOutcome(domain, indexWindow, expectedRows, returned.get(),
+                            (System.nanoTime() - startNanos) / 1_000_000));
+        });
+    }
+
+    /**
+     * ef_search for the requested window
+     * - At least the window (the beam caps the number of rows HNSW can return)
+     * - Clamped to [min, max] and the pgvector ceiling
+     */
+    public int efSearchFor(String domain, int window) {
+        double factor = stateOf(domain).get().factor();
+        int efSearch = (int) Math.ceil(Math.max(window, 1) * factor);
+        int upper = Math.min(maxEfSearch, EF_SEARCH_CEILING);
+        return Math.max(minEfSearch, Math.min(efSearch, upper));
+    }
+
+    /**
+     * Feedback step
+     * - Latency tracked as EWMA per domain
+     * - Shortfall while under budget and below ceiling → factor × 1.25
+     * - EWMA over budget → factor × 0.8
+     */
+    public void recordOutcome(String domain, int window, int returned, long elapsedMs) {
+        recordOutcome(domain, window, window, returned, elapsedMs);
+    }
+
+    private void recordOutcome(String domain, int window, int expectedRows, int returned, long elapsedMs) {
+        int upper = Math.min(maxEfSearch, EF_SEARCH_CEILING);
+        TuningState next = stateOf(domain).updateAndGet(state -> {
+            double latency = state.latencyEwmaMs() < 0
+                    ? elapsedMs
+                    : LATENCY_EWMA_ALPHA * elapsedMs + (1 - LATENCY_EWMA_ALPHA) * state.latencyEwmaMs();
+
+            double factor = state.factor();
+            if (latency > latencyBudgetMs) {
+                factor = Math.max(minFactor, factor * FACTOR_STEP_DOWN);
+            } else if (returned < expectedRows && Math.ceil(window * factor) < upper) {
+                factor = Math.min(maxFactor, factor * FACTOR_STEP_UP);
+            }
+            return new TuningState(factor, latency);
+        });
+
+        log.debug("[VectorSearchTuner] domain={}, window={}, returned={}, elapsed={}ms → factor={}, latencyEwma={}ms",
+                domain, window, returned, elapsedMs,
+                String.format("%.2f", next.factor()), String.format("%.1f", next.latencyEwmaMs()));
+    }
+
+    /**
+     * Whether ANN queries use the truncated-prefix column (skills_vector_coarse) as the index stage
+     * - Same for every storage: coarse candidates are re-ranked on skills_vector or skills_vector_half,
+     *   so halfvec shadow reads compare the same pipeline and read-mode halfvec keeps the coarse stage
+     */
+    public boolean usesCoarseSearch() {
+        return coarseSearchEnabled;
+    }
+
+    /**
+     * Prefix length of the coarse column (must match VECTOR(n) in the schema)
+     */
+    public int getCoarseDimension() {
+        return coarseDimension;
+    }
+
+    /**
+     * Number of coarse candidates to re-rank at full dimension
+     * - window × multiplier, at least min-candidates
+     */
+    public int coarseCandidatePool(int window) {
+        return Math.max(minCoarseCandidates, window * coarseCandidateMultiplier);
+    }
+
+    /**
+     * Number of Hamming candidates to re-rank with exact inner product
+     * - 1 bit per dimension loses more ordering than a truncated prefix → larger pool than coarse
+     * - window × multiplier, at least min-candidates
+     */
+    public int binaryCandidatePool(int window) {
+        return Math.max(minBinaryCandidates, window * binaryCandidateMultiplier);
+    }
+
+    /**
+     * SET LOCAL statements (values are integers/whitelisted, so inlined — SET does not accept bind params)
+     */
+    List<String> settingsFor(int efSearch) {
+        List<String> statements = new ArrayList<>();
+        statements.add("SET LOCAL hnsw.ef_search = " + efSearch);
+        if (isIterativeScanEnabled()) {
+            statements.add("SET LOCAL hnsw.iterative_scan = " + iterativeScan);
+            statements.add("SET LOCAL hnsw.max_scan_tuples = " + maxScanTuples);
+        }
+        return statements;
+    }
+
+    private boolean isIterativeScanEnabled() {
+        return "strict_order".equals(iterativeScan) || "relaxed_order".equals(iterativeScan);
+    }
+
+    private AtomicReference<TuningState> stateOf(String domain) {
+        return states.computeIfAbsent(domain, key -> new AtomicReference<>(new TuningState(initialFactor, -1)));
+    }
+
+    /**
+     * Controller state per domain (latencyEwmaMs < 0 until the first sample)
+     */
+    private record TuningState(double factor, double latencyEwmaMs) {}
+}
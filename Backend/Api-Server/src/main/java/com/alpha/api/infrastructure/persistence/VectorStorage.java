@@ -0,0 +1,41 @@
+package com.alpha.api.infrastructure.persistence;
+
+/**
+ * Physical storage of the full-dimension skills vector
+ * - FULL: skills_vector VECTOR(1536) (single precision)
+ * - HALF: skills_vector_half HALFVEC(1536) (half precision, dual-written by Batch Server)
+ */
+public enum VectorStorage {
+
+    FULL("skills_vector", "vector"),
+    HALF("skills_vector_half", "halfvec");
+
+    private final String column;
+    private final String castType;
+
+    VectorStorage(String column, String castType) {
+        this.column = column;
+        this.castType = castType;
+    }
+
+    /**
+     * Column name on *_skills_embedding tables
+     */
+    public String column() {
+        return column;
+    }
+
+    /**
+     * pgvector type the query vector is cast to (must match the column for index use)
+     */
+    public String castType() {
+        return castType;
+    }
+
+    /**
+     * VectorSearchTuner key (separate feedback per storage)
+     */
+    public String tuningKey(String domain) {
+        return this == FULL ? domain : domain + ":" + castType;
+    }
+}
@@ -0,0 +1,153 @@
+package com.alpha.api.infrastructure.web;
+
+import com.alpha.api.infrastructure.cache.GraphQlResponseCache;
+import com.alpha.api.infrastructure.cache.GraphQlResponseCache.CachedResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * GraphQL Response Cache Filter (Infrastructure Layer)
+ * - HTTP-layer cache in front of POST /graphql (see GraphQlResponseCache for cacheable documents)
+ * - HIT: stored bytes written as-is (no resolver, no Jackson serialization)
+ * - MISS: response body captured once and stored when successful
+ * - ETag on cacheable responses, If-None-Match → 304 Not Modified
+ * - Bodies without a small Content-Length pass through unbuffered (GraphQlResponseCache.acceptsBodyLength)
+ * - Other non-cacheable requests pass through with the buffered body replayed
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GraphQlResponseCacheFilter implements WebFilter, Ordered {
+
+    private static final String GRAPHQL_PATH = "/graphql";
+    private static final String CACHE_STATUS_HEADER = "X-Response-Cache";
+
+    private final GraphQlResponseCache responseCache;
+
+    @Override
+    public int getOrder() {
+        // After CorsWebFilter (HIGHEST_PRECEDENCE) so HIT / 304 responses still carry CORS headers
+        return 0;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!responseCache.isEnabled()
+                || request.getMethod() != HttpMethod.POST
+                || !GRAPHQL_PATH.equals(request.getPath().pathWithinApplication().value())
+                || !responseCache.acceptsBodyLength(request.getHeaders().getContentLength())) {
+            return chain.filter(exchange);
+        }
+
+        return DataBufferUtils.join(request.getBody())
+                .map(this::toBytes)
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> {
+                    ServerWebExchange replayed = exchange.mutate().request(replay(request, body, exchange)).build();
+                    String key = responseCache.keyOf(body);
+                    if (key == null) {
+                        return chain.filter(replayed);
+                    }
+
+                    CachedResponse cached = responseCache.get(key);
+                    if (cached != null) {
+                        log.debug("GraphQL response cache HIT: key={}", key);
+                        return write(replayed.getResponse(), request, cached, "HIT");
+                    }
+
+                    log.debug("GraphQL response cache MISS: key={}", key);
+                    return chain.filter(replayed.mutate().response(capture(replayed, key)).build());
+                });
+    }
+
+    /**
+     * Replay the buffered request body to the GraphQL handler
+     */
+    private ServerHttpRequest replay(ServerHttpRequest request, byte[] body, ServerWebExchange exchange) {
+        return new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.defer(() -> Flux.just(exchange.getResponse().bufferFactory().wrap(body)));
+            }
+        };
+    }
+
+    /**
+     * Capture the response body on MISS, store it, then write it with an ETag
+     */
+    private ServerHttpResponse capture(ServerWebExchange exchange, String key) {
+        ServerHttpResponse response = exchange.getResponse();
+        return new ServerHttpResponseDecorator(response) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return DataBufferUtils.join(Flux.from(body))
+                        .map(GraphQlResponseCacheFilter.this::toBytes)
+                        .flatMap(bytes -> {
+                            HttpStatusCode status = getStatusCode();
+                            CachedResponse stored = (status == null || status.value() == HttpStatus.OK.value())
+                                    ? responseCache.put(key, bytes, getHeaders().getContentType())
+                                    : null;
+                            if (stored == null) {
+                                return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                            }
+                            return write(getDelegate(), exchange.getRequest(), stored, "MISS");
+                        });
+            }
+        };
+    }
+
+    /**
+     * Write a cached response, or 304 when If-None-Match matches its ETag
+     */
+    private Mono<Void> write(ServerHttpResponse response, ServerHttpRequest request, CachedResponse cached, String cacheStatus) {
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.setCacheControl("no-cache");
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        if (ifNoneMatch.contains(cached.etag()) || ifNoneMatch.contains("*")) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) {
+            headers.setContentType(cached.contentType());
+        }
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.alpha.api.presentation.graphql.exception;
+
+import com.alpha.api.application.concurrency.BulkheadFullException;
+import com.alpha.api.application.concurrency.OverloadedException;
+import graphql.ErrorClassification;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Overload Exception Resolver (Presentation Layer)
+ * - Maps load-shedding rejections to a retryable GraphQL error (classification OVERLOADED)
+ *   instead of the default INTERNAL_ERROR
+ * - OverloadedException (admission control), BulkheadFullException (workload isolation)
+ */
+@Component
+public class OverloadExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    private static final ErrorClassification OVERLOADED = ErrorClassification.errorClassification("OVERLOADED");
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        if (ex instanceof OverloadedException || ex instanceof BulkheadFullException) {
+            return GraphqlErrorBuilder.newError(env)
+                    .errorType(OVERLOADED)
+                    .message(ex.getMessage())
+                    .build();
+        }
+        return null;
+    }
+}
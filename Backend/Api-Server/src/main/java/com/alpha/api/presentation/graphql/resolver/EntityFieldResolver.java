@@ -0,0 +1,68 @@
+package com.alpha.api.presentation.graphql.resolver;
+
+import com.alpha.api.application.service.EntityFieldService;
+import com.alpha.api.domain.candidate.entity.Candidate;
+import com.alpha.api.domain.candidate.entity.CandidateDescription;
+import com.alpha.api.domain.recruit.entity.Recruit;
+import com.alpha.api.domain.recruit.entity.RecruitDescription;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Nested Entity Field Resolver (Presentation Layer)
+ * - DataLoader-backed @BatchMapping for Recruit / Candidate child fields
+ * - All parents in a request are gathered, then one "= ANY(:ids)" query per field
+ * - DataLoader caching memoizes per request (same parent resolved once)
+ */
+@Controller
+@RequiredArgsConstructor
+public class EntityFieldResolver {
+
+    private final EntityFieldService entityFieldService;
+
+    @BatchMapping(typeName = "Recruit", field = "skills")
+    public Mono<Map<Recruit, List<String>>> recruitSkills(List<Recruit> recruits) {
+        return entityFieldService.getRecruitSkills(recruits.stream().map(Recruit::getRecruitId).toList())
+                .map(skills -> byParent(recruits, Recruit::getRecruitId, skills, List.of()));
+    }
+
+    @BatchMapping(typeName = "Recruit", field = "description")
+    public Mono<Map<Recruit, RecruitDescription>> recruitDescription(List<Recruit> recruits) {
+        return entityFieldService.getRecruitDescriptions(recruits.stream().map(Recruit::getRecruitId).toList())
+                .map(descriptions -> byParent(recruits, Recruit::getRecruitId, descriptions, null));
+    }
+
+    @BatchMapping(typeName = "Candidate", field = "skills")
+    public Mono<Map<Candidate, List<String>>> candidateSkills(List<Candidate> candidates) {
+        return entityFieldService.getCandidateSkills(candidates.stream().map(Candidate::getCandidateId).toList())
+                .map(skills -> byParent(candidates, Candidate::getCandidateId, skills, List.of()));
+    }
+
+    @BatchMapping(typeName = "Candidate", field = "description")
+    public Mono<Map<Candidate, CandidateDescription>> candidateDescription(List<Candidate> candidates) {
+        return entityFieldService.getCandidateDescriptions(candidates.stream().map(Candidate::getCandidateId).toList())
+                .map(descriptions -> byParent(candidates, Candidate::getCandidateId, descriptions, null));
+    }
+
+    /**
+     * Re-key id-keyed results by parent object (missing children → default, e.g. [] for non-null lists)
+     */
+    private <P, V> Map<P, V> byParent(List<P> parents, Function<P, UUID> idOf, Map<UUID, V> values, V defaultValue) {
+        Map<P, V> result = new LinkedHashMap<>();
+        for (P parent : parents) {
+            V value = values.getOrDefault(idOf.apply(parent), defaultValue);
+            if (value != null) {
+                result.put(parent, value);
+            }
+        }
+        return result;
+    }
+}
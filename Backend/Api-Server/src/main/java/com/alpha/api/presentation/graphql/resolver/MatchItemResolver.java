@@ -0,0 +1,122 @@
+package com.alpha.api.presentation.graphql.resolver;
+
+import com.alpha.api.application.scoring.ScoringStrategyFactory;
+import com.alpha.api.domain.scoring.ScoringContext;
+import com.alpha.api.domain.scoring.ScoringResult;
+import com.alpha.api.domain.skilldic.service.SkillCanonicalizationService;
+import com.alpha.api.presentation.graphql.type.MatchItem;
+import com.alpha.api.presentation.graphql.type.UserMode;
+import graphql.execution.ExecutionStepInfo;
+import graphql.schema.DataFetchingEnvironment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * MatchItem Field Resolver (Presentation Layer)
+ * - Skill gap fields (matchedSkills / extraSkills / missingSkills) resolved lazily
+ * - Runs only for items on the returned page, and only when the client selects the field
+ * - Cached rankings carry id/title/company/score/skills/sub-scores only
+ * - Search context (mode, skills) read from the enclosing searchMatches arguments
+ * - Skills compared with SkillCanonicalizationService.canonicalFold (same keys as overlapRatio in SearchService)
+ * - One classification per item per request, shared by the three fields (GraphQLContext)
+ */
+@Controller
+@RequiredArgsConstructor
+public class MatchItemResolver {
+
+    private static final String CLASSIFICATIONS = MatchItemResolver.class.getName() + ".classifications";
+
+    private final ScoringStrategyFactory scoringStrategyFactory;
+    private final SkillCanonicalizationService skillCanonicalizationService;
+
+    /**
+     * 매칭된 스킬 (교집합)
+     */
+    @SchemaMapping(typeName = "MatchItem", field = "matchedSkills")
+    public Mono<List<String>> matchedSkills(MatchItem item, DataFetchingEnvironment env) {
+        return classifySkills(item, env)
+                .<List<String>>map(result -> new ArrayList<>(result.getMatchedSkills()))
+                .switchIfEmpty(Mono.justOrEmpty(item.getMatchedSkills()));
+    }
+
+    /**
+     * 검색자만 보유한 스킬
+     */
+    @SchemaMapping(typeName = "MatchItem", field = "extraSkills")
+    public Mono<List<String>> extraSkills(MatchItem item, DataFetchingEnvironment env) {
+        return classifySkills(item, env)
+                .<List<String>>map(result -> new ArrayList<>(result.getExtraSkills()))
+                .switchIfEmpty(Mono.justOrEmpty(item.getExtraSkills()));
+    }
+
+    /**
+     * 대상만 보유한 스킬
+     */
+    @SchemaMapping(typeName = "MatchItem", field = "missingSkills")
+    public Mono<List<String>> missingSkills(MatchItem item, DataFetchingEnvironment env) {
+        return classifySkills(item, env)
+                .<List<String>>map(result -> new ArrayList<>(result.getMissingSkills()))
+                .switchIfEmpty(Mono.justOrEmpty(item.getMissingSkills()));
+    }
+
+    /**
+     * Same strategy and skill folding as the ranking (mode-specific extra/missing semantics)
+     * - Memoized per (mode, skills, item) in the request's GraphQLContext
+     * - Empty when the item is not under a query with mode/skills arguments
+     */
+    private Mono<ScoringResult> classifySkills(MatchItem item, DataFetchingEnvironment env) {
+        Object mode = findArgument(env, "mode");
+        Object skills = findArgument(env, "skills");
+        if (mode == null || !(skills instanceof List<?> searchSkills) || item.getSkills() == null) {
+            return Mono.empty();
+        }
+
+        Map<ClassificationKey, Mono<ScoringResult>> classifications =
+                env.getGraphQlContext().computeIfAbsent(CLASSIFICATIONS, key -> new ConcurrentHashMap<>());
+
+        return classifications.computeIfAbsent(new ClassificationKey(mode.toString(), searchSkills, item.getId()),
+                key -> skillCanonicalizationService.canonicalFold()
+                        .map(fold -> classify(UserMode.valueOf(key.mode()), searchSkills, item.getSkills(), fold))
+                        .cache());
+    }
+
+    private ScoringResult classify(UserMode mode, List<?> searchSkills, List<String> targetSkills, UnaryOperator<String> fold) {
+        ScoringContext context = ScoringContext.builder()
+                .vectorSimilarity(0.0)
+                .searchSkills(foldSkills(searchSkills, fold))
+                .targetSkills(foldSkills(targetSkills, fold))
+                .build();
+
+        return scoringStrategyFactory.getStrategy(mode).calculate(context);
+    }
+
+    private Object findArgument(DataFetchingEnvironment env, String name) {
+        for (ExecutionStepInfo step = env.getExecutionStepInfo(); step != null; step = step.getParent()) {
+            if (step.getArguments().containsKey(name)) {
+                return step.getArguments().get(name);
+            }
+        }
+        return null;
+    }
+
+    private Set<String> foldSkills(List<?> skills, UnaryOperator<String> fold) {
+        return skills.stream()
+                .filter(Objects::nonNull)
+                .map(skill -> fold.apply(skill.toString()))
+                .collect(Collectors.toSet());
+    }
+
+    private record ClassificationKey(String mode, List<?> skills, String itemId) {
+    }
+}
@@ -1,8 +1,12 @@
 package com.alpha.api.presentation.graphql.resolver;
 
+import com.alpha.api.application.concurrency.AdmissionControl;
+import com.alpha.api.application.concurrency.OperationClass;
 import com.alpha.api.application.service.CacheService;
 import com.alpha.api.application.service.DashboardService;
+import com.alpha.api.application.service.DetailService;
 import com.alpha.api.application.service.SearchService;
+import com.alpha.api.application.service.SkillSuggestionService;
 import com.alpha.api.presentation.graphql.type.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +22,9 @@ import java.util.List;
  * - Input Adapter: Handles GraphQL requests from Frontend
  * - Delegates to Application Services (Use Cases)
  * - Returns GraphQL-specific types
+ * - Every query passes AdmissionControl (adaptive limit per OperationClass)
+ *   - Over the limit: cache-only response where one exists, else OverloadedException
+ *   - Except skillSuggestions: in-memory lookup only, no shared resource to protect
  */
 @Slf4j
 @Controller
@@ -25,8 +32,11 @@ import java.util.List;
 public class QueryResolver {
 
     private final SearchService searchService;
+    private final SkillSuggestionService skillSuggestionService;
     private final DashboardService dashboardService;
+    private final DetailService detailService;
     private final CacheService cacheService;
+    private final AdmissionControl admissionControl;
 
     /**
      * searchMatches Query (Frontend Compatible)
@@ -38,7 +48,8 @@ public class QueryResolver {
      *   - limit: Max number of results (default: 10)
      *   - offset: Number of results to skip for pagination (default: 0)
      *   - sortBy: Sort order (e.g., "score DESC, publishedAt DESC") (nullable)
-     * - Returns: SearchMatchesResult {matches[], vectorVisualization[]}
+     *   - timeoutMs: Latency budget in ms (nullable → server default)
+     * - Returns: SearchMatchesResult {matches[], vectorVisualization[], partial}
      *
      * @param mode UserMode enum
      * @param skills List of skill names
@@ -46,6 +57,7 @@ public class QueryResolver {
      * @param limit Max number of results (nullable)
      * @param offset Number of results to skip (nullable)
      * @param sortBy Sort order string (nullable)
+     * @param timeoutMs Latency budget in ms (nullable)
      * @return Mono<SearchMatchesResult>
      */
     @QueryMapping
@@ -55,13 +67,17 @@ public class QueryResolver {
             @Argument String experience,
             @Argument Integer limit,
             @Argument Integer offset,
-            @Argument String sortBy) {
+            @Argument String sortBy,
+            @Argument Integer timeoutMs) {
 
-        log.info("GraphQL Query: searchMatches - mode: {}, skills: {}, experience: {}, limit: {}, offset: {}, sortBy: {}",
-                mode, skills, experience, limit, offset, sortBy);
+        log.info("GraphQL Query: searchMatches - mode: {}, skills: {}, experience: {}, limit: {}, offset: {}, sortBy: {}, timeoutMs: {}",
+                mode, skills, experience, limit, offset, sortBy, timeoutMs);
 
-        return searchService.searchMatches(mode, skills, experience, limit, offset, sortBy)
-                .doOnSuccess(result -> log.info("searchMatches returned {} matches", result.getMatches().size()))
+        return admissionControl.admit(OperationClass.SEARCH,
+                        () -> searchService.searchMatches(mode, skills, experience, limit, offset, sortBy, timeoutMs),
+                        () -> searchService.searchMatchesCachedOnly(mode, skills, limit, offset))
+                .doOnSuccess(result -> log.info("searchMatches returned {} matches (partial: {})",
+                        result.getMatches().size(), result.isPartial()))
                 .doOnError(error -> log.error("searchMatches error: {}", error.getMessage(), error));
     }
 
@@ -79,11 +95,28 @@ public class QueryResolver {
         log.info("GraphQL Query: skillCategories");
 
         String key = CacheService.skillCategoriesKey();
-        return cacheService.getOrLoadStaticUnchecked(key, () -> searchService.getSkillCategories())
+        return admissionControl.admit(OperationClass.DASHBOARD,
+                        () -> cacheService.getOrLoadStaticUnchecked(key, () -> searchService.getSkillCategories()),
+                        () -> this.<List<SkillCategory>>peekList(key))
                 .doOnSuccess(categories -> log.info("skillCategories returned {} categories", categories.size()))
                 .doOnError(error -> log.error("skillCategories error: {}", error.getMessage(), error));
     }
 
+    /**
+     * skillSuggestions Query (autocomplete)
+     * - Prefix / word / alias matches ranked by popularity, typo-tolerant fill
+     * - In-memory index only (SkillSuggestionService), no admission control
+     *
+     * @param prefix Typed text
+     * @param limit Max suggestions (nullable)
+     * @param mode Popularity source (nullable)
+     * @return Mono<List<SkillSuggestion>>
+     */
+    @QueryMapping
+    public Mono<List<SkillSuggestion>> skillSuggestions(@Argument String prefix, @Argument Integer limit, @Argument UserMode mode) {
+        return Mono.fromSupplier(() -> skillSuggestionService.suggest(prefix, limit, mode));
+    }
+
     /**
      * dashboardData Query (Frontend Compatible)
      * - Matches Frontend GET_DASHBOARD_DATA
@@ -99,14 +132,16 @@ public class QueryResolver {
         log.info("GraphQL Query: dashboardData - userMode: {}", userMode);
 
         String key = CacheService.dashboardKey(userMode.name());
-        return cacheService.getOrLoadStaticUnchecked(key, () -> dashboardService.getDashboardData(userMode))
+        return admissionControl.admit(OperationClass.DASHBOARD,
+                        () -> cacheService.getOrLoadStaticUnchecked(key, () -> dashboardService.getDashboardData(userMode)),
+                        () -> this.<List<DashboardCategoryData>>peekList(key))
                 .doOnSuccess(data -> log.info("dashboardData returned {} categories", data.size()))
                 .doOnError(error -> log.error("dashboardData error: {}", error.getMessage(), error));
     }
 
     /**
      * getRecruit Query (Detail View)
-     * - Delegates to SearchService for Clean Architecture
+     * - Delegates to DetailService (entity cache + single-statement hydration)
      * - Returns full recruit information including description
      *
      * @param id Recruit ID
@@ -116,12 +151,28 @@ public class QueryResolver {
     public Mono<RecruitDetail> getRecruit(@Argument String id) {
         log.info("GraphQL Query: getRecruit - id: {}", id);
 
-        return searchService.getRecruitDetail(id);
+        return admissionControl.admit(OperationClass.DETAIL,
+                () -> detailService.getRecruitDetail(id),
+                () -> cacheService.peek(CacheService.recruitKey(id), RecruitDetail.class));
+    }
+
+    /**
+     * getRecruits Query (Batched Detail View)
+     * - Loads up to 100 recruits; cache misses hydrated in one query
+     *
+     * @param ids Recruit IDs
+     * @return Mono<List<RecruitDetail>> in input order (unknown ids skipped)
+     */
+    @QueryMapping
+    public Mono<List<RecruitDetail>> getRecruits(@Argument List<String> ids) {
+        log.info("GraphQL Query: getRecruits - {} ids", ids.size());
+
+        return admissionControl.admit(OperationClass.DETAIL, () -> detailService.getRecruits(ids), null);
     }
 
     /**
      * getCandidate Query (Detail View)
-     * - Delegates to SearchService for Clean Architecture
+     * - Delegates to DetailService (entity cache + single-statement hydration)
      * - Returns full candidate information including resume
      *
      * @param id Candidate ID
@@ -131,7 +182,23 @@ public class QueryResolver {
     public Mono<CandidateDetail> getCandidate(@Argument String id) {
         log.info("GraphQL Query: getCandidate - id: {}", id);
 
-        return searchService.getCandidateDetail(id);
+        return admissionControl.admit(OperationClass.DETAIL,
+                () -> detailService.getCandidateDetail(id),
+                () -> cacheService.peek(CacheService.candidateKey(id), CandidateDetail.class));
+    }
+
+    /**
+     * getCandidates Query (Batched Detail View)
+     * - Loads up to 100 candidates; cache misses hydrated in one query
+     *
+     * @param ids Candidate IDs
+     * @return Mono<List<CandidateDetail>> in input order (unknown ids skipped)
+     */
+    @QueryMapping
+    public Mono<List<CandidateDetail>> getCandidates(@Argument List<String> ids) {
+        log.info("GraphQL Query: getCandidates - {} ids", ids.size());
+
+        return admissionControl.admit(OperationClass.DETAIL, () -> detailService.getCandidates(ids), null);
     }
 
     /**
@@ -147,7 +214,7 @@ public class QueryResolver {
     public Mono<List<CategoryMatchDistribution>> getCategoryDistribution(@Argument List<String> skills) {
         log.info("GraphQL Query: getCategoryDistribution - skills: {}", skills);
 
-        return searchService.getCategoryDistribution(skills)
+        return admissionControl.admit(OperationClass.SEARCH, () -> searchService.getCategoryDistribution(skills), null)
                 .doOnSuccess(distributions -> log.info("getCategoryDistribution returned {} categories", distributions.size()))
                 .doOnError(error -> log.error("getCategoryDistribution error: {}", error.getMessage(), error));
     }
@@ -172,7 +239,8 @@ public class QueryResolver {
         log.info("GraphQL Query: getSkillCompetencyMatch - mode: {}, targetId: {}, searchedSkills: {}",
                 mode, targetId, searchedSkills);
 
-        return searchService.getSkillCompetencyMatch(mode, targetId, searchedSkills)
+        return admissionControl.admit(OperationClass.SEARCH,
+                        () -> searchService.getSkillCompetencyMatch(mode, targetId, searchedSkills), null)
                 .doOnSuccess(match -> log.info("getSkillCompetencyMatch returned - matchingPercentage: {}%, competencyLevel: {}",
                         match.getMatchingPercentage(), match.getCompetencyLevel()))
                 .doOnError(error -> log.error("getSkillCompetencyMatch error: {}", error.getMessage(), error));
@@ -191,7 +259,7 @@ public class QueryResolver {
     public Mono<List<CompanyJobCount>> topCompanies(@Argument Integer limit) {
         log.info("GraphQL Query: topCompanies - limit: {}", limit);
 
-        return dashboardService.getTopCompanies(limit)
+        return admissionControl.admit(OperationClass.DASHBOARD, () -> dashboardService.getTopCompanies(limit), null)
                 .doOnSuccess(companies -> log.info("topCompanies returned {} companies", companies.size()))
                 .doOnError(error -> log.error("topCompanies error: {}", error.getMessage(), error));
     }
@@ -215,9 +283,19 @@ public class QueryResolver {
 
         log.info("GraphQL Query: searchStatistics - mode: {}, skills: {}, limit: {}", mode, skills, limit);
 
-        return searchService.getSearchStatistics(mode, skills, limit)
+        return admissionControl.admit(OperationClass.STATISTICS,
+                        () -> searchService.getSearchStatistics(mode, skills, limit),
+                        () -> searchService.getSearchStatisticsCachedOnly(mode, skills, limit))
                 .doOnSuccess(result -> log.info("searchStatistics returned {} top skills, totalCount: {}",
                         result.getTopSkills().size(), result.getTotalCount()))
                 .doOnError(error -> log.error("searchStatistics error: {}", error.getMessage(), error));
     }
+
+    /**
+     * Degraded path for static list entries (cache only, as stored by getOrLoadStaticUnchecked)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> peekList(String key) {
+        return cacheService.peek(key, Object.class).map(value -> (T) value);
+    }
 }
@@ -68,6 +68,7 @@ public class MatchItem {
     private Double extraRatio;
 
     // ===== Skill Classification (for detail view) =====
+    // Not populated in cached rankings; resolved per item by MatchItemResolver when selected
 
     /**
      * 매칭된 스킬 (교집합)
@@ -13,6 +13,8 @@ import java.util.List;
  * - Contains a list of matching `MatchItem` objects and `vectorVisualization` data.
  * - `vectorVisualization` provides 2D coordinate data for the skills used in the search,
  *   intended for graphical representation on the frontend (e.g., skill plot).
+ * - `partial` is true when the search deadline cut retrieval short (fewer matches than a full run).
+ * - `unresolvedSkills` lists input skills that matched no dictionary skill or alias (not searched).
  */
 @Data
 @Builder
@@ -23,4 +25,10 @@ public class SearchMatchesResult {
     private List<MatchItem> matches;
 
     private List<SkillMatch> vectorVisualization;
+
+    @Builder.Default
+    private boolean partial = false;
+
+    @Builder.Default
+    private List<String> unresolvedSkills = List.of();
 }
@@ -28,6 +28,7 @@ public class SearchStatisticsResult {
     /**
      * Total count of search results (unpaginated)
      * Fixed value for consistent UX during infinite scroll
+     * Exact up to 500 (cached candidate set), sampled estimate beyond that
      */
     private Integer totalCount;
 }
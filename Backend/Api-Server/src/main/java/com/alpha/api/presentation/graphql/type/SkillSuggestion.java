@@ -0,0 +1,27 @@
+package com.alpha.api.presentation.graphql.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * SkillSuggestion (GraphQL Type)
+ * - Response item for skillSuggestions query (search input autocomplete)
+ * - popularity: recruit / candidate rows with this skill (per mode, or both)
+ * - fuzzy: matched by typo tolerance rather than prefix
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillSuggestion {
+
+    private String skill;
+
+    private String category;
+
+    private Integer popularity;
+
+    private boolean fuzzy;
+}
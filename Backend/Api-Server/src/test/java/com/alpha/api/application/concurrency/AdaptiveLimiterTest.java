@@ -0,0 +1,80 @@
+package com.alpha.api.application.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdaptiveLimiter Test
+ * - Tests immediate rejection at the current limit
+ * - Tests limit shrinking when latency rises above the baseline
+ * - Tests multiplicative backoff on dropped requests and the min/max clamp
+ */
+class AdaptiveLimiterTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("At limit - tryAcquire rejects without waiting")
+    void tryAcquire_RejectsAtLimit() {
+        // Given
+        AdaptiveLimiter limiter = new AdaptiveLimiter("test", 2, 1, 10);
+
+        // When & Then
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getRejectedCount());
+
+        limiter.onIgnored();
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Latency spike - limit shrinks")
+    void onSuccess_ShrinksOnLatencyIncrease() {
+        // Given: saturated limiter with a 10ms baseline
+        AdaptiveLimiter limiter = new AdaptiveLimiter("test", 20, 1, 200);
+        for (int i = 0; i < 50; i++) {
+            saturateAndComplete(limiter, 10 * MS);
+        }
+        double before = limiter.getLimit();
+
+        // When: latency jumps to 100ms
+        for (int i = 0; i < 20; i++) {
+            saturateAndComplete(limiter, 100 * MS);
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() < before, "limit should shrink: " + before + " -> " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Dropped - limit backs off but never below min")
+    void onDropped_BacksOffToMin() {
+        // Given
+        AdaptiveLimiter limiter = new AdaptiveLimiter("test", 10, 3, 100);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onDropped();
+        }
+
+        // Then
+        assertEquals(3.0, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private void saturateAndComplete(AdaptiveLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        limiter.onSuccess(rttNanos);
+        for (int i = 1; i < acquired; i++) {
+            limiter.onIgnored();
+        }
+    }
+}
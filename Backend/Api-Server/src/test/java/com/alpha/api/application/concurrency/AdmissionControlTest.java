@@ -0,0 +1,109 @@
+package com.alpha.api.application.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdmissionControl Test
+ * - Tests the admitted slot is released on completion, error, cancel and a throwing work supplier
+ * - Tests over-limit requests degrade or reject without running the work
+ */
+class AdmissionControlTest {
+
+    private AdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp() {
+        admissionControl = new AdmissionControl(new SimpleMeterRegistry(), true, 1, 1, 10);
+    }
+
+    @Test
+    @DisplayName("Completion - slot released")
+    void admit_ReleasesOnCompletion() {
+        // When & Then
+        StepVerifier.create(admissionControl.admit(OperationClass.SEARCH, () -> Mono.just("ok"), null))
+                .expectNext("ok")
+                .verifyComplete();
+        assertEquals(0, inFlight());
+    }
+
+    @Test
+    @DisplayName("Work supplier throws - error surfaced, slot released")
+    void admit_ReleasesOnSynchronousThrow() {
+        // When & Then
+        StepVerifier.create(admissionControl.<String>admit(OperationClass.SEARCH, () -> {
+                    throw new IllegalStateException("boom");
+                }, null))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertEquals(0, inFlight());
+
+        StepVerifier.create(admissionControl.admit(OperationClass.SEARCH, () -> Mono.just("next"), null))
+                .expectNext("next")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Overload error - slot released")
+    void admit_ReleasesOnOverloadError() {
+        // When & Then
+        StepVerifier.create(admissionControl.<String>admit(OperationClass.SEARCH,
+                        () -> Mono.error(new TimeoutException("slow")), null))
+                .expectError(TimeoutException.class)
+                .verify();
+        assertEquals(0, inFlight());
+    }
+
+    @Test
+    @DisplayName("Cancel - slot released, next request admitted")
+    void admit_ReleasesOnCancel() {
+        // Given: the only slot held by a pending call
+        Sinks.One<String> pending = Sinks.one();
+        Disposable subscription = admissionControl.admit(OperationClass.SEARCH, pending::asMono, null).subscribe();
+        assertEquals(1, inFlight());
+
+        // When
+        subscription.dispose();
+
+        // Then
+        assertEquals(0, inFlight());
+        StepVerifier.create(admissionControl.admit(OperationClass.SEARCH, () -> Mono.just("next"), null))
+                .expectNext("next")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Over the limit - degraded result, work not run")
+    void admit_DegradesOverLimit() {
+        // Given: the only slot held by a pending call
+        Sinks.One<String> pending = Sinks.one();
+        admissionControl.admit(OperationClass.SEARCH, pending::asMono, null).subscribe();
+        AtomicInteger workCalls = new AtomicInteger();
+
+        // When & Then
+        StepVerifier.create(admissionControl.admit(OperationClass.SEARCH,
+                        () -> Mono.fromCallable(() -> "full-" + workCalls.incrementAndGet()),
+                        () -> Mono.just("degraded")))
+                .expectNext("degraded")
+                .verifyComplete();
+        StepVerifier.create(admissionControl.admit(OperationClass.SEARCH, () -> Mono.just("full"), null))
+                .expectError(OverloadedException.class)
+                .verify();
+        assertEquals(0, workCalls.get());
+    }
+
+    private int inFlight() {
+        return admissionControl.limiter(OperationClass.SEARCH).getInFlight();
+    }
+}
@@ -0,0 +1,67 @@
+package com.alpha.api.application.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bulkhead Test
+ * - Tests fail-fast rejection when permits and queue are exhausted
+ * - Tests queued work runs once a permit is released
+ * - Tests permit release on error
+ */
+class BulkheadTest {
+
+    @Test
+    @DisplayName("Queue full - rejected immediately with BulkheadFullException")
+    void execute_RejectsWhenQueueFull() {
+        // Given: 1 permit, no queue, permit held by a pending call
+        Bulkhead bulkhead = new Bulkhead("test", 1, 0, Duration.ofSeconds(1));
+        Sinks.One<String> blocker = Sinks.one();
+        bulkhead.execute(blocker::asMono).subscribe();
+
+        // When & Then
+        StepVerifier.create(bulkhead.execute(() -> Mono.just("second")))
+                .expectError(BulkheadFullException.class)
+                .verify();
+        assertEquals(1, bulkhead.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("Queued work - runs after the running call completes")
+    void execute_QueuedRunsAfterRelease() {
+        // Given: 1 permit, 1 queue slot
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofSeconds(1));
+        Sinks.One<String> blocker = Sinks.one();
+        bulkhead.execute(blocker::asMono).subscribe();
+
+        // When & Then
+        StepVerifier.create(bulkhead.execute(() -> Mono.just("queued")))
+                .then(() -> assertEquals(1, bulkhead.getQueued()))
+                .then(() -> blocker.tryEmitValue("first"))
+                .expectNext("queued")
+                .verifyComplete();
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Error - permit released")
+    void execute_ReleasesOnError() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("test", 1, 0, Duration.ofSeconds(1));
+
+        // When
+        StepVerifier.create(bulkhead.execute(() -> Mono.error(new IllegalStateException("boom"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+}
@@ -0,0 +1,82 @@
+package com.alpha.api.application.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CircuitBreaker Test
+ * - Tests opening after consecutive failures and short-circuiting while open
+ * - Tests timeouts counted as failures
+ * - Tests half-open probe closing / re-opening the breaker
+ */
+class CircuitBreakerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    @Test
+    @DisplayName("Consecutive failures - breaker opens and rejects without calling")
+    void execute_OpensAfterThreshold() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, Duration.ofMinutes(1));
+        fail(breaker);
+        fail(breaker);
+
+        // When & Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        StepVerifier.create(breaker.execute(() -> Mono.just("never"), TIMEOUT))
+                .expectError(CallNotPermittedException.class)
+                .verify();
+        assertEquals(1, breaker.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("Slow call - timeout counts as a failure")
+    void execute_TimeoutCountsAsFailure() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, Duration.ofMinutes(1));
+
+        // When
+        StepVerifier.create(breaker.execute(Mono::never, Duration.ofMillis(20)))
+                .expectError(TimeoutException.class)
+                .verify();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Open duration elapsed - successful probe closes, failed probe re-opens")
+    void execute_HalfOpenProbe() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, Duration.ZERO);
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        // When: failed probe
+        fail(breaker);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        // When: successful probe
+        StepVerifier.create(breaker.execute(() -> Mono.just("ok"), TIMEOUT))
+                .expectNext("ok")
+                .verifyComplete();
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private void fail(CircuitBreaker breaker) {
+        StepVerifier.create(breaker.execute(() -> Mono.error(new IllegalStateException("down")), TIMEOUT))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,161 @@
+package com.alpha.api.application.service;
+
+import com.alpha.api.presentation.graphql.type.CandidateDetail;
+import com.alpha.api.presentation.graphql.type.RecruitDetail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DetailService Test
+ * - Tests cache hit (no hydration query) / miss (one "= ANY(:ids)" query)
+ * - Tests batched lookups: input order, canonical (lowercase) ids, unknown ids skipped
+ * - Tests validation surfaced as Mono.error: malformed UUIDs, more than 100 ids
+ */
+@ExtendWith(MockitoExtension.class)
+class DetailServiceTest {
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+
+    @Mock
+    private RowsFetchSpec<Object> fetchSpec;
+
+    @Mock
+    private CacheService cacheService;
+
+    @InjectMocks
+    private DetailService detailService;
+
+    private String recruitId;
+    private RecruitDetail recruitDetail;
+
+    @BeforeEach
+    void setUp() {
+        recruitId = UUID.randomUUID().toString();
+        recruitDetail = RecruitDetail.builder().id(recruitId).position("Backend Engineer").build();
+    }
+
+    @Test
+    @DisplayName("Cache hit → detail served without a hydration query")
+    void getRecruitDetail_CacheHit() {
+        // Given
+        when(cacheService.getOrLoad(eq(CacheService.recruitKey(recruitId)), eq(RecruitDetail.class), any()))
+                .thenReturn(Mono.just(recruitDetail));
+
+        // When & Then
+        StepVerifier.create(detailService.getRecruitDetail(recruitId))
+                .expectNext(recruitDetail)
+                .verifyComplete();
+
+        verifyNoInteractions(databaseClient);
+    }
+
+    @Test
+    @DisplayName("Cache miss → one hydration query, cached under the canonical id")
+    @SuppressWarnings("unchecked")
+    void getRecruitDetail_CacheMiss() {
+        // Given
+        when(cacheService.getOrLoad(eq(CacheService.recruitKey(recruitId)), eq(RecruitDetail.class), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<RecruitDetail>>) invocation.getArgument(2)).get());
+        stubHydration(Flux.just(recruitDetail));
+
+        // When & Then
+        StepVerifier.create(detailService.getRecruitDetail(recruitId.toUpperCase()))
+                .expectNext(recruitDetail)
+                .verifyComplete();
+
+        verify(databaseClient, times(1)).sql(anyString());
+        verify(executeSpec).bind(eq("ids"), eq(new UUID[]{UUID.fromString(recruitId)}));
+    }
+
+    @Test
+    @DisplayName("Batched lookup → input order kept, unknown ids skipped")
+    @SuppressWarnings("unchecked")
+    void getCandidates_InputOrder() {
+        // Given
+        String first = UUID.randomUUID().toString();
+        String second = UUID.randomUUID().toString();
+        String unknown = UUID.randomUUID().toString();
+        CandidateDetail firstDetail = CandidateDetail.builder().id(first).build();
+        CandidateDetail secondDetail = CandidateDetail.builder().id(second).build();
+
+        when(cacheService.getOrLoadAll(anyList(), any(), eq(CandidateDetail.class), any()))
+                .thenAnswer(invocation -> ((Function<List<String>, Mono<Map<String, CandidateDetail>>>) invocation.getArgument(3))
+                        .apply(invocation.getArgument(0)));
+        stubHydration(Flux.just(firstDetail, secondDetail));
+
+        // When & Then
+        StepVerifier.create(detailService.getCandidates(List.of(second, unknown, first)))
+                .expectNext(List.of(secondDetail, firstDetail))
+                .verifyComplete();
+
+        verify(databaseClient, times(1)).sql(anyString());
+    }
+
+    @Test
+    @DisplayName("Malformed UUID → Mono.error(IllegalArgumentException), nothing looked up")
+    void malformedIds_Error() {
+        // When & Then
+        StepVerifier.create(detailService.getRecruitDetail("not-a-uuid"))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(detailService.getCandidates(List.of(UUID.randomUUID().toString(), "not-a-uuid")))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(cacheService, databaseClient);
+    }
+
+    @Test
+    @DisplayName("More than 100 ids → Mono.error(IllegalArgumentException); exactly 100 accepted")
+    void batchLimit() {
+        // Given
+        List<String> hundred = IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        List<String> tooMany = IntStream.range(0, 101).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        when(cacheService.getOrLoadAll(anyList(), any(), eq(RecruitDetail.class), any()))
+                .thenReturn(Mono.just(Map.of()));
+
+        // When & Then
+        StepVerifier.create(detailService.getRecruits(tooMany))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException &&
+                        error.getMessage().contains("100"))
+                .verify();
+        StepVerifier.create(detailService.getRecruits(hundred))
+                .expectNext(List.of())
+                .verifyComplete();
+
+        verify(cacheService, times(1)).getOrLoadAll(anyList(), any(), eq(RecruitDetail.class), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubHydration(Flux<?> rows) {
+        when(databaseClient.sql(anyString())).thenReturn(executeSpec);
+        when(executeSpec.bind(eq("ids"), any())).thenReturn(executeSpec);
+        doReturn(fetchSpec).when(executeSpec).map(any(BiFunction.class));
+        doReturn(rows).when(fetchSpec).all();
+    }
+}
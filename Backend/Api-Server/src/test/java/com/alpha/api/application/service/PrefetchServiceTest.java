@@ -0,0 +1,154 @@
+package com.alpha.api.application.service;
+
+import com.alpha.api.application.concurrency.AdaptiveLimiter;
+import com.alpha.api.application.concurrency.AdmissionControl;
+import com.alpha.api.application.concurrency.OperationClass;
+import com.alpha.api.application.concurrency.WorkloadIsolation;
+import com.alpha.api.presentation.graphql.type.MatchItem;
+import com.alpha.api.presentation.graphql.type.UserMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * PrefetchService Test
+ * - Tests page N + N+1 ids prefetched through the batched detail lookup (mode → recruit / candidate)
+ * - Tests load gate: detail admission limiter near its limit, search bulkhead saturated → shed
+ * - Tests per-second rate limit
+ */
+@ExtendWith(MockitoExtension.class)
+class PrefetchServiceTest {
+
+    @Mock
+    private DetailService detailService;
+
+    private AdmissionControl admissionControl;
+    private WorkloadIsolation workloadIsolation;
+    private final List<PrefetchService> services = new ArrayList<>();
+    private final List<Disposable> held = new ArrayList<>();
+
+    private final List<MatchItem> ranking = IntStream.range(0, 50)
+            .mapToObj(i -> MatchItem.builder().id(String.valueOf(i)).build())
+            .toList();
+
+    @BeforeEach
+    void setUp() {
+        // detail limit 20 → load gate at 15 in flight (max-load 0.75); search bulkhead 4 permits
+        admissionControl = new AdmissionControl(new SimpleMeterRegistry(), true, 20, 2, 200);
+        workloadIsolation = new WorkloadIsolation(Schedulers.immediate(), 4, 8, 1000, 2, 4, 1000, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        held.forEach(Disposable::dispose);
+        services.forEach(PrefetchService::shutdown);
+    }
+
+    @Test
+    @DisplayName("Served page and next page prefetched in one batched detail lookup")
+    void prefetchPages_LoadsPageAndNextPage() {
+        // Given
+        when(detailService.getRecruits(anyList())).thenReturn(Mono.just(List.of()));
+        PrefetchService prefetchService = newPrefetchService(20);
+
+        // When
+        prefetchService.prefetchPages(UserMode.CANDIDATE, ranking, 10, 10);
+
+        // Then
+        verify(detailService, timeout(1000)).getRecruits(ids(10, 30));
+        verify(detailService, never()).getCandidates(anyList());
+        assertEquals(0, prefetchService.getShedCount());
+    }
+
+    @Test
+    @DisplayName("RECRUITER mode prefetches candidate details")
+    void prefetchPages_RecruiterMode() {
+        // Given
+        when(detailService.getCandidates(anyList())).thenReturn(Mono.just(List.of()));
+        PrefetchService prefetchService = newPrefetchService(20);
+
+        // When
+        prefetchService.prefetchPages(UserMode.RECRUITER, ranking, 0, 5);
+
+        // Then
+        verify(detailService, timeout(1000)).getCandidates(ids(0, 10));
+    }
+
+    @Test
+    @DisplayName("Detail requests near the admission limit → prefetch shed")
+    void prefetchPages_DetailLimiterBusy_Shed() {
+        // Given
+        AdaptiveLimiter detailLimiter = admissionControl.limiter(OperationClass.DETAIL);
+        for (int i = 0; i < 15; i++) {
+            detailLimiter.tryAcquire();
+        }
+        PrefetchService prefetchService = newPrefetchService(20);
+
+        // When
+        prefetchService.prefetchPages(UserMode.CANDIDATE, ranking, 0, 10);
+
+        // Then
+        assertEquals(1, prefetchService.getShedCount());
+        verifyNoInteractions(detailService);
+    }
+
+    @Test
+    @DisplayName("Search bulkhead without a free permit → prefetch shed")
+    void prefetchPages_SearchBulkheadSaturated_Shed() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            held.add(workloadIsolation.getSearch().execute(Mono::never).subscribe());
+        }
+        PrefetchService prefetchService = newPrefetchService(20);
+
+        // When
+        prefetchService.prefetchPages(UserMode.CANDIDATE, ranking, 0, 10);
+
+        // Then
+        assertEquals(1, prefetchService.getShedCount());
+        verifyNoInteractions(detailService);
+    }
+
+    @Test
+    @DisplayName("Over max-per-second → later prefetches in the window shed")
+    void prefetchPages_RateLimited() {
+        // Given
+        when(detailService.getRecruits(anyList())).thenReturn(Mono.just(List.of()));
+        PrefetchService prefetchService = newPrefetchService(1);
+
+        // When
+        prefetchService.prefetchPages(UserMode.CANDIDATE, ranking, 0, 10);
+        prefetchService.prefetchPages(UserMode.CANDIDATE, ranking, 10, 10);
+
+        // Then
+        verify(detailService, timeout(1000).times(1)).getRecruits(anyList());
+        assertEquals(1, prefetchService.getShedCount());
+    }
+
+    private PrefetchService newPrefetchService(int maxPerSecond) {
+        PrefetchService prefetchService = new PrefetchService(
+                detailService, admissionControl, workloadIsolation, true, 0.75, maxPerSecond, 4, 2, 2000);
+        services.add(prefetchService);
+        return prefetchService;
+    }
+
+    private List<String> ids(int from, int to) {
+        return IntStream.range(from, to).mapToObj(String::valueOf).toList();
+    }
+}
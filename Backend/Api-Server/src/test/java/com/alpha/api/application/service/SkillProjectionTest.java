@@ -0,0 +1,101 @@
+package com.alpha.api.application.service;
+
+import com.alpha.api.application.service.SkillProjection.Point;
+import com.alpha.api.application.service.SkillProjectionService.Located;
+import com.alpha.api.presentation.graphql.type.SkillMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SkillProjection Test
+ * - Tests stored coordinates lookup and O(d) projection with the stored basis (scaled + clamped to 0-100)
+ * - Tests skills added after the projection are projected once at load time (withProjected)
+ * - Tests isCore (within mean distance to the centroid of the search skills)
+ */
+class SkillProjectionTest {
+
+    private SkillProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        // 3-dimensional basis: pc1 = e1, pc2 = e2, raw range [-1, 1] on both axes
+        projection = new SkillProjection(7L,
+                new float[]{0f, 0f, 0f},
+                new float[]{1f, 0f, 0f},
+                new float[]{0f, 1f, 0f},
+                -1.0, 1.0, -1.0, 1.0,
+                Map.of("Java", new Point(25.0, 75.0)));
+    }
+
+    @Test
+    @DisplayName("Dictionary skills use stored coordinates")
+    void pointOf_StoredCoordinates() {
+        // When & Then
+        assertEquals(new Point(25.0, 75.0), projection.pointOf("Java"));
+        assertNull(projection.pointOf("Rust"));
+        assertEquals(7L, projection.version());
+    }
+
+    @Test
+    @DisplayName("Vectors are projected with the stored basis into the 0-100 frame")
+    void project_ScaledAndClamped() {
+        // When & Then
+        assertEquals(new Point(50.0, 50.0), projection.project(new float[]{0f, 0f, 0.9f}));
+        assertEquals(new Point(75.0, 0.0), projection.project(new float[]{0.5f, -1f, 0f}));
+        assertEquals(new Point(100.0, 0.0), projection.project(new float[]{3f, -3f, 0f}));
+        assertNull(projection.project(new float[]{1f, 0f}));
+        assertNull(SkillProjection.empty().project(new float[]{1f, 0f, 0f}));
+    }
+
+    @Test
+    @DisplayName("Skills added after the projection are projected at load time, stored coordinates kept")
+    void withProjected_AddsMissingSkills() {
+        // When
+        SkillProjection loaded = projection.withProjected(Map.of(
+                "Rust", new float[]{0.5f, -1f, 0f},
+                "Java", new float[]{1f, 1f, 0f},
+                "Broken", new float[]{1f, 0f}));
+
+        // Then
+        assertEquals(new Point(75.0, 0.0), loaded.pointOf("Rust"));
+        assertEquals(new Point(25.0, 75.0), loaded.pointOf("Java"));
+        assertNull(loaded.pointOf("Broken"));
+        assertEquals(2, loaded.size());
+        assertSame(projection, projection.withProjected(Map.of()));
+    }
+
+    @Test
+    @DisplayName("Outlying skills are not core")
+    void toSkillMatches_CoreByCentroidDistance() {
+        // When
+        List<SkillMatch> matches = SkillProjectionService.toSkillMatches(List.of(
+                new Located("Java", new Point(40.0, 50.0)),
+                new Located("Spring Boot", new Point(44.0, 50.0)),
+                new Located("Kotlin", new Point(42.0, 52.0)),
+                new Located("Photoshop", new Point(95.0, 5.0))));
+
+        // Then
+        assertEquals(List.of("Java", "Spring Boot", "Kotlin", "Photoshop"),
+                matches.stream().map(SkillMatch::getSkill).toList());
+        assertEquals(List.of(true, true, true, false),
+                matches.stream().map(SkillMatch::getIsCore).toList());
+    }
+
+    @Test
+    @DisplayName("A single skill is core")
+    void toSkillMatches_SingleSkill() {
+        // When
+        List<SkillMatch> matches = SkillProjectionService.toSkillMatches(List.of(new Located("Java", new Point(25.0, 75.0))));
+
+        // Then
+        assertEquals(1, matches.size());
+        assertTrue(matches.get(0).getIsCore());
+        assertEquals(25.0, matches.get(0).getX());
+    }
+}
@@ -0,0 +1,94 @@
+package com.alpha.api.application.service;
+
+import com.alpha.api.application.service.SkillSuggestionIndex.Entry;
+import com.alpha.api.application.service.SkillSuggestionIndex.Suggestion;
+import com.alpha.api.presentation.graphql.type.UserMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SkillSuggestionIndex Test
+ * - Tests prefix matching on names, words within names and aliases
+ * - Tests ranking (exact > name prefix > word / alias prefix, then popularity per mode)
+ * - Tests typo-tolerant trigram fill
+ */
+class SkillSuggestionIndexTest {
+
+    private static final double FUZZY_THRESHOLD = 0.3;
+
+    private SkillSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = SkillSuggestionIndex.build(List.of(
+                new Entry("Java", "Backend", 500, 300),
+                new Entry("JavaScript", "Frontend", 900, 100),
+                new Entry("Kubernetes", "DevOps", 200, 50),
+                new Entry("Spring Boot", "Backend", 400, 350),
+                new Entry("Kotlin", "Backend", 80, 400)
+        ), Map.of("k8s", 2));
+    }
+
+    @Test
+    @DisplayName("Exact match first, then name prefixes by popularity")
+    void suggest_ExactThenPopularity() {
+        // When
+        List<String> skills = skills(index.suggest("java", 10, null, FUZZY_THRESHOLD));
+
+        // Then
+        assertEquals(List.of("Java", "JavaScript"), skills);
+    }
+
+    @Test
+    @DisplayName("Popularity follows the mode (CANDIDATE: recruit counts, RECRUITER: candidate counts)")
+    void suggest_PopularityPerMode() {
+        // When
+        List<String> candidateView = skills(index.suggest("k", 10, UserMode.CANDIDATE, FUZZY_THRESHOLD));
+        List<String> recruiterView = skills(index.suggest("k", 10, UserMode.RECRUITER, FUZZY_THRESHOLD));
+
+        // Then
+        assertEquals(List.of("Kubernetes", "Kotlin"), candidateView);
+        assertEquals(List.of("Kotlin", "Kubernetes"), recruiterView);
+    }
+
+    @Test
+    @DisplayName("Words within names and aliases are matched")
+    void suggest_WordsAndAliases() {
+        // When & Then
+        assertEquals(List.of("Spring Boot"), skills(index.suggest("boo", 10, null, FUZZY_THRESHOLD)));
+        assertEquals(List.of("Kubernetes"), skills(index.suggest("K8", 10, null, FUZZY_THRESHOLD)));
+    }
+
+    @Test
+    @DisplayName("Typos are matched by trigram similarity and flagged fuzzy")
+    void suggest_FuzzyFill() {
+        // When
+        List<Suggestion> suggestions = index.suggest("kubernets", 10, null, FUZZY_THRESHOLD);
+
+        // Then
+        assertEquals(1, suggestions.size());
+        assertEquals("Kubernetes", suggestions.get(0).entry().skill());
+        assertTrue(suggestions.get(0).fuzzy());
+    }
+
+    @Test
+    @DisplayName("Limit and empty input are respected")
+    void suggest_LimitAndEmpty() {
+        // When & Then
+        assertEquals(1, index.suggest("j", 1, null, FUZZY_THRESHOLD).size());
+        assertTrue(index.suggest("  ", 10, null, FUZZY_THRESHOLD).isEmpty());
+        assertTrue(SkillSuggestionIndex.empty().suggest("java", 10, null, FUZZY_THRESHOLD).isEmpty());
+    }
+
+    private static List<String> skills(List<Suggestion> suggestions) {
+        return suggestions.stream()
+                .map(suggestion -> suggestion.entry().skill())
+                .toList();
+    }
+}
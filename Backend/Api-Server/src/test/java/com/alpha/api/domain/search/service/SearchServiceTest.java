@@ -1,26 +1,31 @@
 package com.alpha.api.domain.search.service;
 
+import com.alpha.api.application.concurrency.DeadlinePolicy;
+import com.alpha.api.application.concurrency.WorkloadIsolation;
 import com.alpha.api.application.dto.RecruitSearchResult;
 import com.alpha.api.application.dto.CandidateSearchResult;
+import com.alpha.api.application.scoring.CandidateViewScoringStrategy;
+import com.alpha.api.application.scoring.RecruiterViewScoringStrategy;
+import com.alpha.api.application.scoring.ScoringStrategyFactory;
 import com.alpha.api.application.service.CacheService;
+import com.alpha.api.application.service.PrefetchService;
 import com.alpha.api.application.service.SearchService;
+import com.alpha.api.application.service.SkillProjectionService;
 import com.alpha.api.domain.candidate.entity.Candidate;
-import com.alpha.api.domain.candidate.entity.CandidateSkill;
-import com.alpha.api.domain.candidate.repository.CandidateDescriptionRepository;
-import com.alpha.api.domain.candidate.repository.CandidateRepository;
 import com.alpha.api.domain.candidate.repository.CandidateSearchRepository;
 import com.alpha.api.domain.candidate.repository.CandidateSkillRepository;
 import com.alpha.api.domain.recruit.entity.Recruit;
 import com.alpha.api.domain.recruit.entity.RecruitSkill;
-import com.alpha.api.domain.recruit.repository.RecruitDescriptionRepository;
-import com.alpha.api.domain.recruit.repository.RecruitRepository;
 import com.alpha.api.domain.recruit.repository.RecruitSearchRepository;
 import com.alpha.api.domain.recruit.repository.RecruitSkillRepository;
 import com.alpha.api.domain.skilldic.entity.SkillCategoryDic;
 import com.alpha.api.domain.skilldic.entity.SkillEmbeddingDic;
 import com.alpha.api.domain.skilldic.repository.SkillCategoryDicRepository;
 import com.alpha.api.domain.skilldic.repository.SkillEmbeddingDicRepository;
+import com.alpha.api.domain.skilldic.service.CanonicalSkills;
+import com.alpha.api.domain.skilldic.service.SkillCanonicalizationService;
 import com.alpha.api.domain.skilldic.service.SkillNormalizationService;
+import com.alpha.api.infrastructure.cache.SemanticQueryIndex;
 import com.alpha.api.presentation.graphql.type.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,15 +33,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -46,6 +58,12 @@ import static org.mockito.Mockito.*;
  * - Tests searchMatches() method (integration search)
  * - Tests searchRecruits() and searchCandidates() methods
  * - Tests getSkillCategories() method
+ * - Tests getCategoryDistribution() (canonical skills, batched dictionary / category lookups)
+ * - Tests deadline-bounded search (partial results, detached completion fills the cache)
+ * - Tests in-flight sharing (concurrent identical cold searches → one vector search)
+ * - Tests getSkillCompetencyMatch() (canonical fold on both skill sets)
+ * - Tests canonical search keys (unresolved skills reported, nothing resolved → empty result)
+ * - Tests semantic cache reuse (near-duplicate query → cached candidates re-scored)
  * - Uses Mockito for mocking dependencies
  *
  * NOTE: Service uses similarityThreshold = 0.6 for both modes
@@ -61,22 +79,32 @@ class SearchServiceTest {
     private CacheService cacheService;
 
     @Mock
-    private RecruitRepository recruitRepository;
+    private SkillCanonicalizationService skillCanonicalizationService;
 
     @Mock
-    private RecruitDescriptionRepository recruitDescriptionRepository;
+    private SemanticQueryIndex semanticQueryIndex;
 
     @Mock
-    private RecruitSkillRepository recruitSkillRepository;
+    private SkillProjectionService skillProjectionService;
 
     @Mock
-    private RecruitSearchRepository recruitSearchRepository;
+    private PrefetchService prefetchService;
+
+    @Spy
+    private WorkloadIsolation workloadIsolation = new WorkloadIsolation(Schedulers.immediate(), 4, 8, 1000, 2, 4, 1000, 2);
+
+    @Spy
+    private DeadlinePolicy deadlinePolicy = new DeadlinePolicy(1500, 100, 10000);
+
+    @Spy
+    private ScoringStrategyFactory scoringStrategyFactory =
+            new ScoringStrategyFactory(new CandidateViewScoringStrategy(), new RecruiterViewScoringStrategy());
 
     @Mock
-    private CandidateRepository candidateRepository;
+    private RecruitSkillRepository recruitSkillRepository;
 
     @Mock
-    private CandidateDescriptionRepository candidateDescriptionRepository;
+    private RecruitSearchRepository recruitSearchRepository;
 
     @Mock
     private CandidateSkillRepository candidateSkillRepository;
@@ -123,6 +151,7 @@ class SearchServiceTest {
                 .positionCategory("Backend")
                 .experienceYears(5)
                 .originalResume("Senior Java developer with 5 years of experience...")
+                .resumeHeadline("Senior Java developer with 5 years of experience...")
                 .createdAt(OffsetDateTime.now())
                 .updatedAt(OffsetDateTime.now())
                 .build();
@@ -147,11 +176,25 @@ class SearchServiceTest {
         testRecruitSearchResult = RecruitSearchResult.builder()
                 .recruit(testRecruit)
                 .similarityScore(0.85)
+                .skills(List.of("Java", "Python"))
                 .build();
 
+        // Canonicalization: every input skill resolves, sorted by name (code = position)
+        lenient().when(skillCanonicalizationService.canonicalize(anyList()))
+                .thenAnswer(invocation -> Mono.just(canonicalOf(invocation.getArgument(0), List.of())));
+        lenient().when(skillCanonicalizationService.canonicalFold())
+                .thenReturn(Mono.<UnaryOperator<String>>just(skill -> skill.trim().toLowerCase()));
+
+        // Projection: every skill at the center of the visualization frame
+        lenient().when(skillProjectionService.visualize(anyList()))
+                .thenAnswer(invocation -> Mono.just(invocation.<List<String>>getArgument(0).stream()
+                        .map(skill -> SkillMatch.builder().skill(skill).isCore(true).x(50.0).y(50.0).build())
+                        .toList()));
+
         testCandidateSearchResult = CandidateSearchResult.builder()
                 .candidate(testCandidate)
                 .similarityScore(0.85)
+                .skills(List.of("Java", "Python"))
                 .build();
     }
 
@@ -171,11 +214,6 @@ class SearchServiceTest {
                 .thenReturn(Mono.just(queryVector));
         when(recruitSearchRepository.findSimilarByVectorWithScore(eq(queryVector), eq(0.6), eq(10)))
                 .thenReturn(Flux.just(testRecruitSearchResult));
-        when(recruitSkillRepository.findByRecruitId(any(UUID.class)))
-                .thenReturn(Flux.just(
-                        RecruitSkill.builder().recruitId(testRecruit.getRecruitId()).skill("Java").build(),
-                        RecruitSkill.builder().recruitId(testRecruit.getRecruitId()).skill("Python").build()
-                ));
 
         // When
         Mono<SearchMatchesResult> result = searchService.searchMatches(mode, skills, experience, limit, offset, sortBy);
@@ -211,11 +249,6 @@ class SearchServiceTest {
                 .thenReturn(Mono.just(queryVector));
         when(candidateSearchRepository.findSimilarByVectorWithScore(eq(queryVector), eq(0.6), eq(10)))
                 .thenReturn(Flux.just(testCandidateSearchResult));
-        when(candidateSkillRepository.findByCandidateId(any(UUID.class)))
-                .thenReturn(Flux.just(
-                        CandidateSkill.builder().candidateId(testCandidate.getCandidateId()).skill("Java").build(),
-                        CandidateSkill.builder().candidateId(testCandidate.getCandidateId()).skill("Python").build()
-                ));
 
         // When
         Mono<SearchMatchesResult> result = searchService.searchMatches(mode, skills, experience, limit, offset, sortBy);
@@ -259,6 +292,39 @@ class SearchServiceTest {
         verify(skillEmbeddingDicRepository, times(1)).findByCategoryId(any(UUID.class));
     }
 
+    @Test
+    @DisplayName("Should group canonical skills by category with batched lookups")
+    void testGetCategoryDistribution() {
+        // Given
+        SkillEmbeddingDic springSkill = SkillEmbeddingDic.builder()
+                .skillId(UUID.randomUUID())
+                .categoryId(backendCategory.getCategoryId())
+                .skill("Spring")
+                .skillCode(2)
+                .build();
+        when(skillCanonicalizationService.canonicalize(anyList()))
+                .thenReturn(Mono.just(canonicalOf(List.of("Java", "Spring"), List.of("Foo"))));
+        when(skillEmbeddingDicRepository.findBySkillCodeIn(List.of(1, 2)))
+                .thenReturn(Flux.just(javaSkill, springSkill));
+        when(skillCategoryDicRepository.findAllById(List.of(backendCategory.getCategoryId())))
+                .thenReturn(Flux.just(backendCategory));
+
+        // When
+        Mono<List<CategoryMatchDistribution>> result =
+                searchService.getCategoryDistribution(List.of(" java ", "spring", "Foo"));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(distribution -> distribution.size() == 1 &&
+                        distribution.get(0).getCategory().equals("Backend") &&
+                        distribution.get(0).getPercentage() == 100.0 &&
+                        distribution.get(0).getMatchedSkills().equals(List.of("Java", "Spring")))
+                .verifyComplete();
+
+        verify(skillEmbeddingDicRepository, never()).findBySkill(anyString());
+        verify(skillCategoryDicRepository, never()).findById(any(UUID.class));
+    }
+
     @Test
     @DisplayName("Should handle empty search results")
     void testSearchMatchesEmptyResults() {
@@ -286,7 +352,7 @@ class SearchServiceTest {
     }
 
     @Test
-    @DisplayName("Should return vector visualization with skills")
+    @DisplayName("Should return vector visualization from the skill projection")
     void testVectorVisualization() {
         // Given
         UserMode mode = UserMode.CANDIDATE;
@@ -315,6 +381,7 @@ class SearchServiceTest {
                            vectorVisualization.stream().anyMatch(sm -> sm.getSkill().equals("React"));
                 })
                 .verifyComplete();
+        verify(skillProjectionService).visualize(List.of("Java", "Python", "React"));
     }
 
     @Test
@@ -345,4 +412,287 @@ class SearchServiceTest {
 
         verify(recruitSearchRepository, times(1)).findSimilarByVectorWithScore(eq(queryVector), eq(0.6), eq(15));
     }
+
+    @Test
+    @DisplayName("Should aggregate search statistics from the cached candidate set without a statistics query")
+    @SuppressWarnings("unchecked")
+    void testSearchStatisticsFromCachedMatches() {
+        // Given
+        List<MatchItem> cachedMatches = List.of(
+                MatchItem.builder().id("1").skills(List.of("Java", "Spring")).build(),
+                MatchItem.builder().id("2").skills(List.of("Java", "Kotlin")).build(),
+                MatchItem.builder().id("3").skills(List.of("Java")).build()
+        );
+
+        when(cacheService.getOrLoad(anyString(), eq(SearchStatisticsResult.class), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<SearchStatisticsResult>>) invocation.getArgument(2)).get());
+        when(cacheService.<List<MatchItem>>getOrLoadSearchResults(anyString(), any()))
+                .thenReturn(Mono.just(cachedMatches));
+
+        // When
+        Mono<SearchStatisticsResult> result = searchService.getSearchStatistics(UserMode.CANDIDATE, List.of("Java"), 2);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(stats -> stats.getTotalCount() == 3 &&
+                        stats.getTopSkills().size() == 2 &&
+                        stats.getTopSkills().get(0).getSkill().equals("Java") &&
+                        stats.getTopSkills().get(0).getCount() == 3 &&
+                        stats.getTopSkills().get(0).getPercentage() == 75.0)
+                .verifyComplete();
+
+        verify(recruitSearchRepository, never()).estimateMatchCountByVector(anyString(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Should estimate totalCount when the cached candidate set is saturated")
+    @SuppressWarnings("unchecked")
+    void testSearchStatisticsEstimatesTotalCountWhenSaturated() {
+        // Given
+        String queryVector = "[0.1,0.2,0.3]";
+        List<MatchItem> cachedMatches = IntStream.range(0, 500)
+                .mapToObj(i -> MatchItem.builder().id(String.valueOf(i)).skills(List.of("Java")).build())
+                .toList();
+
+        when(cacheService.getOrLoad(anyString(), eq(SearchStatisticsResult.class), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<SearchStatisticsResult>>) invocation.getArgument(2)).get());
+        when(cacheService.<List<MatchItem>>getOrLoadSearchResults(anyString(), any()))
+                .thenReturn(Mono.just(cachedMatches));
+        when(skillNormalizationService.normalizeSkillsToQueryVector(anyList()))
+                .thenReturn(Mono.just(queryVector));
+        when(candidateSearchRepository.estimateMatchCountByVector(eq(queryVector), eq(0.6)))
+                .thenReturn(Mono.just(12_000L));
+
+        // When
+        Mono<SearchStatisticsResult> result = searchService.getSearchStatistics(UserMode.RECRUITER, List.of("Java"), 15);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(stats -> stats.getTotalCount() == 12_000 &&
+                        stats.getTopSkills().get(0).getCount() == 500)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return partial results when the search deadline is exceeded")
+    @SuppressWarnings("unchecked")
+    void testSearchMatchesReturnsPartialOnDeadline() {
+        // Given: ANN stream yields one row then stalls
+        String queryVector = "[0.1,0.2,0.3]";
+
+        when(cacheService.<List<MatchItem>>getOrLoadSearchResults(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<List<MatchItem>>>) invocation.getArgument(1)).get());
+        when(skillNormalizationService.normalizeSkillsToQueryVector(anyList()))
+                .thenReturn(Mono.just(queryVector));
+        when(recruitSearchRepository.findSimilarByVectorWithScore(eq(queryVector), eq(0.6), anyInt()))
+                .thenReturn(Flux.concat(Flux.just(testRecruitSearchResult), Flux.never()));
+
+        // When
+        Mono<SearchMatchesResult> result = searchService.searchMatches(
+                UserMode.CANDIDATE, List.of("Java"), "3-5 Years", 10, 0, null, 100);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(searchResult -> searchResult.isPartial() &&
+                        searchResult.getMatches().size() == 1 &&
+                        searchResult.getMatches().get(0).getTitle().equals("Senior Java Developer"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(prefetchService, never()).prefetchPages(any(), anyList(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should finish a deadline-cut computation detached and cache the full ranking")
+    @SuppressWarnings("unchecked")
+    void testSearchMatchesCachesFullRankingAfterDeadline() {
+        // Given: second ANN row arrives after the deadline
+        String queryVector = "[0.1,0.2,0.3]";
+        RecruitSearchResult lateResult = RecruitSearchResult.builder()
+                .recruit(Recruit.builder()
+                        .recruitId(UUID.randomUUID())
+                        .position("Java Platform Engineer")
+                        .companyName("InfraCorp")
+                        .experienceYears(4)
+                        .build())
+                .similarityScore(0.80)
+                .skills(List.of("Java"))
+                .build();
+
+        when(cacheService.<List<MatchItem>>getOrLoadSearchResults(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<List<MatchItem>>>) invocation.getArgument(1)).get());
+        when(cacheService.putSearchResults(anyString(), any())).thenReturn(Mono.just(true));
+        when(skillNormalizationService.normalizeSkillsToQueryVector(anyList()))
+                .thenReturn(Mono.just(queryVector));
+        when(recruitSearchRepository.findSimilarByVectorWithScore(eq(queryVector), eq(0.6), anyInt()))
+                .thenReturn(Flux.concat(Flux.just(testRecruitSearchResult),
+                        Mono.delay(Duration.ofMillis(400)).thenReturn(lateResult)));
+
+        // When
+        Mono<SearchMatchesResult> result = searchService.searchMatches(
+                UserMode.CANDIDATE, List.of("Java"), "3-5 Years", 10, 0, null, 100);
+
+        // Then: partial page now, full ranking cached once the stream completes
+        StepVerifier.create(result)
+                .expectNextMatches(searchResult -> searchResult.isPartial() && searchResult.getMatches().size() == 1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(cacheService, timeout(2000)).putSearchResults(anyString(),
+                argThat(value -> value instanceof List<?> matches && matches.size() == 2));
+        verify(semanticQueryIndex, timeout(2000)).register(eq("CANDIDATE"), anyString(), eq(queryVector));
+        verify(recruitSearchRepository, times(1)).findSimilarByVectorWithScore(anyString(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should share one ANN stream between concurrent cold misses of the same search")
+    @SuppressWarnings("unchecked")
+    void testSearchMatchesSharesInFlightComputation() {
+        // Given: ANN rows arrive after both identical searches have missed the cache
+        String queryVector = "[0.1,0.2,0.3]";
+
+        when(cacheService.<List<MatchItem>>getOrLoadSearchResults(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<List<MatchItem>>>) invocation.getArgument(1)).get());
+        when(skillNormalizationService.normalizeSkillsToQueryVector(anyList()))
+                .thenReturn(Mono.just(queryVector));
+        when(recruitSearchRepository.findSimilarByVectorWithScore(eq(queryVector), eq(0.6), anyInt()))
+                .thenReturn(Mono.delay(Duration.ofMillis(200)).thenReturn(testRecruitSearchResult).flux());
+
+        // When
+        Mono<SearchMatchesResult> first = searchService.searchMatches(
+                UserMode.CANDIDATE, List.of("Java"), "3-5 Years", 10, 0, null, 1000);
+        Mono<SearchMatchesResult> second = searchService.searchMatches(
+                UserMode.CANDIDATE, List.of("Java"), "3-5 Years", 10, 0, null, 1000);
+
+        // Then: both complete with the full ranking, one vector search
+        StepVerifier.create(Mono.zip(first, second))
+                .expectNextMatches(results -> !results.getT1().isPartial() && results.getT1().getMatches().size() == 1
+                        && !results.getT2().isPartial() && results.getT2().getMatches().size() == 1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(recruitSearchRepository, times(1)).findSimilarByVectorWithScore(anyString(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reuse a near-duplicate cached candidate set and re-score it without vector search")
+    @SuppressWarnings("unchecked")
+    void testSearchMatchesReusesNearDuplicateCandidates() {
+        // Given: cached ranking for [Java, Spring], new query [Java, Kotlin] is a near-duplicate
+        String queryVector = "[0.1,0.2,0.3]";
+        String anchorKey = "searchResults:CANDIDATE:1,2";
+        List<MatchItem> anchorMatches = List.of(
+                MatchItem.builder().id("1").title("Spring Developer").company("A")
+                        .score(90.0).vectorScore(90.0).skills(List.of("Java", "Spring")).build(),
+                MatchItem.builder().id("2").title("Kotlin Developer").company("B")
+                        .score(85.0).vectorScore(88.0).skills(List.of("Java", "Kotlin")).build());
+
+        when(cacheService.<List<MatchItem>>getOrLoadSearchResults(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<List<MatchItem>>>) invocation.getArgument(1)).get());
+        when(skillNormalizationService.normalizeSkillsToQueryVector(anyList()))
+                .thenReturn(Mono.just(queryVector));
+        when(semanticQueryIndex.nearest("CANDIDATE", queryVector)).thenReturn(Optional.of(anchorKey));
+        when(cacheService.peek(anchorKey, Object.class)).thenReturn(Mono.just(anchorMatches));
+
+        // When
+        Mono<SearchMatchesResult> result = searchService.searchMatches(
+                UserMode.CANDIDATE, List.of("Java", "Kotlin"), null, 10, 0, null);
+
+        // Then: skill terms recomputed for the new query → Kotlin posting ranks first
+        StepVerifier.create(result)
+                .expectNextMatches(searchResult -> searchResult.getMatches().size() == 2 &&
+                        searchResult.getMatches().get(0).getId().equals("2") &&
+                        searchResult.getMatches().get(0).getVectorScore() == 88.0)
+                .verifyComplete();
+
+        verify(recruitSearchRepository, never()).findSimilarByVectorWithScore(anyString(), anyDouble(), anyInt());
+        verify(semanticQueryIndex, never()).register(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should search canonical skills only and report unresolved skills")
+    @SuppressWarnings("unchecked")
+    void testSearchMatchesReportsUnresolvedSkills() {
+        // Given
+        String queryVector = "[0.1,0.2,0.3]";
+
+        when(skillCanonicalizationService.canonicalize(anyList()))
+                .thenReturn(Mono.just(canonicalOf(List.of("Java"), List.of("Foo"))));
+        when(skillNormalizationService.normalizeSkillsToQueryVector(List.of("Java")))
+                .thenReturn(Mono.just(queryVector));
+        when(recruitSearchRepository.findSimilarByVectorWithScore(eq(queryVector), eq(0.6), anyInt()))
+                .thenReturn(Flux.just(testRecruitSearchResult));
+        when(cacheService.<List<MatchItem>>getOrLoadSearchResults(eq("searchResults:CANDIDATE:1"), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<List<MatchItem>>>) invocation.getArgument(1)).get());
+
+        // When
+        Mono<SearchMatchesResult> result = searchService.searchMatches(
+                UserMode.CANDIDATE, List.of(" java ", "Foo"), "3-5 Years", 10, 0, null);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(searchResult -> searchResult.getMatches().size() == 1 &&
+                        searchResult.getUnresolvedSkills().equals(List.of("Foo")))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return an empty result without searching when no skill resolves")
+    void testSearchMatchesNoResolvedSkills() {
+        // Given
+        when(skillCanonicalizationService.canonicalize(anyList()))
+                .thenReturn(Mono.just(canonicalOf(List.of(), List.of("Foo", "Bar"))));
+
+        // When
+        Mono<SearchMatchesResult> result = searchService.searchMatches(
+                UserMode.CANDIDATE, List.of("Foo", "Bar"), "3-5 Years", 10, 0, null);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(searchResult -> searchResult.getMatches().isEmpty() &&
+                        searchResult.getUnresolvedSkills().equals(List.of("Foo", "Bar")))
+                .verifyComplete();
+
+        verifyNoInteractions(skillNormalizationService, recruitSearchRepository);
+    }
+
+    @Test
+    @DisplayName("Should compare competency skills with the canonical fold (aliases, whitespace)")
+    void testGetSkillCompetencyMatchUsesCanonicalFold() {
+        // Given: "k8s" is an alias of Kubernetes, "Spring  Boot" differs only in whitespace
+        UUID recruitId = UUID.randomUUID();
+        when(skillCanonicalizationService.canonicalFold())
+                .thenReturn(Mono.<UnaryOperator<String>>just(skill -> {
+                    String key = skill.trim().replaceAll("\\s+", " ").toLowerCase();
+                    return key.equals("k8s") ? "kubernetes" : key;
+                }));
+        when(recruitSkillRepository.findByRecruitId(recruitId))
+                .thenReturn(Flux.just(
+                        RecruitSkill.builder().recruitId(recruitId).skill("Kubernetes").build(),
+                        RecruitSkill.builder().recruitId(recruitId).skill("Spring Boot").build()));
+
+        // When
+        Mono<SkillCompetencyMatch> result = searchService.getSkillCompetencyMatch(
+                UserMode.CANDIDATE, recruitId.toString(), List.of("k8s", "Spring  Boot"));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(match -> match.getMatchedSkills().size() == 2 &&
+                        match.getMissingSkills().isEmpty() &&
+                        match.getExtraSkills().isEmpty() &&
+                        match.getMatchingPercentage() == 100.0)
+                .verifyComplete();
+    }
+
+    /**
+     * Canonical skills stub: resolved skills sorted by name, skill_code = position (1-based)
+     */
+    private static CanonicalSkills canonicalOf(List<String> resolved, List<String> unresolved) {
+        List<String> sorted = resolved.stream().sorted().toList();
+        return CanonicalSkills.builder()
+                .skills(sorted)
+                .skillCodes(IntStream.rangeClosed(1, sorted.size()).boxed().toList())
+                .unresolved(unresolved)
+                .build();
+    }
 }
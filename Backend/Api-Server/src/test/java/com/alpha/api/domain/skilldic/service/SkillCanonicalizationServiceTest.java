@@ -0,0 +1,88 @@
+package com.alpha.api.domain.skilldic.service;
+
+import com.alpha.api.domain.skilldic.entity.SkillAlias;
+import com.alpha.api.domain.skilldic.entity.SkillEmbeddingDic;
+import com.alpha.api.domain.skilldic.repository.SkillAliasRepository;
+import com.alpha.api.domain.skilldic.repository.SkillEmbeddingDicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * SkillCanonicalizationService Test
+ * - Tests case folding, trimming, alias resolution and de-duplication
+ * - Tests canonical cache key (independent of spelling and order)
+ * - Tests dictionary snapshot reuse and refresh()
+ */
+@ExtendWith(MockitoExtension.class)
+class SkillCanonicalizationServiceTest {
+
+    @Mock
+    private SkillEmbeddingDicRepository skillEmbeddingDicRepository;
+
+    @Mock
+    private SkillAliasRepository skillAliasRepository;
+
+    private SkillCanonicalizationService skillCanonicalizationService;
+
+    @BeforeEach
+    void setUp() {
+        skillCanonicalizationService = new SkillCanonicalizationService(skillEmbeddingDicRepository, skillAliasRepository, 10);
+
+        when(skillEmbeddingDicRepository.findAllSkillCodes()).thenReturn(Flux.just(
+                SkillEmbeddingDic.builder().skill("Java").skillCode(3).build(),
+                SkillEmbeddingDic.builder().skill("Kubernetes").skillCode(7).build(),
+                SkillEmbeddingDic.builder().skill("Spring Boot").skillCode(5).build()));
+        when(skillAliasRepository.findAll()).thenReturn(Flux.just(
+                SkillAlias.builder().alias("k8s").skillCode(7).build()));
+    }
+
+    @Test
+    @DisplayName("Case, whitespace, aliases and duplicates collapse to dictionary skills ordered by skill_code")
+    void canonicalize_ResolvesToDictionarySkills() {
+        // When & Then
+        StepVerifier.create(skillCanonicalizationService.canonicalize(List.of(" K8S", "java", "spring   boot", "Java ", "Foo", "foo")))
+                .expectNextMatches(canonical -> canonical.getSkills().equals(List.of("Java", "Spring Boot", "Kubernetes")) &&
+                        canonical.getSkillCodes().equals(List.of(3, 5, 7)) &&
+                        canonical.getUnresolved().equals(List.of("Foo")) &&
+                        canonical.cacheKey().equals("3,5,7"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Different spellings of the same skills share one cache key")
+    void canonicalize_SameKeyForEquivalentInputs() {
+        // When
+        CanonicalSkills first = skillCanonicalizationService.canonicalize(List.of("Java", "Kubernetes")).block();
+        CanonicalSkills second = skillCanonicalizationService.canonicalize(List.of("k8s", " JAVA")).block();
+
+        // Then
+        assertEquals(first.cacheKey(), second.cacheKey());
+        verify(skillEmbeddingDicRepository, times(1)).findAllSkillCodes();
+    }
+
+    @Test
+    @DisplayName("refresh() reloads the dictionary snapshot on next use")
+    void refresh_ReloadsDictionary() {
+        // Given
+        skillCanonicalizationService.canonicalize(List.of("Java")).block();
+
+        // When
+        skillCanonicalizationService.refresh();
+        skillCanonicalizationService.canonicalize(List.of("Java")).block();
+
+        // Then
+        verify(skillEmbeddingDicRepository, times(2)).findAllSkillCodes();
+        verify(skillAliasRepository, times(2)).findAll();
+    }
+}
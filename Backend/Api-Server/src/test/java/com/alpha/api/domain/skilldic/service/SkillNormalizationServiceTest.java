@@ -6,11 +6,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.OffsetDateTime;
@@ -37,7 +37,6 @@ class SkillNormalizationServiceTest {
     @Mock
     private SkillEmbeddingDicRepository skillEmbeddingDicRepository;
 
-    @InjectMocks
     private SkillNormalizationService skillNormalizationService;
 
     private SkillEmbeddingDic javaSkill;
@@ -45,6 +44,8 @@ class SkillNormalizationServiceTest {
 
     @BeforeEach
     void setUp() {
+        skillNormalizationService = new SkillNormalizationService(skillEmbeddingDicRepository, Schedulers.immediate());
+
         UUID categoryId = UUID.randomUUID();
 
         // Create Java skill with 1536-dimension vector for accurate testing
@@ -86,8 +87,8 @@ class SkillNormalizationServiceTest {
         // Then
         StepVerifier.create(result)
                 .expectNextMatches(vector -> {
-                    // Expected average: (0.1 + 0.3) / 2 = 0.2
-                    return vector.startsWith("[") && vector.endsWith("]") && vector.contains("0.2");
+                    // Expected average: (0.1 + 0.3) / 2 = 0.2 in every dimension → unit vector (1/sqrt(1536) each)
+                    return vector.startsWith("[") && vector.endsWith("]") && isUniformUnitVector(vector, 1536);
                 })
                 .verifyComplete();
 
@@ -185,8 +186,8 @@ class SkillNormalizationServiceTest {
         // Then
         StepVerifier.create(result)
                 .expectNextMatches(vector -> {
-                    // Expected: same as original (0.1 for all dimensions)
-                    return vector.contains("0.1");
+                    // Expected: same direction as original (0.1 for all dimensions), scaled to unit length
+                    return isUniformUnitVector(vector, 1536);
                 })
                 .verifyComplete();
     }
@@ -266,6 +267,28 @@ class SkillNormalizationServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should follow dictionary dimension (dimension-agnostic)")
+    void testNormalizeSkillsDimensionAgnostic() {
+        // Given
+        SkillEmbeddingDic smallSkill = SkillEmbeddingDic.builder()
+                .skillId(UUID.randomUUID())
+                .skill("Go")
+                .skillVector(generateDummyVectorList(256, 0.5f))
+                .build();
+
+        when(skillEmbeddingDicRepository.findBySkill("go"))
+                .thenReturn(Mono.just(smallSkill));
+
+        // When
+        Mono<String> result = skillNormalizationService.normalizeSkillsToQueryVector(List.of("Go"));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(vector -> isUniformUnitVector(vector, 256))
+                .verifyComplete();
+    }
+
     /**
      * Generate dummy vector list for testing
      *
@@ -280,4 +303,24 @@ class SkillNormalizationServiceTest {
         }
         return vector;
     }
+
+    /**
+     * Helper: parse vector string and check every component equals 1/sqrt(dimension)
+     */
+    private boolean isUniformUnitVector(String vector, int dimension) {
+        String[] parts = vector.substring(1, vector.length() - 1).split(",");
+        if (parts.length != dimension) {
+            return false;
+        }
+        double expected = 1.0 / Math.sqrt(dimension);
+        double sumOfSquares = 0.0;
+        for (String part : parts) {
+            double value = Double.parseDouble(part.trim());
+            if (Math.abs(value - expected) > 1e-6) {
+                return false;
+            }
+            sumOfSquares += value * value;
+        }
+        return Math.abs(sumOfSquares - 1.0) < 1e-4;
+    }
 }
@@ -0,0 +1,82 @@
+package com.alpha.api.graphql.resolver;
+
+import com.alpha.api.application.service.EntityFieldService;
+import com.alpha.api.domain.recruit.entity.Recruit;
+import com.alpha.api.domain.recruit.entity.RecruitDescription;
+import com.alpha.api.presentation.graphql.resolver.EntityFieldResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * EntityFieldResolver Test
+ * - Tests one batched load per field for all parents
+ * - Tests default values for parents without children
+ */
+@ExtendWith(MockitoExtension.class)
+class EntityFieldResolverTest {
+
+    @Mock
+    private EntityFieldService entityFieldService;
+
+    @InjectMocks
+    private EntityFieldResolver entityFieldResolver;
+
+    private final UUID firstId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private final UUID secondId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+    @Test
+    @DisplayName("Recruit.skills - single batched load, empty list for recruits without skills")
+    void recruitSkills_Batched() {
+        // Given
+        Recruit first = Recruit.builder().recruitId(firstId).build();
+        Recruit second = Recruit.builder().recruitId(secondId).build();
+        when(entityFieldService.getRecruitSkills(any()))
+                .thenReturn(Mono.just(Map.of(firstId, List.of("Java", "Spring"))));
+
+        // When & Then
+        StepVerifier.create(entityFieldResolver.recruitSkills(List.of(first, second)))
+                .assertNext(result -> {
+                    assertEquals(List.of("Java", "Spring"), result.get(first));
+                    assertEquals(List.of(), result.get(second));
+                })
+                .verifyComplete();
+
+        verify(entityFieldService, times(1)).getRecruitSkills(List.of(firstId, secondId));
+    }
+
+    @Test
+    @DisplayName("Recruit.description - recruits without description resolve to null")
+    void recruitDescription_Missing() {
+        // Given
+        Recruit first = Recruit.builder().recruitId(firstId).build();
+        Recruit second = Recruit.builder().recruitId(secondId).build();
+        RecruitDescription description = RecruitDescription.builder()
+                .recruitId(firstId)
+                .longDescription("Backend engineer")
+                .build();
+        when(entityFieldService.getRecruitDescriptions(any()))
+                .thenReturn(Mono.just(Map.of(firstId, description)));
+
+        // When & Then
+        StepVerifier.create(entityFieldResolver.recruitDescription(List.of(first, second)))
+                .assertNext(result -> {
+                    assertSame(description, result.get(first));
+                    assertFalse(result.containsKey(second));
+                })
+                .verifyComplete();
+    }
+}
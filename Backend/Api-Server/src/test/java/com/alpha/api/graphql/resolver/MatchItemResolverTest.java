@@ -0,0 +1,141 @@
+package com.alpha.api.graphql.resolver;
+
+import com.alpha.api.application.scoring.CandidateViewScoringStrategy;
+import com.alpha.api.application.scoring.RecruiterViewScoringStrategy;
+import com.alpha.api.application.scoring.ScoringStrategyFactory;
+import com.alpha.api.domain.skilldic.service.SkillCanonicalizationService;
+import com.alpha.api.presentation.graphql.resolver.MatchItemResolver;
+import com.alpha.api.presentation.graphql.type.MatchItem;
+import graphql.GraphQLContext;
+import graphql.execution.ExecutionStepInfo;
+import graphql.schema.DataFetchingEnvironment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MatchItemResolver Test
+ * - Tests lazy skill gap fields resolved from the enclosing searchMatches arguments
+ * - Tests mode-specific extra/missing semantics
+ * - Tests alias resolution through canonicalFold and one classification per item
+ */
+@ExtendWith(MockitoExtension.class)
+class MatchItemResolverTest {
+
+    @Mock
+    private DataFetchingEnvironment env;
+
+    @Mock
+    private ExecutionStepInfo fieldStep;
+
+    @Mock
+    private ExecutionStepInfo queryStep;
+
+    @Mock
+    private SkillCanonicalizationService skillCanonicalizationService;
+
+    private MatchItemResolver matchItemResolver;
+
+    private MatchItem item;
+
+    @BeforeEach
+    void setUp() {
+        matchItemResolver = new MatchItemResolver(new ScoringStrategyFactory(
+                new CandidateViewScoringStrategy(), new RecruiterViewScoringStrategy()), skillCanonicalizationService);
+
+        UnaryOperator<String> fold = skill -> {
+            String key = skill.trim().toLowerCase(Locale.ROOT);
+            return key.equals("k8s") ? "kubernetes" : key;
+        };
+        lenient().when(skillCanonicalizationService.canonicalFold()).thenReturn(Mono.just(fold));
+        lenient().when(env.getGraphQlContext()).thenReturn(GraphQLContext.newContext().build());
+
+        item = MatchItem.builder()
+                .id("123e4567-e89b-12d3-a456-426614174000")
+                .skills(List.of("Java", "Spring", "Kafka"))
+                .build();
+
+        when(env.getExecutionStepInfo()).thenReturn(fieldStep);
+        when(fieldStep.getArguments()).thenReturn(Map.of());
+        when(fieldStep.getParent()).thenReturn(queryStep);
+    }
+
+    @Test
+    @DisplayName("CANDIDATE mode - extra = searcher only, missing = target only")
+    void skillGap_CandidateMode() {
+        // Given
+        when(queryStep.getArguments()).thenReturn(Map.of("mode", "CANDIDATE", "skills", List.of("Java", "Python")));
+
+        // When & Then
+        assertEquals(List.of("java"), matchItemResolver.matchedSkills(item, env).block());
+        assertEquals(List.of("python"), matchItemResolver.extraSkills(item, env).block());
+        assertEquals(2, matchItemResolver.missingSkills(item, env).block().size());
+    }
+
+    @Test
+    @DisplayName("RECRUITER mode - extra = required but missing, missing = candidate overspec")
+    void skillGap_RecruiterMode() {
+        // Given
+        when(queryStep.getArguments()).thenReturn(Map.of("mode", "RECRUITER", "skills", List.of("Java", "Python")));
+
+        // When & Then
+        assertEquals(List.of("java"), matchItemResolver.matchedSkills(item, env).block());
+        assertEquals(List.of("python"), matchItemResolver.extraSkills(item, env).block());
+        assertTrue(matchItemResolver.missingSkills(item, env).block().containsAll(List.of("spring", "kafka")));
+    }
+
+    @Test
+    @DisplayName("Aliases resolved like scoring - k8s matches Kubernetes")
+    void skillGap_AliasResolved() {
+        // Given
+        MatchItem k8sItem = MatchItem.builder()
+                .id("123e4567-e89b-12d3-a456-426614174001")
+                .skills(List.of("Kubernetes", "Go"))
+                .build();
+        when(queryStep.getArguments()).thenReturn(Map.of("mode", "CANDIDATE", "skills", List.of("K8s ")));
+
+        // When & Then
+        assertEquals(List.of("kubernetes"), matchItemResolver.matchedSkills(k8sItem, env).block());
+        assertTrue(matchItemResolver.extraSkills(k8sItem, env).block().isEmpty());
+        assertEquals(List.of("go"), matchItemResolver.missingSkills(k8sItem, env).block());
+    }
+
+    @Test
+    @DisplayName("Three skill gap fields share one classification per item")
+    void skillGap_ClassifiedOncePerItem() {
+        // Given
+        when(queryStep.getArguments()).thenReturn(Map.of("mode", "CANDIDATE", "skills", List.of("Java", "Python")));
+
+        // When
+        matchItemResolver.matchedSkills(item, env).block();
+        matchItemResolver.extraSkills(item, env).block();
+        matchItemResolver.missingSkills(item, env).block();
+
+        // Then
+        verify(skillCanonicalizationService, times(1)).canonicalFold();
+    }
+
+    @Test
+    @DisplayName("No search arguments - falls back to stored fields")
+    void skillGap_NoSearchContext() {
+        // Given
+        when(queryStep.getArguments()).thenReturn(Map.of());
+        when(queryStep.getParent()).thenReturn(null);
+
+        // When & Then
+        assertNull(matchItemResolver.matchedSkills(item, env).block());
+        verifyNoInteractions(skillCanonicalizationService);
+    }
+}
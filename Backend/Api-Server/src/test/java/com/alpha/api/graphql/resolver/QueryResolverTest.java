@@ -1,16 +1,24 @@
 package com.alpha.api.graphql.resolver;
 
+import com.alpha.api.application.concurrency.AdaptiveLimiter;
+import com.alpha.api.application.concurrency.AdmissionControl;
+import com.alpha.api.application.concurrency.OperationClass;
+import com.alpha.api.application.concurrency.OverloadedException;
 import com.alpha.api.application.service.CacheService;
 import com.alpha.api.application.service.DashboardService;
+import com.alpha.api.application.service.DetailService;
 import com.alpha.api.application.service.SearchService;
+import com.alpha.api.application.service.SkillSuggestionService;
 import com.alpha.api.presentation.graphql.resolver.QueryResolver;
 import com.alpha.api.presentation.graphql.type.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -18,6 +26,7 @@ import reactor.test.StepVerifier;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -26,6 +35,8 @@ import static org.mockito.Mockito.*;
  * - Tests GraphQL query resolvers
  * - Tests searchMatches query (6 parameters: mode, skills, experience, limit, offset, sortBy)
  * - Tests skillCategories query
+ * - Tests admission control degrade / reject paths
+ * - Tests skillSuggestions query (bypasses admission control)
  * - Uses Mockito for mocking SearchService, DashboardService, CacheService
  */
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +48,18 @@ class QueryResolverTest {
     @Mock
     private DashboardService dashboardService;
 
+    @Mock
+    private DetailService detailService;
+
     @Mock
     private CacheService cacheService;
 
+    @Mock
+    private SkillSuggestionService skillSuggestionService;
+
+    @Spy
+    private AdmissionControl admissionControl = new AdmissionControl(new SimpleMeterRegistry(), true, 20, 1, 200);
+
     @InjectMocks
     private QueryResolver queryResolver;
 
@@ -111,11 +131,11 @@ class QueryResolverTest {
         Integer offset = 0;
         String sortBy = "score DESC";
 
-        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy)))
+        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull()))
                 .thenReturn(Mono.just(mockSearchResult));
 
         // When
-        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy);
+        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy, null);
 
         // Then
         StepVerifier.create(result)
@@ -134,7 +154,7 @@ class QueryResolverTest {
                 })
                 .verifyComplete();
 
-        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy));
+        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull());
     }
 
     @Test
@@ -148,11 +168,11 @@ class QueryResolverTest {
         Integer offset = 0;
         String sortBy = "score DESC";
 
-        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy)))
+        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull()))
                 .thenReturn(Mono.just(mockSearchResult));
 
         // When
-        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy);
+        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy, null);
 
         // Then
         StepVerifier.create(result)
@@ -162,7 +182,7 @@ class QueryResolverTest {
                 })
                 .verifyComplete();
 
-        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy));
+        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull());
     }
 
     @Test
@@ -181,11 +201,11 @@ class QueryResolverTest {
                 .vectorVisualization(Arrays.asList())
                 .build();
 
-        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy)))
+        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull()))
                 .thenReturn(Mono.just(emptyResult));
 
         // When
-        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy);
+        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy, null);
 
         // Then
         StepVerifier.create(result)
@@ -195,7 +215,7 @@ class QueryResolverTest {
                 })
                 .verifyComplete();
 
-        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy));
+        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull());
     }
 
     @Test
@@ -209,11 +229,11 @@ class QueryResolverTest {
         Integer offset = 0;
         String sortBy = "score DESC";
 
-        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy)))
+        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull()))
                 .thenReturn(Mono.error(new IllegalArgumentException("No matching skills found in dictionary")));
 
         // When
-        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy);
+        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy, null);
 
         // Then
         StepVerifier.create(result)
@@ -222,7 +242,7 @@ class QueryResolverTest {
                         throwable.getMessage().contains("No matching skills found in dictionary"))
                 .verify();
 
-        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy));
+        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull());
     }
 
     @Test
@@ -299,12 +319,13 @@ class QueryResolverTest {
         Integer limit = 20;
         Integer offset = 5;
         String sortBy = "experience ASC";
+        Integer timeoutMs = 800;
 
-        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy)))
+        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), eq(timeoutMs)))
                 .thenReturn(Mono.just(mockSearchResult));
 
         // When
-        queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy).block();
+        queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy, timeoutMs).block();
 
         // Then
         verify(searchService, times(1)).searchMatches(
@@ -313,7 +334,8 @@ class QueryResolverTest {
                 eq("0-2 Years"),
                 eq(20),
                 eq(5),
-                eq("experience ASC")
+                eq("experience ASC"),
+                eq(800)
         );
     }
 
@@ -336,11 +358,11 @@ class QueryResolverTest {
             Integer offset = 0;
             String sortBy = "score DESC";
 
-            when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy)))
+            when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull()))
                     .thenReturn(Mono.just(mockSearchResult));
 
             // When
-            Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy);
+            Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy, null);
 
             // Then
             StepVerifier.create(result)
@@ -348,7 +370,7 @@ class QueryResolverTest {
                     .verifyComplete();
         }
 
-        verify(searchService, times(4)).searchMatches(any(UserMode.class), anyList(), anyString(), anyInt(), anyInt(), anyString());
+        verify(searchService, times(4)).searchMatches(any(UserMode.class), anyList(), anyString(), anyInt(), anyInt(), anyString(), any());
     }
 
     @Test
@@ -362,18 +384,18 @@ class QueryResolverTest {
         Integer offset = null;
         String sortBy = null;
 
-        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), isNull(), isNull(), isNull()))
+        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), isNull(), isNull(), isNull(), isNull()))
                 .thenReturn(Mono.just(mockSearchResult));
 
         // When
-        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy);
+        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy, null);
 
         // Then
         StepVerifier.create(result)
                 .expectNextMatches(searchResult -> searchResult.getMatches().size() == 2)
                 .verifyComplete();
 
-        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), isNull(), isNull(), isNull());
+        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), isNull(), isNull(), isNull(), isNull());
     }
 
     @Test
@@ -387,15 +409,88 @@ class QueryResolverTest {
         Integer offset = 0;
         String sortBy = "score DESC";
 
-        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy)))
+        when(searchService.searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull()))
                 .thenReturn(Mono.just(mockSearchResult));
 
         // When
-        queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy).block();
+        queryResolver.searchMatches(mode, skills, experience, limit, offset, sortBy, null).block();
 
         // Then
         // Verify that the resolver called the service (logging happens in the resolver)
-        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy));
+        verify(searchService, times(1)).searchMatches(eq(mode), eq(skills), eq(experience), eq(limit), eq(offset), eq(sortBy), isNull());
         // Note: Actual logging verification would require a logging framework mock (e.g., LogCaptor)
     }
+
+    @Test
+    @DisplayName("Should serve cached-only searchMatches when the search limit is exhausted")
+    void testSearchMatchesDegradedWhenOverloaded() {
+        // Given
+        UserMode mode = UserMode.CANDIDATE;
+        List<String> skills = Arrays.asList("Java", "Python");
+        exhaust(OperationClass.SEARCH);
+
+        when(searchService.searchMatchesCachedOnly(eq(mode), eq(skills), eq(10), eq(0)))
+                .thenReturn(Mono.just(mockSearchResult));
+
+        // When
+        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, "3-5 Years", 10, 0, null, null);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(mockSearchResult)
+                .verifyComplete();
+
+        verify(searchService, never()).searchMatches(any(), any(), any(), any(), any(), any(), any());
+        assertEquals(1, admissionControl.limiter(OperationClass.SEARCH).getDegradedCount());
+    }
+
+    @Test
+    @DisplayName("Should reject with OverloadedException when over the limit and nothing is cached")
+    void testSearchMatchesRejectedWhenOverloadedWithoutCache() {
+        // Given
+        UserMode mode = UserMode.RECRUITER;
+        List<String> skills = Arrays.asList("Java");
+        exhaust(OperationClass.SEARCH);
+
+        when(searchService.searchMatchesCachedOnly(any(), any(), any(), any())).thenReturn(Mono.empty());
+
+        // When
+        Mono<SearchMatchesResult> result = queryResolver.searchMatches(mode, skills, null, null, null, null, null);
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(OverloadedException.class)
+                .verify();
+
+        verify(searchService, never()).searchMatches(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should resolve skillSuggestions from the in-memory index even when other classes are overloaded")
+    void testSkillSuggestions() {
+        // Given
+        exhaust(OperationClass.SEARCH);
+        exhaust(OperationClass.DASHBOARD);
+        List<SkillSuggestion> suggestions = List.of(
+                SkillSuggestion.builder().skill("Kubernetes").category("DevOps").popularity(120).fuzzy(false).build());
+        when(skillSuggestionService.suggest("kub", 5, UserMode.CANDIDATE)).thenReturn(suggestions);
+
+        // When
+        Mono<List<SkillSuggestion>> result = queryResolver.skillSuggestions("kub", 5, UserMode.CANDIDATE);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(suggestions)
+                .verifyComplete();
+    }
+
+    /**
+     * Occupy every slot of the operation class limiter
+     */
+    private void exhaust(OperationClass operationClass) {
+        AdaptiveLimiter limiter = admissionControl.limiter(operationClass);
+        while (limiter.tryAcquire()) {
+            // hold slot
+        }
+    }
 }
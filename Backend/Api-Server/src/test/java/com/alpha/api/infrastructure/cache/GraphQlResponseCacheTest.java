@@ -0,0 +1,101 @@
+package com.alpha.api.infrastructure.cache;
+
+import com.alpha.api.infrastructure.graphql.PersistedDocumentProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GraphQlResponseCache Test
+ * - Tests cacheable document detection (allowed root fields, query operations only)
+ * - Tests key normalization (whitespace, variable order) and data version bump
+ * - Tests error responses are not stored
+ */
+class GraphQlResponseCacheTest {
+
+    private GraphQlResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new GraphQlResponseCache(new ObjectMapper(), new PersistedDocumentProvider(100, true, 100), true,
+                List.of("skillCategories", "dashboardData", "topCompanies"), 16, 60, 4096);
+    }
+
+    @Test
+    @DisplayName("Cacheable document - formatting and variable order do not change the key")
+    void keyOf_NormalizesDocumentAndVariables() {
+        // Given
+        String first = "{\"query\":\"query Dash($m: UserMode!) { dashboardData(userMode: $m) { category } }\","
+                + "\"variables\":{\"m\":\"CANDIDATE\",\"x\":1}}";
+        String second = "{\"query\":\"query Dash($m: UserMode!) {\\n  dashboardData(userMode: $m) {\\n    category\\n  }\\n}\","
+                + "\"variables\":{\"x\":1,\"m\":\"CANDIDATE\"}}";
+
+        // When
+        String firstKey = responseCache.keyOf(bytes(first));
+        String secondKey = responseCache.keyOf(bytes(second));
+
+        // Then
+        assertNotNull(firstKey);
+        assertEquals(firstKey, secondKey);
+    }
+
+    @Test
+    @DisplayName("Not cacheable - user-specific root field or mutation")
+    void keyOf_RejectsOtherDocuments() {
+        // When & Then
+        assertNull(responseCache.keyOf(bytes("{\"query\":\"{ skillCategories { category } searchMatches(mode: CANDIDATE, skills: [\\\"Java\\\"]) { matches { id } } }\"}")));
+        assertNull(responseCache.keyOf(bytes("{\"query\":\"mutation { topCompanies }\"}")));
+        assertNull(responseCache.keyOf(bytes("not json")));
+    }
+
+    @Test
+    @DisplayName("Version bump - previous keys no longer resolve")
+    void bumpVersion_ChangesKeys() {
+        // Given
+        byte[] request = bytes("{\"query\":\"{ skillCategories { category } }\"}");
+        String key = responseCache.keyOf(request);
+        responseCache.put(key, bytes("{\"data\":{\"skillCategories\":[]}}"), MediaType.APPLICATION_JSON);
+
+        // When
+        responseCache.bumpVersion();
+
+        // Then
+        assertNotEquals(key, responseCache.keyOf(request));
+        assertNull(responseCache.get(key));
+    }
+
+    @Test
+    @DisplayName("Error responses are not stored")
+    void put_SkipsErrors() {
+        // Given
+        String key = responseCache.keyOf(bytes("{\"query\":\"{ topCompanies { companyName } }\"}"));
+
+        // When
+        GraphQlResponseCache.CachedResponse stored = responseCache.put(key,
+                bytes("{\"errors\":[{\"message\":\"boom\"}]}"), MediaType.APPLICATION_JSON);
+
+        // Then
+        assertNull(stored);
+        assertNull(responseCache.get(key));
+    }
+
+    @Test
+    @DisplayName("Body length pre-check - only small bodies with a known length are buffered")
+    void acceptsBodyLength_RejectsUnknownOrLarge() {
+        // When & Then
+        assertTrue(responseCache.acceptsBodyLength(120));
+        assertFalse(responseCache.acceptsBodyLength(-1));
+        assertFalse(responseCache.acceptsBodyLength(4097));
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,180 @@
+package com.alpha.api.infrastructure.cache;
+
+import com.alpha.api.domain.cache.port.DataVersionPort;
+import com.alpha.api.presentation.graphql.type.SkillMatch;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * L1WarmRestart Test
+ * - Tests snapshot on shutdown → restore into a fresh L1 (values keep their types)
+ * - Tests discarding on data version change / unknown version, and entries past max age
+ * - L1 built from the production Caffeine spec: restored entries expire one L1 TTL after the restore
+ * - Tests snapshot file format checks (L1CacheSnapshot: magic, truncation)
+ */
+@ExtendWith(MockitoExtension.class)
+class L1WarmRestartTest {
+
+    // = spring.cache.caffeine.spec in application.yml
+    private static final String L1_SPEC = "maximumSize=10000,expireAfterWrite=10s";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private DataVersionPort dataVersion;
+
+    private Path snapshotPath;
+    private final AtomicLong tickerNanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        snapshotPath = tempDir.resolve("l1-cache.snapshot");
+        lenient().when(dataVersion.initializeIfAbsent()).thenReturn(Mono.just(false));
+    }
+
+    @Test
+    @DisplayName("Snapshot on shutdown is restored into a fresh L1 with the same value types")
+    void snapshotAndRestore_SameDataVersion() {
+        // Given
+        when(dataVersion.current()).thenReturn(Mono.just(42L));
+        CaffeineCacheAdapter before = newL1();
+        SkillMatch java = SkillMatch.builder().skill("Java").isCore(true).x(10.0).y(20.0).build();
+        before.restore("skill:java", java);
+        before.restore("dashboard:CANDIDATE", "cached");
+        newWarmRestart(before, 10).stop();
+
+        // When
+        CaffeineCacheAdapter after = newL1();
+        StepVerifier.create(newWarmRestart(after, 10).restore())
+                .expectNext(2)
+                .verifyComplete();
+
+        // Then
+        assertEquals(java, after.get("skill:java", SkillMatch.class).block());
+        assertEquals("cached", after.get("dashboard:CANDIDATE", String.class).block());
+        assertFalse(Files.exists(snapshotPath));
+    }
+
+    @Test
+    @DisplayName("Snapshot from an older data version is discarded")
+    void restore_DataVersionChanged_Discards() {
+        // Given
+        when(dataVersion.current()).thenReturn(Mono.just(1L), Mono.just(2L));
+        CaffeineCacheAdapter before = newL1();
+        before.restore("skill:java", "value");
+        newWarmRestart(before, 10).stop();
+
+        // When
+        CaffeineCacheAdapter after = newL1();
+        StepVerifier.create(newWarmRestart(after, 10).restore())
+                .expectNext(0)
+                .verifyComplete();
+
+        // Then
+        assertNull(after.get("skill:java", String.class).block());
+        verify(dataVersion).initializeIfAbsent();
+    }
+
+    @Test
+    @DisplayName("Unknown data version at startup → snapshot discarded")
+    void restore_UnknownDataVersion_Discards() throws IOException {
+        // Given
+        L1CacheSnapshot.write(snapshotPath, new L1CacheSnapshot.Contents(7L, System.currentTimeMillis(), List.of(
+                new L1CacheSnapshot.Entry("skill:java", System.currentTimeMillis(), "\"value\"".getBytes()))));
+        when(dataVersion.current()).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(newWarmRestart(newL1(), 10).restore())
+                .expectNext(0)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Entries past max age are dropped")
+    void restore_DropsEntriesPastMaxAge() throws IOException {
+        // Given
+        long now = System.currentTimeMillis();
+        L1CacheSnapshot.write(snapshotPath, new L1CacheSnapshot.Contents(7L, now, List.of(
+                new L1CacheSnapshot.Entry("fresh", now, "\"a\"".getBytes()),
+                new L1CacheSnapshot.Entry("old", now - TimeUnit.MINUTES.toMillis(30), "\"b\"".getBytes()))));
+        when(dataVersion.current()).thenReturn(Mono.just(7L));
+        CaffeineCacheAdapter after = newL1();
+
+        // When & Then
+        StepVerifier.create(newWarmRestart(after, 10).restore())
+                .expectNext(1)
+                .verifyComplete();
+        assertEquals("a", after.get("fresh", String.class).block());
+        assertNull(after.get("old", String.class).block());
+    }
+
+    @Test
+    @DisplayName("Restored entries live one L1 TTL from the restore, not the rest of max-age")
+    void restore_EntriesExpireAfterL1Ttl() throws IOException {
+        // Given: written 5 minutes ago, within max age
+        long now = System.currentTimeMillis();
+        L1CacheSnapshot.write(snapshotPath, new L1CacheSnapshot.Contents(7L, now, List.of(
+                new L1CacheSnapshot.Entry("dashboard:CANDIDATE", now - TimeUnit.MINUTES.toMillis(5), "\"a\"".getBytes()))));
+        when(dataVersion.current()).thenReturn(Mono.just(7L));
+        CaffeineCacheAdapter after = newL1();
+        StepVerifier.create(newWarmRestart(after, 10).restore())
+                .expectNext(1)
+                .verifyComplete();
+
+        // When & Then
+        tickerNanos.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertEquals("a", after.get("dashboard:CANDIDATE", String.class).block());
+        tickerNanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertNull(after.get("dashboard:CANDIDATE", String.class).block());
+    }
+
+    @Test
+    @DisplayName("Corrupt or truncated snapshot files are rejected")
+    void read_RejectsCorruptFiles() throws IOException {
+        // Given
+        L1CacheSnapshot.write(snapshotPath, new L1CacheSnapshot.Contents(7L, 0L, List.of(
+                new L1CacheSnapshot.Entry("key", 0L, new byte[]{1, 2, 3}))));
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        Path truncated = tempDir.resolve("truncated");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 2));
+        Path garbage = tempDir.resolve("garbage");
+        Files.write(garbage, new byte[]{0, 1, 2, 3, 4, 5, 6, 7});
+
+        // When & Then
+        assertEquals(1, L1CacheSnapshot.read(snapshotPath).entries().size());
+        assertThrows(IOException.class, () -> L1CacheSnapshot.read(truncated));
+        assertThrows(IOException.class, () -> L1CacheSnapshot.read(garbage));
+    }
+
+    private CaffeineCacheAdapter newL1() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.from(L1_SPEC).ticker(tickerNanos::get));
+        return new CaffeineCacheAdapter(cacheManager, new ObjectMapper());
+    }
+
+    private L1WarmRestart newWarmRestart(CaffeineCacheAdapter l1Cache, long maxAgeMinutes) {
+        return new L1WarmRestart(l1Cache, dataVersion, true, snapshotPath.toString(), 100, maxAgeMinutes, 1000);
+    }
+}
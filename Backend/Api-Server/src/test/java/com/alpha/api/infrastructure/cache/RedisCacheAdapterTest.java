@@ -0,0 +1,83 @@
+package com.alpha.api.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisCacheAdapter Test
+ * - Tests the pending-write limit counts subscribed puts only (permit taken on subscription)
+ * - Tests the permit is returned on completion and cancel
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisCacheAdapterTest {
+
+    @Mock
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, Object> valueOperations;
+
+    private RedisCacheAdapter redisCacheAdapter;
+
+    @BeforeEach
+    void setUp() {
+        // One pending write allowed
+        redisCacheAdapter = new RedisCacheAdapter(reactiveRedisTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                50, 200, 2000, 1, 5, 10000);
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Assembled but never subscribed puts - no permit held, later put is written")
+    void put_PermitTakenOnSubscription() {
+        // Given
+        when(valueOperations.set(anyString(), any(), any(Duration.class))).thenReturn(Mono.just(true));
+        redisCacheAdapter.put("a", "1", Duration.ofMinutes(1));
+        redisCacheAdapter.put("b", "2", Duration.ofMinutes(1));
+
+        // When & Then
+        StepVerifier.create(redisCacheAdapter.put("c", "3", Duration.ofMinutes(1)))
+                .expectNext(true)
+                .verifyComplete();
+        verify(valueOperations, times(1)).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Pending write limit - extra put dropped, permit returned on cancel")
+    void put_DropsOverLimitAndReleasesOnCancel() {
+        // Given: the only permit held by a pending write
+        Sinks.One<Boolean> pending = Sinks.one();
+        when(valueOperations.set(eq("slow"), any(), any(Duration.class))).thenReturn(pending.asMono());
+        when(valueOperations.set(eq("next"), any(), any(Duration.class))).thenReturn(Mono.just(true));
+        Disposable slowWrite = redisCacheAdapter.put("slow", "1", Duration.ofMinutes(1)).subscribe();
+
+        // When & Then: over the limit → dropped without a Redis call
+        StepVerifier.create(redisCacheAdapter.put("dropped", "2", Duration.ofMinutes(1)))
+                .expectNext(false)
+                .verifyComplete();
+        verify(valueOperations, never()).set(eq("dropped"), any(), any(Duration.class));
+
+        // When & Then: cancelled write returns its permit
+        slowWrite.dispose();
+        StepVerifier.create(redisCacheAdapter.put("next", "3", Duration.ofMinutes(1)))
+                .expectNext(true)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,77 @@
+package com.alpha.api.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SemanticQueryIndex Test
+ * - Tests nearest-neighbour lookup against the similarity threshold
+ * - Tests namespace isolation (user modes never share candidate sets)
+ * - Tests removal and disabled index
+ */
+class SemanticQueryIndexTest {
+
+    private SemanticQueryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SemanticQueryIndex(true, 0.95, 100, 5);
+    }
+
+    @Test
+    @DisplayName("nearest - closest vector at or above the threshold wins")
+    void nearest_ReturnsClosestAboveThreshold() {
+        // Given
+        index.register("CANDIDATE", "exact", "[1.0,0.0,0.0]");
+        index.register("CANDIDATE", "close", "[0.96,0.28,0.0]");
+        index.register("CANDIDATE", "far", "[0.0,1.0,0.0]");
+
+        // When
+        Optional<String> nearest = index.nearest("CANDIDATE", "[0.99,0.141,0.0]");
+
+        // Then
+        assertEquals(Optional.of("exact"), nearest);
+    }
+
+    @Test
+    @DisplayName("nearest - nothing above the threshold → empty")
+    void nearest_BelowThreshold_ReturnsEmpty() {
+        // Given
+        index.register("CANDIDATE", "far", "[0.0,1.0,0.0]");
+
+        // When & Then
+        assertTrue(index.nearest("CANDIDATE", "[1.0,0.0,0.0]").isEmpty());
+    }
+
+    @Test
+    @DisplayName("nearest - other namespaces are never matched")
+    void nearest_IsolatedByNamespace() {
+        // Given
+        index.register("RECRUITER", "recruiter", "[1.0,0.0,0.0]");
+
+        // When & Then
+        assertTrue(index.nearest("CANDIDATE", "[1.0,0.0,0.0]").isEmpty());
+        assertEquals(Optional.of("recruiter"), index.nearest("RECRUITER", "[1.0,0.0,0.0]"));
+    }
+
+    @Test
+    @DisplayName("remove / disabled - lookups miss")
+    void removeAndDisabled_Miss() {
+        // Given
+        index.register("CANDIDATE", "exact", "[1.0,0.0,0.0]");
+        SemanticQueryIndex disabled = new SemanticQueryIndex(false, 0.95, 100, 5);
+        disabled.register("CANDIDATE", "exact", "[1.0,0.0,0.0]");
+
+        // When
+        index.remove("exact");
+
+        // Then
+        assertTrue(index.nearest("CANDIDATE", "[1.0,0.0,0.0]").isEmpty());
+        assertTrue(disabled.nearest("CANDIDATE", "[1.0,0.0,0.0]").isEmpty());
+    }
+}
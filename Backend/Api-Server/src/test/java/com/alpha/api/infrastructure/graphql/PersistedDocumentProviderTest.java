@@ -0,0 +1,101 @@
+package com.alpha.api.infrastructure.graphql;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.parser.Parser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PersistedDocumentProvider Test
+ * - Tests parse/validate once per document text
+ * - Tests APQ registration, hash-only lookup, unknown hash and hash mismatch
+ */
+class PersistedDocumentProviderTest {
+
+    private static final String QUERY = "{ skillCategories { category } }";
+
+    private PersistedDocumentProvider provider;
+    private AtomicInteger parseCount;
+    private Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate;
+
+    @BeforeEach
+    void setUp() {
+        provider = new PersistedDocumentProvider(100, true, 100);
+        parseCount = new AtomicInteger();
+        parseAndValidate = input -> {
+            parseCount.incrementAndGet();
+            return new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+        };
+    }
+
+    @Test
+    @DisplayName("Document cache - same query text parsed and validated once")
+    void getDocument_CachesParsedDocument() {
+        // When
+        provider.getDocumentAsync(input(QUERY, Map.of()), parseAndValidate).join();
+        PreparsedDocumentEntry entry = provider.getDocumentAsync(input(QUERY, Map.of()), parseAndValidate).join();
+
+        // Then
+        assertFalse(entry.hasErrors());
+        assertEquals(1, parseCount.get());
+    }
+
+    @Test
+    @DisplayName("APQ - unknown hash → PersistedQueryNotFound, registered hash → cached document")
+    void getDocument_PersistedQueryFlow() throws Exception {
+        // Given
+        Map<String, Object> extensions = apq(sha256(QUERY));
+
+        // When & Then: hash only, not registered
+        PreparsedDocumentEntry miss = provider.getDocumentAsync(input("", extensions), parseAndValidate).join();
+        assertEquals("PersistedQueryNotFound", miss.getErrors().get(0).getMessage());
+
+        // When & Then: hash + query registers
+        assertFalse(provider.getDocumentAsync(input(QUERY, extensions), parseAndValidate).join().hasErrors());
+
+        // When & Then: hash only resolves without parsing again
+        PreparsedDocumentEntry hit = provider.getDocumentAsync(input("", extensions), parseAndValidate).join();
+        assertFalse(hit.hasErrors());
+        assertNotNull(hit.getDocument());
+        assertEquals(1, parseCount.get());
+        assertEquals(QUERY, provider.findPersistedQuery(sha256(QUERY)));
+    }
+
+    @Test
+    @DisplayName("APQ - hash not matching the query is rejected and not registered")
+    void getDocument_HashMismatch() throws Exception {
+        // Given
+        String wrongHash = sha256("{ topCompanies { companyName } }");
+
+        // When
+        PreparsedDocumentEntry entry = provider.getDocumentAsync(input(QUERY, apq(wrongHash)), parseAndValidate).join();
+
+        // Then
+        assertTrue(entry.hasErrors());
+        assertNull(provider.findPersistedQuery(wrongHash));
+        assertEquals(0, parseCount.get());
+    }
+
+    private ExecutionInput input(String query, Map<String, Object> extensions) {
+        return ExecutionInput.newExecutionInput().query(query).extensions(extensions).build();
+    }
+
+    private Map<String, Object> apq(String hash) {
+        return Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+    }
+
+    private String sha256(String value) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
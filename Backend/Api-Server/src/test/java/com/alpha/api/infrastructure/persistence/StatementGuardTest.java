@@ -0,0 +1,60 @@
+package com.alpha.api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Wrapped;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * StatementGuard Test
+ * - Tests statement_timeout selection per query class
+ * - Tests caller SET LOCAL statements kept after the timeout
+ * - Tests cancel closes the physical connection instead of releasing it live
+ */
+class StatementGuardTest {
+
+    private final StatementGuard statementGuard = new StatementGuard(new SimpleMeterRegistry(), 3000, 5000, 10000);
+
+    @Test
+    @DisplayName("SET LOCAL statements - class timeout first, then caller settings")
+    void settingsFor_TimeoutThenCallerSettings() {
+        // When
+        List<String> search = statementGuard.settingsFor(QueryClass.SEARCH, List.of("SET LOCAL hnsw.ef_search = 200"));
+        List<String> dashboard = statementGuard.settingsFor(QueryClass.DASHBOARD, List.of());
+
+        // Then
+        assertEquals(List.of(
+                "SET LOCAL statement_timeout = 3000",
+                "SET LOCAL hnsw.ef_search = 200"), search);
+        assertEquals(List.of("SET LOCAL statement_timeout = 10000"), dashboard);
+    }
+
+    @Test
+    @DisplayName("Cancel - CancelRequest sent, then the unwrapped Postgres connection is closed")
+    void cancel_SendsCancelThenClosesPhysicalConnection() {
+        // Given: pooled wrapper around the Postgres connection
+        PostgresqlConnection physical = mock(PostgresqlConnection.class);
+        when(physical.cancelRequest()).thenReturn(Mono.empty());
+        when(physical.close()).thenReturn(Mono.empty());
+        Connection pooled = mock(Connection.class, withSettings().extraInterfaces(Wrapped.class));
+        when(((Wrapped<?>) pooled).unwrap()).thenAnswer(invocation -> physical);
+
+        // When
+        statementGuard.cancel(QueryClass.SEARCH, pooled);
+
+        // Then
+        InOrder inOrder = inOrder(physical);
+        inOrder.verify(physical).cancelRequest();
+        inOrder.verify(physical).close();
+        verify(pooled, never()).close();
+    }
+}
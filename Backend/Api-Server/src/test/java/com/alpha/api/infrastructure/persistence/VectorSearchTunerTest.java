@@ -0,0 +1,116 @@
+package com.alpha.api.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VectorSearchTuner Test
+ * - Tests ef_search derivation from requested window
+ * - Tests feedback controller (shortfall → widen, over budget → narrow)
+ * - Tests SET LOCAL statement generation
+ * - Tests coarse search routing per vector storage
+ */
+@ExtendWith(MockitoExtension.class)
+class VectorSearchTunerTest {
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private StatementGuard statementGuard;
+
+    @InjectMocks
+    private VectorSearchTuner vectorSearchTuner;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(vectorSearchTuner, "minEfSearch", 40);
+        ReflectionTestUtils.setField(vectorSearchTuner, "maxEfSearch", 1000);
+        ReflectionTestUtils.setField(vectorSearchTuner, "initialFactor", 1.5);
+        ReflectionTestUtils.setField(vectorSearchTuner, "minFactor", 1.0);
+        ReflectionTestUtils.setField(vectorSearchTuner, "maxFactor", 4.0);
+        ReflectionTestUtils.setField(vectorSearchTuner, "iterativeScan", "strict_order");
+        ReflectionTestUtils.setField(vectorSearchTuner, "maxScanTuples", 20000);
+        ReflectionTestUtils.setField(vectorSearchTuner, "latencyBudgetMs", 300L);
+    }
+
+    @Test
+    @DisplayName("ef_search - window × factor, clamped to [min, max]")
+    void efSearchFor_ClampsToBounds() {
+        // When & Then
+        assertEquals(40, vectorSearchTuner.efSearchFor("recruit", 10));
+        assertEquals(750, vectorSearchTuner.efSearchFor("recruit", 500));
+        assertEquals(1000, vectorSearchTuner.efSearchFor("recruit", 5000));
+    }
+
+    @Test
+    @DisplayName("Feedback - shortfall within budget widens the beam")
+    void recordOutcome_Shortfall_IncreasesEfSearch() {
+        // Given
+        int before = vectorSearchTuner.efSearchFor("recruit", 100);
+
+        // When
+        vectorSearchTuner.recordOutcome("recruit", 100, 60, 50);
+
+        // Then
+        assertTrue(vectorSearchTuner.efSearchFor("recruit", 100) > before);
+        assertEquals(before, vectorSearchTuner.efSearchFor("candidate", 100));
+    }
+
+    @Test
+    @DisplayName("Feedback - over latency budget narrows the beam")
+    void recordOutcome_OverBudget_DecreasesEfSearch() {
+        // Given
+        int before = vectorSearchTuner.efSearchFor("candidate", 100);
+
+        // When
+        vectorSearchTuner.recordOutcome("candidate", 100, 60, 900);
+
+        // Then
+        assertTrue(vectorSearchTuner.efSearchFor("candidate", 100) < before);
+    }
+
+    @Test
+    @DisplayName("SET LOCAL statements - iterative scan included only when enabled")
+    void settingsFor_IterativeScanToggle() {
+        // When
+        List<String> enabled = vectorSearchTuner.settingsFor(200);
+        ReflectionTestUtils.setField(vectorSearchTuner, "iterativeScan", "off");
+        List<String> disabled = vectorSearchTuner.settingsFor(200);
+
+        // Then
+        assertEquals(List.of(
+                "SET LOCAL hnsw.ef_search = 200",
+                "SET LOCAL hnsw.iterative_scan = strict_order",
+                "SET LOCAL hnsw.max_scan_tuples = 20000"), enabled);
+        assertEquals(List.of("SET LOCAL hnsw.ef_search = 200"), disabled);
+    }
+
+    @Test
+    @DisplayName("Coarse search - same pipeline for every storage, off when disabled")
+    void usesCoarseSearch_FollowsConfig() {
+        // Given
+        ReflectionTestUtils.setField(vectorSearchTuner, "coarseSearchEnabled", true);
+
+        // When & Then
+        assertTrue(vectorSearchTuner.usesCoarseSearch());
+
+        ReflectionTestUtils.setField(vectorSearchTuner, "coarseSearchEnabled", false);
+        assertFalse(vectorSearchTuner.usesCoarseSearch());
+    }
+}
@@ -5,6 +5,8 @@ import com.alpha.backend.domain.candidate.entity.CandidateDescriptionEntity;
 import com.alpha.backend.domain.candidate.entity.CandidateEntity;
 import com.alpha.backend.domain.candidate.entity.CandidateSkillEntity;
 import com.alpha.backend.domain.candidate.entity.CandidateSkillsEmbeddingEntity;
+import com.alpha.backend.domain.common.ResumeHeadline;
+import com.alpha.backend.domain.common.VectorNormalizer;
 import com.alpha.backend.infrastructure.config.BatchProperties;
 import com.alpha.backend.infrastructure.grpc.proto.CandidateRow;
 import com.pgvector.PGvector;
@@ -28,6 +30,8 @@ import java.util.stream.Collectors;
  * 3. List<CandidateSkillEntity> - skills 배열 분해 (1:N)
  * 4. CandidateDescriptionEntity - 이력서 원문
  * 5. CandidateSkillsEmbeddingEntity - skills + vector
+ *    - skills_vector: L2 정규화 단위 벡터 (Inner Product 검색)
+ *    - skills_vector_coarse: 앞 256차원 prefix 정규화본 (half/bit 컬럼은 upsert SQL에서 파생)
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -51,11 +55,9 @@ public class CandidateItemProcessor implements ItemProcessor<CandidateRow, Candi
             // 3. CandidateDescriptionEntity 생성
             CandidateDescriptionEntity description = createDescription(protoRow, candidateId);
 
-            // 4. CandidateSkillsEmbeddingEntity 생성
-            CandidateSkillsEmbeddingEntity embedding = createEmbedding(protoRow, candidateId);
-
-            // 벡터 차원 검증
+            // 4. CandidateSkillsEmbeddingEntity 생성 (벡터 차원 검증 후 정규화)
             validateVectorDimension(protoRow.getSkillsVectorList());
+            CandidateSkillsEmbeddingEntity embedding = createEmbedding(protoRow, candidateId);
 
             log.debug("[Candidate Processor] Processed candidate: {} ({} skills, vector: {}d)",
                     candidateId, skills.size(), protoRow.getSkillsVectorList().size());
@@ -82,6 +84,7 @@ public class CandidateItemProcessor implements ItemProcessor<CandidateRow, Candi
         candidate.setPositionCategory(protoRow.getPositionCategory());
         candidate.setExperienceYears(protoRow.getExperienceYears());
         candidate.setOriginalResume(protoRow.getOriginalResume());
+        candidate.setResumeHeadline(ResumeHeadline.of(protoRow.getOriginalResume()));
         return candidate;
     }
 
@@ -120,10 +123,16 @@ public class CandidateItemProcessor implements ItemProcessor<CandidateRow, Candi
             vectorArray[i] = vectorList.get(i);
         }
 
+        // L2 정규화 (Inner Product 검색용 단위 벡터)
+        VectorNormalizer.l2Normalize(vectorArray);
+
         CandidateSkillsEmbeddingEntity embedding = new CandidateSkillsEmbeddingEntity();
         embedding.setCandidateId(candidateId);
         embedding.setSkills(protoRow.getSkillsList().toArray(new String[0]));
         embedding.setSkillsVector(new PGvector(vectorArray));
+        // Coarse 검색용 prefix 벡터 (Matryoshka)
+        embedding.setSkillsVectorCoarse(new PGvector(VectorNormalizer.truncateAndNormalize(
+                vectorArray, batchProperties.getDomainConfig("candidate").getCoarseDimension())));
 
         return embedding;
     }
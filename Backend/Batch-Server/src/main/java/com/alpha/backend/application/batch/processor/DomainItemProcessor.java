@@ -3,6 +3,7 @@ package com.alpha.backend.application.batch.processor;
 import com.alpha.backend.application.batch.dto.DomainItem;
 import com.alpha.backend.domain.common.BaseEmbeddingEntity;
 import com.alpha.backend.domain.common.BaseMetadataEntity;
+import com.alpha.backend.domain.common.VectorNormalizer;
 import com.alpha.backend.infrastructure.config.BatchProperties;
 import com.pgvector.PGvector;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import java.util.UUID;
  * 공통 기능:
  * - List<Float> → float[] 변환
  * - Vector 차원 검증
+ * - Vector L2 정규화 (Inner Product 검색용)
  * - PGvector 생성
  *
  * 하위 클래스 구현:
@@ -53,6 +55,7 @@ public abstract class DomainItemProcessor<I, M extends BaseMetadataEntity, E ext
             List<Float> vectorList = extractVector(protoRow);
             float[] vectorArray = convertToFloatArray(vectorList);
             validateVectorDimension(vectorArray, id);
+            VectorNormalizer.l2Normalize(vectorArray);
 
             // 4. Embedding Entity 생성
             E embedding = createEmbedding(id, vectorArray);
@@ -5,6 +5,7 @@ import com.alpha.backend.domain.recruit.entity.RecruitDescriptionEntity;
 import com.alpha.backend.domain.recruit.entity.RecruitEntity;
 import com.alpha.backend.domain.recruit.entity.RecruitSkillEntity;
 import com.alpha.backend.domain.recruit.entity.RecruitSkillsEmbeddingEntity;
+import com.alpha.backend.domain.common.VectorNormalizer;
 import com.alpha.backend.infrastructure.config.BatchProperties;
 import com.alpha.backend.infrastructure.grpc.proto.RecruitRow;
 import com.pgvector.PGvector;
@@ -27,6 +28,8 @@ import java.util.UUID;
  * 3. List<RecruitSkillEntity> - 요구 스킬 목록 (1:N, skills 배열 분해)
  * 4. RecruitDescriptionEntity - 채용 공고 원문 (long_description, description_lang)
  * 5. RecruitSkillsEmbeddingEntity - 스킬 벡터 (skills[], skills_vector)
+ *    - skills_vector: L2 정규화 단위 벡터 (Inner Product 검색)
+ *    - skills_vector_coarse: 앞 256차원 prefix 정규화본 (half/bit 컬럼은 upsert SQL에서 파생)
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -50,11 +53,9 @@ public class RecruitItemProcessor implements ItemProcessor<RecruitRow, RecruitIt
             // 3. RecruitDescriptionEntity 생성
             RecruitDescriptionEntity description = createDescription(protoRow, recruitId);
 
-            // 4. RecruitSkillsEmbeddingEntity 생성
-            RecruitSkillsEmbeddingEntity embedding = createEmbedding(protoRow, recruitId);
-
-            // 벡터 차원 검증
+            // 4. RecruitSkillsEmbeddingEntity 생성 (벡터 차원 검증 후 정규화)
             validateVectorDimension(protoRow.getSkillsVectorList());
+            RecruitSkillsEmbeddingEntity embedding = createEmbedding(protoRow, recruitId);
 
             log.debug("[Recruit Processor] Processed recruit: {} ({} skills, vector: {}d)",
                     recruitId, skills.size(), protoRow.getSkillsVectorList().size());
@@ -129,10 +130,16 @@ public class RecruitItemProcessor implements ItemProcessor<RecruitRow, RecruitIt
             vectorArray[i] = vectorList.get(i);
         }
 
+        // L2 정규화 (Inner Product 검색용 단위 벡터)
+        VectorNormalizer.l2Normalize(vectorArray);
+
         RecruitSkillsEmbeddingEntity embedding = new RecruitSkillsEmbeddingEntity();
         embedding.setRecruitId(recruitId);
         embedding.setSkills(protoRow.getSkillsList().toArray(new String[0]));
         embedding.setSkillsVector(new PGvector(vectorArray));
+        // Coarse 검색용 prefix 벡터 (Matryoshka)
+        embedding.setSkillsVectorCoarse(new PGvector(VectorNormalizer.truncateAndNormalize(
+                vectorArray, batchProperties.getDomainConfig("recruit").getCoarseDimension())));
 
         return embedding;
     }
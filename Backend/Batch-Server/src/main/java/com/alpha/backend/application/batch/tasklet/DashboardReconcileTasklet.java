@@ -0,0 +1,122 @@
+package com.alpha.backend.application.batch.tasklet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+/**
+ * Dashboard 집계 Reconcile Tasklet
+ *
+ * Batch Writer가 증분 유지하는 집계 테이블을 원본 테이블 기준으로 보정 (drift 복구)
+ *
+ * 동작 (Step 트랜잭션 1개):
+ * 1. LOCK TABLE ... SHARE ROW EXCLUSIVE → 진행 중인 writer 완료 대기, 이후 writer는 reconcile 종료까지 대기
+ * 2. 원본 GROUP BY 결과와 다른 행만 UPSERT (값이 같은 행은 건드리지 않음)
+ * 3. 원본에 없는 집계 행 DELETE
+ *
+ * 대기 중인 writer의 증분은 reconcile 커밋 이후 적용되므로 누락/중복 없음
+ */
+@Slf4j
+public class DashboardReconcileTasklet implements Tasklet {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String name;
+    private final String aggregateTable;
+    private final String reconcileSql;
+
+    public DashboardReconcileTasklet(JdbcTemplate jdbcTemplate, String name, String aggregateTable, String reconcileSql) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.name = name;
+        this.aggregateTable = aggregateTable;
+        this.reconcileSql = reconcileSql;
+    }
+
+    /**
+     * recruit_skill / candidate_skill → dashboard_skill_count
+     */
+    public static DashboardReconcileTasklet skillCounts(JdbcTemplate jdbcTemplate, String domain, String skillTable) {
+        String sql = String.format("""
+                WITH actual AS (
+                    SELECT LOWER(skill) AS skill_key, COUNT(*) AS entity_count
+                    FROM %2$s
+                    GROUP BY LOWER(skill)
+                ),
+                fixed AS (
+                    INSERT INTO dashboard_skill_count (domain, skill_key, entity_count, updated_at)
+                    SELECT '%1$s', a.skill_key, a.entity_count, NOW()
+                    FROM actual a
+                    LEFT JOIN dashboard_skill_count d ON d.domain = '%1$s' AND d.skill_key = a.skill_key
+                    WHERE d.entity_count IS DISTINCT FROM a.entity_count
+                    ORDER BY a.skill_key
+                    ON CONFLICT (domain, skill_key)
+                    DO UPDATE SET entity_count = EXCLUDED.entity_count, updated_at = NOW()
+                    RETURNING 1
+                ),
+                removed AS (
+                    DELETE FROM dashboard_skill_count d
+                    WHERE d.domain = '%1$s'
+                      AND NOT EXISTS (SELECT 1 FROM actual a WHERE a.skill_key = d.skill_key)
+                    RETURNING 1
+                )
+                SELECT (SELECT COUNT(*) FROM fixed) AS fixed_count,
+                       (SELECT COUNT(*) FROM removed) AS removed_count
+                """, domain, skillTable);
+        return new DashboardReconcileTasklet(jdbcTemplate, domain + "-skills", "dashboard_skill_count", sql);
+    }
+
+    /**
+     * recruit → dashboard_company_count
+     */
+    public static DashboardReconcileTasklet companyCounts(JdbcTemplate jdbcTemplate) {
+        String sql = """
+                WITH actual AS (
+                    SELECT company_name, COUNT(*) AS job_count
+                    FROM recruit
+                    GROUP BY company_name
+                ),
+                fixed AS (
+                    INSERT INTO dashboard_company_count (company_name, job_count, updated_at)
+                    SELECT a.company_name, a.job_count, NOW()
+                    FROM actual a
+                    LEFT JOIN dashboard_company_count d ON d.company_name = a.company_name
+                    WHERE d.job_count IS DISTINCT FROM a.job_count
+                    ORDER BY a.company_name
+                    ON CONFLICT (company_name)
+                    DO UPDATE SET job_count = EXCLUDED.job_count, updated_at = NOW()
+                    RETURNING 1
+                ),
+                removed AS (
+                    DELETE FROM dashboard_company_count d
+                    WHERE NOT EXISTS (SELECT 1 FROM actual a WHERE a.company_name = d.company_name)
+                    RETURNING 1
+                )
+                SELECT (SELECT COUNT(*) FROM fixed) AS fixed_count,
+                       (SELECT COUNT(*) FROM removed) AS removed_count
+                """;
+        return new DashboardReconcileTasklet(jdbcTemplate, "companies", "dashboard_company_count", sql);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        long startTime = System.currentTimeMillis();
+
+        // Writer 증분과 reconcile 덮어쓰기가 겹치지 않도록 집계 테이블 잠금 (SELECT는 허용)
+        jdbcTemplate.execute("LOCK TABLE " + aggregateTable + " IN SHARE ROW EXCLUSIVE MODE");
+
+        Map<String, Object> result = jdbcTemplate.queryForMap(reconcileSql);
+        long fixed = ((Number) result.get("fixed_count")).longValue();
+        long removed = ((Number) result.get("removed_count")).longValue();
+
+        contribution.incrementWriteCount(fixed + removed);
+
+        log.info("[DASHBOARD_RECONCILE] {} | fixed: {}, removed: {} | {}ms",
+                name, fixed, removed, System.currentTimeMillis() - startTime);
+
+        return RepeatStatus.FINISHED;
+    }
+}
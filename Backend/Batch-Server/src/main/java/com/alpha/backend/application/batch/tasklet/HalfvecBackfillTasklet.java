@@ -0,0 +1,135 @@
+package com.alpha.backend.application.batch.tasklet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.repeat.RepeatContext;
+import org.springframework.batch.infrastructure.repeat.RepeatListener;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * halfvec Backfill Tasklet
+ *
+ * 기존 vector 컬럼 → halfvec 컬럼을 배치 단위로 복사 (온라인 마이그레이션)
+ *
+ * 동작:
+ * - execute() 1회 = batchSize 건 UPDATE (Step 트랜잭션 1개)
+ * - 남은 행이 있으면 CONTINUABLE → 다음 배치 전 pauseMs 대기
+ *   (RepeatListener.before: Step 반복 단위에서 호출, 트랜잭션 시작 전 → 커넥션/락 미보유 상태에서 대기)
+ * - beforeStep에서 throttle 상태 초기화 (Job 재실행 시 첫 배치는 대기 없음)
+ * - Keyset 페이징: id > lastId ORDER BY id LIMIT batchSize (PK 인덱스) → 이미 채운 행을 다시 스캔하지 않음
+ *   lastId는 Step ExecutionContext에 저장 → 실패 후 재시작 시 이어서 진행
+ * - FOR UPDATE SKIP LOCKED: 동시 dual-write 중인 행은 건너뜀 (해당 행은 writer가 채움)
+ * - 재실행 안전: halfvec IS NULL 인 행만 갱신
+ * - id 컬럼은 UUID PK
+ */
+@Slf4j
+public class HalfvecBackfillTasklet implements Tasklet, StepExecutionListener, RepeatListener {
+
+    static final String LAST_ID_KEY = "halfvecBackfill.lastId";
+    private static final String MIN_UUID = "00000000-0000-0000-0000-000000000000";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String idColumn;
+    private final String sourceColumn;
+    private final String targetColumn;
+    private final int dimension;
+    private final int batchSize;
+    private final long pauseMs;
+
+    private volatile boolean firstBatch = true;
+
+    public HalfvecBackfillTasklet(JdbcTemplate jdbcTemplate, String table, String idColumn,
+                                  String sourceColumn, String targetColumn,
+                                  int dimension, int batchSize, long pauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.idColumn = idColumn;
+        this.sourceColumn = sourceColumn;
+        this.targetColumn = targetColumn;
+        this.dimension = dimension;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        firstBatch = true;
+    }
+
+    /**
+     * Throttle: 첫 배치 이후 매 배치 전에 대기 (Step 트랜잭션 밖)
+     */
+    @Override
+    public void before(RepeatContext context) {
+        if (firstBatch || pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        firstBatch = false;
+
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        String lastId = executionContext.containsKey(LAST_ID_KEY) ? executionContext.getString(LAST_ID_KEY) : MIN_UUID;
+
+        // 1. 다음 id 페이지 (PK 순) → 2. 그중 비어 있는 행만 잠금 → 3. 복사
+        String sql = String.format("""
+                WITH page AS (
+                    SELECT %2$s AS id
+                    FROM %1$s
+                    WHERE %2$s > CAST(? AS uuid)
+                    ORDER BY %2$s
+                    LIMIT ?
+                ),
+                targets AS (
+                    SELECT t.%2$s AS id
+                    FROM %1$s t
+                    JOIN page p ON p.id = t.%2$s
+                    WHERE t.%4$s IS NULL
+                      AND t.%3$s IS NOT NULL
+                    FOR UPDATE OF t SKIP LOCKED
+                ),
+                updated AS (
+                    UPDATE %1$s t
+                    SET %4$s = CAST(t.%3$s AS halfvec(%5$d))
+                    FROM targets
+                    WHERE t.%2$s = targets.id
+                    RETURNING 1
+                )
+                SELECT (SELECT COUNT(*) FROM page) AS scanned,
+                       (SELECT id::text FROM page ORDER BY id DESC LIMIT 1) AS last_id,
+                       (SELECT COUNT(*) FROM updated) AS updated
+                """, table, idColumn, sourceColumn, targetColumn, dimension);
+
+        PageResult page = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new PageResult(
+                rs.getInt("scanned"), rs.getString("last_id"), rs.getInt("updated")), lastId, batchSize);
+
+        contribution.incrementWriteCount(page.updated());
+        if (page.lastId() != null) {
+            executionContext.putString(LAST_ID_KEY, page.lastId());
+        }
+
+        // contribution은 execute() 반환 후 StepExecution에 반영 → 이번 배치분을 더해서 출력
+        log.info("[HALFVEC_BACKFILL] table: {} | scanned: {} | updated: {} | total: {} | lastId: {}",
+                table, page.scanned(), page.updated(), stepExecution.getWriteCount() + page.updated(), page.lastId());
+
+        return page.scanned() < batchSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    private record PageResult(int scanned, String lastId, int updated) {
+    }
+}
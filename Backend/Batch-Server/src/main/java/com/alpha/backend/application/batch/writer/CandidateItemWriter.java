@@ -1,6 +1,7 @@
 package com.alpha.backend.application.batch.writer;
 
 import com.alpha.backend.application.batch.dto.CandidateItem;
+import com.alpha.backend.application.usecase.CacheInvalidationService;
 import com.alpha.backend.domain.candidate.entity.CandidateDescriptionEntity;
 import com.alpha.backend.domain.candidate.entity.CandidateEntity;
 import com.alpha.backend.domain.candidate.entity.CandidateSkillEntity;
@@ -29,6 +30,8 @@ import java.util.List;
  *
  * 저장 순서 (FK 제약 조건):
  * candidate → candidate_skill, candidate_description, candidate_skills_embedding
+ *
+ * 커밋 이후 API 서버의 Candidate 상세 캐시 무효화 (CacheInvalidationService)
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -38,6 +41,7 @@ public class CandidateItemWriter implements ItemWriter<CandidateItem> {
     private final CandidateSkillJpaRepository candidateSkillRepository;
     private final CandidateDescriptionJpaRepository candidateDescriptionRepository;
     private final CandidateSkillsEmbeddingJpaRepository candidateSkillsEmbeddingRepository;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Override
     @Transactional
@@ -81,6 +85,10 @@ public class CandidateItemWriter implements ItemWriter<CandidateItem> {
             log.debug("[Candidate Writer] Upserting {} embeddings", embeddings.size());
             candidateSkillsEmbeddingRepository.upsertAll(embeddings);
 
+            // 5. 상세 캐시 무효화 (chunk 트랜잭션 커밋 이후 전송)
+            cacheInvalidationService.invalidateCandidatesAfterCommit(
+                    candidates.stream().map(CandidateEntity::getCandidateId).toList());
+
             log.info("[Candidate Writer] Successfully wrote {} candidates ({} skills, {} descriptions, {} embeddings)",
                     candidates.size(), allSkills.size(), descriptions.size(), embeddings.size());
 
@@ -1,6 +1,7 @@
 package com.alpha.backend.application.batch.writer;
 
 import com.alpha.backend.application.batch.dto.RecruitItem;
+import com.alpha.backend.application.usecase.CacheInvalidationService;
 import com.alpha.backend.domain.recruit.entity.RecruitDescriptionEntity;
 import com.alpha.backend.domain.recruit.entity.RecruitEntity;
 import com.alpha.backend.domain.recruit.entity.RecruitSkillEntity;
@@ -33,6 +34,8 @@ import java.util.concurrent.Future;
  *
  * 저장 순서 (FK 제약 조건):
  * recruit → recruit_skill, recruit_description, recruit_skills_embedding
+ *
+ * 커밋 이후 API 서버의 Recruit 상세 캐시 무효화 (CacheInvalidationService)
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -42,6 +45,7 @@ public class RecruitItemWriter implements ItemWriter<RecruitItem> {
     private final RecruitSkillJpaRepository recruitSkillRepository;
     private final RecruitDescriptionJpaRepository recruitDescriptionRepository;
     private final RecruitSkillsEmbeddingJpaRepository recruitSkillsEmbeddingRepository;
+    private final CacheInvalidationService cacheInvalidationService;
     private final EntityManager entityManager;
 
     @Override
@@ -108,6 +112,10 @@ public class RecruitItemWriter implements ItemWriter<RecruitItem> {
             entityManager.flush();
             entityManager.clear();
 
+            // 4. 상세 캐시 무효화 (chunk 트랜잭션 커밋 이후 전송)
+            cacheInvalidationService.invalidateRecruitsAfterCommit(
+                    recruits.stream().map(RecruitEntity::getRecruitId).toList());
+
             log.info("[Recruit Writer] Successfully wrote {} recruits ({} skills, {} descriptions, {} embeddings), EntityManager cleared",
                     recruits.size(), allSkills.size(), descriptions.size(), embeddings.size());
 
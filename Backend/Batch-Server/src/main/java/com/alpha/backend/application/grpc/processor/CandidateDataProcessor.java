@@ -1,6 +1,9 @@
 package com.alpha.backend.application.grpc.processor;
 
 import com.alpha.backend.application.grpc.dto.CandidateRowDto;
+import com.alpha.backend.application.usecase.CacheInvalidationService;
+import com.alpha.backend.domain.common.ResumeHeadline;
+import com.alpha.backend.domain.common.VectorNormalizer;
 import com.alpha.backend.domain.candidate.entity.CandidateDescriptionEntity;
 import com.alpha.backend.domain.candidate.entity.CandidateEntity;
 import com.alpha.backend.domain.candidate.entity.CandidateSkillEntity;
@@ -13,6 +16,7 @@ import com.alpha.backend.infrastructure.config.BatchProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pgvector.PGvector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -46,6 +50,7 @@ public class CandidateDataProcessor implements DataProcessor {
     private final CandidateDescriptionRepository candidateDescriptionRepository;
     private final CandidateSkillsEmbeddingRepository candidateSkillsEmbeddingRepository;
     private final BatchProperties batchProperties;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Override
     public int processChunk(byte[] jsonChunk) {
@@ -131,6 +136,10 @@ public class CandidateDataProcessor implements DataProcessor {
             log.info("Parallel write completed: candidate={}ms, parallel(skill+desc+embedding)={}ms, total={}ms",
                     candidateTime, parallelTime, totalTime);
 
+            // 5. 상세 캐시 무효화 (upsert 완료 후)
+            cacheInvalidationService.invalidateCandidatesAfterCommit(
+                    candidateEntities.stream().map(CandidateEntity::getCandidateId).toList());
+
             return dtos.size();
 
         } catch (JsonProcessingException e) {
@@ -156,6 +165,7 @@ public class CandidateDataProcessor implements DataProcessor {
         entity.setPositionCategory(dto.getPositionCategory());
         entity.setExperienceYears(dto.getExperienceYears());
         entity.setOriginalResume(dto.getOriginalResume());
+        entity.setResumeHeadline(ResumeHeadline.of(dto.getOriginalResume()));
 
         return entity;
     }
@@ -211,9 +221,19 @@ public class CandidateDataProcessor implements DataProcessor {
             vectorArray[i] = dto.getSkillsVector().get(i);
         }
 
+        // L2 정규화 (Inner Product 검색용 단위 벡터)
+        VectorNormalizer.l2Normalize(vectorArray);
+
         // List<String> → String[]
         String[] skillsArray = dto.getSkills().toArray(new String[0]);
 
-        return CandidateSkillsEmbeddingEntity.fromFloatArray(candidateId, skillsArray, vectorArray);
+        CandidateSkillsEmbeddingEntity entity =
+                CandidateSkillsEmbeddingEntity.fromFloatArray(candidateId, skillsArray, vectorArray);
+
+        // Coarse 검색용 prefix 벡터 (Matryoshka)
+        entity.setSkillsVectorCoarse(new PGvector(VectorNormalizer.truncateAndNormalize(
+                vectorArray, batchProperties.getDomainConfig("candidate").getCoarseDimension())));
+
+        return entity;
     }
 }
@@ -24,4 +24,12 @@ public interface DataProcessor {
      * @return 도메인 이름 (예: "recruit", "candidate")
      */
     String getDomain();
+
+    /**
+     * 스트림 전체 수신 완료 후 후처리 (모든 청크 저장 이후 1회 호출)
+     * <p>
+     * 기본 구현은 아무 작업도 하지 않음. 실패해도 적재 결과에는 영향 없음 (로그만 남김)
+     */
+    default void onStreamCompleted() {
+    }
 }
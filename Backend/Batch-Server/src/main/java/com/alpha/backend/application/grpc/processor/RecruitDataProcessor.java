@@ -1,6 +1,8 @@
 package com.alpha.backend.application.grpc.processor;
 
 import com.alpha.backend.application.grpc.dto.RecruitRowDto;
+import com.alpha.backend.application.usecase.CacheInvalidationService;
+import com.alpha.backend.domain.common.VectorNormalizer;
 import com.alpha.backend.domain.recruit.entity.RecruitDescriptionEntity;
 import com.alpha.backend.domain.recruit.entity.RecruitEntity;
 import com.alpha.backend.domain.recruit.entity.RecruitSkillEntity;
@@ -50,6 +52,7 @@ public class RecruitDataProcessor implements DataProcessor {
     private final RecruitDescriptionRepository recruitDescriptionRepository;
     private final RecruitSkillsEmbeddingRepository recruitSkillsEmbeddingRepository;
     private final BatchProperties batchProperties;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Override
     public int processChunk(byte[] jsonChunk) {
@@ -135,6 +138,10 @@ public class RecruitDataProcessor implements DataProcessor {
             log.info("Parallel write completed: recruit={}ms, parallel(skill+desc+embedding)={}ms, total={}ms",
                     recruitTime, parallelTime, totalTime);
 
+            // 5. 상세 캐시 무효화 (upsert 완료 후)
+            cacheInvalidationService.invalidateRecruitsAfterCommit(
+                    recruitEntities.stream().map(RecruitEntity::getRecruitId).toList());
+
             return dtos.size();
 
         } catch (JsonProcessingException e) {
@@ -221,10 +228,15 @@ public class RecruitDataProcessor implements DataProcessor {
             vectorArray[i] = dto.getSkillsVector().get(i);
         }
 
+        // L2 정규화 (Inner Product 검색용 단위 벡터)
+        VectorNormalizer.l2Normalize(vectorArray);
+
         RecruitSkillsEmbeddingEntity entity = new RecruitSkillsEmbeddingEntity();
         entity.setRecruitId(recruitId);
         entity.setSkills(dto.getSkills() != null ? dto.getSkills().toArray(new String[0]) : new String[0]);
         entity.setSkillsVector(new PGvector(vectorArray));
+        entity.setSkillsVectorCoarse(new PGvector(VectorNormalizer.truncateAndNormalize(
+                vectorArray, batchProperties.getDomainConfig("recruit").getCoarseDimension())));
 
         return entity;
     }
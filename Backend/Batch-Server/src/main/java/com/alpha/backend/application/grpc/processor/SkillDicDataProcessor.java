@@ -1,6 +1,7 @@
 package com.alpha.backend.application.grpc.processor;
 
 import com.alpha.backend.application.grpc.dto.SkillDicRowDto;
+import com.alpha.backend.application.usecase.SkillProjectionService;
 import com.alpha.backend.domain.skilldic.entity.SkillCategoryDicEntity;
 import com.alpha.backend.domain.skilldic.entity.SkillEmbeddingDicEntity;
 import com.alpha.backend.domain.skilldic.repository.SkillCategoryDicRepository;
@@ -22,6 +23,8 @@ import java.util.*;
  * Python 서버로부터 전송된 Skill Dictionary 데이터를 JSON에서 파싱하여 2개 테이블에 저장
  * - skill_category_dic: 카테고리 정보
  * - skill_embedding_dic: 스킬 및 벡터 정보
+ * <p>
+ * 스트림 완료 후 사전이 바뀌었으면 벡터 시각화용 2D 투영(PCA) 재계산
  */
 @Slf4j
 @Component
@@ -31,6 +34,7 @@ public class SkillDicDataProcessor implements DataProcessor {
     private final ObjectMapper objectMapper;
     private final SkillCategoryDicRepository skillCategoryDicRepository;
     private final SkillEmbeddingDicRepository skillEmbeddingDicRepository;
+    private final SkillProjectionService skillProjectionService;
 
     // 카테고리명 -> UUID 캐시 (동일 chunk 내에서 중복 조회 방지)
     private final Map<String, UUID> categoryCache = new HashMap<>();
@@ -92,6 +96,12 @@ public class SkillDicDataProcessor implements DataProcessor {
             skillEmbeddingDicRepository.upsertAll(embeddingEntities);
             log.info("Upserted {} skill embedding entities", embeddingEntities.size());
 
+            // 5. 신규 등록된 스킬로 미해결 스킬 재매칭 (skill_code)
+            int resolved = skillEmbeddingDicRepository.resolvePendingSkillCodes();
+            if (resolved > 0) {
+                log.info("Resolved {} pending skill codes", resolved);
+            }
+
             return dtos.size();
 
         } catch (JsonProcessingException e) {
@@ -103,6 +113,14 @@ public class SkillDicDataProcessor implements DataProcessor {
         }
     }
 
+    /**
+     * 사전 적재 완료 → 2D 투영 재계산 (사전 fingerprint가 바뀐 경우에만)
+     */
+    @Override
+    public void onStreamCompleted() {
+        skillProjectionService.refreshIfDictionaryChanged();
+    }
+
     /**
      * 카테고리 조회 또는 생성
      *
@@ -1,35 +1,38 @@
 package com.alpha.backend.application.usecase;
 
-import reactor.core.publisher.Mono;
+import java.util.Collection;
+import java.util.UUID;
 
 /**
  * 캐시 무효화 서비스 인터페이스
  *
- * API Server에 도메인별 캐시 무효화 요청을 전송하는 서비스
+ * API Server에 엔티티별 상세 캐시 / 전체 캐시 무효화 요청을 전송하는 서비스
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 전송 (롤백 시 전송하지 않음, 커밋 전 값이 다시 캐시되지 않음)
+ * - 트랜잭션 밖에서 호출되면 즉시 전송
+ * - 비동기 전송: 적재 경로를 지연시키지 않으며, 실패는 로그만 남김 (상세 캐시는 L2 TTL로 만료)
  */
 public interface CacheInvalidationService {
 
     /**
-     * 도메인별 캐시 무효화 요청 (Reactive)
+     * Recruit 상세 캐시 무효화 (upsert 이후)
      *
-     * @param domain 무효화할 도메인 (예: "recruit", "candidate")
-     * @return Mono<Boolean> 성공 여부
+     * @param recruitIds 갱신된 Recruit ID 목록
      */
-    Mono<Boolean> invalidateCacheForDomain(String domain);
+    void invalidateRecruitsAfterCommit(Collection<UUID> recruitIds);
 
     /**
-     * 도메인별 캐시 무효화 요청 (동기)
+     * Candidate 상세 캐시 무효화 (upsert 이후)
      *
-     * @param domain 무효화할 도메인
-     * @return 성공 여부
+     * @param candidateIds 갱신된 Candidate ID 목록
      */
-    boolean invalidateCacheForDomainSync(String domain);
+    void invalidateCandidatesAfterCommit(Collection<UUID> candidateIds);
 
     /**
-     * 여러 도메인의 캐시 일괄 무효화 (Reactive)
+     * 전체 캐시 무효화 (gRPC 적재 스트림 / Batch Job 완료 후)
+     * - 집계(dashboardData, topCompanies), 검색 결과, GraphQL 응답 캐시, 스킬 사전 스냅샷이 대상
+     * - 커밋이 끝난 시점에서 호출 (즉시 전송)
      *
-     * @param domains 무효화할 도메인 목록
-     * @return Mono<Boolean> 모든 무효화 성공 여부
+     * @param reason 무효화 사유
      */
-    Mono<Boolean> invalidateMultipleDomains(String... domains);
+    void invalidateAll(String reason);
 }
@@ -4,83 +4,87 @@ import com.alpha.backend.infrastructure.grpc.client.CacheInvalidateGrpcClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
 /**
  * 캐시 무효화 서비스 구현체
  *
- * API Server에 도메인별 캐시 무효화 요청을 전송하는 서비스
+ * API Server의 InvalidateRecruitCache / InvalidateCandidateCache를 ID별로 호출
+ * InvalidateAllCaches는 적재 단위로 1회 호출
+ * - 동시 요청 수는 MAX_CONCURRENCY로 제한
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CacheInvalidationServiceImpl implements CacheInvalidationService {
 
+    private static final int MAX_CONCURRENCY = 16;
+
     private final CacheInvalidateGrpcClient cacheInvalidateGrpcClient;
 
     @Override
-    public Mono<Boolean> invalidateCacheForDomain(String domain) {
-        log.info("[CACHE_INVALIDATE_REQUEST] Domain: {}", domain);
+    public void invalidateRecruitsAfterCommit(Collection<UUID> recruitIds) {
+        afterCommit("recruit", List.copyOf(recruitIds), cacheInvalidateGrpcClient::invalidateRecruit);
+    }
 
-        return cacheInvalidateGrpcClient.invalidateCache(domain)
-                .doOnSuccess(success -> {
+    @Override
+    public void invalidateCandidatesAfterCommit(Collection<UUID> candidateIds) {
+        afterCommit("candidate", List.copyOf(candidateIds), cacheInvalidateGrpcClient::invalidateCandidate);
+    }
+
+    @Override
+    public void invalidateAll(String reason) {
+        log.info("[CACHE_INVALIDATE_ALL_REQUEST] Reason: {}", reason);
+
+        cacheInvalidateGrpcClient.invalidateAll(reason)
+                .subscribe(success -> {
                     if (success) {
-                        log.info("[CACHE_INVALIDATE_SUCCESS] Domain: {}", domain);
+                        log.info("[CACHE_INVALIDATE_ALL_SUCCESS] Reason: {}", reason);
                     } else {
-                        log.warn("[CACHE_INVALIDATE_FAILED] Domain: {}", domain);
+                        log.warn("[CACHE_INVALIDATE_ALL_FAILED] Reason: {}", reason);
                     }
-                })
-                .doOnError(error ->
-                        log.error("[CACHE_INVALIDATE_ERROR] Domain: {} | Error: {}",
-                                domain, error.getMessage(), error)
-                );
+                });
     }
 
-    @Override
-    public boolean invalidateCacheForDomainSync(String domain) {
-        log.info("[CACHE_INVALIDATE_SYNC_REQUEST] Domain: {}", domain);
+    private void afterCommit(String domain, List<UUID> ids, Function<UUID, Mono<Boolean>> invalidation) {
+        if (ids.isEmpty()) {
+            return;
+        }
 
-        try {
-            boolean result = cacheInvalidateGrpcClient.invalidateSafely(domain);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(domain, ids, invalidation);
+            return;
+        }
 
-            if (result) {
-                log.info("[CACHE_INVALIDATE_SYNC_SUCCESS] Domain: {}", domain);
-            } else {
-                log.warn("[CACHE_INVALIDATE_SYNC_FAILED] Domain: {}", domain);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(domain, ids, invalidation);
             }
-
-            return result;
-
-        } catch (Exception e) {
-            log.error("[CACHE_INVALIDATE_SYNC_ERROR] Domain: {} | Error: {}",
-                    domain, e.getMessage(), e);
-            return false;
-        }
+        });
     }
 
-    @Override
-    public Mono<Boolean> invalidateMultipleDomains(String... domains) {
-        if (domains == null || domains.length == 0) {
-            log.warn("[CACHE_INVALIDATE_MULTIPLE] No domains provided");
-            return Mono.just(false);
-        }
-
-        log.info("[CACHE_INVALIDATE_MULTIPLE] Invalidating {} domains: {}",
-                domains.length, String.join(", ", domains));
+    private void send(String domain, List<UUID> ids, Function<UUID, Mono<Boolean>> invalidation) {
+        log.info("[CACHE_INVALIDATE_REQUEST] Domain: {} | IDs: {}", domain, ids.size());
 
-        return Flux.fromArray(domains)
-                .flatMap(this::invalidateCacheForDomain)
-                .reduce(true, (acc, result) -> acc && result)
-                .doOnSuccess(allSuccess -> {
-                    if (allSuccess) {
-                        log.info("[CACHE_INVALIDATE_MULTIPLE_SUCCESS] All domains invalidated successfully");
+        Flux.fromIterable(ids)
+                .flatMap(invalidation, MAX_CONCURRENCY)
+                .filter(success -> !success)
+                .count()
+                .subscribe(failed -> {
+                    if (failed == 0) {
+                        log.info("[CACHE_INVALIDATE_SUCCESS] Domain: {} | IDs: {}", domain, ids.size());
                     } else {
-                        log.warn("[CACHE_INVALIDATE_MULTIPLE_PARTIAL] Some domains failed to invalidate");
+                        log.warn("[CACHE_INVALIDATE_FAILED] Domain: {} | Failed: {}/{}", domain, failed, ids.size());
                     }
-                })
-                .doOnError(error ->
-                        log.error("[CACHE_INVALIDATE_MULTIPLE_ERROR] Error: {}", error.getMessage(), error)
-                );
+                });
     }
 }
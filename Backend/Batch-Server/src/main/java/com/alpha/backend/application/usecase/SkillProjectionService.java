@@ -0,0 +1,17 @@
+package com.alpha.backend.application.usecase;
+
+/**
+ * 스킬 임베딩 2D 투영 서비스 인터페이스
+ *
+ * skill_embedding_dic 전체 벡터에 PCA를 수행하여 벡터 시각화용 좌표와 기저를 저장
+ * (API Server가 메모리에 올려 검색 스킬 좌표 조회 / 신규 벡터 투영에 사용)
+ */
+public interface SkillProjectionService {
+
+    /**
+     * 사전이 마지막 투영 이후 변경된 경우에만 재계산
+     *
+     * @return 새 투영 버전 저장 여부 (변경 없음 / 스킬 부족 시 false)
+     */
+    boolean refreshIfDictionaryChanged();
+}
@@ -0,0 +1,166 @@
+package com.alpha.backend.application.usecase;
+
+import com.alpha.backend.domain.common.PrincipalComponents;
+import com.pgvector.PGvector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스킬 임베딩 2D 투영 서비스 구현체
+ *
+ * skill_dic 적재 완료 시 호출 (SkillDicDataProcessor.onStreamCompleted)
+ *
+ * 동작 (트랜잭션 1개):
+ * 1. pg_advisory_xact_lock → 동시에 끝난 적재 스트림의 중복 계산 방지
+ * 2. 사전 fingerprint가 최신 skill_projection과 같으면 종료
+ * 3. 전체 스킬 벡터 로드 → PCA (Power Iteration, 주성분 2개)
+ * 4. 주성분 좌표를 0~100으로 스케일 → skill_projection + skill_projection_point 저장
+ * 5. 최근 batch.skill-projection.keep-versions 개 버전만 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SkillProjectionServiceImpl implements SkillProjectionService {
+
+    private static final long ADVISORY_LOCK_KEY = 0x534B50524F4AL; // "SKPROJ"
+    private static final int COMPONENTS = 2;
+    private static final double SCALE_MAX = 100.0;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${batch.skill-projection.max-iterations:200}")
+    private int maxIterations;
+
+    @Value("${batch.skill-projection.tolerance:1e-7}")
+    private double tolerance;
+
+    @Value("${batch.skill-projection.keep-versions:2}")
+    private int keepVersions;
+
+    @Override
+    @Transactional
+    public boolean refreshIfDictionaryChanged() {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, ADVISORY_LOCK_KEY);
+
+        // 1. 사전 변경 여부 (skill_code + 벡터 내용)
+        //    updated_at은 upsert마다 NOW()로 갱신되므로 사용하지 않음 → 벡터가 같으면 재계산 생략
+        String fingerprint = jdbcTemplate.queryForObject("""
+                SELECT COALESCE(md5(string_agg(skill_code || ':' || md5(skill_vector::text), ',' ORDER BY skill_code)), '')
+                FROM skill_embedding_dic
+                WHERE skill_vector IS NOT NULL
+                """, String.class);
+        List<String> latest = jdbcTemplate.queryForList(
+                "SELECT dictionary_fingerprint FROM skill_projection ORDER BY version DESC LIMIT 1", String.class);
+        if (!latest.isEmpty() && latest.get(0).equals(fingerprint)) {
+            log.info("[SKILL_PROJECTION] Dictionary unchanged, skipping");
+            return false;
+        }
+
+        // 2. 스킬 벡터 로드
+        List<Integer> skillCodes = new ArrayList<>();
+        List<float[]> vectors = new ArrayList<>();
+        jdbcTemplate.query("""
+                SELECT skill_code, skill_vector::text AS skill_vector
+                FROM skill_embedding_dic
+                WHERE skill_vector IS NOT NULL
+                ORDER BY skill_code
+                """, rs -> {
+            skillCodes.add(rs.getInt("skill_code"));
+            vectors.add(parseVector(rs.getString("skill_vector")));
+        });
+        if (vectors.size() < 2) {
+            log.warn("[SKILL_PROJECTION] Not enough skills for projection: {}", vectors.size());
+            return false;
+        }
+
+        // 3. PCA
+        long start = System.currentTimeMillis();
+        PrincipalComponents pca = PrincipalComponents.fit(vectors.toArray(new float[0][]), COMPONENTS, maxIterations, tolerance);
+
+        double[][] coordinates = new double[vectors.size()][];
+        double xMin = Double.POSITIVE_INFINITY, xMax = Double.NEGATIVE_INFINITY;
+        double yMin = Double.POSITIVE_INFINITY, yMax = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < vectors.size(); i++) {
+            coordinates[i] = pca.project(vectors.get(i));
+            xMin = Math.min(xMin, coordinates[i][0]);
+            xMax = Math.max(xMax, coordinates[i][0]);
+            yMin = Math.min(yMin, coordinates[i][1]);
+            yMax = Math.max(yMax, coordinates[i][1]);
+        }
+
+        // 4. 기저 + 좌표 저장
+        Long version = jdbcTemplate.queryForObject("""
+                INSERT INTO skill_projection (
+                    dictionary_fingerprint, skill_count, dimension, mean_vector, component_x, component_y,
+                    explained_variance, x_min, x_max, y_min, y_max
+                ) VALUES (?, ?, ?, CAST(? AS real[]), CAST(? AS real[]), CAST(? AS real[]), CAST(? AS real[]), ?, ?, ?, ?)
+                RETURNING version
+                """, Long.class,
+                fingerprint, vectors.size(), pca.getMean().length,
+                toArrayLiteral(pca.getMean()), toArrayLiteral(pca.getComponent(0)), toArrayLiteral(pca.getComponent(1)),
+                toArrayLiteral(pca.getExplainedVariance()), xMin, xMax, yMin, yMax);
+
+        List<Object[]> points = new ArrayList<>(vectors.size());
+        for (int i = 0; i < vectors.size(); i++) {
+            points.add(new Object[]{
+                    version,
+                    skillCodes.get(i),
+                    (float) scale(coordinates[i][0], xMin, xMax),
+                    (float) scale(coordinates[i][1], yMin, yMax)
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO skill_projection_point (version, skill_code, x, y) VALUES (?, ?, ?, ?)", points);
+
+        // 5. 오래된 버전 정리 (point는 ON DELETE CASCADE)
+        int pruned = jdbcTemplate.update("""
+                DELETE FROM skill_projection
+                WHERE version NOT IN (SELECT version FROM skill_projection ORDER BY version DESC LIMIT ?)
+                """, keepVersions);
+
+        log.info("[SKILL_PROJECTION] Saved version {} | skills: {}, explained variance: [{}, {}], pruned: {}, took {}ms",
+                version, vectors.size(),
+                String.format("%.3f", pca.getExplainedVariance()[0]), String.format("%.3f", pca.getExplainedVariance()[1]),
+                pruned, System.currentTimeMillis() - start);
+        return true;
+    }
+
+    /**
+     * 주성분 좌표 → 0~100 (범위가 0이면 중앙)
+     */
+    static double scale(double value, double min, double max) {
+        if (max - min <= 0.0) {
+            return SCALE_MAX / 2;
+        }
+        return (value - min) / (max - min) * SCALE_MAX;
+    }
+
+    private static float[] parseVector(String text) throws SQLException {
+        return new PGvector(text).toArray();
+    }
+
+    private static String toArrayLiteral(float[] values) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(values[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    private static String toArrayLiteral(double[] values) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append((float) values[i]);
+        }
+        return sb.append('}').toString();
+    }
+}
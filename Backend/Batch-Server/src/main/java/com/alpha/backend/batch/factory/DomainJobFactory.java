@@ -8,6 +8,7 @@ import com.alpha.backend.application.batch.reader.CandidateItemReader;
 import com.alpha.backend.application.batch.reader.RecruitItemReader;
 import com.alpha.backend.application.batch.writer.CandidateItemWriter;
 import com.alpha.backend.application.batch.writer.RecruitItemWriter;
+import com.alpha.backend.application.usecase.CacheInvalidationService;
 import com.alpha.backend.application.usecase.DlqService;
 import com.alpha.backend.batch.listener.EmbeddingJobListener;
 import com.alpha.backend.batch.listener.EmbeddingStepListener;
@@ -81,6 +82,7 @@ public class DomainJobFactory {
     private final DlqService dlqService;
     private final EntityManager entityManager;
     private final JsonMapper jsonMapper;
+    private final CacheInvalidationService cacheInvalidationService;
 
     // Recruit domain dependencies (v2)
     private final RecruitJpaRepository recruitRepository;
@@ -198,7 +200,8 @@ public class DomainJobFactory {
                 recruitSkillRepository,
                 recruitDescriptionRepository,
                 recruitSkillsEmbeddingRepository,
-                entityManager
+                entityManager,
+                cacheInvalidationService
         );
     }
 
@@ -271,7 +274,8 @@ public class DomainJobFactory {
                 candidateRepository,
                 candidateSkillRepository,
                 candidateDescriptionRepository,
-                candidateSkillsEmbeddingRepository
+                candidateSkillsEmbeddingRepository,
+                cacheInvalidationService
         );
     }
 }
@@ -0,0 +1,78 @@
+package com.alpha.backend.batch.job;
+
+import com.alpha.backend.application.batch.tasklet.DashboardReconcileTasklet;
+import com.alpha.backend.application.usecase.CacheInvalidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Dashboard 집계 Reconcile Job 설정
+ *
+ * V11 집계 테이블(dashboard_skill_count, dashboard_company_count)은 Batch Writer가 증분 유지
+ * 이 Job은 원본 테이블과 비교하여 drift를 보정
+ * (단건 upsert 경로, 수동 DELETE, 대소문자만 다른 중복 스킬 등)
+ *
+ * Step 구성 (순차 실행):
+ * 1. recruit_skill → dashboard_skill_count (domain = recruit)
+ * 2. candidate_skill → dashboard_skill_count (domain = candidate)
+ * 3. recruit → dashboard_company_count
+ *
+ * 정상 완료 시 API Server 전체 캐시 무효화 (dashboardData / topCompanies 응답 캐시 포함)
+ *
+ * 실행: BatchSchedulerConfig (batch.scheduler.jobs.dashboard-reconcile.cron) 또는 수동 실행
+ * 주의: Step 실행 중 해당 집계 테이블에 대한 writer 증분은 대기 → Batch 유휴 시간대에 스케줄
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class DashboardReconcileJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    @Bean
+    public Job dashboardReconcileJob() {
+        log.info("[BATCH_CONFIG] Creating dashboardReconcileJob");
+
+        return new JobBuilder("dashboardReconcileJob", jobRepository)
+                .listener(invalidateCachesOnCompletion())
+                .start(reconcileStep("recruit-skills",
+                        DashboardReconcileTasklet.skillCounts(jdbcTemplate, "recruit", "recruit_skill")))
+                .next(reconcileStep("candidate-skills",
+                        DashboardReconcileTasklet.skillCounts(jdbcTemplate, "candidate", "candidate_skill")))
+                .next(reconcileStep("companies",
+                        DashboardReconcileTasklet.companyCounts(jdbcTemplate)))
+                .build();
+    }
+
+    private JobExecutionListener invalidateCachesOnCompletion() {
+        return new JobExecutionListener() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                    cacheInvalidationService.invalidateAll("dashboardReconcileJob");
+                }
+            }
+        };
+    }
+
+    private Step reconcileStep(String name, DashboardReconcileTasklet tasklet) {
+        return new StepBuilder("dashboardReconcileStep-" + name, jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.alpha.backend.batch.job;
+
+import com.alpha.backend.application.batch.tasklet.HalfvecBackfillTasklet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.repeat.support.RepeatTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * halfvec Backfill Job 설정
+ *
+ * V9 마이그레이션으로 추가된 halfvec 컬럼을 기존 데이터로 채우는 Job
+ * (신규/갱신 데이터는 Batch Writer가 dual-write)
+ *
+ * Step 구성 (순차 실행):
+ * 1. recruit_skills_embedding.skills_vector → skills_vector_half
+ * 2. candidate_skills_embedding.skills_vector → skills_vector_half
+ * 3. skill_embedding_dic.skill_vector → skill_vector_half
+ *
+ * Throttle 설정 (application.yml):
+ * - batch.halfvec-backfill.batch-size: 배치당 UPDATE 행 수
+ * - batch.halfvec-backfill.pause-ms: 배치 간 대기 시간 (트랜잭션 밖에서 대기)
+ *
+ * 실행: JobOperator.start(halfvecBackfillJob, JobParameters) (수동 실행, 스케줄 없음)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class HalfvecBackfillJobConfig {
+
+    private static final int VECTOR_DIMENSION = 1536;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${batch.halfvec-backfill.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${batch.halfvec-backfill.pause-ms:200}")
+    private long pauseMs;
+
+    @Bean
+    public Job halfvecBackfillJob() {
+        log.info("[BATCH_CONFIG] Creating halfvecBackfillJob | batchSize: {}, pauseMs: {}", batchSize, pauseMs);
+
+        return new JobBuilder("halfvecBackfillJob", jobRepository)
+                .start(backfillStep("recruit_skills_embedding", "recruit_id", "skills_vector", "skills_vector_half"))
+                .next(backfillStep("candidate_skills_embedding", "candidate_id", "skills_vector", "skills_vector_half"))
+                .next(backfillStep("skill_embedding_dic", "skill_id", "skill_vector", "skill_vector_half"))
+                .build();
+    }
+
+    private Step backfillStep(String table, String idColumn, String sourceColumn, String targetColumn) {
+        HalfvecBackfillTasklet tasklet = new HalfvecBackfillTasklet(
+                jdbcTemplate, table, idColumn, sourceColumn, targetColumn, VECTOR_DIMENSION, batchSize, pauseMs);
+
+        // 배치 간 대기는 Step 반복 단위(트랜잭션 밖)에서 수행
+        // (StepExecutionListener는 TaskletStep이 tasklet 등록 시 자동 등록)
+        RepeatTemplate stepOperations = new RepeatTemplate();
+        stepOperations.registerListener(tasklet);
+
+        return new StepBuilder("halfvecBackfillStep-" + table, jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .stepOperations(stepOperations)
+                .build();
+    }
+}
@@ -1,7 +1,9 @@
 package com.alpha.backend.batch.listener;
 
+import com.alpha.backend.application.usecase.CacheInvalidationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.listener.JobExecutionListener;
 import org.springframework.stereotype.Component;
@@ -13,12 +15,15 @@ import java.time.LocalDateTime;
  * Embedding Batch Job Listener
  *
  * Job 시작 및 종료 시 로깅 및 통계 수집
+ * 정상 완료 시 API Server 전체 캐시 무효화 (집계 / 검색 결과 / GraphQL 응답 캐시)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class EmbeddingJobListener implements JobExecutionListener {
 
+    private final CacheInvalidationService cacheInvalidationService;
+
     @Override
     public void beforeJob(JobExecution jobExecution) {
         String jobName = jobExecution.getJobInstance().getJobName();
@@ -61,5 +66,9 @@ public class EmbeddingJobListener implements JobExecutionListener {
         }
 
         log.info("========================================");
+
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            cacheInvalidationService.invalidateAll("batch job " + jobName + " (" + domain + ")");
+        }
     }
 }
@@ -41,6 +41,7 @@ import java.util.TimeZone;
  * 도메인별 스케줄 설정:
  * - Recruit: batch.scheduler.jobs.recruit.cron (기본: 매일 새벽 2시)
  * - Candidate: batch.scheduler.jobs.candidate.cron (예정)
+ * - Dashboard Reconcile: batch.scheduler.jobs.dashboard-reconcile.cron (기본: 매일 새벽 4시 30분)
  *
  * Cron 표현식 예시:
  * - "0 0 2 * * ?" → 매일 새벽 2시
@@ -63,6 +64,9 @@ public class BatchSchedulerConfig {
     @Value("${batch.scheduler.jobs.recruit.cron:0 0 2 * * ?}")
     private String recruitCronExpression;
 
+    @Value("${batch.scheduler.jobs.dashboard-reconcile.cron:0 30 4 * * ?}")
+    private String dashboardReconcileCronExpression;
+
     /**
      * Recruit Embedding Job - JobDetail
      *
@@ -101,6 +105,36 @@ public class BatchSchedulerConfig {
                 .build();
     }
 
+    /**
+     * Dashboard Reconcile Job - JobDetail
+     */
+    @Bean
+    public JobDetail dashboardReconcileJobDetail() {
+        return JobBuilder.newJob(DashboardReconcileQuartzJob.class)
+                .withIdentity("dashboardReconcileJobDetail", "dashboard")
+                .withDescription("Dashboard Aggregate Reconcile Job")
+                .storeDurably()
+                .build();
+    }
+
+    /**
+     * Dashboard Reconcile Job - Trigger
+     * - Embedding Job 이후 유휴 시간대 실행 (reconcile 중 writer 증분 대기)
+     */
+    @Bean
+    public Trigger dashboardReconcileTrigger(JobDetail dashboardReconcileJobDetail) {
+        log.info("[SCHEDULER_CONFIG] Creating Dashboard Reconcile Trigger | Cron: {}", dashboardReconcileCronExpression);
+
+        return TriggerBuilder.newTrigger()
+                .forJob(dashboardReconcileJobDetail)
+                .withIdentity("dashboardReconcileTrigger", "dashboard")
+                .withDescription("Dashboard Aggregate Reconcile Cron Trigger")
+                .withSchedule(CronScheduleBuilder.cronSchedule(dashboardReconcileCronExpression)
+                        .inTimeZone(TimeZone.getTimeZone("Asia/Seoul"))
+                        .withMisfireHandlingInstructionDoNothing())
+                .build();
+    }
+
     /**
      * ⏳ 예정: Candidate Embedding Job - JobDetail
      */
@@ -171,6 +205,36 @@ public class BatchSchedulerConfig {
         }
     }
 
+    /**
+     * Dashboard Reconcile QuartzJob
+     * - dashboardReconcileJob 실행 (집계 테이블 drift 보정)
+     */
+    @Slf4j
+    @RequiredArgsConstructor
+    public static class DashboardReconcileQuartzJob extends QuartzJobBean {
+
+        private final JobRegistry jobRegistry;
+        private final JobOperator jobOperator;
+
+        @Override
+        protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+            try {
+                Job job = jobRegistry.getJob("dashboardReconcileJob");
+                JobParameters jobParameters = new JobParametersBuilder()
+                        .addString("timestamp", new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").format(new Date()))
+                        .toJobParameters();
+
+                JobExecution execution = jobOperator.start(job, jobParameters);
+
+                log.info("[QUARTZ_JOB] Dashboard Reconcile Job Started | ExecutionId={}, Status={}",
+                        execution.getId(), execution.getStatus());
+            } catch (Exception e) {
+                log.error("[QUARTZ_JOB] Dashboard Reconcile Job execution failed", e);
+                throw new JobExecutionException("Dashboard reconcile job execution failed", e);
+            }
+        }
+    }
+
     /**
      * ⏳ 예정: Candidate Embedding QuartzJob
      */
@@ -1,5 +1,6 @@
 package com.alpha.backend.domain.candidate.entity;
 
+import com.alpha.backend.domain.common.ResumeHeadline;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -17,6 +18,7 @@ import java.util.UUID;
  * - position_category (TEXT, NOT NULL)
  * - experience_years (INTEGER, Nullable, CHECK > 0)
  * - original_resume (TEXT, NOT NULL)
+ * - resume_headline (VARCHAR(200), NOT NULL) - 검색 결과용 헤드라인 (ResumeHeadline)
  * - created_at, updated_at (자동 관리)
  */
 @Entity
@@ -41,6 +43,9 @@ public class CandidateEntity {
     @Column(name = "original_resume", nullable = false, columnDefinition = "TEXT")
     private String originalResume;
 
+    @Column(name = "resume_headline", nullable = false, length = ResumeHeadline.MAX_LENGTH)
+    private String resumeHeadline;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false, nullable = false)
     private OffsetDateTime createdAt;
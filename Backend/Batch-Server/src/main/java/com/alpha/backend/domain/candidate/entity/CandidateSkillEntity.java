@@ -15,6 +15,7 @@ import java.util.UUID;
  * SQL 매핑:
  * - candidate_id (UUID, PK, FK → candidate)
  * - skill (TEXT, PK)
+ * - skill_code (INTEGER, FK → skill_embedding_dic, 적재 시 SQL에서 결정, 사전에 없으면 NULL)
  * - created_at, updated_at (자동 관리)
  *
  * 복합 PK: (candidate_id, skill)
@@ -37,6 +38,9 @@ public class CandidateSkillEntity {
     @Column(name = "skill", columnDefinition = "TEXT", nullable = false)
     private String skill;
 
+    @Column(name = "skill_code", insertable = false, updatable = false)
+    private Integer skillCode;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false, nullable = false)
     private OffsetDateTime createdAt;
@@ -16,7 +16,9 @@ import java.util.UUID;
  * SQL 매핑:
  * - candidate_id (UUID, PK, FK → candidate)
  * - skills (TEXT[], PostgreSQL 배열)
+ * - skill_codes (INTEGER[], skills의 정수 스킬 ID, 적재 시 SQL에서 결정)
  * - skills_vector (VECTOR(1536))
+ * - skills_vector_coarse (VECTOR(256), skills_vector prefix 정규화본, coarse 검색용)
  * - created_at, updated_at (자동 관리)
  */
 @Entity
@@ -29,6 +31,7 @@ import java.util.UUID;
 public class CandidateSkillsEmbeddingEntity {
 
     public static final int VECTOR_DIMENSION = 1536;
+    public static final int COARSE_VECTOR_DIMENSION = 256;
 
     @Id
     @Column(name = "candidate_id", columnDefinition = "UUID", updatable = false, nullable = false)
@@ -37,9 +40,15 @@ public class CandidateSkillsEmbeddingEntity {
     @Column(name = "skills", columnDefinition = "TEXT[]", nullable = false)
     private String[] skills;
 
+    @Column(name = "skill_codes", columnDefinition = "INTEGER[]", insertable = false, updatable = false)
+    private Integer[] skillCodes;
+
     @Column(name = "skills_vector", columnDefinition = "vector(1536)", nullable = false)
     private PGvector skillsVector;
 
+    @Column(name = "skills_vector_coarse", columnDefinition = "vector(256)")
+    private PGvector skillsVectorCoarse;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false, nullable = false)
     private OffsetDateTime createdAt;
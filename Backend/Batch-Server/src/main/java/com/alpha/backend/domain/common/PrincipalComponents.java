@@ -0,0 +1,211 @@
+package com.alpha.backend.domain.common;
+
+import java.util.Random;
+
+/**
+ * PCA (Power Iteration) 유틸리티
+ *
+ * 스킬 임베딩 행렬의 상위 주성분을 구해 2D 시각화 좌표로 사용
+ *
+ * - 공분산 행렬(d×d)을 만들지 않고 C·v = (1/n) Σ (x_i - μ)((x_i - μ)·v) 로 계산 → 반복당 O(n·d)
+ * - k번째 주성분은 앞선 주성분에 직교화(deflation)하며 반복
+ * - 부호 고정: 절댓값이 가장 큰 원소가 양수가 되도록 → 사전 버전이 바뀌어도 방향이 뒤집히지 않음
+ * - 시작 벡터는 고정 seed → 동일 입력이면 동일 결과
+ */
+public final class PrincipalComponents {
+
+    private static final long SEED = 42L;
+
+    private final float[] mean;
+    private final float[][] components;
+    private final double[] explainedVariance;
+
+    private PrincipalComponents(float[] mean, float[][] components, double[] explainedVariance) {
+        this.mean = mean;
+        this.components = components;
+        this.explainedVariance = explainedVariance;
+    }
+
+    /**
+     * 상위 주성분 계산
+     *
+     * @param rows          입력 벡터 (n × d, 모든 행 동일 차원)
+     * @param count         주성분 개수
+     * @param maxIterations 주성분당 최대 반복 횟수
+     * @param tolerance     수렴 기준 (1 - |v_new · v_old|)
+     * @return 평균 벡터 + 주성분 (단위 벡터) + 설명 분산 비율
+     */
+    public static PrincipalComponents fit(float[][] rows, int count, int maxIterations, double tolerance) {
+        if (rows.length < 2) {
+            throw new IllegalArgumentException("PCA requires at least 2 rows: " + rows.length);
+        }
+        int dimension = rows[0].length;
+        int n = rows.length;
+
+        // 1. 평균 벡터
+        double[] meanSum = new double[dimension];
+        for (float[] row : rows) {
+            if (row.length != dimension) {
+                throw new IllegalArgumentException(
+                        String.format("Inconsistent vector dimension: %d (expected: %d)", row.length, dimension)
+                );
+            }
+            for (int j = 0; j < dimension; j++) {
+                meanSum[j] += row[j];
+            }
+        }
+        float[] mean = new float[dimension];
+        for (int j = 0; j < dimension; j++) {
+            mean[j] = (float) (meanSum[j] / n);
+        }
+
+        // 2. 중심화 + 전체 분산 (trace)
+        float[][] centered = new float[n][dimension];
+        double totalVariance = 0.0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < dimension; j++) {
+                float value = rows[i][j] - mean[j];
+                centered[i][j] = value;
+                totalVariance += (double) value * value;
+            }
+        }
+        totalVariance /= n;
+
+        // 3. Power Iteration (주성분별, 앞선 주성분에 직교화)
+        Random random = new Random(SEED);
+        double[][] found = new double[count][];
+        double[] explained = new double[count];
+        for (int k = 0; k < count; k++) {
+            double[] vector = new double[dimension];
+            for (int j = 0; j < dimension; j++) {
+                vector[j] = random.nextGaussian();
+            }
+            orthogonalize(vector, found, k);
+            normalize(vector);
+
+            double eigenvalue = 0.0;
+            for (int iteration = 0; iteration < maxIterations; iteration++) {
+                double[] next = multiplyCovariance(centered, vector);
+                orthogonalize(next, found, k);
+                eigenvalue = normalize(next);
+                if (eigenvalue == 0.0) {
+                    break;
+                }
+
+                double cosine = Math.abs(dot(next, vector));
+                vector = next;
+                if (1.0 - cosine < tolerance) {
+                    break;
+                }
+            }
+
+            fixSign(vector);
+            found[k] = vector;
+            explained[k] = totalVariance > 0.0 ? eigenvalue / totalVariance : 0.0;
+        }
+
+        float[][] components = new float[count][dimension];
+        for (int k = 0; k < count; k++) {
+            for (int j = 0; j < dimension; j++) {
+                components[k][j] = (float) found[k][j];
+            }
+        }
+        return new PrincipalComponents(mean, components, explained);
+    }
+
+    /**
+     * 벡터를 주성분 공간으로 투영: (v - μ) · pc_k
+     *
+     * @param vector 원본 벡터 (d 차원)
+     * @return 주성분 좌표 (count 길이)
+     */
+    public double[] project(float[] vector) {
+        double[] coordinates = new double[components.length];
+        for (int k = 0; k < components.length; k++) {
+            double sum = 0.0;
+            for (int j = 0; j < vector.length; j++) {
+                sum += (double) (vector[j] - mean[j]) * components[k][j];
+            }
+            coordinates[k] = sum;
+        }
+        return coordinates;
+    }
+
+    public float[] getMean() {
+        return mean;
+    }
+
+    public float[] getComponent(int k) {
+        return components[k];
+    }
+
+    public double[] getExplainedVariance() {
+        return explainedVariance;
+    }
+
+    /**
+     * C·v = (1/n) Σ x_i (x_i · v) (x_i는 중심화된 행)
+     */
+    private static double[] multiplyCovariance(float[][] centered, double[] vector) {
+        int dimension = vector.length;
+        double[] result = new double[dimension];
+        for (float[] row : centered) {
+            double projection = 0.0;
+            for (int j = 0; j < dimension; j++) {
+                projection += row[j] * vector[j];
+            }
+            for (int j = 0; j < dimension; j++) {
+                result[j] += row[j] * projection;
+            }
+        }
+        for (int j = 0; j < dimension; j++) {
+            result[j] /= centered.length;
+        }
+        return result;
+    }
+
+    private static void orthogonalize(double[] vector, double[][] found, int count) {
+        for (int k = 0; k < count; k++) {
+            double projection = dot(vector, found[k]);
+            for (int j = 0; j < vector.length; j++) {
+                vector[j] -= projection * found[k][j];
+            }
+        }
+    }
+
+    /**
+     * L2 정규화 (in-place), 정규화 전 norm 반환
+     */
+    private static double normalize(double[] vector) {
+        double norm = Math.sqrt(dot(vector, vector));
+        if (norm == 0.0) {
+            return 0.0;
+        }
+        for (int j = 0; j < vector.length; j++) {
+            vector[j] /= norm;
+        }
+        return norm;
+    }
+
+    private static void fixSign(double[] vector) {
+        int largest = 0;
+        for (int j = 1; j < vector.length; j++) {
+            if (Math.abs(vector[j]) > Math.abs(vector[largest])) {
+                largest = j;
+            }
+        }
+        if (vector[largest] < 0) {
+            for (int j = 0; j < vector.length; j++) {
+                vector[j] = -vector[j];
+            }
+        }
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int j = 0; j < a.length; j++) {
+            sum += a[j] * b[j];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,53 @@
+package com.alpha.backend.domain.common;
+
+import java.util.regex.Pattern;
+
+/**
+ * 이력서 헤드라인 생성 유틸리티
+ *
+ * 검색 결과(RECRUITER 모드 MatchItem.title)에는 이력서 전문 대신
+ * 길이가 제한된 헤드라인만 노출/캐싱한다.
+ * 전문은 candidate_description.original_resume 에 그대로 유지 (상세 조회용)
+ *
+ * - 마크다운 기호 제거 (#, *, >, `, _, |)
+ * - 공백/개행을 단일 공백으로 축약
+ * - MAX_LENGTH 초과 시 단어 경계에서 자르고 "…" 추가
+ * - 길이는 code point 기준 (VARCHAR 길이 단위와 동일, 이모지 등 보조 문자를 반으로 자르지 않음)
+ * - V13 backfill SQL과 같은 규칙
+ */
+public final class ResumeHeadline {
+
+    /** candidate.resume_headline VARCHAR(200) 과 일치 */
+    public static final int MAX_LENGTH = 200;
+
+    private static final Pattern MARKDOWN = Pattern.compile("[#*>`_|]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private ResumeHeadline() {
+    }
+
+    /**
+     * 이력서 원문 → 헤드라인
+     *
+     * @param resume 이력서 원문 (마크다운, nullable)
+     * @return 최대 MAX_LENGTH 길이의 헤드라인 (원문이 비어있으면 빈 문자열)
+     */
+    public static String of(String resume) {
+        if (resume == null || resume.isBlank()) {
+            return "";
+        }
+
+        String text = WHITESPACE.matcher(MARKDOWN.matcher(resume).replaceAll(" ")).replaceAll(" ").strip();
+        if (text.codePointCount(0, text.length()) <= MAX_LENGTH) {
+            return text;
+        }
+
+        // "…" 포함 MAX_LENGTH 이내, 가능한 경우 단어 경계에서 자름 (인덱스는 code point 경계)
+        int limit = text.offsetByCodePoints(0, MAX_LENGTH - 1);
+        int cut = text.lastIndexOf(' ', limit);
+        if (cut < text.offsetByCodePoints(0, MAX_LENGTH / 2)) {
+            cut = limit;
+        }
+        return text.substring(0, cut).stripTrailing() + "…";
+    }
+}
@@ -0,0 +1,58 @@
+package com.alpha.backend.domain.common;
+
+import java.util.Arrays;
+
+/**
+ * Vector 정규화 유틸리티
+ *
+ * 저장 전 임베딩을 L2 정규화(단위 벡터)하여
+ * 검색 시 Inner Product(<#>)가 Cosine Similarity와 동일한 순위를 갖도록 보장
+ *
+ * - 단위 벡터: a·b = cos(a, b)
+ * - <#> 연산은 <=> 대비 norm 계산이 없어 인덱스 빌드/쿼리 모두 저렴
+ */
+public final class VectorNormalizer {
+
+    private VectorNormalizer() {
+    }
+
+    /**
+     * L2 정규화 (in-place)
+     * 영벡터는 방향이 없으므로 그대로 반환
+     *
+     * @param vector 원본 벡터 (수정됨)
+     * @return 단위 길이로 스케일된 동일 배열
+     */
+    public static float[] l2Normalize(float[] vector) {
+        double sumOfSquares = 0.0;
+        for (float value : vector) {
+            sumOfSquares += (double) value * value;
+        }
+        if (sumOfSquares == 0.0) {
+            return vector;
+        }
+
+        double norm = Math.sqrt(sumOfSquares);
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) (vector[i] / norm);
+        }
+        return vector;
+    }
+
+    /**
+     * 앞부분 prefix로 축소 후 L2 정규화 (Matryoshka 방식 coarse 벡터)
+     *
+     * @param vector    원본 벡터 (수정되지 않음)
+     * @param dimension 축소 차원
+     * @return 새 배열 (dimension 길이의 단위 벡터)
+     */
+    public static float[] truncateAndNormalize(float[] vector, int dimension) {
+        if (dimension <= 0 || dimension > vector.length) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid coarse dimension: %d (vector dimension: %d)", dimension, vector.length)
+            );
+        }
+        float[] prefix = Arrays.copyOf(vector, dimension);
+        return l2Normalize(prefix);
+    }
+}
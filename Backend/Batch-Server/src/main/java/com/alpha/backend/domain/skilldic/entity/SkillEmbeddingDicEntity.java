@@ -17,6 +17,7 @@ import java.util.UUID;
  * - skill_id (UUID, PK, auto-generated)
  * - category_id (UUID, FK → skill_category_dic)
  * - skill (TEXT, UNIQUE)
+ * - skill_code (INTEGER, UNIQUE, IDENTITY - 정수 스킬 ID)
  * - skill_vector (VECTOR(1536), NOT NULL)
  * - created_at, updated_at (자동 관리)
  */
@@ -42,6 +43,9 @@ public class SkillEmbeddingDicEntity {
     @Column(name = "skill", nullable = false, unique = true, columnDefinition = "TEXT")
     private String skill;
 
+    @Column(name = "skill_code", insertable = false, updatable = false)
+    private Integer skillCode;
+
     @Column(name = "skill_vector", columnDefinition = "vector(1536)", nullable = false)
     private PGvector skillVector;
 
@@ -22,4 +22,11 @@ public interface SkillEmbeddingDicRepository {
      * 다수 엔티티 Upsert
      */
     void upsertAll(List<SkillEmbeddingDicEntity> entities);
+
+    /**
+     * 사전에 새로 등록된 미해결 스킬의 skill_code 재매칭
+     *
+     * @return 해소된 미해결 스킬 수
+     */
+    int resolvePendingSkillCodes();
 }
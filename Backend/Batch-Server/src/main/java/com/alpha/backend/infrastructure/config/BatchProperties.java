@@ -20,6 +20,7 @@ import java.util.Map;
  *     domains:
  *       recruit:
  *         vector-dimension: 1536
+ *         coarse-dimension: 256
  *         table-prefix: recruit
  *       candidate:
  *         vector-dimension: 768
@@ -80,6 +81,12 @@ public class BatchProperties {
          */
         private int vectorDimension;
 
+        /**
+         * Coarse 검색용 축소 차원 (임베딩 앞부분 prefix, Matryoshka 방식)
+         * DB 컬럼 skills_vector_coarse의 차원과 일치해야 함
+         */
+        private int coarseDimension = 256;
+
         /**
          * 테이블 접두사 (recruit, candidate 등)
          */
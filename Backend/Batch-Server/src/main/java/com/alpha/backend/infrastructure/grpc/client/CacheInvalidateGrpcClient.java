@@ -1,123 +1,114 @@
 package com.alpha.backend.infrastructure.grpc.client;
 
-import com.alpha.backend.infrastructure.grpc.proto.CacheInvalidateRequest;
-import com.alpha.backend.infrastructure.grpc.proto.CacheInvalidateResponse;
-import com.alpha.backend.infrastructure.grpc.proto.CacheServiceGrpc;
+import com.alpha.backend.infrastructure.grpc.proto.CacheInvalidationServiceGrpc;
+import com.alpha.backend.infrastructure.grpc.proto.InvalidateAllRequest;
+import com.alpha.backend.infrastructure.grpc.proto.InvalidateCandidateRequest;
+import com.alpha.backend.infrastructure.grpc.proto.InvalidateRecruitRequest;
+import com.alpha.backend.infrastructure.grpc.proto.InvalidateResponse;
 import io.grpc.ManagedChannel;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Cache Invalidate gRPC Client
- * API Server에 캐시 무효화 요청을 전송하는 클라이언트
+ * API Server(cache.CacheInvalidationService)에 캐시 무효화 요청을 전송하는 클라이언트
+ *
+ * - InvalidateRecruitCache / InvalidateCandidateCache: 엔티티 1건의 상세 캐시(recruit:{id} / candidate:{id}) 무효화
+ * - InvalidateAllCaches: 적재 / Job 완료 후 전체 캐시 무효화 (집계, 검색 결과, GraphQL 응답 캐시, 스킬 사전 스냅샷)
+ * - blocking stub 호출은 boundedElastic에서 실행 (호출 스레드 비차단)
+ * - UNAVAILABLE / DEADLINE_EXCEEDED 등은 backoff 재시도, INVALID_ARGUMENT는 재시도하지 않음
  */
 @Component
 @Slf4j
 public class CacheInvalidateGrpcClient {
 
+    private static final long DEADLINE_SECONDS = 10;
+
     private final ManagedChannel channel;
-    private final CacheServiceGrpc.CacheServiceBlockingStub blockingStub;
-    private final AtomicBoolean invalidating = new AtomicBoolean(false);
+    private final CacheInvalidationServiceGrpc.CacheInvalidationServiceBlockingStub blockingStub;
 
     public CacheInvalidateGrpcClient(@Qualifier("apiCacheChannel") ManagedChannel channel) {
         this.channel = channel;
-        this.blockingStub = CacheServiceGrpc.newBlockingStub(channel);
+        this.blockingStub = CacheInvalidationServiceGrpc.newBlockingStub(channel);
         log.info("CacheInvalidateGrpcClient initialized");
     }
 
     /**
-     * 캐시 무효화 요청 (Reactive)
-     * Race Condition 방지를 위한 AtomicBoolean 사용
+     * Recruit 상세 캐시 무효화 요청 (Reactive)
      *
-     * @param target 무효화할 캐시 대상 (예: "recruit")
-     * @return Mono<Boolean> 성공 여부
+     * @param recruitId Recruit ID
+     * @return Mono<Boolean> 성공 여부 (재시도 후 실패 시 false)
      */
-    public Mono<Boolean> invalidateCache(String target) {
-        return Mono.defer(() -> {
-            // 중복 호출 방지
-            if (!invalidating.compareAndSet(false, true)) {
-                log.warn("Cache invalidation already in progress, skipping");
-                return Mono.just(false);
-            }
-
-            try {
-                log.info("Sending cache invalidation request for target: {}", target);
-
-                CacheInvalidateRequest request = CacheInvalidateRequest.newBuilder()
-                        .setTarget(target)
-                        .build();
-
-                CacheInvalidateResponse response = blockingStub
-                        .withDeadlineAfter(10, TimeUnit.SECONDS)
-                        .invalidateCache(request);
-
-                log.info("Cache invalidation response - success: {}, message: {}",
-                        response.getSuccess(), response.getMessage());
-
-                return Mono.just(response.getSuccess());
-
-            } catch (StatusRuntimeException e) {
-                log.error("gRPC error during cache invalidation: {}", e.getStatus(), e);
-                return Mono.error(e);
-            } catch (Exception e) {
-                log.error("Unexpected error during cache invalidation", e);
-                return Mono.error(e);
-            } finally {
-                invalidating.set(false);
-            }
-        })
-        .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                .maxBackoff(Duration.ofSeconds(5))
-                .doBeforeRetry(retrySignal ->
-                        log.warn("Retrying cache invalidation (attempt: {}): {}",
-                                retrySignal.totalRetries() + 1,
-                                retrySignal.failure().getMessage())
-                )
-        )
-        .onErrorResume(e -> {
-            log.error("Failed to invalidate cache after retries: {}", e.getMessage());
-            return Mono.just(false);
-        });
+    public Mono<Boolean> invalidateRecruit(UUID recruitId) {
+        return call("recruit " + recruitId, () -> blockingStub
+                .withDeadlineAfter(DEADLINE_SECONDS, TimeUnit.SECONDS)
+                .invalidateRecruitCache(InvalidateRecruitRequest.newBuilder()
+                        .setRecruitId(recruitId.toString())
+                        .build()));
     }
 
     /**
-     * 안전한 캐시 무효화 (동기 방식)
-     * AtomicBoolean을 사용하여 중복 호출 방지
+     * Candidate 상세 캐시 무효화 요청 (Reactive)
+     *
+     * @param candidateId Candidate ID
+     * @return Mono<Boolean> 성공 여부 (재시도 후 실패 시 false)
      */
-    public boolean invalidateSafely(String target) {
-        if (invalidating.compareAndSet(false, true)) {
-            try {
-                log.info("Safely invalidating cache for target: {}", target);
-
-                CacheInvalidateRequest request = CacheInvalidateRequest.newBuilder()
-                        .setTarget(target)
-                        .build();
-
-                CacheInvalidateResponse response = blockingStub
-                        .withDeadlineAfter(10, TimeUnit.SECONDS)
-                        .invalidateCache(request);
+    public Mono<Boolean> invalidateCandidate(UUID candidateId) {
+        return call("candidate " + candidateId, () -> blockingStub
+                .withDeadlineAfter(DEADLINE_SECONDS, TimeUnit.SECONDS)
+                .invalidateCandidateCache(InvalidateCandidateRequest.newBuilder()
+                        .setCandidateId(candidateId.toString())
+                        .build()));
+    }
 
-                log.info("Cache invalidation completed - success: {}", response.getSuccess());
-                return response.getSuccess();
+    /**
+     * 전체 캐시 무효화 요청 (Reactive)
+     *
+     * @param reason 무효화 사유 (API Server 로그용)
+     * @return Mono<Boolean> 성공 여부 (재시도 후 실패 시 false)
+     */
+    public Mono<Boolean> invalidateAll(String reason) {
+        return call("all (" + reason + ")", () -> blockingStub
+                .withDeadlineAfter(DEADLINE_SECONDS, TimeUnit.SECONDS)
+                .invalidateAllCaches(InvalidateAllRequest.newBuilder()
+                        .setReason(reason)
+                        .build()));
+    }
 
-            } catch (Exception e) {
-                log.error("Error during safe cache invalidation", e);
-                return false;
-            } finally {
-                invalidating.set(false);
-            }
-        } else {
-            log.warn("Cache invalidation already in progress, skipping");
-            return false;
-        }
+    private Mono<Boolean> call(String target, Callable<InvalidateResponse> rpc) {
+        return Mono.fromCallable(rpc)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(response -> {
+                    log.debug("Cache invalidation response - target: {}, success: {}, message: {}",
+                            target, response.getSuccess(), response.getMessage());
+                    return response.getSuccess();
+                })
+                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(5))
+                        .filter(error -> !(error instanceof StatusRuntimeException e
+                                && e.getStatus().getCode() == Status.Code.INVALID_ARGUMENT))
+                        .doBeforeRetry(retrySignal ->
+                                log.warn("Retrying cache invalidation for {} (attempt: {}): {}",
+                                        target,
+                                        retrySignal.totalRetries() + 1,
+                                        retrySignal.failure().getMessage())
+                        )
+                )
+                .onErrorResume(e -> {
+                    log.error("Failed to invalidate cache for {} after retries: {}", target, e.getMessage());
+                    return Mono.just(false);
+                });
     }
 
     /**
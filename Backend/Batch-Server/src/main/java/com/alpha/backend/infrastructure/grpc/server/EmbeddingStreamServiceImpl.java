@@ -2,6 +2,7 @@ package com.alpha.backend.infrastructure.grpc.server;
 
 import com.alpha.backend.application.grpc.processor.DataProcessor;
 import com.alpha.backend.application.grpc.processor.DataProcessorFactory;
+import com.alpha.backend.application.usecase.CacheInvalidationService;
 import com.alpha.backend.infrastructure.grpc.proto.IngestDataRequest;
 import com.alpha.backend.infrastructure.grpc.proto.IngestDataResponse;
 import com.alpha.backend.infrastructure.grpc.proto.IngestMetadata;
@@ -21,6 +22,7 @@ import org.springframework.grpc.server.service.GrpcService;
  * 통신 패턴: Client Streaming
  * - 첫 번째 메시지: IngestMetadata (도메인 정보)
  * - 이후 메시지들: data_chunk (JSON 인코딩된 데이터)
+ * - 스트림 완료 시 API Server 전체 캐시 무효화 (집계 / 검색 결과 / GraphQL 응답 캐시)
  * <p>
  * Port: 50051 (application.yml 설정)
  */
@@ -30,6 +32,7 @@ import org.springframework.grpc.server.service.GrpcService;
 public class EmbeddingStreamServiceImpl extends EmbeddingStreamServiceGrpc.EmbeddingStreamServiceImplBase {
 
     private final DataProcessorFactory processorFactory;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Override
     public StreamObserver<IngestDataRequest> ingestDataStream(
@@ -114,6 +117,14 @@ public class EmbeddingStreamServiceImpl extends EmbeddingStreamServiceGrpc.Embed
                     log.info("[COMPLETED] Stream completed - domain: {}, chunks: {}, total rows: {}",
                             domain, receivedChunks, totalRows);
 
+                    // 도메인별 후처리 (실패해도 적재는 성공으로 응답)
+                    runCompletionHook();
+
+                    // 적재 결과가 반영된 뒤 API Server 캐시 전체 무효화 (비동기, 실패는 로그만)
+                    if (totalRows > 0) {
+                        cacheInvalidationService.invalidateAll("ingest " + domain);
+                    }
+
                     // 성공 응답 반환
                     IngestDataResponse response = IngestDataResponse.newBuilder()
                             .setSuccess(true)
@@ -137,6 +148,17 @@ public class EmbeddingStreamServiceImpl extends EmbeddingStreamServiceGrpc.Embed
                 }
             }
 
+            private void runCompletionHook() {
+                if (processor == null) {
+                    return;
+                }
+                try {
+                    processor.onStreamCompleted();
+                } catch (Exception e) {
+                    log.error("[COMPLETED_HOOK_ERROR] Post-processing failed - domain: {}", domain, e);
+                }
+            }
+
             @Override
             public void onError(Throwable t) {
                 log.error("[STREAM_ERROR] Stream error occurred - domain: {}, chunks processed: {}",
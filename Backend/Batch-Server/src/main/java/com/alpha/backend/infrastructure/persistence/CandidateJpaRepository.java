@@ -27,20 +27,21 @@ public interface CandidateJpaRepository
      * ON CONFLICT 구문을 사용하여 충돌 시 업데이트
      *
      * SQL 매핑:
-     * - candidate 테이블 (candidate_id, position_category, experience_years, original_resume)
+     * - candidate 테이블 (candidate_id, position_category, experience_years, original_resume, resume_headline)
      */
     @Override
     @Transactional
     @Modifying
     @Query(value = """
-        INSERT INTO candidate (candidate_id, position_category, experience_years, original_resume, updated_at)
+        INSERT INTO candidate (candidate_id, position_category, experience_years, original_resume, resume_headline, updated_at)
         VALUES (:#{#entity.candidateId}, :#{#entity.positionCategory}, :#{#entity.experienceYears},
-                :#{#entity.originalResume}, NOW())
+                :#{#entity.originalResume}, :#{#entity.resumeHeadline}, NOW())
         ON CONFLICT (candidate_id)
         DO UPDATE SET
             position_category = EXCLUDED.position_category,
             experience_years = EXCLUDED.experience_years,
             original_resume = EXCLUDED.original_resume,
+            resume_headline = EXCLUDED.resume_headline,
             updated_at = NOW()
         """, nativeQuery = true)
     void upsert(@Param("entity") CandidateEntity entity);
@@ -22,7 +22,7 @@ import java.util.List;
  */
 @Repository
 public interface CandidateSkillJpaRepository
-        extends JpaRepository<CandidateSkillEntity, CandidateSkillId>, CandidateSkillRepository {
+        extends JpaRepository<CandidateSkillEntity, CandidateSkillId>, CandidateSkillRepository, CandidateSkillJpaRepositoryCustom {
 
     /**
      * Batch Upsert using Native Query
@@ -44,11 +44,12 @@ public interface CandidateSkillJpaRepository
     void upsert(@Param("entity") CandidateSkillEntity entity);
 
     /**
-     * Batch Upsert for multiple entities
+     * Batch Upsert for multiple entities (Delegates to optimized implementation)
+     * 단일 쿼리로 chunk 전체 upsert + dashboard_skill_count 증분 반영
      */
     @Override
     @Transactional
     default void upsertAll(List<CandidateSkillEntity> entities) {
-        entities.forEach(this::upsert);
+        upsertAllOptimized(entities);
     }
 }
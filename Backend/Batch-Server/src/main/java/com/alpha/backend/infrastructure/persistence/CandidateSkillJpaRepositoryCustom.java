@@ -0,0 +1,18 @@
+package com.alpha.backend.infrastructure.persistence;
+
+import com.alpha.backend.domain.candidate.entity.CandidateSkillEntity;
+
+import java.util.List;
+
+/**
+ * Custom Repository interface for CandidateSkill batch operations
+ */
+public interface CandidateSkillJpaRepositoryCustom {
+
+    /**
+     * Optimized batch upsert using JDBC Template
+     *
+     * @param entities List of CandidateSkillEntity to upsert
+     */
+    void upsertAllOptimized(List<CandidateSkillEntity> entities);
+}
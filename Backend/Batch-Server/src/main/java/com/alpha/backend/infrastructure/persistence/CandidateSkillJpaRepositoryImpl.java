@@ -0,0 +1,95 @@
+package com.alpha.backend.infrastructure.persistence;
+
+import com.alpha.backend.domain.candidate.entity.CandidateSkillEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Custom implementation for CandidateSkillJpaRepository
+ * dashboard_skill_count is maintained incrementally in the same statement
+ * skill_code is resolved against skill_embedding_dic at write time (skill_code_of);
+ * skills missing from the dictionary are recorded in unresolved_skill
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandidateSkillJpaRepositoryImpl implements CandidateSkillJpaRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void upsertAllOptimized(List<CandidateSkillEntity> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return;
+        }
+
+        log.debug("[CandidateSkill Repository] Batch upserting {} entities", entities.size());
+
+        // dashboard_skill_count / unresolved_skill deltas (newly inserted rows only) are applied in the same statement (CTE)
+        StringBuilder sql = new StringBuilder("""
+            WITH upserted AS (
+            INSERT INTO candidate_skill (
+                candidate_id, skill, skill_code, created_at, updated_at
+            ) VALUES
+            """);
+
+        for (int i = 0; i < entities.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(?, ?, skill_code_of(CAST(? AS text)), COALESCE(?, NOW()), COALESCE(?, NOW()))");
+        }
+
+        sql.append("""
+
+            ON CONFLICT (candidate_id, skill)
+            DO UPDATE SET
+                skill_code = EXCLUDED.skill_code,
+                updated_at = NOW()
+            RETURNING skill, skill_code, (xmax = 0) AS inserted
+            ),
+            counted AS (
+            INSERT INTO dashboard_skill_count (domain, skill_key, entity_count, updated_at)
+            SELECT 'candidate', LOWER(skill), COUNT(*), NOW()
+            FROM upserted
+            WHERE inserted
+            GROUP BY LOWER(skill)
+            ORDER BY LOWER(skill)
+            ON CONFLICT (domain, skill_key)
+            DO UPDATE SET
+                entity_count = dashboard_skill_count.entity_count + EXCLUDED.entity_count,
+                updated_at = NOW()
+            RETURNING skill_key
+            )
+            INSERT INTO unresolved_skill (domain, skill_key, sample_skill, occurrences, first_seen_at, last_seen_at)
+            SELECT 'candidate', LOWER(skill), MIN(skill), COUNT(*), NOW(), NOW()
+            FROM upserted
+            WHERE inserted AND skill_code IS NULL
+            GROUP BY LOWER(skill)
+            ORDER BY LOWER(skill)
+            ON CONFLICT (domain, skill_key)
+            DO UPDATE SET
+                occurrences = unresolved_skill.occurrences + EXCLUDED.occurrences,
+                last_seen_at = NOW()
+            """);
+
+        Object[] params = new Object[entities.size() * 5];
+        int idx = 0;
+        for (CandidateSkillEntity entity : entities) {
+            params[idx++] = entity.getCandidateId();
+            params[idx++] = entity.getSkill();
+            params[idx++] = entity.getSkill();
+            params[idx++] = entity.getCreatedAt() != null ? Timestamp.from(entity.getCreatedAt().toInstant()) : null;
+            params[idx++] = entity.getUpdatedAt() != null ? Timestamp.from(entity.getUpdatedAt().toInstant()) : null;
+        }
+
+        int unresolvedChanged = jdbcTemplate.update(sql.toString(), params);
+        log.debug("[CandidateSkill Repository] Batch upsert completed, unresolved skills changed: {}", unresolvedChanged);
+    }
+}
@@ -38,19 +38,27 @@ public interface CandidateSkillsEmbeddingJpaRepository
     @Modifying
     @Query(value = """
         INSERT INTO candidate_skills_embedding (
-            candidate_id, skills, skills_vector, created_at, updated_at
+            candidate_id, skills, skill_codes, skills_vector, skills_vector_half, skills_vector_bit, skills_vector_coarse, created_at, updated_at
         )
         VALUES (
             :#{#entity.candidateId},
             :#{#entity.skills},
+            skill_codes_of(CAST(:#{#entity.skills} AS text[])),
             CAST(:#{#entity.skillsVector.toString()} AS vector(1536)),
+            CAST(:#{#entity.skillsVector.toString()} AS halfvec(1536)),
+            binary_quantize(CAST(:#{#entity.skillsVector.toString()} AS vector(1536))),
+            CAST(:#{#entity.skillsVectorCoarse?.toString()} AS vector(256)),
             COALESCE(:#{#entity.createdAt}, NOW()),
             NOW()
         )
         ON CONFLICT (candidate_id)
         DO UPDATE SET
             skills = EXCLUDED.skills,
+            skill_codes = EXCLUDED.skill_codes,
             skills_vector = EXCLUDED.skills_vector,
+            skills_vector_half = EXCLUDED.skills_vector_half,
+            skills_vector_bit = EXCLUDED.skills_vector_bit,
+            skills_vector_coarse = EXCLUDED.skills_vector_coarse,
             updated_at = NOW()
         """, nativeQuery = true)
     void upsert(@Param("entity") CandidateSkillsEmbeddingEntity entity);
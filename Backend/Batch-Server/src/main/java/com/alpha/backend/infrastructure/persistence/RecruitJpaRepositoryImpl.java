@@ -15,6 +15,7 @@ import java.util.List;
  * Custom implementation for RecruitJpaRepository
  *
  * Provides optimized batch upsert using JdbcTemplate
+ * dashboard_company_count is maintained incrementally in the same statement
  * Spring Data JPA will automatically detect this implementation
  * and merge it with the RecruitJpaRepository interface
  */
@@ -41,7 +42,9 @@ public class RecruitJpaRepositoryImpl implements RecruitJpaRepositoryCustom {
         log.debug("[Recruit Repository] Batch upserting {} entities", entities.size());
 
         // Build dynamic SQL for batch upsert
+        // dashboard_company_count delta is applied in the same statement (CTE)
         StringBuilder sql = new StringBuilder("""
+            WITH upserted AS (
             INSERT INTO recruit (
                 recruit_id, position, company_name, experience_years,
                 primary_keyword, english_level, published_at, created_at, updated_at
@@ -65,6 +68,35 @@ public class RecruitJpaRepositoryImpl implements RecruitJpaRepositoryCustom {
                 english_level = EXCLUDED.english_level,
                 published_at = EXCLUDED.published_at,
                 updated_at = NOW()
+            RETURNING recruit_id, company_name
+            ),
+            -- same snapshot as upserted: reads recruit values from before this upsert
+            previous AS (
+                SELECT r.recruit_id, r.company_name
+                FROM recruit r
+                WHERE r.recruit_id IN (SELECT recruit_id FROM upserted)
+            ),
+            delta AS (
+                SELECT u.company_name, 1 AS change
+                FROM upserted u
+                LEFT JOIN previous p ON p.recruit_id = u.recruit_id
+                WHERE p.company_name IS DISTINCT FROM u.company_name
+                UNION ALL
+                SELECT p.company_name, -1 AS change
+                FROM previous p
+                INNER JOIN upserted u ON u.recruit_id = p.recruit_id
+                WHERE p.company_name IS DISTINCT FROM u.company_name
+            )
+            INSERT INTO dashboard_company_count (company_name, job_count, updated_at)
+            SELECT company_name, SUM(change), NOW()
+            FROM delta
+            GROUP BY company_name
+            HAVING SUM(change) <> 0
+            ORDER BY company_name
+            ON CONFLICT (company_name)
+            DO UPDATE SET
+                job_count = dashboard_company_count.job_count + EXCLUDED.job_count,
+                updated_at = NOW()
             """);
 
         // Prepare parameters
@@ -82,7 +114,7 @@ public class RecruitJpaRepositoryImpl implements RecruitJpaRepositoryCustom {
             params[idx++] = entity.getUpdatedAt() != null ? Timestamp.from(entity.getUpdatedAt().toInstant()) : null;
         }
 
-        int rowsAffected = jdbcTemplate.update(sql.toString(), params);
-        log.debug("[Recruit Repository] Batch upsert completed, rows affected: {}", rowsAffected);
+        int companiesChanged = jdbcTemplate.update(sql.toString(), params);
+        log.debug("[Recruit Repository] Batch upsert completed, dashboard companies changed: {}", companiesChanged);
     }
 }
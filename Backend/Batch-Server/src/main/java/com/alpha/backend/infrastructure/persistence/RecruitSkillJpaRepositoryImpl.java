@@ -13,6 +13,9 @@ import java.util.List;
 
 /**
  * Custom implementation for RecruitSkillJpaRepository
+ * dashboard_skill_count is maintained incrementally in the same statement
+ * skill_code is resolved against skill_embedding_dic at write time (skill_code_of);
+ * skills missing from the dictionary are recorded in unresolved_skill
  */
 @Slf4j
 @Component
@@ -30,34 +33,63 @@ public class RecruitSkillJpaRepositoryImpl implements RecruitSkillJpaRepositoryC
 
         log.debug("[RecruitSkill Repository] Batch upserting {} entities", entities.size());
 
+        // dashboard_skill_count / unresolved_skill deltas (newly inserted rows only) are applied in the same statement (CTE)
         StringBuilder sql = new StringBuilder("""
+            WITH upserted AS (
             INSERT INTO recruit_skill (
-                recruit_id, skill, created_at, updated_at
+                recruit_id, skill, skill_code, created_at, updated_at
             ) VALUES
             """);
 
         for (int i = 0; i < entities.size(); i++) {
             if (i > 0) sql.append(", ");
-            sql.append("(?, ?, COALESCE(?, NOW()), COALESCE(?, NOW()))");
+            sql.append("(?, ?, skill_code_of(CAST(? AS text)), COALESCE(?, NOW()), COALESCE(?, NOW()))");
         }
 
         sql.append("""
 
             ON CONFLICT (recruit_id, skill)
             DO UPDATE SET
+                skill_code = EXCLUDED.skill_code,
                 updated_at = NOW()
+            RETURNING skill, skill_code, (xmax = 0) AS inserted
+            ),
+            counted AS (
+            INSERT INTO dashboard_skill_count (domain, skill_key, entity_count, updated_at)
+            SELECT 'recruit', LOWER(skill), COUNT(*), NOW()
+            FROM upserted
+            WHERE inserted
+            GROUP BY LOWER(skill)
+            ORDER BY LOWER(skill)
+            ON CONFLICT (domain, skill_key)
+            DO UPDATE SET
+                entity_count = dashboard_skill_count.entity_count + EXCLUDED.entity_count,
+                updated_at = NOW()
+            RETURNING skill_key
+            )
+            INSERT INTO unresolved_skill (domain, skill_key, sample_skill, occurrences, first_seen_at, last_seen_at)
+            SELECT 'recruit', LOWER(skill), MIN(skill), COUNT(*), NOW(), NOW()
+            FROM upserted
+            WHERE inserted AND skill_code IS NULL
+            GROUP BY LOWER(skill)
+            ORDER BY LOWER(skill)
+            ON CONFLICT (domain, skill_key)
+            DO UPDATE SET
+                occurrences = unresolved_skill.occurrences + EXCLUDED.occurrences,
+                last_seen_at = NOW()
             """);
 
-        Object[] params = new Object[entities.size() * 4];
+        Object[] params = new Object[entities.size() * 5];
         int idx = 0;
         for (RecruitSkillEntity entity : entities) {
             params[idx++] = entity.getRecruitId();
             params[idx++] = entity.getSkill();
+            params[idx++] = entity.getSkill();
             params[idx++] = entity.getCreatedAt() != null ? Timestamp.from(entity.getCreatedAt().toInstant()) : null;
             params[idx++] = entity.getUpdatedAt() != null ? Timestamp.from(entity.getUpdatedAt().toInstant()) : null;
         }
 
-        int rowsAffected = jdbcTemplate.update(sql.toString(), params);
-        log.debug("[RecruitSkill Repository] Batch upsert completed, rows affected: {}", rowsAffected);
+        int unresolvedChanged = jdbcTemplate.update(sql.toString(), params);
+        log.debug("[RecruitSkill Repository] Batch upsert completed, unresolved skills changed: {}", unresolvedChanged);
     }
 }
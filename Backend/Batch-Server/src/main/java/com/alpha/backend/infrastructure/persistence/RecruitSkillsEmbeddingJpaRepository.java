@@ -1,5 +1,6 @@
 package com.alpha.backend.infrastructure.persistence;
 
+import com.alpha.backend.domain.common.VectorNormalizer;
 import com.alpha.backend.domain.recruit.entity.RecruitSkillsEmbeddingEntity;
 import com.alpha.backend.domain.recruit.repository.RecruitSkillsEmbeddingRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -34,19 +35,27 @@ public interface RecruitSkillsEmbeddingJpaRepository
     @Modifying
     @Query(value = """
         INSERT INTO recruit_skills_embedding (
-            recruit_id, skills, skills_vector, created_at, updated_at
+            recruit_id, skills, skill_codes, skills_vector, skills_vector_half, skills_vector_bit, skills_vector_coarse, created_at, updated_at
         )
         VALUES (
             :#{#entity.recruitId},
             :#{#entity.skills},
+            skill_codes_of(CAST(:#{#entity.skills} AS text[])),
             CAST(:#{#entity.skillsVector.toString()} AS vector(1536)),
+            CAST(:#{#entity.skillsVector.toString()} AS halfvec(1536)),
+            binary_quantize(CAST(:#{#entity.skillsVector.toString()} AS vector(1536))),
+            CAST(:#{#entity.skillsVectorCoarse?.toString()} AS vector(256)),
             COALESCE(:#{#entity.createdAt}, NOW()),
             COALESCE(:#{#entity.updatedAt}, NOW())
         )
         ON CONFLICT (recruit_id)
         DO UPDATE SET
             skills = EXCLUDED.skills,
+            skill_codes = EXCLUDED.skill_codes,
             skills_vector = EXCLUDED.skills_vector,
+            skills_vector_half = EXCLUDED.skills_vector_half,
+            skills_vector_bit = EXCLUDED.skills_vector_bit,
+            skills_vector_coarse = EXCLUDED.skills_vector_coarse,
             updated_at = NOW()
         """, nativeQuery = true)
     void upsert(@Param("entity") RecruitSkillsEmbeddingEntity entity);
@@ -65,10 +74,10 @@ public interface RecruitSkillsEmbeddingJpaRepository
     }
 
     /**
-     * 벡터 유사도 검색 (Cosine Distance) - String 변환 버전
+     * 벡터 유사도 검색 (Inner Product) - String 변환 버전
      *
-     * IVFFlat 인덱스 사용: idx_recruit_skills_vector
-     * Distance Operator: <=> (Cosine Distance)
+     * HNSW 인덱스 사용: recruit_skills_embedding_hnsw_ip_idx (vector_ip_ops)
+     * Distance Operator: <#> (Negative Inner Product, 저장 벡터는 L2 정규화됨)
      *
      * @param queryVector 쿼리 벡터 (1536차원, float 배열을 String으로 변환하여 전달)
      * @param limit 결과 개수
@@ -77,7 +86,7 @@ public interface RecruitSkillsEmbeddingJpaRepository
     @Query(value = """
         SELECT recruit_id
         FROM recruit_skills_embedding
-        ORDER BY skills_vector <=> CAST(:queryVector AS vector(1536))
+        ORDER BY skills_vector <#> CAST(:queryVector AS vector(1536))
         LIMIT :limit
         """, nativeQuery = true)
     List<UUID> findSimilarRecruitsInternal(
@@ -94,11 +103,14 @@ public interface RecruitSkillsEmbeddingJpaRepository
      */
     @Override
     default List<UUID> findSimilarRecruits(float[] queryVector, int limit) {
+        // 쿼리 벡터도 단위 벡터로 정규화 (원본 배열은 유지)
+        float[] normalized = VectorNormalizer.l2Normalize(queryVector.clone());
+
         // float[] → String 변환: [0.1, 0.2, ...] 형식
         StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < queryVector.length; i++) {
+        for (int i = 0; i < normalized.length; i++) {
             if (i > 0) sb.append(",");
-            sb.append(queryVector[i]);
+            sb.append(normalized[i]);
         }
         sb.append("]");
         return findSimilarRecruitsInternal(sb.toString(), limit);
@@ -39,14 +39,19 @@ public class RecruitSkillsEmbeddingJpaRepositoryImpl implements RecruitSkillsEmb
 
         StringBuilder sql = new StringBuilder("""
             INSERT INTO recruit_skills_embedding (
-                recruit_id, skills, skills_vector, created_at, updated_at
+                recruit_id, skills, skill_codes, skills_vector, skills_vector_half, skills_vector_bit, skills_vector_coarse, created_at, updated_at
             ) VALUES
             """);
 
         for (int i = 0; i < entities.size(); i++) {
             if (i > 0) sql.append(", ");
             // Use dynamic vector dimension in CAST
-            sql.append("(?, ?, CAST(? AS vector(").append(vectorDimension).append(")), COALESCE(?, NOW()), COALESCE(?, NOW()))");
+            // skills_vector_half: halfvec 마이그레이션 기간 동안 dual-write
+            // skills_vector_bit: binary quantization (Hamming prefilter용)
+            // skill_codes: skill_embedding_dic 기준 정수 스킬 ID (사전에 없는 스킬은 제외)
+            sql.append("(?, ?, skill_codes_of(CAST(? AS text[])), CAST(? AS vector(").append(vectorDimension).append(")), CAST(? AS halfvec(")
+                    .append(vectorDimension).append(")), binary_quantize(CAST(? AS vector(")
+                    .append(vectorDimension).append("))), CAST(? AS vector), COALESCE(?, NOW()), COALESCE(?, NOW()))");
         }
 
         sql.append("""
@@ -54,16 +59,25 @@ public class RecruitSkillsEmbeddingJpaRepositoryImpl implements RecruitSkillsEmb
             ON CONFLICT (recruit_id)
             DO UPDATE SET
                 skills = EXCLUDED.skills,
+                skill_codes = EXCLUDED.skill_codes,
                 skills_vector = EXCLUDED.skills_vector,
+                skills_vector_half = EXCLUDED.skills_vector_half,
+                skills_vector_bit = EXCLUDED.skills_vector_bit,
+                skills_vector_coarse = EXCLUDED.skills_vector_coarse,
                 updated_at = NOW()
             """);
 
-        Object[] params = new Object[entities.size() * 5];
+        Object[] params = new Object[entities.size() * 9];
         int idx = 0;
         for (RecruitSkillsEmbeddingEntity entity : entities) {
             params[idx++] = entity.getRecruitId();
             params[idx++] = entity.getSkills();
-            params[idx++] = entity.getSkillsVector() != null ? entity.getSkillsVector().toString() : null;
+            params[idx++] = entity.getSkills();
+            String vectorText = entity.getSkillsVector() != null ? entity.getSkillsVector().toString() : null;
+            params[idx++] = vectorText;
+            params[idx++] = vectorText;
+            params[idx++] = vectorText;
+            params[idx++] = entity.getSkillsVectorCoarse() != null ? entity.getSkillsVectorCoarse().toString() : null;
             params[idx++] = entity.getCreatedAt() != null ? Timestamp.from(entity.getCreatedAt().toInstant()) : null;
             params[idx++] = entity.getUpdatedAt() != null ? Timestamp.from(entity.getUpdatedAt().toInstant()) : null;
         }
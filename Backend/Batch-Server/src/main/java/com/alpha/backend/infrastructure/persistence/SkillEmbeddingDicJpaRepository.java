@@ -24,6 +24,8 @@ import java.util.UUID;
  * - UK: skill (TEXT, UNIQUE)
  * - FK: category_id → skill_category_dic
  * - Vector: skill_vector (1536d)
+ * - Vector: skill_vector_half (halfvec 1536d, 마이그레이션 기간 dual-write)
+ * - skill_code: 정수 스킬 ID (IDENTITY, recruit_skill / candidate_skill / skill_codes 배열에서 참조)
  */
 @Repository
 public interface SkillEmbeddingDicJpaRepository
@@ -40,12 +42,13 @@ public interface SkillEmbeddingDicJpaRepository
     @Transactional
     @Modifying
     @Query(value = """
-        INSERT INTO skill_embedding_dic (skill_id, category_id, skill, skill_vector, created_at, updated_at)
+        INSERT INTO skill_embedding_dic (skill_id, category_id, skill, skill_vector, skill_vector_half, created_at, updated_at)
         VALUES (
             COALESCE(:#{#entity.skillId}, gen_random_uuid()),
             :#{#entity.categoryId},
             :#{#entity.skill},
             CAST(:#{#entity.skillVector.toString()} AS vector(1536)),
+            CAST(:#{#entity.skillVector.toString()} AS halfvec(1536)),
             COALESCE(:#{#entity.createdAt}, NOW()),
             NOW()
         )
@@ -53,6 +56,7 @@ public interface SkillEmbeddingDicJpaRepository
         DO UPDATE SET
             category_id = EXCLUDED.category_id,
             skill_vector = EXCLUDED.skill_vector,
+            skill_vector_half = EXCLUDED.skill_vector_half,
             updated_at = NOW()
         """, nativeQuery = true)
     void upsert(@Param("entity") SkillEmbeddingDicEntity entity);
@@ -65,4 +69,56 @@ public interface SkillEmbeddingDicJpaRepository
     default void upsertAll(List<SkillEmbeddingDicEntity> entities) {
         entities.forEach(this::upsert);
     }
+
+    /**
+     * 미해결 스킬 재매칭 (사전 갱신 후 호출)
+     *
+     * unresolved_skill 중 사전에 새로 등록된 스킬을 단일 Statement로 처리
+     * - recruit_skill / candidate_skill.skill_code 채움
+     * - 해당 엔티티의 *_skills_embedding.skill_codes 재계산
+     * - 해소된 unresolved_skill 행 삭제
+     *
+     * @return 해소된 unresolved_skill 행 수
+     */
+    @Override
+    @Transactional
+    @Modifying
+    @Query(value = """
+        WITH resolvable AS (
+            SELECT domain, skill_key
+            FROM unresolved_skill
+            WHERE skill_code_of(skill_key) IS NOT NULL
+        ),
+        recruit_fixed AS (
+            UPDATE recruit_skill rs
+            SET skill_code = skill_code_of(rs.skill)
+            WHERE rs.skill_code IS NULL
+              AND LOWER(rs.skill) IN (SELECT skill_key FROM resolvable WHERE domain = 'recruit')
+            RETURNING rs.recruit_id
+        ),
+        candidate_fixed AS (
+            UPDATE candidate_skill cs
+            SET skill_code = skill_code_of(cs.skill)
+            WHERE cs.skill_code IS NULL
+              AND LOWER(cs.skill) IN (SELECT skill_key FROM resolvable WHERE domain = 'candidate')
+            RETURNING cs.candidate_id
+        ),
+        recruit_arrays AS (
+            UPDATE recruit_skills_embedding rse
+            SET skill_codes = skill_codes_of(rse.skills)
+            WHERE rse.recruit_id IN (SELECT recruit_id FROM recruit_fixed)
+            RETURNING rse.recruit_id
+        ),
+        candidate_arrays AS (
+            UPDATE candidate_skills_embedding cse
+            SET skill_codes = skill_codes_of(cse.skills)
+            WHERE cse.candidate_id IN (SELECT candidate_id FROM candidate_fixed)
+            RETURNING cse.candidate_id
+        )
+        DELETE FROM unresolved_skill us
+        USING resolvable r
+        WHERE us.domain = r.domain
+          AND us.skill_key = r.skill_key
+        """, nativeQuery = true)
+    int resolvePendingSkillCodes();
 }
@@ -0,0 +1,26 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 10.1
+-- Date: 2026-10-18
+-- Description: Binary Quantization prefilter HNSW 인덱스 (Hamming)
+--    - skills_vector_bit bit_hamming_ops HNSW 인덱스 (vector 1536d 대비 1/32 크기)
+--    - CREATE INDEX CONCURRENTLY 구문만 포함 (Flyway가 비트랜잭션으로 실행)
+--    - 컬럼 추가/backfill은 V10
+-- ============================================================================
+
+-- flyway: transactional=false
+
+-- ============================================================================
+-- Section 1: Binary HNSW Indexes (Hamming)
+-- ============================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS recruit_skills_embedding_bit_hnsw_idx
+    ON recruit_skills_embedding
+    USING hnsw (skills_vector_bit bit_hamming_ops)
+    WITH (m = 32, ef_construction = 128);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS candidate_skills_embedding_bit_hnsw_idx
+    ON candidate_skills_embedding
+    USING hnsw (skills_vector_bit bit_hamming_ops)
+    WITH (m = 32, ef_construction = 128);
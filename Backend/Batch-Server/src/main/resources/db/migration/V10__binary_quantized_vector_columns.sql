@@ -0,0 +1,41 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 10.0
+-- Date: 2026-10-18
+-- Description: Binary Quantization prefilter 컬럼
+--    - skills_vector_bit BIT(1536) 추가 (binary_quantize: 차원별 부호 1bit)
+--    - 기존 데이터 backfill (binary_quantize, pgvector >= 0.7)
+--    - bit_hamming_ops HNSW 인덱스는 V10.1 (CONCURRENTLY 구문만 포함하는 비트랜잭션 마이그레이션)
+--    - API: Hamming 후보 추출 → 정확한 inner product 재정렬 (단일 쿼리)
+--      (app.vector.search.implementation=binary 일 때 사용)
+--    - 신규 데이터는 Batch upsert SQL에서 binary_quantize로 함께 저장
+--    - Recall 측정: test_binary_quantization_recall.sql
+-- ============================================================================
+
+-- ============================================================================
+-- Section 1: Add Binary Vector Columns
+-- ============================================================================
+
+ALTER TABLE recruit_skills_embedding
+    ADD COLUMN IF NOT EXISTS skills_vector_bit BIT(1536);
+
+ALTER TABLE candidate_skills_embedding
+    ADD COLUMN IF NOT EXISTS skills_vector_bit BIT(1536);
+
+COMMENT ON COLUMN recruit_skills_embedding.skills_vector_bit IS 'skills_vector binary quantization (Hamming prefilter용)';
+COMMENT ON COLUMN candidate_skills_embedding.skills_vector_bit IS 'skills_vector binary quantization (Hamming prefilter용)';
+
+-- ============================================================================
+-- Section 2: Backfill Existing Rows
+-- ============================================================================
+
+UPDATE recruit_skills_embedding
+SET skills_vector_bit = binary_quantize(skills_vector)
+WHERE skills_vector IS NOT NULL
+  AND skills_vector_bit IS NULL;
+
+UPDATE candidate_skills_embedding
+SET skills_vector_bit = binary_quantize(skills_vector)
+WHERE skills_vector IS NOT NULL
+  AND skills_vector_bit IS NULL;
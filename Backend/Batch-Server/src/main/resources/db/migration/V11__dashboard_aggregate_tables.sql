@@ -0,0 +1,63 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 11.0
+-- Date: 2026-10-18
+-- Description: Dashboard 집계 테이블 (증분 유지)
+--    - dashboard_skill_count: 도메인별 LOWER(skill) → 보유 행 수
+--    - dashboard_company_count: company_name → 공고 수
+--    - Batch Writer가 chunk upsert와 같은 statement(CTE)에서 증분 반영
+--    - dashboardReconcileJob이 주기적으로 원본 테이블과 비교해 drift 보정
+--    - API Dashboard는 원본 전체 JOIN/GROUP BY 대신 수백 행의 집계 테이블 조회
+-- ============================================================================
+
+-- ============================================================================
+-- Section 1: Aggregate Tables
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS dashboard_skill_count (
+    domain       VARCHAR(20) NOT NULL,
+    skill_key    TEXT        NOT NULL,
+    entity_count BIGINT      NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (domain, skill_key)
+);
+
+COMMENT ON TABLE dashboard_skill_count IS 'Dashboard 스킬 집계 (Batch Writer 증분 유지)';
+COMMENT ON COLUMN dashboard_skill_count.domain IS '도메인 (recruit / candidate)';
+COMMENT ON COLUMN dashboard_skill_count.skill_key IS 'LOWER(skill) - skill_embedding_dic 조인 키';
+COMMENT ON COLUMN dashboard_skill_count.entity_count IS '해당 스킬을 가진 recruit_skill / candidate_skill 행 수';
+
+CREATE TABLE IF NOT EXISTS dashboard_company_count (
+    company_name TEXT        PRIMARY KEY,
+    job_count    BIGINT      NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON TABLE dashboard_company_count IS 'Dashboard 회사별 공고 수 집계 (Batch Writer 증분 유지)';
+COMMENT ON COLUMN dashboard_company_count.job_count IS 'recruit 행 수 (0 이하 행은 reconcile 시 삭제)';
+
+CREATE INDEX IF NOT EXISTS idx_dashboard_company_count_job_count
+    ON dashboard_company_count (job_count DESC);
+
+-- ============================================================================
+-- Section 2: Initial Fill
+-- ============================================================================
+
+INSERT INTO dashboard_skill_count (domain, skill_key, entity_count)
+SELECT 'recruit', LOWER(skill), COUNT(*)
+FROM recruit_skill
+GROUP BY LOWER(skill)
+ON CONFLICT (domain, skill_key) DO NOTHING;
+
+INSERT INTO dashboard_skill_count (domain, skill_key, entity_count)
+SELECT 'candidate', LOWER(skill), COUNT(*)
+FROM candidate_skill
+GROUP BY LOWER(skill)
+ON CONFLICT (domain, skill_key) DO NOTHING;
+
+INSERT INTO dashboard_company_count (company_name, job_count)
+SELECT company_name, COUNT(*)
+FROM recruit
+GROUP BY company_name
+ON CONFLICT (company_name) DO NOTHING;
@@ -0,0 +1,82 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 12.1
+-- Date: 2026-10-18
+-- Description: 정수 스킬 ID (skill_code) 정규화 - 기존 데이터 backfill
+--    - recruit / candidate id 순 keyset 배치 (1,000 엔티티 단위 COMMIT) → 긴 트랜잭션/대량 행 잠금 없음
+--    - 배치당 *_skill.skill_code, *_skills_embedding.skill_codes 갱신 (재실행 안전)
+--    - FK VALIDATE: SHARE UPDATE EXCLUSIVE 잠금 → 검증 중에도 읽기/쓰기 가능
+--    - unresolved_skill 초기 적재
+--    - 비트랜잭션 실행 (PROCEDURE 내부 COMMIT은 트랜잭션 블록 밖 CALL에서만 허용)
+--    - 컬럼/FK(NOT VALID) 추가는 V12, 인덱스는 V12.2
+-- ============================================================================
+
+-- flyway: transactional=false
+
+-- ============================================================================
+-- Section 1: Batched Backfill
+-- ============================================================================
+
+CREATE OR REPLACE PROCEDURE backfill_skill_codes(entity TEXT, batch_size INTEGER)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    last_id   UUID := '00000000-0000-0000-0000-000000000000';
+    batch_ids UUID[];
+BEGIN
+    LOOP
+        EXECUTE format(
+            'SELECT array_agg(id ORDER BY id) FROM ('
+            || 'SELECT %1$I AS id FROM %2$I WHERE %1$I > $1 ORDER BY %1$I LIMIT $2) page',
+            entity || '_id', entity)
+            INTO batch_ids
+            USING last_id, batch_size;
+        EXIT WHEN batch_ids IS NULL;
+
+        EXECUTE format(
+            'UPDATE %1$I SET skill_code = skill_code_of(skill) WHERE %2$I = ANY($1) AND skill_code IS NULL',
+            entity || '_skill', entity || '_id')
+            USING batch_ids;
+
+        EXECUTE format(
+            'UPDATE %1$I SET skill_codes = skill_codes_of(skills) WHERE %2$I = ANY($1)',
+            entity || '_skills_embedding', entity || '_id')
+            USING batch_ids;
+
+        last_id := batch_ids[array_length(batch_ids, 1)];
+        COMMIT;
+    END LOOP;
+END
+$$;
+
+CALL backfill_skill_codes('recruit', 1000);
+CALL backfill_skill_codes('candidate', 1000);
+
+DROP PROCEDURE backfill_skill_codes(TEXT, INTEGER);
+
+-- ============================================================================
+-- Section 2: Validate Foreign Keys
+-- ============================================================================
+
+ALTER TABLE recruit_skill VALIDATE CONSTRAINT fk_recruit_skill_skill_code;
+
+ALTER TABLE candidate_skill VALIDATE CONSTRAINT fk_candidate_skill_skill_code;
+
+-- ============================================================================
+-- Section 3: Unresolved Skills
+-- ============================================================================
+
+INSERT INTO unresolved_skill (domain, skill_key, sample_skill, occurrences)
+SELECT 'recruit', LOWER(skill), MIN(skill), COUNT(*)
+FROM recruit_skill
+WHERE skill_code IS NULL
+GROUP BY LOWER(skill)
+ON CONFLICT (domain, skill_key) DO NOTHING;
+
+INSERT INTO unresolved_skill (domain, skill_key, sample_skill, occurrences)
+SELECT 'candidate', LOWER(skill), MIN(skill), COUNT(*)
+FROM candidate_skill
+WHERE skill_code IS NULL
+GROUP BY LOWER(skill)
+ON CONFLICT (domain, skill_key) DO NOTHING;
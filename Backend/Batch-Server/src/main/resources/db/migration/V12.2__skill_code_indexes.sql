@@ -0,0 +1,28 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 12.2
+-- Date: 2026-10-18
+-- Description: 정수 스킬 ID (skill_code) 인덱스
+--    - skill_embedding_dic LOWER(skill): 적재 시 정규화 (skill_code_of), API findBySkill
+--    - recruit_skill / candidate_skill.skill_code: 미해결 스킬 재매칭 (skill_code IS NULL),
+--      사전 삭제 시 FK ON DELETE SET NULL
+--    - *_skills_embedding.skill_codes GIN 인덱스는 만들지 않음 (읽는 쿼리 없음 → upsert 쓰기 비용만 발생)
+--    - CREATE INDEX CONCURRENTLY 구문만 포함 (Flyway가 비트랜잭션으로 실행)
+--    - 컬럼 추가는 V12, backfill은 V12.1
+-- ============================================================================
+
+-- flyway: transactional=false
+
+-- ============================================================================
+-- Section 1: Skill Code Indexes
+-- ============================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_skill_embedding_dic_lower_skill
+    ON skill_embedding_dic (LOWER(skill));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_recruit_skill_skill_code
+    ON recruit_skill (skill_code);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_candidate_skill_skill_code
+    ON candidate_skill (skill_code);
@@ -0,0 +1,102 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 12.0
+-- Date: 2026-10-18
+-- Description: 정수 스킬 ID (skill_code) 정규화
+--    - skill_embedding_dic.skill_code INTEGER (IDENTITY, UNIQUE) 추가
+--    - recruit_skill / candidate_skill.skill_code (FK NOT VALID, 사전에 없는 스킬은 NULL)
+--    - *_skills_embedding.skill_codes INTEGER[] (GIN 인덱스는 이를 필터하는 쿼리가 생길 때 추가)
+--    - unresolved_skill: 사전에 없는 스킬 추적 (도메인별 LOWER(skill), 발생 횟수)
+--    - skill_code_of / skill_codes_of: 적재 시 정규화 함수 (LOWER 매칭, 단일 지점)
+--    - 사전 갱신 시 resolve_pending_skill_codes()로 미해결 스킬 재매칭
+--    - 스키마 변경만 포함 (짧은 트랜잭션): backfill + FK VALIDATE는 V12.1 (배치 커밋),
+--      인덱스는 V12.2 (CONCURRENTLY 구문만 포함하는 비트랜잭션 마이그레이션)
+-- ============================================================================
+
+-- ============================================================================
+-- Section 1: Dictionary Skill Code
+-- ============================================================================
+
+ALTER TABLE skill_embedding_dic
+    ADD COLUMN IF NOT EXISTS skill_code INTEGER GENERATED BY DEFAULT AS IDENTITY;
+
+ALTER TABLE skill_embedding_dic
+    ADD CONSTRAINT uk_skill_embedding_dic_skill_code UNIQUE (skill_code);
+
+COMMENT ON COLUMN skill_embedding_dic.skill_code IS '정수 스킬 ID (조인/배열/스코어링용)';
+
+-- ============================================================================
+-- Section 2: Canonicalization Functions
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION skill_code_of(skill_name TEXT)
+RETURNS INTEGER
+LANGUAGE sql STABLE
+AS $$
+    SELECT sed.skill_code
+    FROM skill_embedding_dic sed
+    WHERE LOWER(sed.skill) = LOWER(skill_name)
+    ORDER BY sed.skill_code
+    LIMIT 1
+$$;
+
+CREATE OR REPLACE FUNCTION skill_codes_of(skill_names TEXT[])
+RETURNS INTEGER[]
+LANGUAGE sql STABLE
+AS $$
+    SELECT COALESCE(array_agg(DISTINCT sed.skill_code ORDER BY sed.skill_code), '{}')
+    FROM skill_embedding_dic sed
+    WHERE LOWER(sed.skill) IN (SELECT LOWER(s) FROM unnest(skill_names) AS s)
+$$;
+
+-- ============================================================================
+-- Section 3: Skill Code Columns
+-- ============================================================================
+
+-- NULL 컬럼 추가는 테이블 재작성 없음, FK는 NOT VALID (기존 행 검증은 V12.1에서 VALIDATE)
+ALTER TABLE recruit_skill
+    ADD COLUMN IF NOT EXISTS skill_code INTEGER;
+
+ALTER TABLE recruit_skill
+    ADD CONSTRAINT fk_recruit_skill_skill_code
+        FOREIGN KEY (skill_code) REFERENCES skill_embedding_dic (skill_code) ON DELETE SET NULL
+        NOT VALID;
+
+ALTER TABLE candidate_skill
+    ADD COLUMN IF NOT EXISTS skill_code INTEGER;
+
+ALTER TABLE candidate_skill
+    ADD CONSTRAINT fk_candidate_skill_skill_code
+        FOREIGN KEY (skill_code) REFERENCES skill_embedding_dic (skill_code) ON DELETE SET NULL
+        NOT VALID;
+
+ALTER TABLE recruit_skills_embedding
+    ADD COLUMN IF NOT EXISTS skill_codes INTEGER[] NOT NULL DEFAULT '{}';
+
+ALTER TABLE candidate_skills_embedding
+    ADD COLUMN IF NOT EXISTS skill_codes INTEGER[] NOT NULL DEFAULT '{}';
+
+COMMENT ON COLUMN recruit_skill.skill_code IS 'skill_embedding_dic.skill_code (사전에 없으면 NULL → unresolved_skill)';
+COMMENT ON COLUMN candidate_skill.skill_code IS 'skill_embedding_dic.skill_code (사전에 없으면 NULL → unresolved_skill)';
+COMMENT ON COLUMN recruit_skills_embedding.skill_codes IS 'skills 배열의 정수 스킬 ID (정렬, 중복 제거)';
+COMMENT ON COLUMN candidate_skills_embedding.skill_codes IS 'skills 배열의 정수 스킬 ID (정렬, 중복 제거)';
+
+-- ============================================================================
+-- Section 4: Unresolved Skills
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS unresolved_skill (
+    domain        VARCHAR(20) NOT NULL,
+    skill_key     TEXT        NOT NULL,
+    sample_skill  TEXT        NOT NULL,
+    occurrences   BIGINT      NOT NULL DEFAULT 0,
+    first_seen_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    last_seen_at  TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (domain, skill_key)
+);
+
+COMMENT ON TABLE unresolved_skill IS '사전(skill_embedding_dic)에 없는 스킬 (적재 시 기록, 사전 갱신 시 해소)';
+COMMENT ON COLUMN unresolved_skill.skill_key IS 'LOWER(skill)';
+COMMENT ON COLUMN unresolved_skill.sample_skill IS '원본 표기 예시';
+COMMENT ON COLUMN unresolved_skill.occurrences IS '신규 적재된 recruit_skill / candidate_skill 행 수';
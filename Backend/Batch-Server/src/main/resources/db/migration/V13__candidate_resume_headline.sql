@@ -0,0 +1,48 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 13.0
+-- Date: 2026-10-18
+-- Description: 후보자 검색 결과용 이력서 헤드라인 컬럼
+--    - candidate.resume_headline VARCHAR(200): 마크다운 제거 + 공백 축약 + 길이 제한
+--    - 적재 시 Batch Server(ResumeHeadline)에서 계산, 검색 쿼리는 이 컬럼만 조회
+--    - 이력서 전문은 candidate_description.original_resume (상세 조회용)
+-- ============================================================================
+
+-- ============================================================================
+-- Section 1: Column
+-- ============================================================================
+
+ALTER TABLE candidate
+    ADD COLUMN IF NOT EXISTS resume_headline VARCHAR(200) NOT NULL DEFAULT '';
+
+COMMENT ON COLUMN candidate.resume_headline IS '검색 결과용 이력서 헤드라인 (최대 200자)';
+
+-- ============================================================================
+-- Section 2: Backfill
+-- ============================================================================
+-- ResumeHeadline과 동일한 규칙 (길이는 문자 = code point 기준)
+-- - 200자 초과: 앞 200자 안의 마지막 공백에서 자름 (공백 위치가 100자 미만이면 199자), 뒤에 '…'
+
+WITH normalized AS (
+    SELECT candidate_id,
+           btrim(regexp_replace(regexp_replace(COALESCE(original_resume, ''), '[#*>`_|]+', ' ', 'g'), '\s+', ' ', 'g')) AS text
+    FROM candidate
+),
+word_cut AS (
+    SELECT candidate_id,
+           text,
+           CASE
+               WHEN strpos(reverse(LEFT(text, 200)), ' ') > 0 THEN 200 - strpos(reverse(LEFT(text, 200)), ' ')
+               ELSE -1
+           END AS last_space
+    FROM normalized
+)
+UPDATE candidate c
+SET resume_headline = CASE
+        WHEN char_length(w.text) <= 200 THEN w.text
+        WHEN w.last_space >= 100 THEN rtrim(LEFT(w.text, w.last_space)) || '…'
+        ELSE rtrim(LEFT(w.text, 199)) || '…'
+    END
+FROM word_cut w
+WHERE w.candidate_id = c.candidate_id;
@@ -0,0 +1,144 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 14.0
+-- Date: 2026-10-18
+-- Description: 스킬 별칭 (skill_alias) 정규화
+--    - skill_key_of: 비교 키 (BTRIM + 연속 공백 1칸 + LOWER), API SkillCanonicalizationService.fold 와 동일
+--    - skill_alias: 별칭 → skill_code (예: "k8s" → kubernetes), skill_key_of(alias) 저장
+--    - skill_code_of / skill_codes_of: skill_key_of 기준 사전 이름 우선, 없으면 별칭 매칭
+--    - 적재(Batch)와 검색 키 정규화(API SkillCanonicalizationService)가 같은 규칙 사용
+--    - 별칭으로 해소되는 기존 미해결 스킬 재매칭
+-- ============================================================================
+
+-- ============================================================================
+-- Section 1: Comparison Key
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION skill_key_of(skill_name TEXT)
+RETURNS TEXT
+LANGUAGE sql IMMUTABLE
+AS $$
+    SELECT LOWER(BTRIM(regexp_replace(skill_name, '\s+', ' ', 'g')))
+$$;
+
+-- 사전 이름 매칭 (skill_code_of) - 기존 LOWER(skill) 인덱스는 공백 정규화 키와 맞지 않음
+CREATE INDEX IF NOT EXISTS idx_skill_embedding_dic_skill_key
+    ON skill_embedding_dic (skill_key_of(skill));
+
+-- ============================================================================
+-- Section 2: Alias Table
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS skill_alias (
+    alias      TEXT        PRIMARY KEY,
+    skill_code INTEGER     NOT NULL REFERENCES skill_embedding_dic (skill_code) ON DELETE CASCADE,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    CONSTRAINT ck_skill_alias_key CHECK (alias = skill_key_of(alias))
+);
+
+CREATE INDEX IF NOT EXISTS idx_skill_alias_skill_code
+    ON skill_alias (skill_code);
+
+COMMENT ON TABLE skill_alias IS '스킬 별칭 (사전 이름과 다른 표기 → skill_embedding_dic.skill_code)';
+COMMENT ON COLUMN skill_alias.alias IS 'skill_key_of(별칭)';
+
+-- 기본 별칭 (대상 스킬이 사전에 있는 경우만 등록)
+INSERT INTO skill_alias (alias, skill_code)
+SELECT a.alias, sed.skill_code
+FROM (VALUES
+    ('k8s',          'kubernetes'),
+    ('js',           'javascript'),
+    ('ecmascript',   'javascript'),
+    ('ts',           'typescript'),
+    ('golang',       'go'),
+    ('postgres',     'postgresql'),
+    ('psql',         'postgresql'),
+    ('node',         'node.js'),
+    ('nodejs',       'node.js'),
+    ('reactjs',      'react'),
+    ('react.js',     'react'),
+    ('vuejs',        'vue.js'),
+    ('vue',          'vue.js'),
+    ('springboot',   'spring boot'),
+    ('spring-boot',  'spring boot'),
+    ('amazon web services', 'aws'),
+    ('gcp',          'google cloud platform'),
+    ('py',           'python'),
+    ('csharp',       'c#'),
+    ('cpp',          'c++'),
+    ('tf',           'terraform'),
+    ('mongo',        'mongodb'),
+    ('es',           'elasticsearch')
+) AS a (alias, skill)
+JOIN skill_embedding_dic sed ON skill_key_of(sed.skill) = a.skill
+WHERE NOT EXISTS (
+    SELECT 1 FROM skill_embedding_dic own WHERE skill_key_of(own.skill) = a.alias
+)
+ON CONFLICT (alias) DO NOTHING;
+
+-- ============================================================================
+-- Section 3: Canonicalization Functions (alias fallback)
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION skill_code_of(skill_name TEXT)
+RETURNS INTEGER
+LANGUAGE sql STABLE
+AS $$
+    SELECT resolved.skill_code
+    FROM (
+        SELECT sed.skill_code, 0 AS priority
+        FROM skill_embedding_dic sed
+        WHERE skill_key_of(sed.skill) = skill_key_of(skill_name)
+        UNION ALL
+        SELECT sa.skill_code, 1 AS priority
+        FROM skill_alias sa
+        WHERE sa.alias = skill_key_of(skill_name)
+    ) resolved
+    ORDER BY resolved.priority, resolved.skill_code
+    LIMIT 1
+$$;
+
+CREATE OR REPLACE FUNCTION skill_codes_of(skill_names TEXT[])
+RETURNS INTEGER[]
+LANGUAGE sql STABLE
+AS $$
+    SELECT COALESCE(array_agg(DISTINCT codes.skill_code ORDER BY codes.skill_code), '{}')
+    FROM (SELECT skill_code_of(s) AS skill_code FROM unnest(skill_names) AS s) codes
+    WHERE codes.skill_code IS NOT NULL
+$$;
+
+-- ============================================================================
+-- Section 4: Backfill (별칭으로 해소되는 미해결 스킬)
+-- ============================================================================
+
+UPDATE recruit_skill rs
+SET skill_code = skill_code_of(rs.skill)
+WHERE rs.skill_code IS NULL
+  AND skill_code_of(rs.skill) IS NOT NULL;
+
+UPDATE candidate_skill cs
+SET skill_code = skill_code_of(cs.skill)
+WHERE cs.skill_code IS NULL
+  AND skill_code_of(cs.skill) IS NOT NULL;
+
+UPDATE recruit_skills_embedding rse
+SET skill_codes = skill_codes_of(rse.skills)
+WHERE rse.recruit_id IN (
+    SELECT rs.recruit_id
+    FROM recruit_skill rs
+    JOIN unresolved_skill us ON us.domain = 'recruit' AND us.skill_key = LOWER(rs.skill)
+    WHERE rs.skill_code IS NOT NULL
+);
+
+UPDATE candidate_skills_embedding cse
+SET skill_codes = skill_codes_of(cse.skills)
+WHERE cse.candidate_id IN (
+    SELECT cs.candidate_id
+    FROM candidate_skill cs
+    JOIN unresolved_skill us ON us.domain = 'candidate' AND us.skill_key = LOWER(cs.skill)
+    WHERE cs.skill_code IS NOT NULL
+);
+
+DELETE FROM unresolved_skill
+WHERE skill_code_of(skill_key) IS NOT NULL;
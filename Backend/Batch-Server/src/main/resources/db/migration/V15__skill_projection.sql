@@ -0,0 +1,52 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 15.0
+-- Date: 2026-10-18
+-- Description: 스킬 임베딩 2D 투영 (벡터 시각화)
+--    - skill_projection: 사전 버전별 PCA 기저 (평균 벡터 + 주성분 2개 + 0~100 스케일 범위)
+--    - skill_projection_point: 사전 버전별 스킬 2D 좌표 (0~100)
+--    - Batch Server가 skill_dic 적재 완료 후 계산 (사전 fingerprint 변경 시에만)
+--    - API Server는 최신 버전을 메모리에 올려 요청당 O(d) 투영만 수행
+-- ============================================================================
+
+-- ============================================================================
+-- Section 1: Projection Basis
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS skill_projection (
+    version                BIGSERIAL        PRIMARY KEY,
+    dictionary_fingerprint TEXT             NOT NULL,
+    skill_count            INTEGER          NOT NULL,
+    dimension              INTEGER          NOT NULL,
+    mean_vector            REAL[]           NOT NULL,
+    component_x            REAL[]           NOT NULL,
+    component_y            REAL[]           NOT NULL,
+    explained_variance     REAL[]           NOT NULL,
+    x_min                  DOUBLE PRECISION NOT NULL,
+    x_max                  DOUBLE PRECISION NOT NULL,
+    y_min                  DOUBLE PRECISION NOT NULL,
+    y_max                  DOUBLE PRECISION NOT NULL,
+    created_at             TIMESTAMPTZ      NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON TABLE skill_projection IS '스킬 임베딩 PCA 기저 (사전 버전별, 최신 version 사용)';
+COMMENT ON COLUMN skill_projection.dictionary_fingerprint IS 'md5(skill_code || '':'' || md5(skill_vector::text) 목록, skill_code 순) - 사전 벡터 변경 감지';
+COMMENT ON COLUMN skill_projection.component_x IS '제1 주성분 (단위 벡터, dimension 길이)';
+COMMENT ON COLUMN skill_projection.component_y IS '제2 주성분 (단위 벡터, dimension 길이)';
+COMMENT ON COLUMN skill_projection.explained_variance IS '주성분별 설명 분산 비율';
+COMMENT ON COLUMN skill_projection.x_min IS '주성분 좌표 → 0~100 스케일 범위 (x_min..x_max, y_min..y_max)';
+
+-- ============================================================================
+-- Section 2: Per-Skill Coordinates
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS skill_projection_point (
+    version    BIGINT  NOT NULL REFERENCES skill_projection (version) ON DELETE CASCADE,
+    skill_code INTEGER NOT NULL,
+    x          REAL    NOT NULL,
+    y          REAL    NOT NULL,
+    PRIMARY KEY (version, skill_code)
+);
+
+COMMENT ON TABLE skill_projection_point IS '스킬 2D 좌표 (0~100, skill_projection 기저로 투영)';
@@ -0,0 +1,41 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 7.1
+-- Date: 2026-10-18
+-- Description: Inner Product 검색 전환 (L2 정규화 임베딩) - 2단계 (인덱스)
+--    - HNSW 인덱스를 vector_cosine_ops → vector_ip_ops로 교체
+--    - CREATE/DROP INDEX CONCURRENTLY 구문만 포함 (Flyway가 비트랜잭션으로 실행)
+--    - 재정규화(V7) 이후 실행
+-- ============================================================================
+
+-- flyway: transactional=false
+
+-- ============================================================================
+-- Section 1: Create Inner Product HNSW Indexes
+-- ============================================================================
+-- V5와 동일한 파라미터 (m=32, ef_construction=128)
+
+-- 1.1 candidate_skills_embedding
+CREATE INDEX CONCURRENTLY IF NOT EXISTS candidate_skills_embedding_hnsw_ip_idx
+    ON candidate_skills_embedding
+    USING hnsw (skills_vector vector_ip_ops)
+    WITH (m = 32, ef_construction = 128);
+
+-- 1.2 recruit_skills_embedding
+CREATE INDEX CONCURRENTLY IF NOT EXISTS recruit_skills_embedding_hnsw_ip_idx
+    ON recruit_skills_embedding
+    USING hnsw (skills_vector vector_ip_ops)
+    WITH (m = 32, ef_construction = 128);
+
+-- ============================================================================
+-- Section 2: Drop Cosine Indexes (no longer used by <#> queries)
+-- ============================================================================
+-- cosine 인덱스는 <#> 쿼리에서 사용되지 않고 쓰기 비용만 발생
+
+DROP INDEX CONCURRENTLY IF EXISTS candidate_skills_embedding_hnsw_idx;
+DROP INDEX CONCURRENTLY IF EXISTS recruit_skills_embedding_hnsw_idx;
+DROP INDEX CONCURRENTLY IF EXISTS idx_candidate_skills_vector;
+DROP INDEX CONCURRENTLY IF EXISTS idx_recruit_skills_vector;
+
+-- skill_embedding_dic 인덱스는 유지 (ANN 검색 대상이 아님, 쿼리 벡터 생성 시 평균 후 정규화)
@@ -0,0 +1,28 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 7.0
+-- Date: 2026-10-18
+-- Description: Inner Product 검색 전환 (L2 정규화 임베딩) - 1단계 (트랜잭션)
+--    - 기존 skills_vector를 단위 벡터로 재정규화 (l2_normalize, pgvector >= 0.7)
+--    - 단위 벡터에서 -(a <#> b) = cos(a, b): 순위 동일, 거리 계산 비용 감소
+--    - 신규 데이터는 Batch Processor에서 정규화 후 저장
+--    - 인덱스 교체는 V7.1 (CONCURRENTLY 구문만 포함하는 비트랜잭션 마이그레이션)
+-- ============================================================================
+
+-- ============================================================================
+-- Section 1: Re-normalize Existing Embeddings
+-- ============================================================================
+-- 정규화 전후 cosine 순위는 동일하므로 기존 cosine 인덱스는 이 단계 동안 유효
+
+-- 1.1 recruit_skills_embedding
+UPDATE recruit_skills_embedding
+SET skills_vector = l2_normalize(skills_vector)
+WHERE skills_vector IS NOT NULL
+  AND abs(vector_norm(skills_vector) - 1.0) > 1e-6;
+
+-- 1.2 candidate_skills_embedding
+UPDATE candidate_skills_embedding
+SET skills_vector = l2_normalize(skills_vector)
+WHERE skills_vector IS NOT NULL
+  AND abs(vector_norm(skills_vector) - 1.0) > 1e-6;
@@ -0,0 +1,26 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 8.1
+-- Date: 2026-10-18
+-- Description: Coarse 검색용 HNSW 인덱스 (Inner Product)
+--    - skills_vector_coarse vector_ip_ops HNSW 인덱스 (1536d 대비 약 1/6 크기 → shared_buffers 적재)
+--    - CREATE INDEX CONCURRENTLY 구문만 포함 (Flyway가 비트랜잭션으로 실행)
+--    - 컬럼 추가/backfill은 V8
+-- ============================================================================
+
+-- flyway: transactional=false
+
+-- ============================================================================
+-- Section 1: Coarse HNSW Indexes (Inner Product)
+-- ============================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS recruit_skills_embedding_coarse_hnsw_idx
+    ON recruit_skills_embedding
+    USING hnsw (skills_vector_coarse vector_ip_ops)
+    WITH (m = 32, ef_construction = 128);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS candidate_skills_embedding_coarse_hnsw_idx
+    ON candidate_skills_embedding
+    USING hnsw (skills_vector_coarse vector_ip_ops)
+    WITH (m = 32, ef_construction = 128);
@@ -0,0 +1,39 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 8.0
+-- Date: 2026-10-18
+-- Description: Coarse 검색용 축소 차원 벡터 컬럼 (Matryoshka 방식)
+--    - skills_vector_coarse VECTOR(256) 추가 (skills_vector 앞 256차원 prefix, L2 정규화)
+--    - 기존 데이터 backfill (subvector + l2_normalize, pgvector >= 0.7)
+--    - vector_ip_ops HNSW 인덱스는 V8.1 (CONCURRENTLY 구문만 포함하는 비트랜잭션 마이그레이션)
+--    - API: coarse 후보 추출 → full 1536d 재정렬 (2단계 검색)
+--    - 신규 데이터는 Batch Processor에서 coarse 벡터 생성 후 저장
+-- ============================================================================
+
+-- ============================================================================
+-- Section 1: Add Coarse Vector Columns
+-- ============================================================================
+
+ALTER TABLE recruit_skills_embedding
+    ADD COLUMN IF NOT EXISTS skills_vector_coarse VECTOR(256);
+
+ALTER TABLE candidate_skills_embedding
+    ADD COLUMN IF NOT EXISTS skills_vector_coarse VECTOR(256);
+
+COMMENT ON COLUMN recruit_skills_embedding.skills_vector_coarse IS 'skills_vector 앞 256차원 prefix (L2 정규화, coarse 검색용)';
+COMMENT ON COLUMN candidate_skills_embedding.skills_vector_coarse IS 'skills_vector 앞 256차원 prefix (L2 정규화, coarse 검색용)';
+
+-- ============================================================================
+-- Section 2: Backfill Existing Rows
+-- ============================================================================
+
+UPDATE recruit_skills_embedding
+SET skills_vector_coarse = l2_normalize(subvector(skills_vector, 1, 256))
+WHERE skills_vector IS NOT NULL
+  AND skills_vector_coarse IS NULL;
+
+UPDATE candidate_skills_embedding
+SET skills_vector_coarse = l2_normalize(subvector(skills_vector, 1, 256))
+WHERE skills_vector IS NOT NULL
+  AND skills_vector_coarse IS NULL;
@@ -0,0 +1,28 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 9.1
+-- Date: 2026-10-18
+-- Description: halfvec(1536) 온라인 마이그레이션 - 1단계 (HNSW 인덱스)
+--    - skills_vector_half halfvec_ip_ops HNSW 인덱스
+--    - CREATE INDEX CONCURRENTLY 구문만 포함 (Flyway가 비트랜잭션으로 실행)
+--    - 컬럼 추가는 V9
+-- ============================================================================
+
+-- flyway: transactional=false
+
+-- ============================================================================
+-- Section 1: halfvec HNSW Indexes (Inner Product)
+-- ============================================================================
+-- 빈 컬럼 상태에서 생성 → backfill 중 점진적으로 인덱스에 반영
+-- skill_embedding_dic은 ANN 검색 대상이 아니므로 인덱스 생략
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS recruit_skills_embedding_half_hnsw_idx
+    ON recruit_skills_embedding
+    USING hnsw (skills_vector_half halfvec_ip_ops)
+    WITH (m = 32, ef_construction = 128);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS candidate_skills_embedding_half_hnsw_idx
+    ON candidate_skills_embedding
+    USING hnsw (skills_vector_half halfvec_ip_ops)
+    WITH (m = 32, ef_construction = 128);
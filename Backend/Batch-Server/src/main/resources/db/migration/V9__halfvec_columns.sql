@@ -0,0 +1,33 @@
+-- ============================================================================
+-- Alpha-Match Batch Server - Database Schema
+-- ============================================================================
+-- Version: 9.0
+-- Date: 2026-10-18
+-- Description: halfvec(1536) 온라인 마이그레이션 - 1단계 (컬럼 추가, 인덱스는 V9.1)
+--    - skills_vector_half / skill_vector_half HALFVEC(1536) 컬럼 추가
+--    - 신규/갱신 데이터: Batch Writer dual-write (vector + halfvec)
+--    - 기존 데이터: halfvecBackfillJob이 배치 단위로 throttle 하며 복사
+--    - API: app.vector.halfvec.read-mode (off → shadow → halfvec) 로 점진 전환
+--    - 효과: 테이블/HNSW 인덱스 크기 약 1/2 → 인덱스 메모리 적재
+-- ============================================================================
+
+-- ============================================================================
+-- Section 1: Add halfvec Columns (nullable, backfill 전까지 NULL)
+-- ============================================================================
+
+ALTER TABLE recruit_skills_embedding
+    ADD COLUMN IF NOT EXISTS skills_vector_half HALFVEC(1536);
+
+ALTER TABLE candidate_skills_embedding
+    ADD COLUMN IF NOT EXISTS skills_vector_half HALFVEC(1536);
+
+ALTER TABLE skill_embedding_dic
+    ADD COLUMN IF NOT EXISTS skill_vector_half HALFVEC(1536);
+
+-- ============================================================================
+-- Cutover (별도 마이그레이션 예정)
+-- ============================================================================
+-- 1. backfill 완료 확인: SELECT COUNT(*) ... WHERE skills_vector_half IS NULL = 0
+-- 2. API read-mode=shadow 로 overlap@k 확인 → read-mode=halfvec
+-- 3. skills_vector 컬럼/인덱스 제거
+-- ============================================================================
@@ -0,0 +1,120 @@
+package com.alpha.backend.domain.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PrincipalComponents 테스트
+ * Power Iteration 수렴, 주성분 직교성, 부호 고정 검증
+ */
+@DisplayName("PrincipalComponents 테스트")
+class PrincipalComponentsTest {
+
+    private static final int MAX_ITERATIONS = 500;
+    private static final double TOLERANCE = 1e-10;
+
+    @Test
+    @DisplayName("fit() - 알려진 공분산의 주성분으로 수렴")
+    void fit_should_converge_to_known_principal_axes() {
+        // Given: 축별 표준편차 5, 2, 0.5 → 주성분 e1, e2 (분산 비율 25/29.25, 4/29.25)
+        float[][] rows = gaussianRows(4000, new double[]{5.0, 2.0, 0.5}, 7L);
+
+        // When
+        PrincipalComponents pca = PrincipalComponents.fit(rows, 2, MAX_ITERATIONS, TOLERANCE);
+
+        // Then
+        assertThat(Math.abs(pca.getComponent(0)[0])).isGreaterThan(0.99f);
+        assertThat(Math.abs(pca.getComponent(1)[1])).isGreaterThan(0.99f);
+        assertThat(pca.getExplainedVariance()[0]).isCloseTo(25.0 / 29.25, within(0.03));
+        assertThat(pca.getExplainedVariance()[1]).isCloseTo(4.0 / 29.25, within(0.03));
+        assertThat(pca.getMean()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("fit() - 주성분은 단위 벡터이며 서로 직교")
+    void fit_should_return_orthonormal_components() {
+        // Given
+        float[][] rows = gaussianRows(500, new double[]{3.0, 2.5, 2.0, 1.0, 0.5, 0.1}, 11L);
+
+        // When
+        PrincipalComponents pca = PrincipalComponents.fit(rows, 2, MAX_ITERATIONS, TOLERANCE);
+
+        // Then
+        assertThat(dot(pca.getComponent(0), pca.getComponent(0))).isCloseTo(1.0, within(1e-5));
+        assertThat(dot(pca.getComponent(1), pca.getComponent(1))).isCloseTo(1.0, within(1e-5));
+        assertThat(dot(pca.getComponent(0), pca.getComponent(1))).isCloseTo(0.0, within(1e-5));
+    }
+
+    @Test
+    @DisplayName("fit() - 부호 고정: 절댓값 최대 원소가 양수, 입력 부호/순서가 바뀌어도 동일 방향")
+    void fit_should_keep_sign_stable() {
+        // Given
+        float[][] rows = gaussianRows(1000, new double[]{4.0, 1.5, 0.5}, 13L);
+        float[][] reversed = new float[rows.length][];
+        float[][] negated = new float[rows.length][];
+        for (int i = 0; i < rows.length; i++) {
+            reversed[i] = rows[rows.length - 1 - i];
+            negated[i] = new float[rows[i].length];
+            for (int j = 0; j < rows[i].length; j++) {
+                negated[i][j] = -rows[i][j];
+            }
+        }
+
+        // When
+        PrincipalComponents original = PrincipalComponents.fit(rows, 2, MAX_ITERATIONS, TOLERANCE);
+        PrincipalComponents shuffled = PrincipalComponents.fit(reversed, 2, MAX_ITERATIONS, TOLERANCE);
+        PrincipalComponents flipped = PrincipalComponents.fit(negated, 2, MAX_ITERATIONS, TOLERANCE);
+
+        // Then
+        for (int k = 0; k < 2; k++) {
+            float[] component = original.getComponent(k);
+            assertThat(component[largestIndex(component)]).isPositive();
+            assertThat(dot(component, shuffled.getComponent(k))).isCloseTo(1.0, within(1e-4));
+            assertThat(dot(component, flipped.getComponent(k))).isCloseTo(1.0, within(1e-4));
+        }
+    }
+
+    @Test
+    @DisplayName("fit() - 행이 2개 미만이면 예외")
+    void fit_should_reject_single_row() {
+        // When & Then
+        assertThatThrownBy(() -> PrincipalComponents.fit(new float[][]{{1f, 2f}}, 2, MAX_ITERATIONS, TOLERANCE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 축별 표준편차가 주어진 정규분포 샘플 (평균 1.0 이동)
+     */
+    private static float[][] gaussianRows(int n, double[] deviations, long seed) {
+        Random random = new Random(seed);
+        float[][] rows = new float[n][deviations.length];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < deviations.length; j++) {
+                rows[i][j] = (float) (1.0 + random.nextGaussian() * deviations[j]);
+            }
+        }
+        return rows;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0.0;
+        for (int j = 0; j < a.length; j++) {
+            sum += (double) a[j] * b[j];
+        }
+        return sum;
+    }
+
+    private static int largestIndex(float[] vector) {
+        int largest = 0;
+        for (int j = 1; j < vector.length; j++) {
+            if (Math.abs(vector[j]) > Math.abs(vector[largest])) {
+                largest = j;
+            }
+        }
+        return largest;
+    }
+}
@@ -0,0 +1,81 @@
+package com.alpha.backend.domain.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ResumeHeadline 테스트
+ * 마크다운/공백 정규화, 단어 경계 절단, code point 기준 길이 검증
+ */
+@DisplayName("ResumeHeadline 테스트")
+class ResumeHeadlineTest {
+
+    @Test
+    @DisplayName("of() - 마크다운 기호 제거, 공백/개행 축약")
+    void of_should_strip_markdown_and_collapse_whitespace() {
+        // When & Then
+        assertThat(ResumeHeadline.of("# Backend  Engineer\n\n* **Java** | `Spring`")).isEqualTo("Backend Engineer Java Spring");
+        assertThat(ResumeHeadline.of(null)).isEmpty();
+        assertThat(ResumeHeadline.of("  \n ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("of() - MAX_LENGTH 이하는 그대로")
+    void of_should_keep_text_within_max_length() {
+        // Given
+        String text = "a".repeat(ResumeHeadline.MAX_LENGTH);
+
+        // When & Then
+        assertThat(ResumeHeadline.of(text)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("of() - 초과 시 단어 경계에서 자르고 '…' 추가")
+    void of_should_cut_at_word_boundary() {
+        // Given: 10자 단어 + 공백 반복 (220자)
+        String text = "abcdefghij ".repeat(20).strip();
+
+        // When
+        String headline = ResumeHeadline.of(text);
+
+        // Then
+        assertThat(headline).endsWith("abcdefghij…");
+        assertThat(headline.codePointCount(0, headline.length())).isLessThanOrEqualTo(ResumeHeadline.MAX_LENGTH);
+        assertThat(headline).isEqualTo("abcdefghij ".repeat(18).strip() + "…");
+    }
+
+    @Test
+    @DisplayName("of() - 단어 경계가 너무 앞이면 MAX_LENGTH - 1 에서 자름")
+    void of_should_hard_cut_without_late_word_boundary() {
+        // Given
+        String text = "short " + "x".repeat(300);
+
+        // When
+        String headline = ResumeHeadline.of(text);
+
+        // Then
+        assertThat(headline).hasSize(ResumeHeadline.MAX_LENGTH);
+        assertThat(headline).isEqualTo(text.substring(0, ResumeHeadline.MAX_LENGTH - 1) + "…");
+    }
+
+    @Test
+    @DisplayName("of() - 보조 문자(이모지)는 code point 단위로 세고 반으로 자르지 않음")
+    void of_should_count_and_cut_on_code_points() {
+        // Given: 이모지 150개 (UTF-16 300 code unit) - 길이 이하
+        String within = "😀".repeat(150);
+        // 이모지 250개 - 공백 없음 → 199 code point + '…'
+        String over = "😀".repeat(250);
+
+        // When
+        String kept = ResumeHeadline.of(within);
+        String cut = ResumeHeadline.of(over);
+
+        // Then
+        assertThat(kept).isEqualTo(within);
+        assertThat(cut).isEqualTo("😀".repeat(ResumeHeadline.MAX_LENGTH - 1) + "…");
+        assertThat(cut.codePointCount(0, cut.length())).isEqualTo(ResumeHeadline.MAX_LENGTH);
+        assertThat(cut.chars().filter(Character::isSurrogate).count() % 2).isZero();
+    }
+}
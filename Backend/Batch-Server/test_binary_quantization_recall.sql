@@ -0,0 +1,164 @@
+-- Binary Quantization Recall Benchmark
+-- Hamming prefilter (skills_vector_bit) + exact re-rank vs exact inner product search
+-- 1536d Vector Dimension
+--
+-- Usage: psql -d alpha_match -f test_binary_quantization_recall.sql
+--   -v samples=20 -v k=50 -v pool=500 으로 파라미터 변경 가능
+--   pool = API의 binaryCandidatePool (window × candidate-multiplier, 최소 min-candidates)
+
+\if :{?samples} \else \set samples 20 \endif
+\if :{?k} \else \set k 50 \endif
+\if :{?pool} \else \set pool 500 \endif
+
+\timing on
+
+-- ======================================
+-- 1. Index Sizes (vector vs halfvec vs bit)
+-- ======================================
+
+\echo '=== Vector Index Sizes ==='
+SELECT indexname,
+       tablename,
+       pg_size_pretty(pg_relation_size(schemaname||'.'||indexname)) AS index_size
+FROM pg_indexes
+WHERE schemaname = 'public'
+  AND tablename IN ('recruit_skills_embedding', 'candidate_skills_embedding')
+  AND indexname LIKE '%hnsw%'
+ORDER BY tablename, pg_relation_size(schemaname||'.'||indexname) DESC;
+
+-- ======================================
+-- 2. Sample Query Vectors
+-- ======================================
+
+\echo ''
+\echo '=== Sample Query Vectors ==='
+DROP TABLE IF EXISTS bq_queries;
+CREATE TEMP TABLE bq_queries AS
+SELECT recruit_id AS query_id, skills_vector AS query_vector
+FROM recruit_skills_embedding
+WHERE skills_vector IS NOT NULL
+ORDER BY RANDOM()
+LIMIT :samples;
+
+SELECT COUNT(*) AS sample_count FROM bq_queries;
+
+-- ======================================
+-- 3. Ground Truth (exact inner product, sequential scan)
+-- ======================================
+
+\echo ''
+\echo '=== Ground Truth (exact, no index) ==='
+SET enable_indexscan = off;
+SET enable_bitmapscan = off;
+
+DROP TABLE IF EXISTS bq_exact;
+CREATE TEMP TABLE bq_exact AS
+SELECT q.query_id, e.recruit_id
+FROM bq_queries q
+CROSS JOIN LATERAL (
+    SELECT rse.recruit_id
+    FROM recruit_skills_embedding rse
+    WHERE rse.skills_vector IS NOT NULL
+    ORDER BY rse.skills_vector <#> q.query_vector
+    LIMIT :k
+) e;
+
+RESET enable_indexscan;
+RESET enable_bitmapscan;
+
+-- ======================================
+-- 4. Binary Prefilter + Exact Re-rank (API query shape)
+-- ======================================
+
+\echo ''
+\echo '=== Binary Prefilter + Re-rank ==='
+SET hnsw.ef_search = 1000;
+
+DROP TABLE IF EXISTS bq_binary;
+CREATE TEMP TABLE bq_binary AS
+SELECT q.query_id, b.recruit_id
+FROM bq_queries q
+CROSS JOIN LATERAL (
+    SELECT c.recruit_id
+    FROM (
+        SELECT rse.recruit_id, rse.skills_vector
+        FROM recruit_skills_embedding rse
+        WHERE rse.skills_vector_bit IS NOT NULL
+        ORDER BY rse.skills_vector_bit <~> binary_quantize(q.query_vector)
+        LIMIT :pool
+    ) c
+    ORDER BY c.skills_vector <#> q.query_vector
+    LIMIT :k
+) b;
+
+-- Baseline: full-dimension HNSW (vector_ip_ops)
+\echo ''
+\echo '=== Full-dimension HNSW ==='
+DROP TABLE IF EXISTS bq_hnsw;
+CREATE TEMP TABLE bq_hnsw AS
+SELECT q.query_id, h.recruit_id
+FROM bq_queries q
+CROSS JOIN LATERAL (
+    SELECT rse.recruit_id
+    FROM recruit_skills_embedding rse
+    WHERE rse.skills_vector IS NOT NULL
+    ORDER BY rse.skills_vector <#> q.query_vector
+    LIMIT :k
+) h;
+
+RESET hnsw.ef_search;
+
+-- ======================================
+-- 5. Recall@k
+-- ======================================
+
+\echo ''
+\echo '=== Recall@k (vs exact) ==='
+WITH per_query AS (
+    SELECT e.query_id,
+           'binary+rerank' AS method,
+           COUNT(b.recruit_id)::numeric / COUNT(*) AS recall
+    FROM bq_exact e
+    LEFT JOIN bq_binary b ON b.query_id = e.query_id AND b.recruit_id = e.recruit_id
+    GROUP BY e.query_id
+    UNION ALL
+    SELECT e.query_id,
+           'hnsw (vector_ip_ops)' AS method,
+           COUNT(h.recruit_id)::numeric / COUNT(*) AS recall
+    FROM bq_exact e
+    LEFT JOIN bq_hnsw h ON h.query_id = e.query_id AND h.recruit_id = e.recruit_id
+    GROUP BY e.query_id
+)
+SELECT method,
+       :k AS k,
+       :pool AS pool,
+       ROUND(AVG(recall), 4) AS avg_recall,
+       ROUND(MIN(recall), 4) AS min_recall,
+       ROUND(PERCENTILE_CONT(0.1) WITHIN GROUP (ORDER BY recall)::numeric, 4) AS p10_recall
+FROM per_query
+GROUP BY method
+ORDER BY method;
+
+-- ======================================
+-- 6. Query Plan (single query)
+-- ======================================
+
+\echo ''
+\echo '=== Query Plan: Binary Prefilter + Re-rank ==='
+SELECT query_vector AS sample_vector FROM bq_queries LIMIT 1 \gset
+
+EXPLAIN (ANALYZE, BUFFERS)
+WITH candidates AS (
+    SELECT rse.recruit_id, rse.skills_vector AS full_vector
+    FROM recruit_skills_embedding rse
+    WHERE rse.skills_vector_bit IS NOT NULL
+    ORDER BY rse.skills_vector_bit <~> binary_quantize(CAST(:'sample_vector' AS vector))
+    LIMIT :pool
+)
+SELECT cv.recruit_id,
+       (-(cv.full_vector <#> CAST(:'sample_vector' AS vector))) AS similarity_score
+FROM candidates cv
+ORDER BY cv.full_vector <#> CAST(:'sample_vector' AS vector)
+LIMIT :k;
+
+\timing off